@@ -0,0 +1,97 @@
+package CC_BE.CC_BE.benchmark;
+
+import CC_BE.CC_BE.domain.Brand;
+import CC_BE.CC_BE.domain.Category;
+import CC_BE.CC_BE.domain.Manual;
+import CC_BE.CC_BE.domain.ProductModel;
+import CC_BE.CC_BE.domain.User;
+import CC_BE.CC_BE.repository.ProductModelRepository;
+import CC_BE.CC_BE.service.ProductModelService;
+
+import java.lang.reflect.Constructor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 객체 그래프 생성 도우미
+ * 실제 API 응답과 비슷한 크기의 엔티티 그래프를 만듭니다.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z4bCZ7E0bKLVY9pGqTTV6sXy")
+                .role(id == 1 ? "ROLE_ADMIN" : "ROLE_USER")
+                .build();
+    }
+
+    static Brand brand(long id, int categoryCount) {
+        Brand brand = new Brand();
+        brand.setId(id);
+        brand.setName("Brand-" + id);
+        List<Category> categories = new ArrayList<>(categoryCount);
+        for (int i = 0; i < categoryCount; i++) {
+            Category category = new Category();
+            category.setId(id * 1000 + i);
+            category.setName("Category-" + i);
+            category.setBrand(brand);
+            categories.add(category);
+        }
+        brand.setCategories(categories);
+        return brand;
+    }
+
+    static ProductModel productModel(long id, Brand brand, User owner) {
+        Category category = brand.getCategories().get((int) (id % brand.getCategories().size()));
+        ProductModel model = ProductModel.builder()
+                .id(id)
+                .name("MODEL-" + id + "-XL")
+                .category(category)
+                .brand(brand)
+                .owner(owner)
+                .build();
+        Manual manual = Manual.builder()
+                .id(id)
+                .fileName("MODEL-" + id + "-XL_user_manual.pdf")
+                .filePath("3f/a2/0b6c1d2e-4e1d-4b8a-9c3f-" + id + ".pdf")
+                .modelName(model.getName())
+                .uploadDate(LocalDateTime.now())
+                .mlProcessed(true)
+                .contentHash("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+                .fileSize(8L * 1024 * 1024)
+                .pageCount(120)
+                .title("MODEL-" + id + " User Manual")
+                .thumbnailKey("7c/11/5e0d1c52-1f0a-4f55-8c1b-" + id + ".png")
+                .productModel(model)
+                .uploader(owner)
+                .build();
+        model.setManual(manual);
+        return model;
+    }
+
+    /**
+     * 리포지토리만 채운 ProductModelService 를 만듭니다. (모델명 검사용)
+     * 다른 의존성은 null 로 채우므로, 생성자에 의존성이 추가되어도 벤치마크를 고칠 필요가 없습니다.
+     */
+    static ProductModelService productModelService(ProductModelRepository repository) {
+        Constructor<?> constructor = ProductModelService.class.getConstructors()[0];
+        Class<?>[] types = constructor.getParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == ProductModelRepository.class) {
+                args[i] = repository;
+            }
+        }
+        try {
+            return (ProductModelService) constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("ProductModelService 를 만들 수 없습니다.", e);
+        }
+    }
+}
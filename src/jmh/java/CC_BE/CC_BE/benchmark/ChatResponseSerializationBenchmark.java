@@ -0,0 +1,63 @@
+package CC_BE.CC_BE.benchmark;
+
+import CC_BE.CC_BE.dto.ChatResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 챗봇 응답(ChatResponse) JSON 직렬화 벤치마크
+ * ML 서버가 돌려주는 base64 이미지가 응답 크기의 대부분을 차지하므로 이미지 수와 크기별로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatResponseSerializationBenchmark {
+
+    @Param({"0", "3", "10"})
+    public int imageCount;
+
+    @Param({"64", "512"})
+    public int imageKb;
+
+    private ObjectWriter writer;
+    private ChatResponse response;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper().writerFor(ChatResponse.class);
+
+        Random random = new Random(42);
+        List<String> images = new ArrayList<>(imageCount);
+        for (int i = 0; i < imageCount; i++) {
+            byte[] image = new byte[imageKb * 1024];
+            random.nextBytes(image);
+            images.add(Base64.getEncoder().encodeToString(image));
+        }
+        response = ChatResponse.builder()
+                .message("success")
+                .answer("세탁기 필터는 하단 커버를 열고 시계 반대 방향으로 돌려 분리합니다. ".repeat(20))
+                .images(images)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+
+    /**
+     * 응답 스트림에 바로 쓰는 경우 (중간 byte[] 없음)
+     */
+    @Benchmark
+    public void writeToStream() throws Exception {
+        writer.writeValue(OutputStream.nullOutputStream(), response);
+    }
+}
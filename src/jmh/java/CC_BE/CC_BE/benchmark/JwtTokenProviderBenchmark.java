@@ -0,0 +1,69 @@
+package CC_BE.CC_BE.benchmark;
+
+import CC_BE.CC_BE.security.CustomUserDetails;
+import CC_BE.CC_BE.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급 / 검증 / 이메일 추출 벤치마크
+ * 모든 인증 요청이 JwtAuthenticationFilter 에서 validateToken 과 getUserEmailFromJWT 를 거치므로
+ * 요청당 서명 검증이 두 번 수행되는 비용을 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+    // HS512 는 512bit 이상의 키가 필요 (Base64)
+    private static final String SECRET =
+            "Y2MtYmUtYmVuY2htYXJrLXNlY3JldC1rZXktZm9yLWhzNTEyLXNpZ25pbmctbXVzdC1iZS1hdC1sZWFzdC02NC1ieXRlcy1sb25nLTAxMjM0NTY3ODk=";
+
+    private JwtTokenProvider provider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        provider = new JwtTokenProvider(null);
+        setField(provider, "jwtSecret", SECRET);
+        setField(provider, "jwtExpirationMs", 3_600_000);
+
+        CustomUserDetails principal = new CustomUserDetails(BenchmarkFixtures.user(42));
+        authentication = new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+        token = provider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return provider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUserEmailFromJWT() {
+        return provider.getUserEmailFromJWT(token);
+    }
+
+    /**
+     * JwtAuthenticationFilter 가 요청마다 수행하는 검증 + 이메일 추출 전체 비용
+     */
+    @Benchmark
+    public String filterPath() {
+        provider.validateToken(token);
+        return provider.getUserEmailFromJWT(token);
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
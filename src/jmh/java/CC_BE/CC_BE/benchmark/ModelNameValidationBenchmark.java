@@ -0,0 +1,46 @@
+package CC_BE.CC_BE.benchmark;
+
+import CC_BE.CC_BE.repository.ProductModelRepository;
+import CC_BE.CC_BE.service.ProductModelService;
+import org.openjdk.jmh.annotations.*;
+import org.mockito.Mockito;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 모델명 유효성 검사 벤치마크
+ * validateModelName 은 String.matches 로 호출마다 정규식을 컴파일하므로,
+ * 미리 컴파일한 Pattern 과 비교합니다. (중복 검사 쿼리는 항상 false 를 반환하는 Mockito 목 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ModelNameValidationBenchmark {
+    private static final Pattern HANGUL = Pattern.compile("[ㄱ-ㅎㅏ-ㅣ가-힣]");
+
+    @Param({"WM-1234", "SAMSUNG-BESPOKE-AI-WASHER-WF25DB8650BV-2024-EDITION"})
+    public String name;
+
+    private ProductModelService service;
+
+    @Setup
+    public void setUp() {
+        ProductModelRepository repository = Mockito.mock(ProductModelRepository.class);
+        Mockito.when(repository.existsByName(Mockito.anyString())).thenReturn(false);
+        service = BenchmarkFixtures.productModelService(repository);
+    }
+
+    @Benchmark
+    public void validateModelName() {
+        service.validateModelName(name);
+    }
+
+    /**
+     * 비교 기준: 미리 컴파일한 Pattern 으로 같은 검사를 수행
+     */
+    @Benchmark
+    public boolean precompiledPattern() {
+        return HANGUL.matcher(name).find();
+    }
+}
@@ -0,0 +1,54 @@
+package CC_BE.CC_BE.benchmark;
+
+import CC_BE.CC_BE.domain.Brand;
+import CC_BE.CC_BE.domain.ProductModel;
+import CC_BE.CC_BE.domain.User;
+import CC_BE.CC_BE.dto.BrandResponse;
+import CC_BE.CC_BE.dto.ProductModelResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → 응답 DTO 변환 벤치마크
+ * 모델 목록 조회 API 처럼 여러 모델을 한 번에 변환하는 경우를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+
+    @Param({"10", "100"})
+    public int categoryCount;
+
+    @Param({"50", "500"})
+    public int modelCount;
+
+    private Brand brand;
+    private List<ProductModel> models;
+
+    @Setup
+    public void setUp() {
+        brand = BenchmarkFixtures.brand(1, categoryCount);
+        User owner = BenchmarkFixtures.user(7);
+        models = new ArrayList<>(modelCount);
+        for (int i = 0; i < modelCount; i++) {
+            models.add(BenchmarkFixtures.productModel(i + 1, brand, i % 2 == 0 ? owner : null));
+        }
+    }
+
+    @Benchmark
+    public void productModelResponseFrom(Blackhole blackhole) {
+        for (ProductModel model : models) {
+            blackhole.consume(ProductModelResponse.from(model));
+        }
+    }
+
+    @Benchmark
+    public BrandResponse brandResponseFromWithCategories() {
+        return BrandResponse.fromWithCategories(brand);
+    }
+}
@@ -0,0 +1,192 @@
+package CC_BE.CC_BE.loadtest;
+
+import CC_BE.CC_BE.CcBeApplication;
+import CC_BE.CC_BE.config.MlSchedulerProperties;
+import CC_BE.CC_BE.domain.ProductModel;
+import CC_BE.CC_BE.repository.ProductModelRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 챗봇 동시 처리 벤치마크 (동기 RestTemplate 경로 vs 비동기 경로)
+ * 같은 Tomcat 스레드 수와 ML 서버 지연에서 챗봇 요청 N 개를 한꺼번에 보내고,
+ * ML 서버 스텁에 동시에 도달한 요청 수(최대 in-flight), 전체 소요 시간, 지연 백분위를 비교합니다.
+ * 스케줄러 설정별로 두 번 측정합니다.
+ * - default : 배포 기본값 그대로 (ml.scheduler 전체 / 챗봇 상한, 챗봇 대기열 길이). 최대 in-flight 는 챗봇 상한을 넘지 않습니다.
+ * - uncapped : 스케줄러 상한을 충분히 크게 덮어써 Tomcat 스레드 수의 영향만 보이도록 합니다.
+ *
+ * 시스템 속성
+ * - bench.concurrency (기본 400), bench.tomcatThreads (기본 50), bench.latencyMs (기본 2000)
+ * - bench.schedulers (기본 default,uncapped)
+ * - bench.reportFile : build.gradle 이 지정
+ */
+public class ChatConcurrencyBenchmark {
+    private static final String JWT_SECRET =
+            "Y2hhdC1jb25jdXJyZW5jeS1iZW5jaG1hcmstb25seS1qd3Qtc2VjcmV0LWtleS1mb3ItaHM1MTItc2lnbmluZy1sb25nLWVub3VnaA==";
+
+    private static final String UNCAPPED = String.valueOf(100_000);
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("bench.concurrency", 400);
+        int tomcatThreads = Integer.getInteger("bench.tomcatThreads", 50);
+        long latencyMs = Long.getLong("bench.latencyMs", 2000);
+        List<String> schedulers = List.of(System.getProperty("bench.schedulers", "default,uncapped").split(","));
+        Path reportFile = Paths.get(System.getProperty("bench.reportFile", "build/results/chat-concurrency/report.json"));
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        try (MlServerStub stub = new MlServerStub(latencyMs, 0, 0, 1, 16)) {
+            for (String scheduler : schedulers) {
+                Map<String, Object> schedulerResults = new LinkedHashMap<>();
+                for (String mode : List.of("blocking", "async")) {
+                    System.out.printf("[chat-bench] %s/%s - 동시 요청 %d, Tomcat 스레드 %d, ML 지연 %dms%n",
+                            scheduler, mode, concurrency, tomcatThreads, latencyMs);
+                    Map<String, Object> result = run(scheduler, mode, stub, concurrency, tomcatThreads);
+                    schedulerResults.put(mode, result);
+                    System.out.printf("[chat-bench] %-8s %-8s 최대 in-flight %4d, 소요 %6.0fms, p50 %6.0fms, p99 %6.0fms, 오류 %d%n",
+                            scheduler, mode, result.get("peakMlInFlight"), result.get("wallMs"),
+                            result.get("p50Ms"), result.get("p99Ms"), result.get("errors"));
+                }
+                results.put(scheduler, schedulerResults);
+            }
+        }
+
+        MlSchedulerProperties defaults = new MlSchedulerProperties();
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("concurrency", concurrency);
+        settings.put("tomcatThreads", tomcatThreads);
+        settings.put("mlLatencyMs", latencyMs);
+        settings.put("schedulers", Map.of(
+                "default", Map.of(
+                        "maxConcurrency", defaults.getMaxConcurrency(),
+                        "chatMaxConcurrency", defaults.getChat().getMaxConcurrency(),
+                        "chatMaxQueued", defaults.getChat().getMaxQueued()),
+                "uncapped", Map.of(
+                        "maxConcurrency", UNCAPPED,
+                        "chatMaxConcurrency", UNCAPPED,
+                        "chatMaxQueued", UNCAPPED)));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("results", results);
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("[chat-bench] 결과 저장: " + reportFile.toAbsolutePath());
+    }
+
+    private static Map<String, Object> run(String scheduler, String mode, MlServerStub stub, int concurrency,
+                                           int tomcatThreads) throws Exception {
+        try (ConfigurableApplicationContext context = startApplication(scheduler, mode, stub.url(), tomcatThreads)) {
+            long modelId = context.getBean(ProductModelRepository.class)
+                    .save(ProductModel.builder().name("bench-model").build())
+                    .getId();
+            String url = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port") + "/api/chat/manual";
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newFixedThreadPool(8, runnable -> {
+                        Thread thread = new Thread(runnable, "chat-bench-client");
+                        thread.setDaemon(true);
+                        return thread;
+                    }))
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofMinutes(2))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"modelId\":" + modelId + ",\"question\":\"필터 교체 방법\"}"))
+                    .build();
+
+            // 워밍업 (JIT, 커넥션)
+            fire(client, request, Math.min(20, concurrency));
+            stub.resetPeakInFlight();
+
+            long start = System.nanoTime();
+            double[] latencies = new double[concurrency];
+            AtomicInteger errors = new AtomicInteger();
+            List<CompletableFuture<?>> calls = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                int index = i;
+                calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .handle((response, error) -> {
+                            latencies[index] = (System.nanoTime() - start) / 1e6;
+                            if (error != null || response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                            return null;
+                        }));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+            double wallMs = (System.nanoTime() - start) / 1e6;
+
+            Arrays.sort(latencies);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("peakMlInFlight", stub.peakInFlight());
+            result.put("wallMs", wallMs);
+            result.put("throughputRps", concurrency / (wallMs / 1000));
+            result.put("p50Ms", latencies[latencies.length / 2]);
+            result.put("p99Ms", latencies[(int) Math.min(latencies.length - 1, Math.ceil(latencies.length * 0.99) - 1)]);
+            result.put("maxMs", latencies[latencies.length - 1]);
+            result.put("errors", errors.get());
+            return result;
+        }
+    }
+
+    private static void fire(HttpClient client, HttpRequest request, int count) {
+        List<CompletableFuture<?>> calls = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * 인메모리 DB 와 ML 서버 스텁 주소로 애플리케이션을 시작합니다.
+     * uncapped 이면 스케줄러 상한을 덮어쓰고, default 이면 배포 기본값을 그대로 사용합니다.
+     */
+    private static ConfigurableApplicationContext startApplication(String scheduler, String mode, String mlServerUrl,
+                                                                   int tomcatThreads) throws Exception {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("server.tomcat.threads.max", String.valueOf(tomcatThreads));
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:chat-bench-" + scheduler + "-" + mode + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("jwt.secret", JWT_SECRET);
+        properties.put("jwt.expiration", "3600000");
+        properties.put("ml.server.url", mlServerUrl);
+        properties.put("ml.server.api-key", "bench");
+        properties.put("ml.server.async-chat", String.valueOf("async".equals(mode)));
+        if ("uncapped".equals(scheduler)) {
+            properties.put("ml.scheduler.max-concurrency", UNCAPPED);
+            properties.put("ml.scheduler.chat.max-concurrency", UNCAPPED);
+            properties.put("ml.scheduler.chat.max-queued", UNCAPPED);
+        } else if (!"default".equals(scheduler)) {
+            throw new IllegalArgumentException("알 수 없는 스케줄러 설정: " + scheduler);
+        }
+        properties.put("file.upload-dir", Files.createTempDirectory("cc-be-chat-bench-").toString());
+        properties.put("manual.preview.enabled", "false");
+        properties.put("tracing.log-exporter.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        return new SpringApplicationBuilder(CcBeApplication.class)
+                .properties(properties)
+                .run();
+    }
+}
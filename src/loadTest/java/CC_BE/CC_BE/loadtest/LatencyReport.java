@@ -0,0 +1,99 @@
+package CC_BE.CC_BE.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 지연 시간 / 처리량 집계
+ * 지연 시간은 요청이 "보내졌어야 할" 시각부터 측정하므로 서버가 밀려도 대기 시간이 빠지지 않습니다.
+ * (coordinated omission 보정)
+ */
+class LatencyReport {
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        stats.histogram.recordValue(Math.min(Math.max(latencyNanos, 1), MAX_LATENCY_NANOS));
+        if (!success) {
+            stats.errors.incrementAndGet();
+        }
+    }
+
+    void recordDropped(String endpoint) {
+        endpoints.computeIfAbsent(endpoint, key -> new Endpoint()).dropped.incrementAndGet();
+    }
+
+    void reset() {
+        endpoints.clear();
+    }
+
+    /**
+     * 콘솔에 표 형식으로 출력합니다.
+     */
+    void print(double elapsedSeconds) {
+        System.out.printf("%n%-38s %8s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "dropped", "rps", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        endpoints.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            Histogram h = entry.getValue().histogram;
+            System.out.printf("%-38s %8d %7d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    entry.getKey(), h.getTotalCount(), entry.getValue().errors.get(), entry.getValue().dropped.get(),
+                    h.getTotalCount() / elapsedSeconds,
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)),
+                    millis(h.getMaxValue()));
+        });
+    }
+
+    /**
+     * 기계가 읽을 수 있는 JSON 으로 저장합니다.
+     */
+    void writeJson(Path file, double elapsedSeconds, Map<String, Object> settings) throws IOException {
+        Map<String, Object> endpointResults = new LinkedHashMap<>();
+        endpoints.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            Histogram h = entry.getValue().histogram;
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("count", h.getTotalCount());
+            result.put("errors", entry.getValue().errors.get());
+            result.put("dropped", entry.getValue().dropped.get());
+            result.put("throughputRps", h.getTotalCount() / elapsedSeconds);
+            result.put("p50Ms", millis(h.getValueAtPercentile(50)));
+            result.put("p90Ms", millis(h.getValueAtPercentile(90)));
+            result.put("p99Ms", millis(h.getValueAtPercentile(99)));
+            result.put("p999Ms", millis(h.getValueAtPercentile(99.9)));
+            result.put("maxMs", millis(h.getMaxValue()));
+            result.put("meanMs", h.getMean() / 1_000_000.0);
+            endpointResults.put(entry.getKey(), result);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("endpoints", endpointResults);
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class Endpoint {
+        private final Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+    }
+}
@@ -0,0 +1,426 @@
+package CC_BE.CC_BE.loadtest;
+
+import CC_BE.CC_BE.CcBeApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 부하 테스트 실행기
+ * 1. 로컬 ML 서버 스텁과 인메모리 H2 DB 로 애플리케이션을 띄웁니다.
+ * 2. 브랜드 / 카테고리 / 매뉴얼이 있는 모델을 API 로 생성합니다.
+ * 3. 목표 RPS 로 혼합 부하(카탈로그 조회, 챗봇, 업로드, 다운로드)를 주고 엔드포인트별 처리량과 지연 시간 백분위를 보고합니다.
+ *
+ * 요청은 응답과 무관하게 일정한 간격으로 보내며 (open model), 동시 요청 수가 한도를 넘으면 보내지 않고 dropped 로 집계합니다.
+ * 설정은 시스템 프로퍼티로 전달합니다. (./gradlew loadTest -Ploadtest.rps=100 ...)
+ */
+public class LoadTestRunner {
+    private static final String ADMIN_EMAIL = "test1@gmail.com";
+    private static final String ADMIN_PASSWORD = "1234";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final LatencyReport report = new LatencyReport();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger uploadSequence = new AtomicInteger();
+    private final List<Long> categoryIds = new ArrayList<>();
+    private final List<Long> brandIds = new ArrayList<>();
+    private final List<Long> modelIds = new ArrayList<>();
+    private final Map<String, Integer> mix;
+    private final int maxInFlight;
+    private final byte[] pdf;
+    private String baseUrl;
+    private String adminToken;
+
+    private LoadTestRunner(Map<String, Integer> mix, int maxInFlight, byte[] pdf) {
+        this.mix = mix;
+        this.maxInFlight = maxInFlight;
+        this.pdf = pdf;
+        ExecutorService callbacks = Executors.newFixedThreadPool(
+                Math.max(4, Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "loadtest-client");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.client = HttpClient.newBuilder()
+                .executor(callbacks)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rps = intProperty("loadtest.rps", 50);
+        int durationSec = intProperty("loadtest.durationSec", 30);
+        int warmupSec = intProperty("loadtest.warmupSec", 5);
+        int seedModels = intProperty("loadtest.seedModels", 10);
+        int maxInFlight = intProperty("loadtest.maxInFlight", 1000);
+        int pdfPages = intProperty("loadtest.pdfPages", 20);
+        String mixSpec = System.getProperty("loadtest.mix", "browse=55,chat=20,download=10,signed=10,upload=5");
+        Path reportFile = Paths.get(System.getProperty("loadtest.reportFile", "build/results/loadtest/report.json"));
+
+        long latencyMs = longProperty("ml.stub.latencyMs", 150);
+        long jitterMs = longProperty("ml.stub.latencyJitterMs", 50);
+        double errorRate = Double.parseDouble(System.getProperty("ml.stub.errorRate", "0.01"));
+        int imageCount = intProperty("ml.stub.imageCount", 2);
+        int imageKb = intProperty("ml.stub.imageKb", 128);
+        int stubInstances = Math.max(1, intProperty("ml.stub.instances", 1));
+        long slowLatencyMs = longProperty("ml.stub.slowInstanceLatencyMs", 0);  // 0 보다 크면 마지막 스텁만 이 지연 사용
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("rps", rps);
+        settings.put("durationSec", durationSec);
+        settings.put("warmupSec", warmupSec);
+        settings.put("mix", mixSpec);
+        settings.put("seedModels", seedModels);
+        settings.put("pdfPages", pdfPages);
+        settings.put("mlLatencyMs", latencyMs);
+        settings.put("mlLatencyJitterMs", jitterMs);
+        settings.put("mlErrorRate", errorRate);
+        settings.put("mlImageCount", imageCount);
+        settings.put("mlImageKb", imageKb);
+        settings.put("mlStubInstances", stubInstances);
+        settings.put("mlSlowInstanceLatencyMs", slowLatencyMs);
+
+        Path uploadDir = Files.createTempDirectory("cc-be-loadtest-");
+        List<MlServerStub> stubs = new ArrayList<>();
+        for (int i = 0; i < stubInstances; i++) {
+            boolean slow = slowLatencyMs > 0 && stubInstances > 1 && i == stubInstances - 1;
+            stubs.add(new MlServerStub(slow ? slowLatencyMs : latencyMs, jitterMs, 0, imageCount, imageKb));
+        }
+        try (ConfigurableApplicationContext context = startApplication(
+                stubs.stream().map(MlServerStub::url).toList(), uploadDir)) {
+            LoadTestRunner runner = new LoadTestRunner(parseMix(mixSpec), maxInFlight, buildPdf(pdfPages));
+            runner.baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+
+            System.out.println("[loadtest] 초기 데이터 생성 중 - 모델 " + seedModels + "개");
+            runner.seed(seedModels);
+            stubs.forEach(stub -> stub.setErrorRate(errorRate));
+
+            if (warmupSec > 0) {
+                System.out.println("[loadtest] 워밍업 " + warmupSec + "초");
+                runner.drive(rps, warmupSec);
+                runner.report.reset();
+            }
+
+            System.out.println("[loadtest] 측정 시작 - " + rps + " rps, " + durationSec + "초, mix: " + mixSpec);
+            long start = System.nanoTime();
+            runner.drive(rps, durationSec);
+            double elapsed = (System.nanoTime() - start) / 1e9;
+
+            runner.report.print(elapsed);
+            for (MlServerStub stub : stubs) {
+                System.out.printf("%nML 스텁 요청 (%s): %d (오류 %d)", stub.url(), stub.requestCount(), stub.errorCount());
+            }
+            System.out.println();
+            runner.report.writeJson(reportFile, elapsed, settings);
+            System.out.println("[loadtest] 결과 저장: " + reportFile.toAbsolutePath());
+        } finally {
+            stubs.forEach(MlServerStub::close);
+        }
+    }
+
+    /**
+     * 인메모리 DB 와 ML 서버 스텁 주소로 애플리케이션을 시작합니다.
+     */
+    private static ConfigurableApplicationContext startApplication(List<String> mlServerUrls, Path uploadDir) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.servlet.multipart.max-file-size", "100MB");
+        properties.put("spring.servlet.multipart.max-request-size", "100MB");
+        properties.put("jwt.secret", "bG9hZHRlc3Qtb25seS1qd3Qtc2VjcmV0LWtleS1mb3ItaHM1MTItc2lnbmluZy1tdXN0LWJlLWF0LWxlYXN0LTY0LWJ5dGVzLWxvbmc=");
+        properties.put("jwt.expiration", "86400000");
+        properties.put("ml.server.urls", String.join(",", mlServerUrls));
+        properties.put("ml.server.api-key", "loadtest");
+        properties.put("file.upload-dir", uploadDir.toString());
+        properties.put("logging.level.root", System.getProperty("loadtest.logLevel", "WARN"));
+        return new SpringApplicationBuilder(CcBeApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * 브랜드 3개, 브랜드별 카테고리 4개, 매뉴얼이 있는 공용 모델을 생성합니다.
+     */
+    private void seed(int models) throws Exception {
+        JsonNode login = send(HttpRequest.newBuilder(uri("/api/users/login"))
+                .header("Content-Type", "application/json")
+                .POST(json(Map.of("email", ADMIN_EMAIL, "password", ADMIN_PASSWORD)))
+                .build());
+        adminToken = login.get("token").asText();
+
+        for (int b = 0; b < 3; b++) {
+            JsonNode brand = send(authorized("/api/brands")
+                    .header("Content-Type", "application/json")
+                    .POST(json(Map.of("name", "LoadBrand-" + b)))
+                    .build());
+            long brandId = brand.get("data").get("id").asLong();
+            brandIds.add(brandId);
+            for (int c = 0; c < 4; c++) {
+                JsonNode category = send(authorized("/api/categories")
+                        .header("Content-Type", "application/json")
+                        .POST(json(Map.of("name", "LoadCategory-" + b + "-" + c, "brandId", brandId)))
+                        .build());
+                categoryIds.add(category.get("data").get("id").asLong());
+            }
+        }
+
+        for (int i = 0; i < models; i++) {
+            JsonNode model = send(uploadRequest("SEED-MODEL-" + i));
+            modelIds.add(model.get("data").get("id").asLong());
+        }
+    }
+
+    /**
+     * 목표 RPS 로 지정 시간 동안 요청을 보내고, 남은 요청이 끝날 때까지 기다립니다.
+     */
+    private void drive(int rps, int seconds) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, rps);
+        long total = (long) rps * seconds;
+        long start = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            fire(pickOperation(), intended);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private void fire(String operation, long intendedNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String endpoint;
+        Supplier<CompletableFuture<Integer>> call;
+        switch (operation) {
+            case "browse" -> {
+                int pick = random.nextInt(4);
+                if (pick == 0) {
+                    endpoint = "GET /api/brands";
+                    call = () -> status(HttpRequest.newBuilder(uri("/api/brands")).GET().build());
+                } else if (pick == 1) {
+                    endpoint = "GET /api/categories/brand/{id}";
+                    call = () -> status(HttpRequest.newBuilder(uri("/api/categories/brand/" + pick(brandIds))).GET().build());
+                } else if (pick == 2) {
+                    endpoint = "GET /api/models/category/{id}";
+                    call = () -> status(HttpRequest.newBuilder(uri("/api/models/category/" + pick(categoryIds))).GET().build());
+                } else {
+                    endpoint = "GET /api/models/public";
+                    call = () -> status(HttpRequest.newBuilder(uri("/api/models/public")).GET().build());
+                }
+            }
+            case "chat" -> {
+                endpoint = "POST /api/chat/manual";
+                call = () -> status(HttpRequest.newBuilder(uri("/api/chat/manual"))
+                        .header("Content-Type", "application/json")
+                        .POST(json(Map.of("modelId", pick(modelIds), "question", "필터는 어떻게 청소하나요?")))
+                        .build());
+            }
+            case "download" -> {
+                endpoint = "GET /api/manuals/model/{id}/download";
+                call = () -> status(HttpRequest.newBuilder(uri("/api/manuals/model/" + pick(modelIds) + "/download")).GET().build());
+            }
+            case "signed" -> {
+                endpoint = "GET signed manual URL";
+                call = this::signedDownload;
+            }
+            case "upload" -> {
+                endpoint = "POST /api/models/public";
+                call = () -> status(uploadRequest("LOAD-MODEL-" + uploadSequence.incrementAndGet()));
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 작업: " + operation);
+        }
+
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            report.recordDropped(endpoint);
+            return;
+        }
+        call.get().whenComplete((statusCode, error) -> {
+            inFlight.decrementAndGet();
+            boolean success = error == null && statusCode >= 200 && statusCode < 400;
+            report.record(endpoint, System.nanoTime() - intendedNanos, success);
+        });
+    }
+
+    /**
+     * 서명된 URL 을 발급받은 뒤 해당 URL 로 다운로드합니다. (두 요청을 합친 시간을 측정)
+     */
+    private CompletableFuture<Integer> signedDownload() {
+        HttpRequest issue = HttpRequest.newBuilder(uri("/api/manuals/model/" + pick(modelIds) + "/url")).GET().build();
+        return client.sendAsync(issue, HttpResponse.BodyHandlers.ofByteArray())
+                .thenCompose(response -> {
+                    if (response.statusCode() != 200) {
+                        return CompletableFuture.completedFuture(response.statusCode());
+                    }
+                    try {
+                        String url = objectMapper.readTree(response.body()).get("data").get("url").asText();
+                        return status(HttpRequest.newBuilder(uri(url)).GET().build());
+                    } catch (IOException e) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                });
+    }
+
+    private String pickOperation() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        return mix.keySet().iterator().next();
+    }
+
+    private CompletableFuture<Integer> status(HttpRequest request) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(HttpResponse::statusCode);
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.uri() + " 실패 (" + response.statusCode() + "): "
+                    + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest uploadRequest(String modelName) {
+        String boundary = "----loadtest" + UUID.randomUUID().toString().replace("-", "");
+        ByteArrayOutputStream body = new ByteArrayOutputStream(pdf.length + 1024);
+        writeField(body, boundary, "name", modelName);
+        writeField(body, boundary, "categoryId", String.valueOf(pick(categoryIds)));
+        writeAscii(body, "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"manualFile\"; filename=\"" + modelName + ".pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n");
+        body.writeBytes(pdf);
+        writeAscii(body, "\r\n--" + boundary + "--\r\n");
+
+        return authorized("/api/models/public")
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + adminToken);
+    }
+
+    private HttpRequest.BodyPublisher json(Object value) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private static void writeField(ByteArrayOutputStream out, String boundary, String name, String value) {
+        writeAscii(out, "--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n");
+        out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        writeAscii(out, "\r\n");
+    }
+
+    private static void writeAscii(ByteArrayOutputStream out, String value) {
+        out.writeBytes(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 페이지마다 텍스트가 있는 테스트용 PDF 를 생성합니다.
+     */
+    private static byte[] buildPdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int i = 0; i < pages; i++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 11);
+                    content.newLineAtOffset(50, 750);
+                    content.setLeading(14);
+                    for (int line = 0; line < 45; line++) {
+                        content.showText("Page " + (i + 1) + " line " + line + " - Lorem ipsum dolor sit amet, consectetur.");
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.getDocumentInformation().setTitle("Load Test Manual");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(pair[0].trim(), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 가중치가 0보다 큰 작업이 필요합니다.");
+        }
+        return mix;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+
+    private static long longProperty(String name, long defaultValue) {
+        return Long.parseLong(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+}
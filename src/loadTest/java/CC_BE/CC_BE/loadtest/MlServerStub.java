@@ -0,0 +1,149 @@
+package CC_BE.CC_BE.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 로컬 ML 서버 스텁
+ * 실제 ML 서버와 같은 경로와 응답 형식을 제공하며, 지연 시간 / 오류율 / 이미지 크기를 조절할 수 있습니다.
+ * - POST /api/manuals/upload : 요청 본문을 끝까지 읽은 뒤 {"doc_name": ..., "message": "completed"}
+ * - POST /api/chat/manual    : {"message": "success", "answer": ..., "images": [base64, ...]}
+ * - DELETE /api/manuals/{doc_name} : {"doc_name": ..., "message": "deleted"}
+ */
+class MlServerStub implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMs;
+    private final long latencyJitterMs;
+    private volatile double errorRate;
+    private final byte[] chatResponse;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    MlServerStub(long latencyMs, long latencyJitterMs, double errorRate, int imageCount, int imageKb) throws IOException {
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+        this.errorRate = errorRate;
+        this.chatResponse = buildChatResponse(imageCount, imageKb);
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "ml-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/api/manuals/upload", exchange -> handle(exchange,
+                "{\"doc_name\":\"stub\",\"message\":\"completed\"}".getBytes(StandardCharsets.UTF_8)));
+        server.createContext("/api/chat/manual", exchange -> handle(exchange, chatResponse));
+        server.createContext("/api/manuals/", exchange -> handle(exchange,
+                "{\"doc_name\":\"stub\",\"message\":\"deleted\"}".getBytes(StandardCharsets.UTF_8)));
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 오류율을 변경합니다. (초기 데이터 생성 중에는 0으로 두기 위해 사용)
+     */
+    void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    long requestCount() {
+        return requests.get();
+    }
+
+    long errorCount() {
+        return errors.get();
+    }
+
+    /**
+     * 동시에 처리 중이던 요청 수의 최댓값
+     */
+    int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    void resetPeakInFlight() {
+        peakInFlight.set(inFlight.get());
+    }
+
+    private void handle(HttpExchange exchange, byte[] body) throws IOException {
+        requests.incrementAndGet();
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try (exchange; InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+            sleep();
+
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                errors.incrementAndGet();
+                byte[] error = "{\"message\":\"stub error\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(500, error.length);
+                exchange.getResponseBody().write(error);
+                return;
+            }
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void sleep() {
+        long jitter = latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(-latencyJitterMs, latencyJitterMs + 1) : 0;
+        long delay = Math.max(0, latencyMs + jitter);
+        if (delay == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] buildChatResponse(int imageCount, int imageKb) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder();
+        json.append("{\"message\":\"success\",\"answer\":\"")
+                .append("필터는 하단 커버를 열고 시계 반대 방향으로 돌려 분리합니다. ".repeat(10))
+                .append("\",\"images\":[");
+        for (int i = 0; i < imageCount; i++) {
+            byte[] image = new byte[imageKb * 1024];
+            random.nextBytes(image);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(Base64.getEncoder().encodeToString(image)).append('"');
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,203 @@
+package CC_BE.CC_BE.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 시작 시간 벤치마크
+ * 실행 방식(기본 JVM, AppCDS, AOT, AOT + AppCDS)마다 애플리케이션을 새 JVM 으로 띄우고,
+ * 프로세스 시작부터 첫 요청(GET /api/brands, DB 조회 포함)이 200 으로 응답할 때까지의 시간을 측정합니다.
+ * 실행 순서에 따른 편차를 줄이기 위해 방식별로 번갈아 실행합니다.
+ *
+ * 시스템 속성
+ * - startup.appJar, startup.cdsArchive, startup.aot, startup.java : build.gradle 이 지정
+ * - startup.runs (기본 5), startup.timeoutSec (기본 120)
+ */
+public class StartupBenchmark {
+    private static final Pattern STARTED = Pattern.compile("Started CcBeApplication in ([0-9.]+) seconds");
+    private static final String JWT_SECRET =
+            "c3RhcnR1cC1iZW5jaG1hcmstb25seS1qd3Qtc2VjcmV0LWtleS1mb3ItaHM1MTItc2lnbmluZy1tdXN0LWJlLWxvbmctZW5vdWdo";
+
+    private final String java;
+    private final String classpath;
+    private final int timeoutSec;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    private StartupBenchmark(String java, String classpath, int timeoutSec) {
+        this.java = java;
+        this.classpath = classpath;
+        this.timeoutSec = timeoutSec;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path appJar = Paths.get(System.getProperty("startup.appJar"));
+        Path cdsArchive = Paths.get(System.getProperty("startup.cdsArchive"));
+        boolean aot = Boolean.parseBoolean(System.getProperty("startup.aot", "false"));
+        int runs = Integer.parseInt(System.getProperty("startup.runs", "5"));
+        int timeoutSec = Integer.parseInt(System.getProperty("startup.timeoutSec", "120"));
+        Path reportFile = Paths.get(System.getProperty("startup.reportFile", "build/results/startup/report.json"));
+
+        // 런타임 클래스패스는 CDS 학습 때의 클래스패스(appJar)로 시작해야 아카이브가 사용됨
+        String classpath = appJar + File.pathSeparator + System.getProperty("startup.extraClasspath", "");
+        StartupBenchmark benchmark = new StartupBenchmark(
+                System.getProperty("startup.java", "java"), classpath, timeoutSec);
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("jvm", List.of());
+        if (Files.exists(cdsArchive)) {
+            variants.put("cds", List.of("-XX:SharedArchiveFile=" + cdsArchive));
+        }
+        if (aot) {
+            variants.put("aot", List.of("-Dspring.aot.enabled=true"));
+            if (Files.exists(cdsArchive)) {
+                variants.put("aot+cds", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + cdsArchive));
+            }
+        }
+
+        Map<String, List<double[]>> samples = new LinkedHashMap<>();
+        variants.keySet().forEach(name -> samples.put(name, new ArrayList<>()));
+
+        System.out.println("[startup] 방식: " + variants.keySet() + ", 반복: " + runs);
+        benchmark.run(List.of(), -1); // 디스크 캐시 워밍업 (결과 제외)
+        for (int i = 0; i < runs; i++) {
+            for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+                double[] sample = benchmark.run(variant.getValue(), i);
+                samples.get(variant.getKey()).add(sample);
+                System.out.printf("[startup] %-8s #%d  첫 요청 %.0fms (Spring 보고 %.0fms)%n",
+                        variant.getKey(), i + 1, sample[0], sample[1]);
+            }
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        System.out.printf("%n%-8s %12s %12s %12s %16s%n", "variant", "median(ms)", "min(ms)", "max(ms)", "spring-median(ms)");
+        for (Map.Entry<String, List<double[]>> entry : samples.entrySet()) {
+            double[] firstRequest = entry.getValue().stream().mapToDouble(s -> s[0]).sorted().toArray();
+            double[] started = entry.getValue().stream().mapToDouble(s -> s[1]).sorted().toArray();
+            System.out.printf("%-8s %12.0f %12.0f %12.0f %16.0f%n", entry.getKey(),
+                    median(firstRequest), firstRequest[0], firstRequest[firstRequest.length - 1], median(started));
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("jvmArgs", variants.get(entry.getKey()));
+            result.put("firstRequestMs", firstRequest);
+            result.put("firstRequestMedianMs", median(firstRequest));
+            result.put("springStartedMedianMs", median(started));
+            results.put(entry.getKey(), result);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runs", runs);
+        report.put("java", Runtime.version().toString());
+        report.put("variants", results);
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("[startup] 결과 저장: " + reportFile.toAbsolutePath());
+    }
+
+    /**
+     * 애플리케이션을 한 번 띄워 [첫 요청 성공까지 ms, Spring 이 보고한 시작 시간 ms] 를 반환합니다.
+     */
+    private double[] run(List<String> jvmArgs, int run) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(classpath);
+        command.add("CC_BE.CC_BE.CcBeApplication");
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=jdbc:h2:mem:startup" + run + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        command.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        command.add("--spring.jpa.hibernate.ddl-auto=create-drop");
+        command.add("--jwt.secret=" + JWT_SECRET);
+        command.add("--jwt.expiration=3600000");
+        command.add("--ml.server.url=http://127.0.0.1:1");
+        command.add("--file.upload-dir=" + Files.createTempDirectory("cc-be-startup-"));
+        command.add("--manual.preview.enabled=false");
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/brands"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        double[] startedMs = {Double.NaN};
+        Thread reader = new Thread(() -> readOutput(process, startedMs), "startup-output");
+        reader.setDaemon(true);
+        reader.start();
+
+        try {
+            long deadline = start + TimeUnit.SECONDS.toNanos(timeoutSec);
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 시작 중 종료되었습니다. (exit " + process.exitValue() + ")");
+                }
+                try {
+                    if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return new double[]{(System.nanoTime() - start) / 1e6, startedMs[0]};
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("애플리케이션이 " + timeoutSec + "초 안에 응답하지 않았습니다.");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * 출력을 계속 비워 프로세스가 막히지 않게 하고, Spring 의 시작 시간 로그를 읽습니다.
+     */
+    private static void readOutput(Process process, double[] startedMs) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    startedMs[0] = Double.parseDouble(matcher.group(1)) * 1000;
+                }
+            }
+        } catch (IOException e) {
+            // 프로세스 종료
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static double median(double[] sorted) {
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2;
+    }
+}
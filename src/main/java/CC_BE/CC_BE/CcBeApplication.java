@@ -2,8 +2,10 @@ package CC_BE.CC_BE;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CcBeApplication {
 
 	public static void main(String[] args) {
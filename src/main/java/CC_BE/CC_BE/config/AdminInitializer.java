@@ -3,6 +3,7 @@ package CC_BE.CC_BE.config;
 import CC_BE.CC_BE.domain.User;
 import CC_BE.CC_BE.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -10,6 +11,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 서버 시작 시 기본 관리자 계정이 없다면 생성하는 초기화 컴포넌트
+ * 이미 계정이 있는 환경에서 새로 추가되는 인스턴스는 admin.initializer.enabled=false 로
+ * 시작 시 DB 조회를 건너뛸 수 있습니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -20,9 +23,15 @@ public class AdminInitializer implements CommandLineRunner {
     private static final String ADMIN_EMAIL = "test1@gmail.com";
     private static final String ADMIN_PASSWORD = "1234";
 
+    @Value("${admin.initializer.enabled:true}")
+    private boolean enabled;
+
     @Override
     @Transactional
     public void run(String... args) {
+        if (!enabled) {
+            return;
+        }
         // 이미 해당 이메일을 가진 관리자가 있는지 확인
         if (!userRepository.existsByEmail(ADMIN_EMAIL)) {
             // 관리자 계정 생성
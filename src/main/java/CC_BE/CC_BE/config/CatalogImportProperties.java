@@ -0,0 +1,19 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 브랜드 / 카테고리 / 공용 모델 일괄 등록 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "catalog.import")
+public class CatalogImportProperties {
+    private int chunkSize = 1000;       // 한 트랜잭션에서 처리하는 행 수 (청크마다 커밋)
+    private int maxNameLength = 255;    // 브랜드 / 카테고리 / 모델 이름 최대 길이
+    private int maxReportedErrors = 100;  // 응답에 담는 실패 행 수 (실패 행 수는 모두 집계)
+}
@@ -0,0 +1,29 @@
+package CC_BE.CC_BE.config;
+
+import CC_BE.CC_BE.jfr.SlowRequestFilter;
+import CC_BE.CC_BE.jfr.SlowRequestRecorder;
+import io.micrometer.tracing.Tracer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * JFR 느린 요청 캡처 설정 클래스
+ * - 필터는 요청 추적 필터 다음에 두어 캡처 정보에 traceId 를 남깁니다.
+ * - jfr.slow-request.enabled=false(기본값)이면 필터는 아무 요청도 측정하지 않습니다.
+ * - CC_BE.* 사용자 정의 JFR 이벤트는 JFR 기록 중일 때만 저장됩니다. (예: -XX:StartFlightRecording)
+ */
+@Configuration
+public class FlightRecorderConfig {
+
+    @Bean
+    public FilterRegistrationBean<SlowRequestFilter> slowRequestFilter(SlowRequestRecorder recorder,
+                                                                       Tracer tracer,
+                                                                       FlightRecorderProperties properties) {
+        FilterRegistrationBean<SlowRequestFilter> registration =
+                new FilterRegistrationBean<>(new SlowRequestFilter(recorder, tracer, properties.getPaths()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
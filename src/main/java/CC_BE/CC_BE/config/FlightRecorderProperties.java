@@ -0,0 +1,31 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * JFR 느린 요청 캡처 설정
+ * 활성화하면 최근 구간만 유지하는 JFR 기록을 계속 켜 두고, 느린 요청이 발생하면 그 구간을 파일로 저장합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jfr.slow-request")
+public class FlightRecorderProperties {
+    private boolean enabled = false;
+    private long thresholdMs = 3000;            // 이 시간보다 오래 걸린 요청을 캡처
+    private int windowSeconds = 120;            // 유지할 최근 기록 구간
+    private long maxRecordingMb = 100;          // 유지할 기록 최대 크기
+    private String dumpDir = "jfr";             // 캡처 파일 저장 디렉토리
+    private int minDumpIntervalSeconds = 60;    // 캡처 최소 간격 (지연이 몰릴 때 디스크 보호)
+    private int maxDumps = 20;                  // 보관할 캡처 수 (오래된 것부터 삭제)
+    private List<String> paths = List.of(       // 측정할 요청 경로 (Ant 패턴)
+            "/api/chat/**",
+            "/api/models/public",
+            "/api/models/personal",
+            "/api/models/*/uploads/**");
+}
@@ -0,0 +1,20 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Idempotency-Key 설정 (모델 생성 요청 재시도 시 처음 결과를 돌려줌)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+    private long ttlHours = 24;                     // 완료된 요청 결과 보관 기간
+    private long inProgressTimeoutMinutes = 30;     // 이 시간이 지난 처리 중 기록은 중단된 것으로 보고 새 요청을 허용
+    private int maxKeyLength = 255;
+    private long cleanupIntervalMs = 3600000;       // 만료 기록 정리 주기
+}
@@ -1,33 +1,41 @@
 package CC_BE.CC_BE.config;
 
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.boot.web.client.RestTemplateCustomizer;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 /**
  * ML 서버와의 통신을 위한 설정 클래스
  * ML 서버 연결 설정 및 통신에 필요한 Bean들을 정의합니다.
+ * 기본값은 ml-server.properties 에 있습니다.
  */
 @Configuration
+@PropertySource("classpath:ml-server.properties")
 public class MLServerConfig {
 
     /**
      * ML 서버와의 HTTP 통신을 위한 RestTemplate Bean을 생성합니다.
      * - 연결 타임아웃: 30초
      * - 읽기 타임아웃: 5분 (PDF 처리 시간 고려)
+     * - 요청마다 클라이언트 스팬을 만들고 추적 헤더(traceparent)를 ML 서버로 전달
+     * @param observationRegistry 요청 관측(추적/지표) 레지스트리
      * @return ML 서버 통신용 RestTemplate 객체
      */
     @Bean
-    public RestTemplate mlServerRestTemplate() {
+    public RestTemplate mlServerRestTemplate(ObservationRegistry observationRegistry) {
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
         factory.setConnectTimeout(30_000);    // 30초
         factory.setReadTimeout(300_000);      // 5분
         factory.setBufferRequestBody(false);  // 대용량 파일 전송을 위한 설정
 
         RestTemplate restTemplate = new RestTemplate(factory);
+        restTemplate.setObservationRegistry(observationRegistry);
         
         // 요청/응답 로깅을 위한 인터셉터 추가
         restTemplate.getInterceptors().add((request, body, execution) -> {
@@ -40,5 +48,20 @@ public class MLServerConfig {
         return restTemplate;
     }
 
+    /**
+     * 챗봇 요청용 비동기 HTTP 클라이언트 Bean을 생성합니다.
+     * 응답을 기다리는 동안 스레드를 점유하지 않습니다. (요청 타임아웃은 요청마다 지정)
+     * - 연결 타임아웃: 30초
+     * - HTTP/1.1 고정 (ML 서버로 h2c 업그레이드를 시도하지 않음)
+     * @return ML 서버 통신용 HttpClient 객체
+     */
+    @Bean
+    public HttpClient mlServerHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+    }
+
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(MLServerConfig.class);
 } 
\ No newline at end of file
@@ -5,11 +5,31 @@ import org.springframework.stereotype.Component;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @Component
 @ConfigurationProperties(prefix = "ml.server")
 public class MLServerProperties {
-    private String url;
+    private String url;                                 // ML 서버 주소 (urls 미지정 시 사용)
     private String apiKey;
-} 
\ No newline at end of file
+    private List<String> urls = new ArrayList<>();      // 여러 ML 서버 주소 (지정하면 url 대신 사용)
+    private Balancing balancing = Balancing.LEAST_OUTSTANDING;
+    private boolean shardByDocument = false;            // 서버가 문서를 나눠 가질 때, 같은 문서는 항상 같은 서버로 보냄 (그 서버가 제외되면 503)
+    private String healthCheckPath = "/";               // 상태 확인 경로 (5xx 가 아닌 응답이면 정상)
+    private long healthCheckIntervalMs = 5000;          // 상태 확인 주기 (서버가 2개 이상일 때만 수행)
+    private int healthCheckTimeoutMs = 2000;
+    private int failureThreshold = 3;                   // 연속 실패가 이 횟수에 도달하면 제외
+    private long ejectionMs = 30000;                    // 제외 후 최소 대기 시간, 이후 상태 확인에 성공하면 복귀
+    private double slowFactor = 3.0;                    // 지연(EWMA)이 다른 서버 중앙값의 이 배수를 넘으면 제외 (0 이면 끔)
+    private double ewmaAlpha = 0.2;                     // 지연 이동 평균 가중치 (클수록 최근 값 반영)
+    private boolean asyncChat = true;                   // 챗봇 요청을 비동기 클라이언트로 보내 ML 응답 대기 중 서블릿 스레드를 반환
+    private String deletePath = "/api/manuals/{docName}";  // 문서 삭제 경로 (DELETE, {docName} 에 모델명)
+
+    public enum Balancing {
+        LEAST_OUTSTANDING,  // 처리 중인 요청이 가장 적은 서버
+        EWMA                // 지연 이동 평균 x (처리 중 요청 + 1) 이 가장 작은 서버
+    }
+}
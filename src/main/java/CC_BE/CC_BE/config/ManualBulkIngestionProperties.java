@@ -0,0 +1,24 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 압축 파일(ZIP) 매뉴얼 일괄 등록 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "manual.bulk")
+public class ManualBulkIngestionProperties {
+    private int concurrency = 2;                        // 동시에 ML 서버에 등록하는 매뉴얼 수 (ml.scheduler.ingestion 상한도 적용됨)
+    private int maxPending = 4;                         // 저장을 마치고 등록을 기다리는 매뉴얼 수 (넘으면 압축 파일 읽기를 멈춤)
+    private int maxEntries = 10000;                     // 매니페스트 항목 수 상한
+    private long maxEntrySize = 1024L * 1024 * 1024;    // 압축을 푼 항목 하나의 크기 상한 (1GB)
+    private int maxManifestSize = 10 * 1024 * 1024;     // 매니페스트 크기 상한 (10MB)
+    private long maxArchiveSize = 20L * 1024 * 1024 * 1024;  // 받는 압축 파일 크기 상한 (20GB)
+    private String tempDir;                             // 받은 압축 파일을 두는 곳, 미지정 시 ${file.upload-dir}/bulk-archives
+    private int retainedJobs = 20;                      // 상태를 보관하는 최근 작업 수
+}
@@ -0,0 +1,23 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 자주 다운로드되는 매뉴얼 캐시 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "manual.cache")
+public class ManualCacheProperties {
+    private boolean enabled = true;
+    private long maxResidentBytes = 512L * 1024 * 1024;   // 메모리에 적재할 전체 최대 크기 (512MB)
+    private long maxEntryBytes = 128L * 1024 * 1024;      // 파일 하나의 최대 크기 (128MB)
+    private int admissionThreshold = 3;                   // 적재 전 필요한 최소 다운로드 횟수
+    private long admissionWindowSeconds = 600;            // 다운로드 횟수를 세는 기간 (10분)
+    private int metadataMaxEntries = 10_000;              // 모델 ID → 매뉴얼 정보 캐시 최대 개수
+    private long metadataTtlSeconds = 300;                // 모델 ID → 매뉴얼 정보 캐시 유지 시간 (5분)
+}
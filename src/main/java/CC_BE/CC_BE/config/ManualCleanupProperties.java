@@ -0,0 +1,21 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 매뉴얼 파일 삭제 대기열 처리 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "manual.cleanup")
+public class ManualCleanupProperties implements OutboxProperties {
+    private long intervalMs = 10000;        // 대기열 확인 주기
+    private int batchSize = 200;            // 한 번에 처리할 파일 수
+    private int maxAttempts = 10;           // 이 횟수만큼 실패하면 더 시도하지 않음 (lastError 로 확인)
+    private long retryBackoffMs = 60000;    // 첫 재시도까지 대기 시간, 실패할 때마다 두 배
+    private long maxRetryBackoffMs = 3600000;  // 재시도 대기 시간 상한
+}
@@ -0,0 +1,23 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 매뉴얼 저장소 고아 파일 정리 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "manual.gc")
+public class ManualGcProperties {
+    private boolean enabled = true;         // 주기적인 정리 실행 여부 (관리자 API 는 항상 사용 가능)
+    private long intervalMs = 86400000;     // 정리 주기 (기본 하루)
+    private long initialDelayMs = 600000;   // 서버 시작 후 첫 정리까지 대기 시간
+    private boolean dryRun = false;         // true 면 삭제하지 않고 보고만 함
+    private long gracePeriodHours = 24;     // 이 시간보다 최근에 수정된 파일은 삭제하지 않음 (업로드 중인 파일 보호)
+    private int pageSize = 1000;            // DB 에서 한 번에 읽는 key 수
+    private int sampleSize = 100;           // 보고서에 포함할 고아 파일 / 누락 파일 key 수
+}
@@ -0,0 +1,20 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 매뉴얼 PDF 메타데이터 추출 및 미리보기 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "manual.preview")
+public class ManualPreviewProperties {
+    private boolean enabled = true;
+    private int thumbnailWidth = 240;       // 미리보기 이미지 가로 크기 (px)
+    private int queueCapacity = 100;        // 추출 대기열 크기 (넘치는 요청은 백필에서 처리)
+    private int backfillBatchSize = 20;     // 백필 한 번에 처리할 매뉴얼 수
+}
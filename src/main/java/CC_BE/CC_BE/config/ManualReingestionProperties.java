@@ -0,0 +1,21 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 매뉴얼 전체 재등록 작업 설정
+ * 사용자 요청의 매뉴얼 등록과 ML 서버를 함께 쓰므로 속도와 동시 실행 수를 제한합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "manual.reingestion")
+public class ManualReingestionProperties {
+    private double uploadsPerMinute = 30;   // 분당 최대 업로드 수 (0 이하면 제한 없음)
+    private int concurrency = 1;            // 동시에 업로드하는 매뉴얼 수
+    private int batchSize = 20;             // 한 번에 조회하는 매뉴얼 수 (배치마다 진행 위치 기록)
+    private boolean resumeOnStartup = true; // 재시작 시 진행 중이던 작업을 이어서 처리
+}
@@ -0,0 +1,20 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 서명된 매뉴얼 다운로드 URL 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "manual.signed-url")
+public class ManualSignedUrlProperties {
+    private String secret;                      // 서명 키 (없으면 jwt.secret 에서 파생)
+    private long ttlSeconds = 600;              // URL 최소 유효 시간 (10분)
+    private long expiryBucketSeconds = 300;     // 만료 시각 정렬 단위 - 같은 구간의 요청은 같은 URL 을 받아 CDN 캐시를 공유
+    private String pathPrefix = "/files/manuals";
+}
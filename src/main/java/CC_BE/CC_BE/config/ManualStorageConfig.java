@@ -0,0 +1,80 @@
+package CC_BE.CC_BE.config;
+
+import CC_BE.CC_BE.storage.LocalManualStorage;
+import CC_BE.CC_BE.storage.ManualStorage;
+import CC_BE.CC_BE.storage.S3ManualStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+import java.nio.file.Paths;
+
+/**
+ * 매뉴얼 파일 저장소 설정 클래스
+ * manual.storage.type 값에 따라 로컬 또는 S3 호환 저장소 Bean 을 등록합니다.
+ */
+@Configuration
+public class ManualStorageConfig {
+
+    /**
+     * 로컬 파일 시스템 저장소 (기본값)
+     * 루트를 지정하지 않으면 file.upload-dir 아래 manuals 디렉토리를 사용합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "manual.storage", name = "type", havingValue = "local", matchIfMissing = true)
+    public ManualStorage localManualStorage(ManualStorageProperties properties,
+                                            @Value("${file.upload-dir:uploads}") String uploadDir) {
+        ManualStorageProperties.Local local = properties.getLocal();
+        String root = StringUtils.hasText(local.getRoot()) ? local.getRoot() : Paths.get(uploadDir, "manuals").toString();
+        return new LocalManualStorage(
+                Paths.get(root),
+                StringUtils.hasText(local.getLegacyDir()) ? Paths.get(local.getLegacyDir()) : null,
+                properties.getShardDepth());
+    }
+
+    /**
+     * S3 호환 오브젝트 스토리지 저장소
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "manual.storage", name = "type", havingValue = "s3")
+    public ManualStorage s3ManualStorage(ManualStorageProperties properties, S3Client manualS3Client) {
+        ManualStorageProperties.S3 s3 = properties.getS3();
+        if (!StringUtils.hasText(s3.getBucket())) {
+            throw new IllegalStateException("manual.storage.s3.bucket 설정이 필요합니다.");
+        }
+        return new S3ManualStorage(manualS3Client, s3.getBucket(), s3.getPrefix(), properties.getShardDepth());
+    }
+
+    /**
+     * 매뉴얼 저장소용 S3 클라이언트
+     * endpoint 를 지정하면 MinIO, LocalStack 등 로컬 S3 호환 서버를 사용할 수 있습니다.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "manual.storage", name = "type", havingValue = "s3")
+    public S3Client manualS3Client(ManualStorageProperties properties) {
+        ManualStorageProperties.S3 s3 = properties.getS3();
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(s3.getRegion()))
+                .forcePathStyle(s3.isPathStyleAccess());
+
+        if (StringUtils.hasText(s3.getEndpoint())) {
+            builder.endpointOverride(URI.create(s3.getEndpoint()));
+        }
+        if (StringUtils.hasText(s3.getAccessKey())) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(s3.getAccessKey(), s3.getSecretKey())));
+        } else {
+            builder.credentialsProvider(DefaultCredentialsProvider.create());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,40 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 매뉴얼 파일 저장소 설정
+ * manual.storage.type 이 local(기본값)이면 로컬 파일 시스템, s3 이면 S3 호환 스토리지를 사용합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "manual.storage")
+public class ManualStorageProperties {
+    private String type = "local";
+    private int shardDepth = 2;                   // 분산 디렉토리 깊이 (예: 3f/a2/uuid.pdf)
+    private Local local = new Local();
+    private S3 s3 = new S3();
+
+    @Getter
+    @Setter
+    public static class Local {
+        private String root;                      // 미지정 시 ${file.upload-dir}/manuals
+        private String legacyDir = "uploads/manuals";  // 이전 평면 구조 매뉴얼 디렉토리
+    }
+
+    @Getter
+    @Setter
+    public static class S3 {
+        private String endpoint;                  // MinIO 등 S3 호환 서버 주소 (미지정 시 AWS)
+        private String region = "ap-northeast-2";
+        private String bucket;
+        private String prefix = "manuals/";
+        private String accessKey;
+        private String secretKey;
+        private boolean pathStyleAccess = true;
+    }
+}
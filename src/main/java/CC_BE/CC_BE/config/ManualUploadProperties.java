@@ -0,0 +1,20 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 매뉴얼 분할(재개 가능) 업로드 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "manual.upload")
+public class ManualUploadProperties {
+    private String tempDir;                         // 미지정 시 ${file.upload-dir}/upload-sessions
+    private int chunkSize = 8 * 1024 * 1024;        // 8MB
+    private long maxFileSize = 1024L * 1024 * 1024; // 1GB
+    private long sessionTtlHours = 24;
+}
@@ -0,0 +1,36 @@
+package CC_BE.CC_BE.config;
+
+import CC_BE.CC_BE.metrics.QueryCountFilter;
+import CC_BE.CC_BE.metrics.QueryCountInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.Ordered;
+
+/**
+ * 런타임 지표 설정 클래스
+ * - /actuator/prometheus 로 모든 지표를 노출합니다. (기본값은 metrics.properties)
+ * - 엔드포인트별 지연 시간(http.server.requests)과 Hikari 커넥션 대기 시간은 히스토그램으로 기록합니다.
+ * - 요청당 SQL 문 수는 Hibernate StatementInspector 로 측정합니다.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernateCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,21 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * ML 서버 문서 삭제 대기열(outbox) 처리 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ml.deletion")
+public class MlDeletionProperties implements OutboxProperties {
+    private long drainIntervalMs = 5000;    // 대기열 확인 주기
+    private int batchSize = 50;             // 한 번에 처리할 삭제 요청 수
+    private int maxAttempts = 10;           // 이 횟수만큼 실패하면 더 시도하지 않음 (lastError 로 확인)
+    private long retryBackoffMs = 10000;    // 첫 재시도까지 대기 시간, 실패할 때마다 두 배
+    private long maxRetryBackoffMs = 3600000;  // 재시도 대기 시간 상한
+}
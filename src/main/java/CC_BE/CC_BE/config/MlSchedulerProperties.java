@@ -0,0 +1,45 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ML 서버 작업 스케줄러 설정
+ * 챗봇(chat)과 매뉴얼 등록(ingestion)을 우선순위 클래스로 나누고, 클래스별 동시 실행 수를 제한합니다.
+ * 챗봇 요청이 몰려도 등록이 멈추지 않도록 챗봇 상한은 전체 상한보다 작게 두고, 등록 몫(reserved)을 따로 남겨 둡니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ml.scheduler")
+public class MlSchedulerProperties {
+    private boolean enabled = true;
+    private int maxConcurrency = 16;                      // ML 서버로 동시에 보내는 전체 요청 수
+    private WorkClass chat = new WorkClass(14, 10_000, 200, 0);
+    private WorkClass ingestion = new WorkClass(2, 600_000, 100, 2);
+    private Map<String, Double> flowWeights = new HashMap<>();  // 흐름(사용자 이메일 또는 model:모델명)별 가중치, 기본 1
+
+    @Getter
+    @Setter
+    public static class WorkClass {
+        private int maxConcurrency;     // 이 클래스의 동시 실행 수 상한
+        private long queueTimeoutMs;    // 대기열에서 기다리는 최대 시간
+        private int maxQueued;          // 대기열 길이 상한 (넘으면 바로 거절)
+        private int reserved;           // 전체 상한 중 이 클래스 몫으로 남겨 두어 다른 클래스가 쓰지 못하는 실행 수
+
+        public WorkClass() {
+        }
+
+        public WorkClass(int maxConcurrency, long queueTimeoutMs, int maxQueued, int reserved) {
+            this.maxConcurrency = maxConcurrency;
+            this.queueTimeoutMs = queueTimeoutMs;
+            this.maxQueued = maxQueued;
+            this.reserved = reserved;
+        }
+    }
+}
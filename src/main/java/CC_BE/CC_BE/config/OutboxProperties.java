@@ -0,0 +1,14 @@
+package CC_BE.CC_BE.config;
+
+/**
+ * 삭제 대기열(outbox) 처리의 공통 설정
+ */
+public interface OutboxProperties {
+    int getBatchSize();             // 한 번에 처리할 항목 수
+
+    int getMaxAttempts();           // 이 횟수만큼 실패하면 더 시도하지 않음 (lastError 로 확인)
+
+    long getRetryBackoffMs();       // 첫 재시도까지 대기 시간, 실패할 때마다 두 배
+
+    long getMaxRetryBackoffMs();    // 재시도 대기 시간 상한
+}
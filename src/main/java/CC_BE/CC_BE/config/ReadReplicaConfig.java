@@ -0,0 +1,89 @@
+package CC_BE.CC_BE.config;
+
+import CC_BE.CC_BE.datasource.ReadYourWritesTracker;
+import CC_BE.CC_BE.datasource.ReplicaPoolDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정 클래스 (datasource.routing.enabled=true 일 때만 적용)
+ * - 주 DB 는 기존 spring.datasource / spring.datasource.hikari 설정으로 만듭니다.
+ * - 애플리케이션이 사용하는 DataSource 는 LazyConnectionDataSourceProxy 입니다.
+ *   실제 커넥션은 첫 쿼리 시점에 얻으므로, 그 전에 트랜잭션이 readOnly 로 표시되면 복제본 풀에서 커넥션을 얻습니다.
+ * - OSIV 는 적용하지 않습니다. (TransactionGuardConfig 참고)
+ *   요청 단위 EntityManager 는 처음 얻은 커넥션을 요청이 끝날 때까지 잡고 있어,
+ *   readOnly 트랜잭션 뒤의 쓰기가 복제본 커넥션으로 가거나 쓰기 뒤의 읽기가 주 DB 에 고정되기 때문입니다.
+ * - 로컬에서는 H2 인메모리 DB 두 개로 확인할 수 있습니다.
+ *   예: spring.datasource.url=jdbc:h2:mem:primary, datasource.routing.replicas[0].url=jdbc:h2:mem:replica
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties.getStickinessSeconds());
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPoolDataSource replicaDataSource(ReadReplicaProperties properties,
+                                                  DataSourceProperties primaryProperties,
+                                                  HikariDataSource primaryDataSource,
+                                                  ReadYourWritesTracker readYourWritesTracker,
+                                                  MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReadReplicaProperties.Replica replica = properties.getReplicas().get(i);
+            if (!StringUtils.hasText(replica.getUrl())) {
+                throw new IllegalStateException("datasource.routing.replicas[" + i + "].url 설정이 필요합니다.");
+            }
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(StringUtils.hasText(replica.getUsername())
+                    ? replica.getUsername() : primaryProperties.determineUsername());
+            dataSource.setPassword(StringUtils.hasText(replica.getPassword())
+                    ? replica.getPassword() : primaryProperties.determinePassword());
+            if (StringUtils.hasText(replica.getDriverClassName())) {
+                dataSource.setDriverClassName(replica.getDriverClassName());
+            }
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(replica.getConnectionTimeoutMs());
+            dataSource.setReadOnly(true);
+            // 시작 시 복제본이 내려가 있어도 애플리케이션은 뜨고, 상태 확인에서 제외되도록 함
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(dataSource);
+        }
+        return new ReplicaPoolDataSource(primaryDataSource, replicas, readYourWritesTracker, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPoolDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
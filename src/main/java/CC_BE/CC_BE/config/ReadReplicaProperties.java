@@ -0,0 +1,35 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) 라우팅 설정
+ * 활성화하면 readOnly 트랜잭션의 쿼리를 복제본으로 보내고, 나머지는 spring.datasource(주 DB)로 보냅니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReadReplicaProperties {
+    private boolean enabled = false;
+    private List<Replica> replicas = new ArrayList<>();
+    private long healthCheckIntervalMs = 5000;  // 복제본 상태 확인 주기
+    private int stickinessSeconds = 5;          // 사용자가 쓰기 후 이 시간 동안은 읽기도 주 DB 사용 (0 이면 끔)
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;                // 미지정 시 주 DB 와 같은 계정
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+        private long connectionTimeoutMs = 1000;  // 짧게 두어 복제본 장애 시 빠르게 주 DB 로 넘어가도록 함
+    }
+}
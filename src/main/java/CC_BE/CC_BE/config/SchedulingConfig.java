@@ -0,0 +1,14 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 주기 작업(@Scheduled) 스케줄러 설정 클래스
+ * 기본 스케줄러는 스레드가 하나라 긴 작업이 다른 작업을 모두 지연시키므로,
+ * 작업마다 스레드를 하나씩 쓸 수 있도록 스레드 수를 늘립니다. (기본값은 scheduling.properties)
+ */
+@Configuration
+@PropertySource("classpath:scheduling.properties")
+public class SchedulingConfig {
+}
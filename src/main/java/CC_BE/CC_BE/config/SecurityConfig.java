@@ -3,6 +3,7 @@ package CC_BE.CC_BE.config;
 import CC_BE.CC_BE.security.CustomUserDetailsService;
 import CC_BE.CC_BE.security.JwtAuthenticationFilter;
 import CC_BE.CC_BE.security.JwtTokenProvider;
+import io.micrometer.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,6 +24,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final Tracer tracer;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -32,7 +34,7 @@ public class SecurityConfig {
                 // 세션 사용하지 않음 (JWT 등 토큰 기반 인증을 위한 설정)
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tracer), UsernamePasswordAuthenticationFilter.class)
                 // 요청 URL에 따른 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
                         // 인증 없이 접근 가능한 API 명시 (회원가입, 로그인, 로그아웃)
@@ -40,7 +42,14 @@ public class SecurityConfig {
                         // 공용 데이터 조회는 누구나 접근 가능
                         .requestMatchers(HttpMethod.GET, "/api/brands/**", "/api/categories/**", "/api/models/**").permitAll()
                         .requestMatchers("/api/models/category/*/public").permitAll()
-                        .requestMatchers("/api/manuals/model/*/download").permitAll()
+                        .requestMatchers("/api/manuals/model/*/download", "/api/manuals/model/*/url",
+                                "/api/manuals/model/*/thumbnail").permitAll()
+                        // 서명된 매뉴얼 URL 은 서명으로 검증 (SignedManualUrlInterceptor)
+                        .requestMatchers(HttpMethod.GET, "/files/manuals/**").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/files/manuals/**").permitAll()
+                        // 헬스 체크와 Prometheus 수집 엔드포인트 (네트워크 단에서 접근 제한)
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 챗봇 API는 누구나 접근 가능
                         .requestMatchers("/api/chat/**").permitAll()
                         // 인증된 사용자만 접근 가능
@@ -0,0 +1,38 @@
+package CC_BE.CC_BE.config;
+
+import CC_BE.CC_BE.metrics.ManualTransferMetrics;
+import CC_BE.CC_BE.security.ManualUrlSigner;
+import CC_BE.CC_BE.storage.ManualStorage;
+import CC_BE.CC_BE.web.ManualStorageResourceResolver;
+import CC_BE.CC_BE.web.SignedManualUrlInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 서명된 매뉴얼 URL 을 정적 리소스 핸들러로 제공하는 설정 클래스
+ * 컨트롤러와 DB 를 거치지 않고 Range, Last-Modified 처리는 ResourceHttpRequestHandler 에 맡깁니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class SignedManualUrlConfig implements WebMvcConfigurer {
+    private final ManualSignedUrlProperties properties;
+    private final ManualUrlSigner manualUrlSigner;
+    private final ManualStorage manualStorage;
+    private final ManualTransferMetrics transferMetrics;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(properties.getPathPrefix() + "/**")
+                .resourceChain(false)
+                .addResolver(new ManualStorageResourceResolver(manualStorage));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SignedManualUrlInterceptor(manualUrlSigner, properties.getPathPrefix(), transferMetrics))
+                .addPathPatterns(properties.getPathPrefix() + "/**");
+    }
+}
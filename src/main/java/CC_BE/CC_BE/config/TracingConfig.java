@@ -0,0 +1,34 @@
+package CC_BE.CC_BE.config;
+
+import CC_BE.CC_BE.tracing.RepositoryTracingPostProcessor;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 분산 추적 설정 클래스 (Micrometer Tracing + OpenTelemetry)
+ * - HTTP 요청, JWT 인증, 리포지토리 호출, ML 서버 호출이 하나의 추적으로 묶입니다.
+ * - ML 서버 요청에는 W3C traceparent 헤더가 전달됩니다.
+ * - 외부 수집기 없이 완료된 스팬을 로그로 출력합니다. (tracing.log-exporter.enabled=false 로 끌 수 있음)
+ * 기본값은 tracing.properties 에 있습니다.
+ */
+@Configuration
+@PropertySource("classpath:tracing.properties")
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing.log-exporter", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+
+    @Bean
+    public static RepositoryTracingPostProcessor repositoryTracingPostProcessor(ObjectProvider<Tracer> tracer) {
+        return new RepositoryTracingPostProcessor(tracer);
+    }
+}
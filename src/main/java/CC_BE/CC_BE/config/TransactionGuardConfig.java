@@ -0,0 +1,67 @@
+package CC_BE.CC_BE.config;
+
+import CC_BE.CC_BE.datasource.ConnectionHoldTimeDataSource;
+import CC_BE.CC_BE.web.SelectiveOpenEntityManagerInViewInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * DB 커넥션 점유 시간 측정 설정 클래스
+ * - 애플리케이션이 사용하는 DataSource(빈 이름 dataSource)를 {@link ConnectionHoldTimeDataSource} 로 감쌉니다.
+ *   (읽기 복제본 라우팅을 사용하면 라우팅 DataSource 를 감쌉니다)
+ * - 기본 OSIV 대신 ML 서버 호출 / 파일 전송 요청을 제외하는 OSIV 인터셉터를 등록합니다.
+ *   (spring.jpa.open-in-view 기본값은 transaction-guard.properties)
+ * - 읽기 복제본 라우팅을 사용하면 OSIV 인터셉터를 등록하지 않습니다.
+ *   요청 단위 EntityManager 가 커넥션을 잡고 있으면 트랜잭션마다 주 DB / 복제본을 고를 수 없기 때문입니다.
+ */
+@Configuration
+@PropertySource("classpath:transaction-guard.properties")
+public class TransactionGuardConfig implements WebMvcConfigurer {
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionGuardProperties properties;
+    private final ReadReplicaProperties readReplicaProperties;
+
+    public TransactionGuardConfig(EntityManagerFactory entityManagerFactory, TransactionGuardProperties properties,
+                                  ReadReplicaProperties readReplicaProperties) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = properties;
+        this.readReplicaProperties = readReplicaProperties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (readReplicaProperties.isEnabled()) {
+            return;
+        }
+        SelectiveOpenEntityManagerInViewInterceptor interceptor =
+                new SelectiveOpenEntityManagerInViewInterceptor(properties.getOpenInViewExcludes());
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor);
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionHoldTimeDataSourcePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<TransactionGuardProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ConnectionHoldTimeDataSource)) {
+                    return new ConnectionHoldTimeDataSource(dataSource, meterRegistry.getObject(),
+                            () -> properties.getObject().getHoldWarnThresholdMs());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package CC_BE.CC_BE.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DB 커넥션 점유 시간 측정 및 트랜잭션 안 원격 호출 감지 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "transaction.guard")
+public class TransactionGuardProperties {
+    private long holdWarnThresholdMs = 1000;        // 커넥션을 이 시간보다 오래 점유하면 경고 로그
+    private RemoteCallMode remoteCallMode = RemoteCallMode.WARN;
+    private List<String> openInViewExcludes = List.of(   // OSIV 를 적용하지 않을 요청 (ML 서버 호출 / 파일 전송)
+            "POST /api/chat/**",
+            "POST /api/models/public",
+            "POST /api/models/personal",
+            "PUT /api/models/*/manual",
+            "PUT /api/models/*/uploads/*/chunks/*",
+            "POST /api/models/*/uploads/*/complete");
+
+    public enum RemoteCallMode {
+        OFF,    // 감지하지 않음
+        WARN,   // 경고 로그 + 지표
+        FAIL    // 예외 발생 (개발 / 테스트 환경용)
+    }
+}
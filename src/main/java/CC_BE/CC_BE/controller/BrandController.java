@@ -4,11 +4,15 @@ import CC_BE.CC_BE.domain.Brand;
 import CC_BE.CC_BE.domain.User;
 import CC_BE.CC_BE.dto.BrandRequest;
 import CC_BE.CC_BE.dto.BrandResponse;
+import CC_BE.CC_BE.dto.CatalogImportResponse;
 import CC_BE.CC_BE.dto.CommonResponse;
 import CC_BE.CC_BE.security.CustomUserDetails;
 import CC_BE.CC_BE.service.BrandService;
+import CC_BE.CC_BE.service.CatalogImportService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,6 +27,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BrandController {
     private final BrandService brandService;
+    private final CatalogImportService catalogImportService;
 
     /**
      * 모든 브랜드 조회
@@ -41,7 +46,7 @@ public class BrandController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<BrandResponse> getBrandById(@PathVariable Long id) {
-        return ResponseEntity.ok(BrandResponse.fromWithCategories(brandService.getBrandById(id)));
+        return ResponseEntity.ok(BrandResponse.fromWithCategories(brandService.getBrandWithCategories(id)));
     }
 
     /**
@@ -104,4 +109,31 @@ public class BrandController {
                     .body(CommonResponse.of("브랜드 삭제 중 오류가 발생했습니다: " + e.getMessage(), null));
         }
     }
+
+    /**
+     * 브랜드 / 카테고리 / 공용 모델 일괄 등록 (관리자 전용)
+     * 요청 본문을 CSV(text/csv, 헤더 brand,category,model) 또는 JSONL(application/x-ndjson)로 받아 스트리밍으로 처리합니다.
+     * 형식은 format 파라미터(csv, jsonl)로 지정할 수도 있으며, 실패한 행은 줄 번호와 함께 응답에 담깁니다.
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<CatalogImportResponse>> importCatalog(
+            @RequestParam(required = false) String format,
+            HttpServletRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            CatalogImportService.Format resolved = CatalogImportService.Format.resolve(
+                    format, request.getHeader(HttpHeaders.CONTENT_TYPE));
+            log.info("카탈로그 일괄 등록 요청 - 형식: {}, 관리자: {}", resolved, userDetails.getUser().getId());
+            CatalogImportResponse result = catalogImportService.importCatalog(request.getInputStream(), resolved);
+            return ResponseEntity.ok(CommonResponse.of("카탈로그 일괄 등록이 완료되었습니다.", result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(CommonResponse.of(e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("카탈로그 일괄 등록 실패 - 에러: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(CommonResponse.of("카탈로그 일괄 등록 중 오류가 발생했습니다: " + e.getMessage(), null));
+        }
+    }
 }
@@ -11,6 +11,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 챗봇 Q&A API를 제공하는 컨트롤러
  */
@@ -23,20 +25,27 @@ public class ChatController {
 
     /**
      * 챗봇에 질문을 전송하고 답변을 받습니다.
+     * ML 서버 응답을 기다리는 동안 요청 스레드를 반환하고, 응답이 오면 비동기로 완료합니다.
      * 
      * @param request 질문 요청 (모델 ID와 질문 내용)
      * @return 챗봇의 답변 (텍스트와 이미지)
      */
     @PostMapping("/manual")
-    public ResponseEntity<ChatResponse> askQuestion(@RequestBody ChatRequest request) {
+    public CompletableFuture<ResponseEntity<ChatResponse>> askQuestion(@RequestBody ChatRequest request) {
+        log.info("챗봇 질문 요청 - 모델 ID: {}, 질문: {}", request.getModelId(), request.getQuestion());
         try {
-            log.info("챗봇 질문 요청 - 모델 ID: {}, 질문: {}", request.getModelId(), request.getQuestion());
-            ChatResponse response = chatService.processQuestion(request.getModelId(), request.getQuestion());
-            log.info("챗봇 응답 완료 - 모델 ID: {}", request.getModelId());
-            return ResponseEntity.ok(response);
+            return chatService.processQuestionAsync(request.getModelId(), request.getQuestion())
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            log.error("챗봇 응답 실패 - 모델 ID: {}, 에러: {}", request.getModelId(), error.getMessage(), error);
+                        } else {
+                            log.info("챗봇 응답 완료 - 모델 ID: {}", request.getModelId());
+                        }
+                    })
+                    .thenApply(ResponseEntity::ok);
         } catch (Exception e) {
             log.error("챗봇 응답 실패 - 모델 ID: {}, 에러: {}", request.getModelId(), e.getMessage(), e);
             throw e;
         }
     }
-} 
\ No newline at end of file
+}
@@ -1,51 +1,227 @@
 package CC_BE.CC_BE.controller;
 
-import CC_BE.CC_BE.domain.Manual;
-import CC_BE.CC_BE.domain.ProductModel;
-import CC_BE.CC_BE.service.ManualService;
-import CC_BE.CC_BE.service.ProductModelService;
+import CC_BE.CC_BE.dto.CommonResponse;
+import CC_BE.CC_BE.dto.ManualCacheStatsResponse;
+import CC_BE.CC_BE.dto.ManualGcReportResponse;
+import CC_BE.CC_BE.dto.ManualReingestionResponse;
+import CC_BE.CC_BE.dto.ManualUrlResponse;
+import CC_BE.CC_BE.security.CustomUserDetails;
+import CC_BE.CC_BE.security.ManualUrlSigner;
+import CC_BE.CC_BE.security.ManualUrlSigner.SignedUrl;
+import CC_BE.CC_BE.service.ManualCacheService;
+import CC_BE.CC_BE.service.ManualCacheService.CachedManual;
+import CC_BE.CC_BE.service.ManualGcService;
+import CC_BE.CC_BE.service.ManualPreviewService;
+import CC_BE.CC_BE.service.ManualReingestionService;
+import CC_BE.CC_BE.storage.ManualBlob;
+import CC_BE.CC_BE.web.ManualFileResponder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Optional;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/manuals")
 @RequiredArgsConstructor
 public class ManualController {
-    private final ManualService manualService;
-    private final ProductModelService productModelService;
+    private final ManualCacheService manualCacheService;
+    private final ManualFileResponder manualFileResponder;
+    private final ManualUrlSigner manualUrlSigner;
+    private final ManualPreviewService manualPreviewService;
+    private final ManualReingestionService manualReingestionService;
+    private final ManualGcService manualGcService;
 
     /**
      * 특정 제품 모델의 매뉴얼을 다운로드합니다.
+     * Range 요청(부분 다운로드)과 ETag / Last-Modified 기반 조건부 요청을 지원합니다.
+     * 자주 다운로드되는 매뉴얼은 메모리 캐시에서 전송됩니다.
      */
     @GetMapping("/model/{modelId}/download")
-    public ResponseEntity<Resource> downloadManual(@PathVariable Long modelId) {
+    public void downloadManual(@PathVariable Long modelId,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        CachedManual manual;
+        ManualBlob blob;
         try {
-            ProductModel model = productModelService.findById(modelId);
-            if (model.getManual() == null) {
-                return ResponseEntity.notFound().build();
+            Optional<CachedManual> found = manualCacheService.getManual(modelId);
+            if (found.isEmpty()) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
             }
-            
-            Resource resource = manualService.loadManualAsResource(model.getManual());
-            
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_PDF)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, 
-                            "attachment; filename=\"" + model.getManual().getFileName() + "\"")
-                    .body(resource);
+            manual = found.get();
+            blob = manualCacheService.open(manual);
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.notFound().build();
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
         } catch (IOException e) {
+            // 캐시된 정보가 오래되었을 수 있으므로 무효화
+            manualCacheService.evictModel(modelId);
             log.error("매뉴얼 다운로드 실패 - 모델 ID: {}, 에러: {}", modelId, e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            return;
         }
+
+        manualFileResponder.send(request, response, blob, manual.contentHash(), manual.fileName());
+    }
+
+    /**
+     * 특정 제품 모델 매뉴얼의 첫 페이지 미리보기 이미지(PNG)를 조회합니다.
+     * 미리보기 이미지의 저장소 key 는 내용이 바뀌지 않으므로 key 를 ETag 로 사용합니다.
+     */
+    @GetMapping("/model/{modelId}/thumbnail")
+    public void getThumbnail(@PathVariable Long modelId,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        Optional<ManualBlob> thumbnail;
+        try {
+            thumbnail = manualPreviewService.openThumbnail(modelId);
+        } catch (IOException e) {
+            log.error("미리보기 이미지 조회 실패 - 모델 ID: {}, 에러: {}", modelId, e.getMessage());
+            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            return;
+        }
+        if (thumbnail.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        ManualBlob blob = thumbnail.get();
+        String etag = "\"" + blob.key() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(Duration.ofDays(1)).cachePublic().getHeaderValue());
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaType.IMAGE_PNG_VALUE);
+        response.setContentLengthLong(blob.size());
+        try (InputStream in = blob.openStream()) {
+            OutputStream out = response.getOutputStream();
+            in.transferTo(out);
+            out.flush();
+        }
+    }
+
+    /**
+     * 특정 제품 모델의 매뉴얼에 대한 서명된 다운로드 URL 을 발급합니다.
+     * 발급된 URL 은 만료 시각까지 인증과 DB 조회 없이 정적 리소스로 제공되며,
+     * 프록시나 CDN 에 캐시될 수 있습니다.
+     */
+    @GetMapping("/model/{modelId}/url")
+    public ResponseEntity<CommonResponse<ManualUrlResponse>> getManualUrl(@PathVariable Long modelId) {
+        try {
+            Optional<CachedManual> found = manualCacheService.getManual(modelId);
+            if (found.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(CommonResponse.of("매뉴얼을 찾을 수 없습니다.", null));
+            }
+            CachedManual manual = found.get();
+            SignedUrl signed = manualUrlSigner.sign(manual.storageKey(), manual.fileName());
+            return ResponseEntity.ok(CommonResponse.of("매뉴얼 다운로드 URL 발급에 성공했습니다.",
+                    new ManualUrlResponse(signed.url(), manual.fileName(), signed.expiresAt())));
+        } catch (IOException e) {
+            log.error("매뉴얼 URL 발급 실패 - 모델 ID: {}, 에러: {}", modelId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.of("매뉴얼 URL 발급 중 오류가 발생했습니다: " + e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 매뉴얼 캐시 상태를 조회합니다. (관리자 전용)
+     * 캐시 적중률과 메모리에 적재된 전체 크기를 반환합니다.
+     */
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<ManualCacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(CommonResponse.of("매뉴얼 캐시 상태 조회에 성공했습니다.", manualCacheService.getStats()));
+    }
+
+    /**
+     * 모든 매뉴얼을 ML 서버에 다시 등록하는 작업을 시작합니다. (관리자 전용)
+     * ML 서버의 임베딩 모델이 바뀌었을 때 사용하며, 작업은 백그라운드에서 진행됩니다.
+     */
+    @PostMapping("/reingestion")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<ManualReingestionResponse>> startReingestion(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            ManualReingestionResponse job = manualReingestionService.start(userDetails.getUser().getId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(CommonResponse.of("매뉴얼 재등록 작업을 시작했습니다.", job));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(CommonResponse.of(e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 매뉴얼 재등록 작업의 진행 상황과 예상 완료 시각을 조회합니다. (관리자 전용)
+     */
+    @GetMapping("/reingestion")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<ManualReingestionResponse>> getReingestionStatus() {
+        return manualReingestionService.getStatus()
+                .map(job -> ResponseEntity.ok(CommonResponse.of("매뉴얼 재등록 작업 상태 조회에 성공했습니다.", job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(CommonResponse.of("매뉴얼 재등록 작업이 없습니다.", null)));
+    }
+
+    /**
+     * 진행 중인 매뉴얼 재등록 작업을 취소합니다. (관리자 전용)
+     */
+    @DeleteMapping("/reingestion")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<ManualReingestionResponse>> cancelReingestion() {
+        try {
+            return ResponseEntity.ok(CommonResponse.of("매뉴얼 재등록 작업을 취소했습니다.", manualReingestionService.cancel()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(CommonResponse.of(e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 매뉴얼 저장소의 고아 파일 정리를 실행합니다. (관리자 전용)
+     * 기본은 dry-run 으로, 삭제하지 않고 고아 파일과 누락 파일만 보고합니다.
+     */
+    @PostMapping("/gc")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<ManualGcReportResponse>> runGc(
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+        try {
+            return ResponseEntity.ok(CommonResponse.of("매뉴얼 고아 파일 정리를 완료했습니다.", manualGcService.run(dryRun)));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(CommonResponse.of(e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 마지막 고아 파일 정리 결과를 조회합니다. (관리자 전용)
+     */
+    @GetMapping("/gc")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<ManualGcReportResponse>> getGcReport() {
+        return manualGcService.getLastReport()
+                .map(report -> ResponseEntity.ok(CommonResponse.of("매뉴얼 고아 파일 정리 결과 조회에 성공했습니다.", report)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(CommonResponse.of("매뉴얼 고아 파일 정리 결과가 없습니다.", null)));
     }
 }
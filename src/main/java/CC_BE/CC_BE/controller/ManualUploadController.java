@@ -0,0 +1,160 @@
+package CC_BE.CC_BE.controller;
+
+import CC_BE.CC_BE.domain.ManualUploadSession;
+import CC_BE.CC_BE.domain.User;
+import CC_BE.CC_BE.dto.CommonResponse;
+import CC_BE.CC_BE.dto.ManualUploadRequest;
+import CC_BE.CC_BE.dto.ManualUploadResponse;
+import CC_BE.CC_BE.dto.ProductModelResponse;
+import CC_BE.CC_BE.ml.MlEndpointUnavailableException;
+import CC_BE.CC_BE.security.CustomUserDetails;
+import CC_BE.CC_BE.service.ManualUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 대용량 매뉴얼의 재개 가능한 분할 업로드 API
+ * 1. POST   /api/models/{public|personal}/uploads                          - 업로드 세션 생성
+ * 2. PUT    /api/models/{public|personal}/uploads/{uploadId}/chunks/{index} - 청크 전송 (X-Chunk-Sha256 헤더 필수)
+ * 3. GET    /api/models/{public|personal}/uploads/{uploadId}               - 수신된 청크 조회 (재개용)
+ * 4. POST   /api/models/{public|personal}/uploads/{uploadId}/complete      - 모델 및 매뉴얼 생성
+ * 5. DELETE /api/models/{public|personal}/uploads/{uploadId}               - 업로드 취소
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/models")
+@RequiredArgsConstructor
+public class ManualUploadController {
+    private static final String CHUNK_CHECKSUM_HEADER = "X-Chunk-Sha256";
+
+    private final ManualUploadService manualUploadService;
+
+    /**
+     * 공용 모델 분할 업로드 세션 생성 (관리자 전용)
+     */
+    @PostMapping("/public/uploads")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<ManualUploadResponse>> createPublicUpload(
+            @RequestBody ManualUploadRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return createUpload(ManualUploadSession.Scope.PUBLIC, request, userDetails.getUser());
+    }
+
+    /**
+     * 개인 모델 분할 업로드 세션 생성 (로그인 사용자)
+     */
+    @PostMapping("/personal/uploads")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CommonResponse<ManualUploadResponse>> createPersonalUpload(
+            @RequestBody ManualUploadRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return createUpload(ManualUploadSession.Scope.PERSONAL, request, userDetails.getUser());
+    }
+
+    /**
+     * 업로드 세션 상태 조회 (세션 생성자만 가능)
+     */
+    @GetMapping({"/public/uploads/{uploadId}", "/personal/uploads/{uploadId}"})
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CommonResponse<ManualUploadResponse>> getUpload(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            ManualUploadResponse response = manualUploadService.getSession(uploadId, userDetails.getUser());
+            return ResponseEntity.ok(CommonResponse.of("업로드 상태 조회에 성공했습니다.", response));
+        } catch (Exception e) {
+            return errorResponse("업로드 상태 조회", uploadId, e);
+        }
+    }
+
+    /**
+     * 청크 전송 (세션 생성자만 가능)
+     * 요청 본문은 청크의 원본 바이트(application/octet-stream)입니다.
+     */
+    @PutMapping({"/public/uploads/{uploadId}/chunks/{index}", "/personal/uploads/{uploadId}/chunks/{index}"})
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CommonResponse<Void>> uploadChunk(
+            @PathVariable String uploadId,
+            @PathVariable int index,
+            @RequestHeader(value = CHUNK_CHECKSUM_HEADER, required = false) String checksum,
+            HttpServletRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            manualUploadService.writeChunk(uploadId, index, checksum, request.getInputStream(), userDetails.getUser());
+            return ResponseEntity.ok(CommonResponse.of("청크가 저장되었습니다.", null));
+        } catch (Exception e) {
+            return errorResponse("청크 업로드", uploadId, e);
+        }
+    }
+
+    /**
+     * 업로드 완료 - 제품 모델과 매뉴얼을 생성합니다. (세션 생성자만 가능)
+     * 이미 완료된 업로드에 대한 재요청은 기존 결과를 반환합니다.
+     */
+    @PostMapping({"/public/uploads/{uploadId}/complete", "/personal/uploads/{uploadId}/complete"})
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CommonResponse<ProductModelResponse>> completeUpload(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            log.info("분할 업로드 완료 요청 - 세션: {}, 사용자: {}", uploadId, userDetails.getUser().getId());
+            ProductModelResponse model = manualUploadService.complete(uploadId, userDetails.getUser());
+            return ResponseEntity.ok(CommonResponse.of("모델이 성공적으로 생성되었습니다.", model));
+        } catch (Exception e) {
+            return errorResponse("업로드 완료", uploadId, e);
+        }
+    }
+
+    /**
+     * 업로드 취소 (세션 생성자만 가능)
+     */
+    @DeleteMapping({"/public/uploads/{uploadId}", "/personal/uploads/{uploadId}"})
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CommonResponse<Void>> abortUpload(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            manualUploadService.abort(uploadId, userDetails.getUser());
+            return ResponseEntity.ok(CommonResponse.of("업로드가 취소되었습니다.", null));
+        } catch (Exception e) {
+            return errorResponse("업로드 취소", uploadId, e);
+        }
+    }
+
+    private ResponseEntity<CommonResponse<ManualUploadResponse>> createUpload(
+            ManualUploadSession.Scope scope, ManualUploadRequest request, User user) {
+        try {
+            log.info("분할 업로드 세션 생성 요청 - 구분: {}, 이름: {}, 파일: {}, 크기: {}, 사용자: {}",
+                    scope, request.getName(), request.getFileName(), request.getTotalSize(), user.getId());
+            ManualUploadResponse response = manualUploadService.createSession(scope, request, user);
+            return ResponseEntity.ok(CommonResponse.of("업로드 세션이 생성되었습니다.", response));
+        } catch (Exception e) {
+            return errorResponse("업로드 세션 생성", request.getName(), e);
+        }
+    }
+
+    private <T> ResponseEntity<CommonResponse<T>> errorResponse(String action, Object target, Exception e) {
+        HttpStatus status;
+        if (e instanceof IllegalArgumentException) {
+            status = HttpStatus.BAD_REQUEST;
+        } else if (e instanceof IllegalStateException) {
+            status = HttpStatus.CONFLICT;
+        } else if (e instanceof SecurityException) {
+            status = HttpStatus.FORBIDDEN;
+        } else if (e instanceof MlEndpointUnavailableException) {
+            status = HttpStatus.SERVICE_UNAVAILABLE;
+            log.warn("{} 보류 - 대상: {}, 사유: {}", action, target, e.getMessage());
+        } else {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+            log.error("{} 실패 - 대상: {}, 에러: {}", action, target, e.getMessage(), e);
+        }
+        return ResponseEntity.status(status)
+                .body(CommonResponse.of(action + " 중 오류가 발생했습니다: " + e.getMessage(), null));
+    }
+}
@@ -3,9 +3,14 @@ package CC_BE.CC_BE.controller;
 import CC_BE.CC_BE.domain.ProductModel;
 import CC_BE.CC_BE.domain.User;
 import CC_BE.CC_BE.dto.*;
+import CC_BE.CC_BE.ml.MlEndpointUnavailableException;
 import CC_BE.CC_BE.security.CustomUserDetails;
+import CC_BE.CC_BE.service.IdempotencyService;
+import CC_BE.CC_BE.service.IdempotentResultGoneException;
+import CC_BE.CC_BE.service.ManualBulkIngestionService;
 import CC_BE.CC_BE.service.ProductModelService;
 import CC_BE.CC_BE.service.ManualService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -23,8 +28,13 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/models")
 @RequiredArgsConstructor
 public class ProductModelController {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final ProductModelService productModelService;
     private final ManualService manualService;
+    private final IdempotencyService idempotencyService;
+    private final ManualBulkIngestionService manualBulkIngestionService;
 
     /**
      * 모든 공용 모델 조회
@@ -40,13 +50,16 @@ public class ProductModelController {
 
     /**
      * 공용 모델 생성 (관리자 전용)
+     * Idempotency-Key 헤더를 보내면 같은 키의 재요청은 처음 생성된 모델을 돌려줍니다. (Idempotent-Replayed: true, 그 모델이 삭제되었으면 410)
      */
     @PostMapping("/public")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<CommonResponse<ProductModelResponse>> createPublicModel(
             @RequestParam("name") String name,
             @RequestParam("categoryId") Long categoryId,
-            @RequestParam("manualFile") MultipartFile manualFile) {
+            @RequestParam("manualFile") MultipartFile manualFile,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
             if (manualFile == null || manualFile.isEmpty()) {
                 return ResponseEntity.badRequest()
@@ -63,10 +76,28 @@ public class ProductModelController {
             }
 
             log.info("공용 모델 생성 요청 - 이름: {}, 카테고리: {}", name, categoryId);
-            ProductModelResponse model = productModelService.createPublicModel(name, categoryId, manualFile);
+            IdempotencyService.Result result = idempotencyService.createOnce(idempotencyKey,
+                    userDetails.getUser().getId(),
+                    new Object[]{"public", name, categoryId, filename, manualFile.getSize()},
+                    () -> productModelService.createPublicModel(name, categoryId, manualFile));
+            ProductModelResponse model = result.model();
             log.info("공용 모델 생성 성공 - ID: {}", model.getId());
 
-            return ResponseEntity.ok(CommonResponse.of("공용 모델이 성공적으로 생성되었습니다.", model));
+            return ResponseEntity.ok()
+                    .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                    .body(CommonResponse.of("공용 모델이 성공적으로 생성되었습니다.", model));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.warn("공용 모델 생성 거절 - 이름: {}, 카테고리: {}, 사유: {}", name, categoryId, e.getMessage());
+            return ResponseEntity.status(clientErrorStatus(e))
+                    .body(CommonResponse.of("공용 모델 생성 중 오류가 발생했습니다: " + e.getMessage(), null));
+        } catch (IdempotentResultGoneException e) {
+            log.info("공용 모델 생성 재요청 거절 - 이름: {}, 카테고리: {}, 사유: {}", name, categoryId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.GONE)
+                    .body(CommonResponse.of("공용 모델 생성 중 오류가 발생했습니다: " + e.getMessage(), null));
+        } catch (MlEndpointUnavailableException e) {
+            log.warn("공용 모델 생성 보류 - 이름: {}, 카테고리: {}, 사유: {}", name, categoryId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(CommonResponse.of("공용 모델 생성 중 오류가 발생했습니다: " + e.getMessage(), null));
         } catch (Exception e) {
             log.error("공용 모델 생성 실패 - 이름: {}, 카테고리: {}, 에러: {}", name, categoryId, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -76,12 +107,14 @@ public class ProductModelController {
 
     /**
      * 개인 모델 생성 (로그인 사용자)
+     * Idempotency-Key 헤더를 보내면 같은 키의 재요청은 처음 생성된 모델을 돌려줍니다. (Idempotent-Replayed: true, 그 모델이 삭제되었으면 410)
      */
     @PostMapping("/personal")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<CommonResponse<ProductModelResponse>> createPersonalModel(
             @RequestParam("name") String name,
             @RequestParam("manualFile") MultipartFile manualFile,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         try {
             if (manualFile == null || manualFile.isEmpty()) {
@@ -100,10 +133,27 @@ public class ProductModelController {
 
             User user = userDetails.getUser();
             log.info("개인 모델 생성 요청 - 이름: {}, 사용자: {}", name, user.getEmail());
-            ProductModelResponse model = productModelService.createPersonalModel(name, manualFile, user.getEmail());
+            IdempotencyService.Result result = idempotencyService.createOnce(idempotencyKey, user.getId(),
+                    new Object[]{"personal", name, filename, manualFile.getSize()},
+                    () -> productModelService.createPersonalModel(name, manualFile, user.getEmail()));
+            ProductModelResponse model = result.model();
             log.info("개인 모델 생성 성공 - ID: {}", model.getId());
 
-            return ResponseEntity.ok(CommonResponse.of("개인 모델이 성공적으로 생성되었습니다.", model));
+            return ResponseEntity.ok()
+                    .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                    .body(CommonResponse.of("개인 모델이 성공적으로 생성되었습니다.", model));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.warn("개인 모델 생성 거절 - 이름: {}, 사용자: {}, 사유: {}", name, userDetails.getUser().getEmail(), e.getMessage());
+            return ResponseEntity.status(clientErrorStatus(e))
+                    .body(CommonResponse.of("개인 모델 생성 중 오류가 발생했습니다: " + e.getMessage(), null));
+        } catch (IdempotentResultGoneException e) {
+            log.info("개인 모델 생성 재요청 거절 - 이름: {}, 사용자: {}, 사유: {}", name, userDetails.getUser().getEmail(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.GONE)
+                    .body(CommonResponse.of("개인 모델 생성 중 오류가 발생했습니다: " + e.getMessage(), null));
+        } catch (MlEndpointUnavailableException e) {
+            log.warn("개인 모델 생성 보류 - 이름: {}, 사용자: {}, 사유: {}", name, userDetails.getUser().getEmail(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(CommonResponse.of("개인 모델 생성 중 오류가 발생했습니다: " + e.getMessage(), null));
         } catch (Exception e) {
             log.error("개인 모델 생성 실패 - 이름: {}, 사용자: {}, 에러: {}", name, userDetails.getUser().getEmail(), e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -186,6 +236,57 @@ public class ProductModelController {
         }
     }
 
+    /**
+     * 모델 매뉴얼 교체 (공용 모델은 관리자, 개인 모델은 소유자 또는 관리자)
+     * 내용이 같은 파일이면 교체와 ML 재등록을 생략합니다.
+     */
+    @PutMapping("/{id}/manual")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CommonResponse<ProductModelResponse>> replaceManual(
+            @PathVariable Long id,
+            @RequestParam("manualFile") MultipartFile manualFile,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            if (manualFile == null || manualFile.isEmpty()) {
+                return ResponseEntity.badRequest()
+                        .body(CommonResponse.of("매뉴얼 파일은 필수입니다.", null));
+            }
+            String filename = manualFile.getOriginalFilename();
+            String contentType = manualFile.getContentType();
+
+            if (filename == null || (!filename.toLowerCase().endsWith(".pdf")) ||
+                (contentType != null && !contentType.toLowerCase().contains("pdf"))) {
+                return ResponseEntity.badRequest()
+                        .body(CommonResponse.of("PDF 파일만 업로드 가능합니다.", null));
+            }
+
+            User user = userDetails.getUser();
+            log.info("매뉴얼 교체 요청 - 모델 ID: {}, 사용자 ID: {}", id, user.getId());
+            ProductModelService.ManualReplacement result =
+                    productModelService.replaceManual(id, manualFile.getResource(), user);
+            String message = result.replaced()
+                    ? "매뉴얼이 성공적으로 교체되었습니다."
+                    : "매뉴얼 내용이 같아 교체하지 않았습니다.";
+            return ResponseEntity.ok(CommonResponse.of(message, result.model()));
+        } catch (SecurityException e) {
+            log.warn("매뉴얼 교체 거절 - 모델 ID: {}, 사유: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(CommonResponse.of("매뉴얼 교체 중 오류가 발생했습니다: " + e.getMessage(), null));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.warn("매뉴얼 교체 거절 - 모델 ID: {}, 사유: {}", id, e.getMessage());
+            return ResponseEntity.status(clientErrorStatus(e))
+                    .body(CommonResponse.of("매뉴얼 교체 중 오류가 발생했습니다: " + e.getMessage(), null));
+        } catch (MlEndpointUnavailableException e) {
+            log.warn("매뉴얼 교체 보류 - 모델 ID: {}, 사유: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(CommonResponse.of("매뉴얼 교체 중 오류가 발생했습니다: " + e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("매뉴얼 교체 실패 - 모델 ID: {}, 에러: {}", id, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.of("매뉴얼 교체 중 오류가 발생했습니다: " + e.getMessage(), null));
+        }
+    }
+
     /**
      * 모든 모델 조회 (관리자 전용)
      */
@@ -199,6 +300,47 @@ public class ProductModelController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 압축 파일로 공용 모델 매뉴얼 일괄 등록 (관리자 전용)
+     * 요청 본문은 ZIP 파일(application/zip)이며, 첫 항목 manifest.json 에 PDF 별 모델명과 카테고리 ID 를 지정합니다.
+     * 압축 파일을 받고 매니페스트를 검사하면 작업 ID 를 반환하며, 등록은 백그라운드에서 진행됩니다.
+     */
+    @PostMapping(value = "/admin/bulk", consumes = {"application/zip", "application/octet-stream"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<ManualBulkIngestionResponse>> bulkIngestManuals(
+            HttpServletRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        try {
+            log.info("매뉴얼 일괄 등록 요청 - 크기: {} bytes, 관리자 ID: {}",
+                    request.getContentLengthLong(), userDetails.getUser().getId());
+            ManualBulkIngestionResponse job = manualBulkIngestionService.start(request.getInputStream());
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(CommonResponse.of("매뉴얼 일괄 등록 작업을 시작했습니다.", job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(CommonResponse.of(e.getMessage(), null));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(CommonResponse.of(e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("매뉴얼 일괄 등록 실패 - 에러: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(CommonResponse.of("매뉴얼 일괄 등록 중 오류가 발생했습니다: " + e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 매뉴얼 일괄 등록 작업의 진행 상황을 조회합니다. 끝난 작업은 항목별 결과를 포함합니다. (관리자 전용)
+     */
+    @GetMapping("/admin/bulk/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonResponse<ManualBulkIngestionResponse>> getBulkIngestionStatus(@PathVariable String jobId) {
+        return manualBulkIngestionService.getStatus(jobId)
+                .map(job -> ResponseEntity.ok(CommonResponse.of("매뉴얼 일괄 등록 작업 상태 조회에 성공했습니다.", job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(CommonResponse.of("매뉴얼 일괄 등록 작업을 찾을 수 없습니다.", null)));
+    }
+
     /**
      * 개인 모델 삭제 (소유자만 가능)
      */
@@ -238,4 +380,11 @@ public class ProductModelController {
                     .body(CommonResponse.of("모델 삭제 중 오류가 발생했습니다: " + e.getMessage(), null));
         }
     }
+
+    /**
+     * 잘못된 요청(모델명 검증, Idempotency-Key 재사용)은 400, 같은 키의 요청이 처리 중이거나 동시에 교체된 경우 409
+     */
+    private static HttpStatus clientErrorStatus(RuntimeException e) {
+        return e instanceof IllegalStateException ? HttpStatus.CONFLICT : HttpStatus.BAD_REQUEST;
+    }
 }
@@ -0,0 +1,142 @@
+package CC_BE.CC_BE.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 커넥션을 얻은 시점부터 반납할 때까지의 점유 시간을 측정하는 DataSource
+ * - jdbc.connections.hold{owner} : owner 는 커넥션을 얻은 요청의 "메서드 경로 패턴" (요청 밖이면 background)
+ * - 기준 시간보다 오래 점유하면 경고 로그를 남깁니다.
+ * - 현재 스레드가 점유 중인 커넥션 수를 제공하여 {@link RemoteCallGuard} 가 사용합니다.
+ */
+@Slf4j
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+    private static final String METRIC_NAME = "jdbc.connections.hold";
+    private static final ThreadLocal<int[]> HELD = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier warnThresholdMs;
+
+    public ConnectionHoldTimeDataSource(DataSource target, MeterRegistry meterRegistry, LongSupplier warnThresholdMs) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+        this.warnThresholdMs = warnThresholdMs;
+    }
+
+    /**
+     * 현재 스레드가 점유 중인 커넥션 수
+     */
+    public static int heldConnections() {
+        return HELD.get()[0];
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        HELD.get()[0]++;
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new HoldTimeHandler(connection, owner(), System.nanoTime()));
+    }
+
+    private void released(String owner, long startNanos) {
+        int[] held = HELD.get();
+        if (held[0] > 0) {
+            held[0]--;
+        }
+        long nanos = System.nanoTime() - startNanos;
+        Timer.builder(METRIC_NAME)
+                .description("DB 커넥션 점유 시간")
+                .tag("owner", owner)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        if (millis >= warnThresholdMs.getAsLong()) {
+            log.warn("DB 커넥션 장시간 점유 - {}, {}ms", owner, millis);
+        }
+    }
+
+    private static String owner() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            Object pattern = servletAttributes.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            return servletAttributes.getRequest().getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+        }
+        return "background";
+    }
+
+    private class HoldTimeHandler implements InvocationHandler {
+        private final Connection target;
+        private final String owner;
+        private final long startNanos;
+        private boolean closed;
+
+        private HoldTimeHandler(Connection target, String owner, long startNanos) {
+            this.target = target;
+            this.owner = owner;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        try {
+                            target.close();
+                        } finally {
+                            released(owner, startNanos);
+                        }
+                    }
+                    return null;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package CC_BE.CC_BE.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 최근 쓰기 시각을 기록하여, 복제 지연 동안 자신이 쓴 데이터를 읽지 못하는 문제를 막습니다.
+ * 쓰기 트랜잭션이 커밋되면 현재 사용자를 기록하고, 기록이 남아 있는 동안 그 사용자의 읽기는 주 DB 로 보냅니다.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+    private final Cache<String, Boolean> recentWriters;
+    private final boolean enabled;
+
+    public ReadYourWritesTracker(int stickinessSeconds) {
+        this.enabled = stickinessSeconds > 0;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(Math.max(1, stickinessSeconds)))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (!enabled || commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) {
+            return;
+        }
+        String user = currentUser();
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 현재 사용자가 최근에 쓰기를 했는지 확인합니다.
+     */
+    public boolean isSticky() {
+        if (!enabled) {
+            return false;
+        }
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    @Nullable
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
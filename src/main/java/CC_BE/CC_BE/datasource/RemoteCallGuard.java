@@ -0,0 +1,63 @@
+package CC_BE.CC_BE.datasource;
+
+import CC_BE.CC_BE.config.TransactionGuardProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 안 또는 DB 커넥션을 점유한 채로 수행되는 원격 호출을 감지합니다.
+ * 원격 호출(ML 서버 요청, 매뉴얼 파일 저장 등) 직전에 check 를 호출합니다.
+ * - transaction.remote.calls{operation, transaction} 지표
+ * - 모드에 따라 경고 로그 또는 예외
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RemoteCallGuard {
+    private static final String METRIC_NAME = "transaction.remote.calls";
+
+    private final TransactionGuardProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param operation 원격 호출 이름 (예: ml.upload)
+     * @throws RemoteCallInTransactionException FAIL 모드에서 트랜잭션 안 원격 호출이 감지된 경우
+     */
+    public void check(String operation) {
+        if (properties.getRemoteCallMode() == TransactionGuardProperties.RemoteCallMode.OFF) {
+            return;
+        }
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        int heldConnections = ConnectionHoldTimeDataSource.heldConnections();
+        if (!inTransaction && heldConnections == 0) {
+            return;
+        }
+
+        String transaction = inTransaction
+                ? shortName(TransactionSynchronizationManager.getCurrentTransactionName())
+                : "none";
+        meterRegistry.counter(METRIC_NAME, "operation", operation, "transaction", transaction).increment();
+
+        String message = "DB 커넥션을 점유한 채로 원격 호출 - " + operation
+                + " (트랜잭션: " + transaction + ", 점유 커넥션: " + heldConnections + ")";
+        if (properties.getRemoteCallMode() == TransactionGuardProperties.RemoteCallMode.FAIL) {
+            throw new RemoteCallInTransactionException(message);
+        }
+        log.warn(message);
+    }
+
+    /**
+     * "패키지.클래스.메서드" 형식의 트랜잭션 이름을 "클래스.메서드" 로 줄입니다.
+     */
+    private static String shortName(String name) {
+        if (name == null) {
+            return "unknown";
+        }
+        int method = name.lastIndexOf('.');
+        int type = method > 0 ? name.lastIndexOf('.', method - 1) : -1;
+        return type >= 0 ? name.substring(type + 1) : name;
+    }
+}
@@ -0,0 +1,12 @@
+package CC_BE.CC_BE.datasource;
+
+/**
+ * 트랜잭션 안 또는 DB 커넥션을 점유한 채로 원격 호출을 시도했을 때 발생하는 예외 (FAIL 모드)
+ * 요청이 아니라 코드의 문제이므로 IllegalStateException(409 로 응답되는 충돌)과 구분합니다.
+ */
+public class RemoteCallInTransactionException extends RuntimeException {
+
+    public RemoteCallInTransactionException(String message) {
+        super(message);
+    }
+}
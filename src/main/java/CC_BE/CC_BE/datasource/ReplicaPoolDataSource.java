@@ -0,0 +1,128 @@
+package CC_BE.CC_BE.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션을 복제본 풀에서 돌아가며 제공하는 DataSource
+ * 1. 최근 쓰기를 한 사용자의 읽기는 주 DB 로 보냅니다. (read-your-writes)
+ * 2. 정상 상태인 복제본을 순서대로 시도하고, 커넥션을 얻지 못한 복제본은 비정상으로 표시합니다.
+ * 3. 정상 복제본이 없으면 주 DB 를 사용합니다.
+ * 4. 비정상 복제본은 주기적인 상태 확인에서 다시 연결되면 복귀합니다.
+ */
+@Slf4j
+public class ReplicaPoolDataSource extends AbstractDataSource implements AutoCloseable {
+    private static final String METRIC_NAME = "datasource.routing.connections";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker tracker;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPoolDataSource(DataSource primary, List<HikariDataSource> replicas,
+                                 ReadYourWritesTracker tracker, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.tracker = tracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (tracker.isSticky()) {
+            count("primary-sticky");
+            return primary.getConnection();
+        }
+
+        int size = replicas.size();
+        int start = size > 0 ? Math.floorMod(next.getAndIncrement(), size) : 0;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                count(replica.name());
+                return connection;
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+
+        count("primary-fallback");
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("복제본 라우팅 DataSource 는 계정 지정 커넥션을 지원하지 않습니다.");
+    }
+
+    /**
+     * 복제본 상태를 확인하여 비정상 복제본을 복귀시키거나 정상 복제본을 제외합니다.
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(2)) {
+                    throw new SQLException("커넥션 검증 실패");
+                }
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("복제본 복귀 - {}", replica.name());
+                }
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    /**
+     * 정상 상태인 복제본 수
+     */
+    public int healthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    private void markDown(Replica replica, SQLException e) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("복제본 제외 - {}, 에러: {}", replica.name(), e.getMessage());
+        }
+    }
+
+    private void count(String target) {
+        meterRegistry.counter(METRIC_NAME, "target", target).increment();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static class Replica {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private String name() {
+            return dataSource.getPoolName();
+        }
+    }
+}
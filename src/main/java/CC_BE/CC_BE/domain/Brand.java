@@ -1,5 +1,6 @@
 package CC_BE.CC_BE.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
@@ -10,7 +11,7 @@ import java.util.List;
  * 제품 모델의 브랜드 정보를 관리
  */
 @Entity
-@Table(name = "brand")
+@Table(name = "brand", indexes = @Index(name = "idx_brand_name_key", columnList = "name_key"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 public class Brand {
     /**
@@ -25,10 +26,24 @@ public class Brand {
     @Column(nullable = false)
     private String name;
 
+    /**
+     * 대소문자를 무시한 브랜드의 이름 (이름 조회용, 저장 시 name 으로 채움)
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "name_key")
+    private String nameKey;
+
     /**
      * 브랜드에 속한 카테고리 목록
      */
     @OneToMany(mappedBy = "brand", cascade = CascadeType.ALL)
     @JsonIgnoreProperties({"brand", "hibernateLazyInitializer", "handler"})
     private List<Category> categories;
+
+    @PrePersist
+    @PreUpdate
+    void updateNameKey() {
+        nameKey = NameKey.of(name);
+    }
 }
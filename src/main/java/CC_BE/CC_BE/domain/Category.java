@@ -1,5 +1,6 @@
 package CC_BE.CC_BE.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
@@ -9,7 +10,7 @@ import lombok.*;
  * 제품 모델의 카테고리 정보를 관리
  */
 @Entity
-@Table(name = "category")
+@Table(name = "category", indexes = @Index(name = "idx_category_brand_name_key", columnList = "brand_id, name_key"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 public class Category {
     /**
@@ -24,6 +25,14 @@ public class Category {
     @Column(nullable = false)
     private String name;
 
+    /**
+     * 대소문자를 무시한 카테고리의 이름 (이름 조회용, 저장 시 name 으로 채움)
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "name_key")
+    private String nameKey;
+
     /**
      * 카테고리가 속한 브랜드
      */
@@ -31,4 +40,10 @@ public class Category {
     @JoinColumn(name = "brand_id", nullable = false)
     @JsonIgnoreProperties({"categories", "hibernateLazyInitializer", "handler"})
     private Brand brand;
+
+    @PrePersist
+    @PreUpdate
+    void updateNameKey() {
+        nameKey = NameKey.of(name);
+    }
 }
@@ -0,0 +1,57 @@
+package CC_BE.CC_BE.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 처리 기록 엔티티
+ * 같은 키로 다시 들어온 요청에 대해 파일 저장과 ML 서버 등록을 반복하지 않고 처음 결과를 돌려주기 위해 사용합니다.
+ * 키와 요청 내용은 해시로만 저장하고, 결과는 생성된 모델 ID 만 저장합니다.
+ */
+@Entity
+@Table(name = "idempotency_record", indexes = @Index(name = "idx_idempotency_record_expires_at", columnList = "expiresAt"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class IdempotencyRecord {
+    /**
+     * 사용자 ID 와 Idempotency-Key 의 SHA-256 해시 (16진수)
+     */
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    /**
+     * 요청 내용(작업, 모델명, 카테고리, 파일명, 파일 크기)의 SHA-256 해시
+     * 같은 키로 다른 요청을 보내면 거절하기 위해 사용합니다.
+     */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * 처리 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    /**
+     * 처리 완료 후 생성된 제품 모델의 ID
+     */
+    private Long productModelId;
+
+    /**
+     * 기록 생성 일시
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 기록 만료 일시 (만료된 기록은 주기적으로 삭제됨)
+     */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public enum Status {
+        IN_PROGRESS, COMPLETED
+    }
+}
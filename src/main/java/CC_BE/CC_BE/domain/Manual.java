@@ -63,4 +63,42 @@ public class Manual {
      */
     @Column(nullable = false)
     private boolean mlProcessed;
+
+    /**
+     * 매뉴얼이 등록된 ML 서버 문서 식별자 (업로드마다 새로 발급, 이전 데이터는 null 이며 modelName 이 식별자)
+     */
+    @Column(length = 300)
+    private String mlDocName;
+
+    /**
+     * 매뉴얼 파일 내용의 SHA-256 해시 (16진수)
+     * 다운로드 시 강한 ETag로 사용되며, 이전 데이터는 최초 다운로드 시 계산됩니다.
+     */
+    @Column(length = 64)
+    private String contentHash;
+
+    /**
+     * 매뉴얼 파일의 크기 (bytes)
+     */
+    private Long fileSize;
+
+    /**
+     * 매뉴얼 PDF 의 페이지 수
+     */
+    private Integer pageCount;
+
+    /**
+     * 매뉴얼 PDF 문서 정보의 제목
+     */
+    private String title;
+
+    /**
+     * 첫 페이지 미리보기 이미지(PNG)의 저장소 key
+     */
+    private String thumbnailKey;
+
+    /**
+     * 메타데이터 추출이 끝난 일시 (추출에 실패한 경우에도 기록하여 반복 시도하지 않음)
+     */
+    private LocalDateTime previewExtractedAt;
 }
@@ -0,0 +1,50 @@
+package CC_BE.CC_BE.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 매뉴얼 파일 삭제 대기열 엔티티
+ * 브랜드 / 카테고리를 일괄 삭제할 때 저장소 파일 삭제를 트랜잭션과 함께 기록해 두고, 백그라운드에서 삭제합니다.
+ */
+@Entity
+@Table(name = "manual_file_deletion", indexes = @Index(name = "idx_manual_file_deletion_next_attempt", columnList = "nextAttemptAt"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ManualFileDeletion implements OutboxEntry {
+    /**
+     * 삭제 요청의 고유 식별자
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 삭제할 파일의 저장소 key (매뉴얼 파일 또는 미리보기 이미지)
+     */
+    @Column(nullable = false)
+    private String storageKey;
+
+    /**
+     * 삭제 시도 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 시도 가능 일시 (실패하면 점점 늦춰짐)
+     */
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(length = 500)
+    private String lastError;
+
+    /**
+     * 기록 일시
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,92 @@
+package CC_BE.CC_BE.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 매뉴얼 전체 재등록 작업 엔티티
+ * ML 서버의 임베딩 모델이 바뀌었을 때 모든 매뉴얼을 ID 순으로 다시 업로드하며,
+ * 진행 위치를 기록하여 서버가 재시작되어도 이어서 처리합니다.
+ */
+@Entity
+@Table(name = "manual_reingestion_job")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ManualReingestionJob {
+    /**
+     * 작업의 고유 식별자
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 작업 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    /**
+     * 처리가 끝난 마지막 매뉴얼 ID (이 ID 이하의 매뉴얼은 모두 처리됨)
+     */
+    @Column(nullable = false)
+    private long lastManualId;
+
+    /**
+     * 작업 시작 시점의 전체 매뉴얼 수
+     */
+    @Column(nullable = false)
+    private long totalCount;
+
+    /**
+     * 재등록에 성공한 매뉴얼 수
+     */
+    @Column(nullable = false)
+    private long processedCount;
+
+    /**
+     * 재등록에 실패한 매뉴얼 수
+     */
+    @Column(nullable = false)
+    private long failedCount;
+
+    /**
+     * 삭제, 연결 해제, 교체로 건너뛴 매뉴얼 수
+     */
+    @Column(nullable = false)
+    private long skippedCount;
+
+    /**
+     * 마지막으로 실패한 매뉴얼과 사유
+     */
+    @Column(length = 500)
+    private String lastError;
+
+    /**
+     * 작업을 시작한 관리자의 ID
+     */
+    private Long requestedBy;
+
+    /**
+     * 작업 시작 일시
+     */
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    /**
+     * 마지막으로 진행 위치를 기록한 일시
+     */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 작업이 끝나거나 취소된 일시
+     */
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        CANCELLED
+    }
+}
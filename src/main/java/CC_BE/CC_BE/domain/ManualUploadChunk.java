@@ -0,0 +1,38 @@
+package CC_BE.CC_BE.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 매뉴얼 분할 업로드에서 수신이 완료된 청크 정보
+ * 청크마다 별도 행으로 기록하여 여러 청크를 동시에 받아도 세션 행에 경합이 생기지 않습니다.
+ */
+@Entity
+@Table(name = "manual_upload_chunk",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"session_id", "chunk_index"}))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ManualUploadChunk {
+    /**
+     * 청크 기록의 고유 식별자
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 청크가 속한 업로드 세션 ID
+     */
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    /**
+     * 청크 번호 (0부터 시작)
+     */
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    /**
+     * 청크 내용의 SHA-256 해시
+     */
+    @Column(nullable = false, length = 64)
+    private String checksum;
+}
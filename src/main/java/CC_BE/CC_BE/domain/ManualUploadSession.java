@@ -0,0 +1,107 @@
+package CC_BE.CC_BE.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 매뉴얼 분할 업로드 세션 엔티티
+ * 대용량 매뉴얼을 고정 크기 청크로 나누어 업로드하고, 모든 청크가 도착하면 모델과 매뉴얼을 생성합니다.
+ */
+@Entity
+@Table(name = "manual_upload_session")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ManualUploadSession {
+    /**
+     * 업로드 세션 식별자 (UUID)
+     */
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    /**
+     * 업로드 대상 (공용 모델 / 개인 모델)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Scope scope;
+
+    /**
+     * 업로드를 시작한 사용자의 ID
+     */
+    @Column(nullable = false)
+    private Long ownerId;
+
+    /**
+     * 생성할 모델의 이름
+     */
+    @Column(nullable = false)
+    private String modelName;
+
+    /**
+     * 공용 모델이 속할 카테고리의 ID (개인 모델의 경우 null)
+     */
+    private Long categoryId;
+
+    /**
+     * 매뉴얼 파일의 원본 이름
+     */
+    @Column(nullable = false)
+    private String fileName;
+
+    /**
+     * 전체 파일 크기 (bytes)
+     */
+    @Column(nullable = false)
+    private long totalSize;
+
+    /**
+     * 청크 크기 (bytes, 마지막 청크는 더 작을 수 있음)
+     */
+    @Column(nullable = false)
+    private int chunkSize;
+
+    /**
+     * 전체 청크 개수
+     */
+    @Column(nullable = false)
+    private int chunkCount;
+
+    /**
+     * 클라이언트가 제공한 전체 파일의 SHA-256 해시 (선택)
+     */
+    @Column(length = 64)
+    private String checksum;
+
+    /**
+     * 업로드 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    /**
+     * 완료 후 생성된 제품 모델의 ID
+     */
+    private Long productModelId;
+
+    /**
+     * 세션 생성 일시
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 세션 만료 일시 (만료된 미완료 세션은 주기적으로 정리됨)
+     */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public enum Scope {
+        PUBLIC, PERSONAL
+    }
+
+    public enum Status {
+        UPLOADING, FINALIZING, COMPLETED
+    }
+}
@@ -0,0 +1,50 @@
+package CC_BE.CC_BE.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * ML 서버 문서 삭제 대기열(outbox) 엔티티
+ * 모델을 삭제하는 트랜잭션 안에서 함께 기록되고, 별도 스레드가 ML 서버에 삭제를 요청한 뒤 지웁니다.
+ */
+@Entity
+@Table(name = "ml_document_deletion", indexes = @Index(name = "idx_ml_document_deletion_next_attempt", columnList = "nextAttemptAt"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class MlDocumentDeletion implements OutboxEntry {
+    /**
+     * 삭제 요청의 고유 식별자
+     */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 삭제할 ML 서버 문서 식별자 (MlDocumentNames 규칙)
+     */
+    @Column(nullable = false)
+    private String docName;
+
+    /**
+     * 삭제 요청 시도 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 시도 가능 일시 (실패하면 점점 늦춰짐)
+     */
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(length = 500)
+    private String lastError;
+
+    /**
+     * 기록 일시
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
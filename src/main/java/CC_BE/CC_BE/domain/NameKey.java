@@ -0,0 +1,17 @@
+package CC_BE.CC_BE.domain;
+
+import java.util.Locale;
+
+/**
+ * 대소문자를 무시한 이름 비교용 키
+ * 브랜드, 카테고리, 제품 모델은 이름과 함께 이 키를 name_key 열에 저장하고, 이름 조회는 인덱스가 있는 이 열로 합니다.
+ * (lower(name) 으로 비교하면 DB 콜레이션과 관계없이 같은 결과가 나오지만 name 인덱스를 쓰지 못함)
+ */
+public final class NameKey {
+    private NameKey() {
+    }
+
+    public static String of(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+}
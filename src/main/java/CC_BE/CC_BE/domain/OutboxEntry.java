@@ -0,0 +1,17 @@
+package CC_BE.CC_BE.domain;
+
+/**
+ * 삭제 대기열(outbox) 항목의 공통 속성
+ * ML 서버 문서 삭제, 매뉴얼 파일 삭제 대기열 엔티티가 구현합니다.
+ */
+public interface OutboxEntry {
+    /**
+     * 항목의 고유 식별자
+     */
+    Long getId();
+
+    /**
+     * 지금까지 실패한 시도 횟수
+     */
+    int getAttempts();
+}
@@ -1,5 +1,6 @@
 package CC_BE.CC_BE.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
@@ -9,7 +10,9 @@ import lombok.*;
  * 공용 모델과 개인 모델을 구분하여 관리
  */
 @Entity
-@Table(name = "product_model")
+@Table(name = "product_model", indexes = {
+        @Index(name = "idx_product_model_name", columnList = "name"),
+        @Index(name = "idx_product_model_name_key", columnList = "name_key")})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ProductModel {
     /**
@@ -24,6 +27,14 @@ public class ProductModel {
     @Column(nullable = false)
     private String name;
 
+    /**
+     * 대소문자를 무시한 제품 모델의 이름 (이름 조회용, 저장 시 name 으로 채움)
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "name_key")
+    private String nameKey;
+
     /**
      * 제품 모델의 카테고리 (공용 모델에만 사용)
      * 개인 모델의 경우 null
@@ -57,4 +68,10 @@ public class ProductModel {
     @OneToOne(mappedBy = "productModel", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnoreProperties({"productModel", "hibernateLazyInitializer", "handler"})
     private Manual manual;
+
+    @PrePersist
+    @PreUpdate
+    void updateNameKey() {
+        nameKey = NameKey.of(name);
+    }
 }
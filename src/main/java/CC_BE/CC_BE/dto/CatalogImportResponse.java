@@ -0,0 +1,30 @@
+package CC_BE.CC_BE.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 카탈로그 일괄 등록 결과
+ */
+@Getter
+@Builder
+public class CatalogImportResponse {
+    private long rows;                  // 읽은 데이터 행 수 (헤더, 빈 줄 제외)
+    private long failedRows;
+    private long brandsCreated;
+    private long categoriesCreated;
+    private long modelsCreated;
+    private long modelsSkipped;         // 같은 브랜드 / 카테고리에 이미 있는 모델 (다시 가져오기)
+    private long durationMs;
+    private List<RowError> errors;      // 실패 행 (최대 catalog.import.max-reported-errors 개)
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;              // 입력의 줄 번호 (1부터)
+        private String message;
+    }
+}
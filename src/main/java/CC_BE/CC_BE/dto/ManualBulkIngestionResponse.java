@@ -0,0 +1,38 @@
+package CC_BE.CC_BE.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 압축 파일 매뉴얼 일괄 등록 작업 상태와 결과
+ */
+@Getter
+@Builder
+public class ManualBulkIngestionResponse {
+    private String jobId;
+    private String status;              // RUNNING, COMPLETED, FAILED (압축 파일을 끝까지 읽지 못함)
+    private int total;                  // 매니페스트 항목 수
+    private int processed;              // 결과가 정해진 매니페스트 항목 수
+    private int created;                // 새로 만든 모델 수
+    private int attached;               // 매뉴얼 없이 등록되어 있던 모델에 매뉴얼을 연결한 수
+    private int failed;
+    private int skipped;                // 매니페스트에 없는 압축 파일 항목 수
+    private String error;               // 작업이 중단된 사유
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long durationMs;            // 진행 중이면 지금까지 걸린 시간
+    private List<Entry> entries;        // 매니페스트 순서, 이어서 매니페스트에 없는 항목 (작업이 끝난 뒤에만)
+
+    @Getter
+    @Builder
+    public static class Entry {
+        private String file;            // 압축 파일 안의 경로
+        private String model;
+        private String status;          // CREATED, ATTACHED, FAILED, SKIPPED
+        private Long modelId;
+        private String message;         // 실패 / 건너뛴 사유
+    }
+}
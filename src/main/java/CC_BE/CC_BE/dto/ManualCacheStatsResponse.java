@@ -0,0 +1,19 @@
+package CC_BE.CC_BE.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 매뉴얼 캐시 상태 응답 DTO
+ */
+@Getter
+@Builder
+public class ManualCacheStatsResponse {
+    private long metadataEntries;       // 캐시된 모델 ID → 매뉴얼 정보 개수
+    private double metadataHitRate;     // 매뉴얼 정보 캐시 적중률
+    private long contentEntries;        // 메모리에 적재된 매뉴얼 파일 개수
+    private double contentHitRate;      // 매뉴얼 파일 캐시 적중률
+    private long contentEvictions;      // 매뉴얼 파일 캐시에서 제거된 횟수
+    private long residentBytes;         // 메모리에 적재된 전체 크기
+    private long maxResidentBytes;      // 메모리에 적재할 수 있는 최대 크기
+}
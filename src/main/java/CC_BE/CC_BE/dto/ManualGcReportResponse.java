@@ -0,0 +1,28 @@
+package CC_BE.CC_BE.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매뉴얼 저장소 고아 파일 정리 결과 응답 DTO
+ */
+@Getter
+@Builder
+public class ManualGcReportResponse {
+    private boolean dryRun;                 // true 면 삭제하지 않고 보고만 함
+    private LocalDateTime startedAt;
+    private long durationMs;
+    private long scannedFiles;              // 저장소에서 확인한 파일 수
+    private long referencedFiles;           // 매뉴얼이 사용하는 파일 수
+    private long orphanFiles;               // 어떤 매뉴얼도 사용하지 않는 파일 수 (유예 기간이 지난 것)
+    private long orphanBytes;
+    private long deletedFiles;              // 삭제한 고아 파일 수 (dryRun 이면 0)
+    private long deletedBytes;
+    private long recentUnreferencedFiles;   // 사용되지 않지만 유예 기간 안이라 남겨둔 파일 수
+    private long danglingKeys;              // 매뉴얼이 가리키지만 저장소에 없는 key 수
+    private List<String> orphanSamples;
+    private List<String> danglingSamples;
+}
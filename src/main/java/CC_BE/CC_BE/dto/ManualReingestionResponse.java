@@ -0,0 +1,49 @@
+package CC_BE.CC_BE.dto;
+
+import CC_BE.CC_BE.domain.ManualReingestionJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매뉴얼 전체 재등록 작업 상태 응답 DTO
+ */
+@Getter
+@Builder
+public class ManualReingestionResponse {
+    private Long jobId;
+    private String status;
+    private long totalCount;                // 작업 시작 시점의 전체 매뉴얼 수
+    private long processedCount;            // 재등록에 성공한 매뉴얼 수
+    private long failedCount;               // 재등록에 실패한 매뉴얼 수
+    private long skippedCount;              // 삭제, 연결 해제, 교체로 건너뛴 매뉴얼 수
+    private long remainingCount;            // 아직 처리하지 않은 매뉴얼 수
+    private long lastManualId;              // 처리가 끝난 마지막 매뉴얼 ID
+    private String lastError;
+    private Double uploadsPerMinute;        // 이 서버에서 측정한 처리 속도 (측정 전이면 null)
+    private LocalDateTime estimatedCompletionAt;  // 처리 속도로 계산한 예상 완료 시각 (측정 전이면 null)
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public static ManualReingestionResponse from(ManualReingestionJob job, long remainingCount,
+                                                 Double uploadsPerMinute, LocalDateTime estimatedCompletionAt) {
+        return ManualReingestionResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .totalCount(job.getTotalCount())
+                .processedCount(job.getProcessedCount())
+                .failedCount(job.getFailedCount())
+                .skippedCount(job.getSkippedCount())
+                .remainingCount(remainingCount)
+                .lastManualId(job.getLastManualId())
+                .lastError(job.getLastError())
+                .uploadsPerMinute(uploadsPerMinute)
+                .estimatedCompletionAt(estimatedCompletionAt)
+                .startedAt(job.getStartedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
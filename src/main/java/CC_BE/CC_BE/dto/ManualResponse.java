@@ -8,11 +8,21 @@ import lombok.Setter;
 public class ManualResponse {
     private Long id;
     private String fileName;
+    private String title;           // PDF 문서 정보의 제목
+    private Integer pageCount;      // 페이지 수 (추출 전이면 null)
+    private Long fileSize;          // 파일 크기 (bytes)
+    private String thumbnailUrl;    // 첫 페이지 미리보기 이미지 URL (생성 전이면 null)
 
     public static ManualResponse from(Manual manual) {
         ManualResponse response = new ManualResponse();
         response.setId(manual.getId());
         response.setFileName(manual.getFileName());
+        response.setTitle(manual.getTitle());
+        response.setPageCount(manual.getPageCount());
+        response.setFileSize(manual.getFileSize());
+        if (manual.getThumbnailKey() != null && manual.getProductModel() != null) {
+            response.setThumbnailUrl("/api/manuals/model/" + manual.getProductModel().getId() + "/thumbnail");
+        }
         return response;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package CC_BE.CC_BE.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 매뉴얼 분할 업로드 세션 생성 요청 DTO
+ */
+@Getter @Setter
+public class ManualUploadRequest {
+    /**
+     * 생성할 모델의 이름 (필수)
+     */
+    private String name;
+
+    /**
+     * 모델이 속할 카테고리의 ID (공용 모델인 경우에만 사용)
+     */
+    private Long categoryId;
+
+    /**
+     * 매뉴얼 파일의 원본 이름 (PDF)
+     */
+    private String fileName;
+
+    /**
+     * 전체 파일 크기 (bytes)
+     */
+    private Long totalSize;
+
+    /**
+     * 전체 파일의 SHA-256 해시 (선택, 지정 시 완료 단계에서 검증)
+     */
+    private String checksum;
+}
@@ -0,0 +1,40 @@
+package CC_BE.CC_BE.dto;
+
+import CC_BE.CC_BE.domain.ManualUploadSession;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매뉴얼 분할 업로드 세션 상태 응답 DTO
+ * 클라이언트는 receivedChunks 에 없는 청크만 다시 전송하면 됩니다.
+ */
+@Getter
+@Builder
+public class ManualUploadResponse {
+    private String uploadId;
+    private String fileName;
+    private long totalSize;
+    private int chunkSize;
+    private int chunkCount;
+    private List<Integer> receivedChunks;
+    private String status;
+    private Long productModelId;
+    private LocalDateTime expiresAt;
+
+    public static ManualUploadResponse from(ManualUploadSession session, List<Integer> receivedChunks) {
+        return ManualUploadResponse.builder()
+                .uploadId(session.getId())
+                .fileName(session.getFileName())
+                .totalSize(session.getTotalSize())
+                .chunkSize(session.getChunkSize())
+                .chunkCount(session.getChunkCount())
+                .receivedChunks(receivedChunks)
+                .status(session.getStatus().name())
+                .productModelId(session.getProductModelId())
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+}
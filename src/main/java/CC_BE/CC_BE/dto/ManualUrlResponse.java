@@ -0,0 +1,17 @@
+package CC_BE.CC_BE.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명된 매뉴얼 다운로드 URL 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class ManualUrlResponse {
+    private String url;         // 인증 없이 다운로드 가능한 URL (만료 시각까지 유효)
+    private String fileName;
+    private Instant expiresAt;
+}
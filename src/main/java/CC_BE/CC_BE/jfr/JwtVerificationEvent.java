@@ -0,0 +1,32 @@
+package CC_BE.CC_BE.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JWT 서명 검증 JFR 이벤트
+ */
+@Name("CC_BE.JwtVerification")
+@Label("JWT Verification")
+@Category({"CC_BE", "Security"})
+@Description("JWT 토큰 파싱 및 서명 검증")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+    @Label("Result")
+    String result;
+
+    public static JwtVerificationEvent start() {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.result = "error";
+        event.begin();
+        return event;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+}
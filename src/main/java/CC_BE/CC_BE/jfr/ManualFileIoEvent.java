@@ -0,0 +1,52 @@
+package CC_BE.CC_BE.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 매뉴얼 파일 입출력 JFR 이벤트 (저장, 열기, 해시 계산, 삭제)
+ */
+@Name("CC_BE.ManualFileIo")
+@Label("Manual File I/O")
+@Category({"CC_BE", "Manual"})
+@Description("매뉴얼 저장소 파일 입출력")
+@StackTrace(false)
+public class ManualFileIoEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Storage Key")
+    String key;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Success")
+    boolean success;
+
+    public static ManualFileIoEvent start(String operation, String key) {
+        ManualFileIoEvent event = new ManualFileIoEvent();
+        event.operation = operation;
+        event.key = key;
+        event.begin();
+        return event;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    /**
+     * 작업이 성공했음을 기록합니다. (commit 은 호출한 쪽의 finally 에서)
+     */
+    public void succeeded(long bytes) {
+        this.bytes = bytes;
+        this.success = true;
+    }
+}
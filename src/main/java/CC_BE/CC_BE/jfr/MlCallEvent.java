@@ -0,0 +1,58 @@
+package CC_BE.CC_BE.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * ML 서버 호출 JFR 이벤트
+ * 기록 중이 아닐 때는 begin/commit 이 거의 비용 없이 끝납니다.
+ */
+@Name("CC_BE.MlCall")
+@Label("ML Server Call")
+@Category({"CC_BE", "ML"})
+@Description("ML 서버 호출 (업로드 / 챗봇 질문)")
+@StackTrace(false)
+public class MlCallEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Model")
+    String model;
+
+    @Label("Request Bytes")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static MlCallEvent start(String operation, String model) {
+        MlCallEvent event = new MlCallEvent();
+        event.operation = operation;
+        event.model = model;
+        event.outcome = "error";
+        event.begin();
+        return event;
+    }
+
+    public void setRequestBytes(long requestBytes) {
+        this.requestBytes = requestBytes;
+    }
+
+    public void setResponseBytes(long responseBytes) {
+        this.responseBytes = responseBytes;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+}
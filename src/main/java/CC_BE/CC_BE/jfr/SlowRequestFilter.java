@@ -0,0 +1,94 @@
+package CC_BE.CC_BE.jfr;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 챗봇 / 업로드 요청의 처리 시간을 재고, 기준을 넘으면 {@link SlowRequestRecorder} 에 캡처를 요청하는 필터
+ */
+public class SlowRequestFilter extends OncePerRequestFilter {
+    private final SlowRequestRecorder recorder;
+    private final Tracer tracer;
+    private final List<String> paths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public SlowRequestFilter(SlowRequestRecorder recorder, Tracer tracer, List<String> paths) {
+        this.recorder = recorder;
+        this.tracer = tracer;
+        this.paths = paths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!recorder.isActive()) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return paths.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        Span span = tracer.currentSpan();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // 비동기 요청은 응답이 완료될 때 처리 시간을 잰다 (첫 디스패치는 바로 끝남)
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        captureIfSlow(request, response, start, span);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                captureIfSlow(request, response, start, span);
+            }
+        }
+    }
+
+    private void captureIfSlow(HttpServletRequest request, HttpServletResponse response, long start, Span span) {
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        if (durationMs >= recorder.getThresholdMs()) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("method", request.getMethod());
+            details.put("uri", request.getRequestURI());
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            details.put("pattern", pattern != null ? pattern.toString() : null);
+            details.put("status", response.getStatus());
+            details.put("durationMs", durationMs);
+            details.put("contentLength", request.getContentLengthLong());
+            details.put("traceId", span != null ? span.context().traceId() : null);
+            details.put("thread", Thread.currentThread().getName());
+            recorder.capture(details);
+        }
+    }
+}
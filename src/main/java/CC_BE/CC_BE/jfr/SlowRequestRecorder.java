@@ -0,0 +1,164 @@
+package CC_BE.CC_BE.jfr;
+
+import CC_BE.CC_BE.config.FlightRecorderProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 느린 요청 JFR 캡처
+ * 1. 최근 windowSeconds 구간만 유지하는 JFR 기록(default 설정 + CC_BE 이벤트)을 계속 켜 둡니다.
+ * 2. 느린 요청이 보고되면 현재 기록 구간을 .jfr 파일로, 요청 정보를 같은 이름의 .json 파일로 저장합니다.
+ * 3. 저장은 별도 스레드에서 하므로 느린 요청을 더 지연시키지 않으며, 최소 간격 안의 캡처는 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlowRequestRecorder {
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final FlightRecorderProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong lastDumpAt = new AtomicLong();
+    private Recording recording;
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("cc-be-slow-request");
+            recording.setToDisk(true);
+            recording.setMaxAge(Duration.ofSeconds(properties.getWindowSeconds()));
+            recording.setMaxSize(properties.getMaxRecordingMb() * 1024 * 1024);
+            recording.enable(MlCallEvent.class);
+            recording.enable(ManualFileIoEvent.class);
+            recording.enable(JwtVerificationEvent.class);
+            recording.start();
+        } catch (Exception e) {
+            // JFR 을 지원하지 않는 런타임에서도 애플리케이션은 정상 동작해야 함
+            log.warn("JFR 기록을 시작할 수 없습니다: {}", e.getMessage());
+            recording = null;
+            return;
+        }
+
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "jfr-slow-request");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+        log.info("JFR 느린 요청 캡처 시작 - 기준: {}ms, 구간: {}초, 저장 위치: {}",
+                properties.getThresholdMs(), properties.getWindowSeconds(), dumpDir());
+    }
+
+    public boolean isActive() {
+        return recording != null;
+    }
+
+    public long getThresholdMs() {
+        return properties.getThresholdMs();
+    }
+
+    /**
+     * 느린 요청을 보고합니다. 최소 캡처 간격이 지나지 않았으면 무시합니다.
+     *
+     * @param details 요청 정보 (메서드, 경로, 소요 시간 등)
+     */
+    public void capture(Map<String, Object> details) {
+        if (recording == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long last = lastDumpAt.get();
+        if (now - last < properties.getMinDumpIntervalSeconds() * 1000L || !lastDumpAt.compareAndSet(last, now)) {
+            return;
+        }
+        executor.execute(() -> dump(details));
+    }
+
+    private void dump(Map<String, Object> details) {
+        String baseName = "slow-" + LocalDateTime.now().format(FILE_TIME);
+        Path dir = dumpDir();
+        try {
+            Files.createDirectories(dir);
+            Path jfrFile = dir.resolve(baseName + ".jfr");
+            recording.dump(jfrFile);
+
+            Map<String, Object> report = new LinkedHashMap<>(details);
+            report.put("capturedAt", LocalDateTime.now().toString());
+            report.put("thresholdMs", properties.getThresholdMs());
+            report.put("windowSeconds", properties.getWindowSeconds());
+            report.put("recording", jfrFile.getFileName().toString());
+            objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(dir.resolve(baseName + ".json").toFile(), report);
+
+            log.warn("느린 요청 JFR 캡처 저장 - {} {} {}ms -> {}",
+                    details.get("method"), details.get("uri"), details.get("durationMs"), jfrFile);
+            pruneOldDumps(dir);
+        } catch (Exception e) {
+            log.error("느린 요청 JFR 캡처 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 오래된 캡처부터 삭제하여 maxDumps 개만 남깁니다.
+     */
+    private void pruneOldDumps(Path dir) throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(dir)) {
+            dumps = files.filter(path -> path.getFileName().toString().startsWith("slow-")
+                            && path.getFileName().toString().endsWith(".jfr"))
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        }
+        for (int i = 0; i < dumps.size() - properties.getMaxDumps(); i++) {
+            Path jfrFile = dumps.get(i);
+            String name = jfrFile.getFileName().toString();
+            Files.deleteIfExists(jfrFile);
+            Files.deleteIfExists(jfrFile.resolveSibling(name.substring(0, name.length() - 4) + ".json"));
+        }
+    }
+
+    private Path dumpDir() {
+        return Paths.get(properties.getDumpDir()).toAbsolutePath().normalize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
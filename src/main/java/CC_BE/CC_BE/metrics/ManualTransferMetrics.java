@@ -0,0 +1,53 @@
+package CC_BE.CC_BE.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매뉴얼 파일 업로드/다운로드 전송량 지표
+ * manual.transfer.bytes{direction, route} 카운터의 증가율로 처리량을 확인합니다.
+ */
+@Component
+public class ManualTransferMetrics {
+    private static final String METRIC_NAME = "manual.transfer.bytes";
+
+    private final MeterRegistry meterRegistry;
+
+    public ManualTransferMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 업로드된 바이트 수를 기록합니다.
+     *
+     * @param route 업로드 경로 (multipart, chunked)
+     * @param bytes 바이트 수
+     */
+    public void recordUpload(String route, long bytes) {
+        record("upload", route, bytes);
+    }
+
+    /**
+     * 다운로드로 전송한 바이트 수를 기록합니다.
+     *
+     * @param route 다운로드 경로 (api, signed-url)
+     * @param bytes 바이트 수
+     */
+    public void recordDownload(String route, long bytes) {
+        record("download", route, bytes);
+    }
+
+    private void record(String direction, String route, long bytes) {
+        if (bytes <= 0) {
+            return;
+        }
+        Counter.builder(METRIC_NAME)
+                .description("매뉴얼 파일 전송량")
+                .baseUnit("bytes")
+                .tag("direction", direction)
+                .tag("route", route)
+                .register(meterRegistry)
+                .increment(bytes);
+    }
+}
@@ -0,0 +1,44 @@
+package CC_BE.CC_BE.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 실행된 SQL 문 수를 기록하는 필터
+ * http.server.requests.queries{method, uri} 분포로 N+1 쿼리가 발생하는 엔드포인트를 찾을 수 있습니다.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+    private static final String METRIC_NAME = "http.server.requests.queries";
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountInspector.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("요청당 실행된 SQL 문 수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .serviceLevelObjectives(1, 2, 5, 10, 20, 50)
+                    .register(meterRegistry)
+                    .record(QueryCountInspector.current());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package CC_BE.CC_BE.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 문 수를 요청 스레드 단위로 세는 StatementInspector
+ * {@link QueryCountFilter} 가 요청 시작 시 초기화하고 종료 시 기록합니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    static int current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,42 @@
+package CC_BE.CC_BE.ml;
+
+import CC_BE.CC_BE.domain.Manual;
+import CC_BE.CC_BE.domain.ProductModel;
+
+import java.util.UUID;
+
+/**
+ * ML 서버 문서 식별자(doc_name) 규칙
+ * 매뉴얼을 업로드할 때마다 "모델명@임의값" 형식의 새 식별자를 만들어, 업로드가 다른 모델(같은 이름으로 동시에 생성 중인 모델,
+ * 삭제 대기 중인 이전 모델)의 문서를 덮어쓰지 않게 합니다. 매뉴얼은 DB 저장에 성공한 업로드의 식별자만 가리킵니다.
+ * 식별자를 기록하기 전에 등록된 매뉴얼은 업로드 당시의 모델명(Manual.modelName)이 식별자입니다.
+ */
+public final class MlDocumentNames {
+    private static final int SUFFIX_LENGTH = 12;
+
+    private MlDocumentNames() {
+    }
+
+    /**
+     * 새 업로드에 사용할 문서 식별자를 만듭니다.
+     *
+     * @param modelName 모델 이름
+     */
+    public static String newName(String modelName) {
+        return modelName + "@" + UUID.randomUUID().toString().replace("-", "").substring(0, SUFFIX_LENGTH);
+    }
+
+    /**
+     * 매뉴얼이 가리키는 ML 서버 문서 식별자
+     */
+    public static String of(Manual manual) {
+        return manual.getMlDocName() != null ? manual.getMlDocName() : manual.getModelName();
+    }
+
+    /**
+     * 모델의 매뉴얼이 가리키는 ML 서버 문서 식별자 (매뉴얼이 없으면 모델 이름)
+     */
+    public static String of(ProductModel model) {
+        return model.getManual() != null ? of(model.getManual()) : model.getName();
+    }
+}
@@ -0,0 +1,302 @@
+package CC_BE.CC_BE.ml;
+
+import CC_BE.CC_BE.config.MLServerProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 ML 서버 중 요청을 보낼 서버를 고르는 풀
+ * 1. 정상 서버 중 처리 중인 요청이 가장 적은 서버(또는 지연 이동 평균 기준)를 고릅니다.
+ * 2. 서버가 문서를 나눠 가지는 경우(shard-by-document) 같은 문서는 항상 같은 서버로 보냅니다. (rendezvous hashing)
+ * 3. 연속 실패하거나 다른 서버보다 크게 느린 서버는 제외하고, 제외 시간이 지난 뒤 상태 확인에 성공하면 복귀시킵니다.
+ * 4. 정상 서버가 없으면 전체 서버 중에서 고릅니다. (요청을 막지 않음)
+ *    단, 문서별 고정 모드에서 문서를 가진 서버가 제외되어 있으면 다른 서버로 보내지 않고
+ *    {@link MlEndpointUnavailableException}(503)으로 실패시킵니다. (다른 서버에는 그 문서가 없음)
+ */
+@Slf4j
+@Component
+public class MlEndpointPool {
+    private static final String[] OPERATIONS = {"upload", "chat"};
+
+    private final MLServerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<Endpoint> endpoints;
+    private final ClientHttpRequestFactory healthCheckRequestFactory;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public MlEndpointPool(MLServerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.endpoints = resolveEndpoints(properties);
+
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(properties.getHealthCheckTimeoutMs());
+        factory.setReadTimeout(properties.getHealthCheckTimeoutMs());
+        this.healthCheckRequestFactory = factory;
+
+        endpoints.forEach(this::registerMetrics);
+        log.info("ML 서버 {}개 사용 - {}, 분산 방식: {}, 문서별 고정: {}", endpoints.size(),
+                endpoints.stream().map(Endpoint::getUrl).toList(), properties.getBalancing(), properties.isShardByDocument());
+    }
+
+    /**
+     * 요청을 보낼 서버를 고르고 처리 중 요청 수를 늘립니다.
+     * 호출이 끝나면 반드시 release 를 호출해야 합니다.
+     *
+     * @param operation 호출 종류 (upload, chat)
+     * @param docName 문서 식별자 (모델명)
+     * @throws MlEndpointUnavailableException 문서별 고정 모드에서 문서를 가진 서버가 제외된 경우
+     */
+    public Endpoint acquire(String operation, String docName) {
+        Endpoint endpoint = properties.isShardByDocument() && docName != null
+                ? selectByDocument(docName)
+                : selectByLoad(operation);
+        endpoint.outstanding.incrementAndGet();
+        return endpoint;
+    }
+
+    /**
+     * 호출 결과를 반영합니다.
+     *
+     * @param success 서버가 정상 응답했는지 여부 (4xx 처럼 요청 자체의 문제는 성공으로 취급)
+     */
+    public void release(Endpoint endpoint, String operation, long elapsedNanos, boolean success) {
+        endpoint.outstanding.decrementAndGet();
+        if (!success) {
+            int failures = endpoint.consecutiveFailures.incrementAndGet();
+            if (failures >= properties.getFailureThreshold()) {
+                eject(endpoint, "failure", "연속 실패 " + failures + "회");
+            }
+            return;
+        }
+        endpoint.consecutiveFailures.set(0);
+        double latencyMs = elapsedNanos / 1_000_000.0;
+        endpoint.recordLatency(operation, latencyMs, properties.getEwmaAlpha());
+        checkSlow(endpoint, operation);
+    }
+
+    /**
+     * 서버 상태를 확인하여 제외 시간이 지난 서버를 복귀시키거나, 응답하지 않는 서버를 제외합니다.
+     * 서버가 하나뿐이면 고를 대상이 없으므로 확인하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${ml.server.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        if (endpoints.size() < 2) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (Endpoint endpoint : endpoints) {
+            if (!endpoint.available && now < endpoint.ejectedUntil) {
+                continue;
+            }
+            boolean healthy = probe(endpoint);
+            if (healthy && !endpoint.available) {
+                endpoint.consecutiveFailures.set(0);
+                endpoint.latencyMs.clear();
+                endpoint.available = true;
+                log.info("ML 서버 복귀 - {}", endpoint.url);
+            } else if (!healthy) {
+                eject(endpoint, "health-check", "상태 확인 실패");
+            }
+        }
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    private Endpoint selectByLoad(String operation) {
+        List<Endpoint> candidates = availableEndpoints();
+        int size = candidates.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);  // 같은 점수일 때 번갈아 선택
+        Endpoint best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Endpoint endpoint = candidates.get((start + i) % size);
+            double score = score(endpoint, operation);
+            if (score < bestScore) {
+                best = endpoint;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private double score(Endpoint endpoint, String operation) {
+        int outstanding = endpoint.outstanding.get();
+        if (properties.getBalancing() == MLServerProperties.Balancing.EWMA) {
+            // 아직 측정값이 없는 서버는 0 으로 두어 먼저 시도
+            return endpoint.latency(operation) * (outstanding + 1);
+        }
+        return outstanding;
+    }
+
+    /**
+     * 전체 서버 중 문서명과 서버 주소의 해시 점수가 가장 높은 서버(문서를 가진 서버)를 고릅니다.
+     * 그 서버가 제외되어 있으면 복귀할 때까지 요청을 실패시킵니다.
+     */
+    private Endpoint selectByDocument(String docName) {
+        Endpoint home = endpoints.stream()
+                .max(Comparator.comparingLong(endpoint -> rendezvousScore(endpoint.url, docName)))
+                .orElseThrow();
+        if (!home.available) {
+            meterRegistry.counter("ml.endpoint.shard.unavailable", "endpoint", home.url).increment();
+            throw new MlEndpointUnavailableException("문서를 가진 ML 서버를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return home;
+    }
+
+    private List<Endpoint> availableEndpoints() {
+        List<Endpoint> available = endpoints.stream().filter(endpoint -> endpoint.available).toList();
+        return available.isEmpty() ? endpoints : available;
+    }
+
+    /**
+     * 다른 정상 서버 지연 중앙값보다 slowFactor 배 이상 느리면 제외합니다.
+     * 업로드는 파일 크기에 따라 지연이 크게 달라지므로 챗봇 요청만 비교합니다.
+     */
+    private void checkSlow(Endpoint endpoint, String operation) {
+        if (properties.getSlowFactor() <= 0 || !"chat".equals(operation) || !endpoint.available) {
+            return;
+        }
+        List<Double> others = endpoints.stream()
+                .filter(other -> other != endpoint && other.available && other.latencyMs.containsKey(operation))
+                .map(other -> other.latency(operation))
+                .sorted()
+                .toList();
+        if (others.isEmpty()) {
+            return;
+        }
+        double median = others.get(others.size() / 2);
+        double latency = endpoint.latency(operation);
+        if (median > 0 && latency > median * properties.getSlowFactor()) {
+            eject(endpoint, "slow", String.format("%s 지연 %.0fms (다른 서버 중앙값 %.0fms)", operation, latency, median));
+        }
+    }
+
+    private synchronized void eject(Endpoint endpoint, String reason, String detail) {
+        long ejectedUntil = System.currentTimeMillis() + properties.getEjectionMs();
+        if (!endpoint.available) {
+            endpoint.ejectedUntil = ejectedUntil;  // 제외된 상태에서 또 실패하면 대기 시간 연장
+            return;
+        }
+        if (endpoints.stream().filter(other -> other.available).count() <= 1) {
+            return;  // 마지막 정상 서버는 제외하지 않음
+        }
+        endpoint.ejectedUntil = ejectedUntil;
+        endpoint.available = false;
+        meterRegistry.counter("ml.endpoint.ejections", "endpoint", endpoint.url, "reason", reason).increment();
+        log.warn("ML 서버 제외 - {}, {}", endpoint.url, detail);
+    }
+
+    private boolean probe(Endpoint endpoint) {
+        try {
+            URI uri = URI.create(endpoint.url + properties.getHealthCheckPath());
+            try (ClientHttpResponse response = healthCheckRequestFactory.createRequest(uri, HttpMethod.GET).execute()) {
+                return !response.getStatusCode().is5xxServerError();
+            }
+        } catch (Exception e) {
+            log.debug("ML 서버 상태 확인 실패 - {}, 에러: {}", endpoint.url, e.getMessage());
+            return false;
+        }
+    }
+
+    private void registerMetrics(Endpoint endpoint) {
+        Gauge.builder("ml.endpoint.outstanding", endpoint.outstanding, AtomicInteger::get)
+                .description("ML 서버별 처리 중인 요청 수")
+                .tag("endpoint", endpoint.url)
+                .register(meterRegistry);
+        Gauge.builder("ml.endpoint.available", endpoint, e -> e.available ? 1 : 0)
+                .description("ML 서버 사용 가능 여부 (1: 정상, 0: 제외)")
+                .tag("endpoint", endpoint.url)
+                .register(meterRegistry);
+        for (String operation : OPERATIONS) {
+            Gauge.builder("ml.endpoint.latency.ewma", endpoint, e -> e.latency(operation))
+                    .description("ML 서버별 지연 이동 평균")
+                    .baseUnit("milliseconds")
+                    .tag("endpoint", endpoint.url)
+                    .tag("operation", operation)
+                    .register(meterRegistry);
+        }
+    }
+
+    private static List<Endpoint> resolveEndpoints(MLServerProperties properties) {
+        List<String> urls = properties.getUrls().isEmpty()
+                ? (StringUtils.hasText(properties.getUrl()) ? List.of(properties.getUrl()) : List.of())
+                : properties.getUrls();
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (String url : urls) {
+            if (StringUtils.hasText(url)) {
+                endpoints.add(new Endpoint(StringUtils.trimTrailingCharacter(url.trim(), '/')));
+            }
+        }
+        if (endpoints.isEmpty()) {
+            throw new IllegalStateException("ML 서버 주소(ml.server.url 또는 ml.server.urls)가 설정되지 않았습니다.");
+        }
+        return List.copyOf(endpoints);
+    }
+
+    /**
+     * 64비트 해시 (FNV-1a 후 비트 섞기)
+     */
+    private static long rendezvousScore(String url, String docName) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : (url + '#' + docName).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * ML 서버 한 대의 상태
+     */
+    public static class Endpoint {
+        private final String url;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final Map<String, Double> latencyMs = new ConcurrentHashMap<>();  // 호출 종류별 지연 이동 평균
+        private volatile boolean available = true;
+        private volatile long ejectedUntil;
+
+        private Endpoint(String url) {
+            this.url = url;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        private double latency(String operation) {
+            return latencyMs.getOrDefault(operation, 0.0);
+        }
+
+        private void recordLatency(String operation, double latency, double alpha) {
+            latencyMs.merge(operation, latency, (previous, current) -> previous + alpha * (current - previous));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package CC_BE.CC_BE.ml;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 요청을 보내야 하는 ML 서버를 사용할 수 없을 때 발생하는 예외 (503 응답)
+ * 문서별 고정(shard-by-document) 모드에서 문서를 가진 서버가 제외된 경우,
+ * 다른 서버에는 그 문서가 없으므로 다른 서버로 보내지 않고 이 예외로 실패시킵니다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class MlEndpointUnavailableException extends RuntimeException {
+    public MlEndpointUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,345 @@
+package CC_BE.CC_BE.ml;
+
+import CC_BE.CC_BE.config.MlSchedulerProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * ML 서버 작업 스케줄러
+ * 1. 우선순위: 대기 중인 챗봇 요청이 매뉴얼 등록보다 먼저 실행됩니다.
+ * 2. 클래스별 동시 실행 수 상한: 대량 등록이 ML 서버 용량을 모두 차지하지 못하게 합니다.
+ *    반대로 클래스별 예약 몫(reserved)은 다른 클래스가 쓰지 못하므로, 챗봇이 몰려도 등록이 굶지 않습니다.
+ * 3. 같은 클래스 안에서는 흐름(사용자, 사용자 정보가 없으면 모델)별 가중 공정 큐로 순서를 정합니다.
+ *    (흐름마다 가상 종료 시각 = max(현재 가상 시각, 그 흐름의 마지막 종료 시각) + 비용 / 가중치)
+ *
+ * 동기 호출(execute)은 차례가 올 때까지 호출 스레드가 대기한 뒤 그 스레드에서 작업을 실행하고,
+ * 비동기 호출(executeAsync)은 스레드를 점유하지 않고 차례가 오면 작업을 시작합니다.
+ * - ml.scheduler.queue.wait{class}: 대기 시간
+ * - ml.scheduler.queued{class}, ml.scheduler.active{class}: 대기 / 실행 중 작업 수
+ * - ml.scheduler.rejected{class, reason}: 대기열 초과(full) 또는 대기 시간 초과(timeout)로 거절된 작업 수
+ */
+@Slf4j
+@Component
+public class MlWorkScheduler implements DisposableBean {
+    private final MlSchedulerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<WorkClass, ClassState> states = new EnumMap<>(WorkClass.class);
+    private final ScheduledThreadPoolExecutor timeouts;
+    private int totalActive;
+    private long sequence;
+
+    public MlWorkScheduler(MlSchedulerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.timeouts = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "ml-scheduler-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timeouts.setRemoveOnCancelPolicy(true);  // 차례가 온 작업의 타임아웃은 바로 제거
+        for (WorkClass workClass : WorkClass.values()) {
+            ClassState state = new ClassState();
+            states.put(workClass, state);
+            Gauge.builder("ml.scheduler.queued", state, s -> s.queue.size())
+                    .description("ML 작업 대기 수")
+                    .tag("class", workClass.tag)
+                    .register(meterRegistry);
+            Gauge.builder("ml.scheduler.active", state, s -> s.active)
+                    .description("ML 작업 실행 수")
+                    .tag("class", workClass.tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 차례가 오면 호출 스레드에서 작업을 실행합니다.
+     *
+     * @param workClass 우선순위 클래스
+     * @param modelName 작업 대상 모델명 (사용자 정보가 없을 때 흐름 구분에 사용)
+     * @param cost 작업 비용 (챗봇 1, 등록은 파일 크기 MB 등)
+     * @throws RuntimeException 대기열이 가득 찼거나 대기 시간이 초과된 경우
+     */
+    public <T, E extends Exception> T execute(WorkClass workClass, String modelName, double cost, Work<T, E> work) throws E {
+        if (!properties.isEnabled()) {
+            return work.call();
+        }
+        Waiter waiter = enqueue(workClass, flowOf(modelName), cost);
+        try {
+            waiter.grant.get();
+        } catch (InterruptedException e) {
+            abandon(waiter);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("ML 서버 요청 대기 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+        recordWait(waiter);
+        try {
+            return work.call();
+        } finally {
+            release(workClass);
+        }
+    }
+
+    /**
+     * 차례가 오면 비동기 작업을 시작합니다. 대기하는 동안 스레드를 점유하지 않습니다.
+     *
+     * @param work 차례가 왔을 때 시작할 비동기 작업
+     * @return 작업 결과 (대기열이 가득 찼거나 대기 시간이 초과되면 RuntimeException 으로 실패)
+     */
+    public <T> CompletableFuture<T> executeAsync(WorkClass workClass, String modelName, double cost,
+                                                 Supplier<CompletableFuture<T>> work) {
+        if (!properties.isEnabled()) {
+            return work.get();
+        }
+        Waiter waiter;
+        try {
+            waiter = enqueue(workClass, flowOf(modelName), cost);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return waiter.grant.thenCompose(granted -> {
+            recordWait(waiter);
+            CompletableFuture<T> result;
+            try {
+                result = work.get();
+            } catch (RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+            return result.whenComplete((value, error) -> release(workClass));
+        });
+    }
+
+    @Override
+    public void destroy() {
+        timeouts.shutdownNow();
+    }
+
+    private Waiter enqueue(WorkClass workClass, String flow, double cost) {
+        MlSchedulerProperties.WorkClass config = config(workClass);
+        Waiter waiter;
+        List<Waiter> granted;
+        lock.lock();
+        try {
+            ClassState state = states.get(workClass);
+            if (state.queue.size() >= config.getMaxQueued()) {
+                reject(workClass, "full");
+                throw new RuntimeException("ML 서버 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            double weight = properties.getFlowWeights().getOrDefault(flow, 1.0);
+            double start = Math.max(state.virtualTime, state.flowFinish.getOrDefault(flow, 0.0));
+            double finish = start + Math.max(cost, 1e-3) / Math.max(weight, 1e-3);
+            state.flowFinish.put(flow, finish);
+
+            waiter = new Waiter(workClass, finish, sequence++);
+            state.queue.add(waiter);
+            granted = dispatch();
+            if (!waiter.granted) {
+                waiter.timeout = timeouts.schedule(() -> expire(waiter), config.getQueueTimeoutMs(), TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        grant(granted);
+        return waiter;
+    }
+
+    private void release(WorkClass workClass) {
+        List<Waiter> granted;
+        lock.lock();
+        try {
+            states.get(workClass).active--;
+            totalActive--;
+            granted = dispatch();
+        } finally {
+            lock.unlock();
+        }
+        grant(granted);
+    }
+
+    /**
+     * 전체 / 클래스별 상한과 다른 클래스의 예약 몫 안에서 우선순위가 높은 클래스의 대기 작업부터 실행을 허가합니다.
+     * 허가된 작업은 lock 을 놓은 뒤 grant 로 깨웁니다. (비동기 작업이 lock 안에서 시작되지 않도록)
+     * (lock 을 잡은 상태에서 호출)
+     */
+    private List<Waiter> dispatch() {
+        List<Waiter> granted = new ArrayList<>();
+        boolean dispatched = true;
+        while (dispatched && totalActive < properties.getMaxConcurrency()) {
+            dispatched = false;
+            for (WorkClass workClass : WorkClass.values()) {
+                ClassState state = states.get(workClass);
+                if (state.queue.isEmpty() || state.active >= config(workClass).getMaxConcurrency()
+                        || totalActive + reservedForOthers(workClass) >= properties.getMaxConcurrency()) {
+                    continue;
+                }
+                Waiter waiter = state.queue.poll();
+                state.virtualTime = waiter.finishTag;
+                if (state.queue.isEmpty()) {
+                    state.flowFinish.clear();  // 밀린 흐름이 없으면 기록을 비워 메모리가 늘지 않게 함
+                }
+                state.active++;
+                totalActive++;
+                waiter.granted = true;
+                granted.add(waiter);
+                dispatched = true;
+                break;
+            }
+        }
+        return granted;
+    }
+
+    /**
+     * 다른 클래스의 예약 몫 중 아직 쓰지 않은 실행 수 (lock 을 잡은 상태에서 호출)
+     */
+    private int reservedForOthers(WorkClass workClass) {
+        int reserved = 0;
+        for (WorkClass other : WorkClass.values()) {
+            if (other != workClass) {
+                reserved += Math.max(0, config(other).getReserved() - states.get(other).active);
+            }
+        }
+        return reserved;
+    }
+
+    private static void grant(List<Waiter> granted) {
+        for (Waiter waiter : granted) {
+            if (waiter.timeout != null) {
+                waiter.timeout.cancel(false);
+            }
+            waiter.grant.complete(null);
+        }
+    }
+
+    /**
+     * 대기 시간이 지난 작업을 대기열에서 제거하고 실패시킵니다.
+     */
+    private void expire(Waiter waiter) {
+        lock.lock();
+        try {
+            if (!states.get(waiter.workClass).queue.remove(waiter)) {
+                return;  // 그 사이 차례가 옴
+            }
+        } finally {
+            lock.unlock();
+        }
+        reject(waiter.workClass, "timeout");
+        waiter.grant.completeExceptionally(new RuntimeException("ML 서버 요청 대기 시간이 초과되었습니다."));
+    }
+
+    /**
+     * 대기를 포기한 작업을 대기열에서 제거합니다. 그 사이 허가를 받았다면 반납합니다.
+     */
+    private void abandon(Waiter waiter) {
+        lock.lock();
+        try {
+            if (!waiter.granted) {
+                states.get(waiter.workClass).queue.remove(waiter);
+                if (waiter.timeout != null) {
+                    waiter.timeout.cancel(false);
+                }
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        release(waiter.workClass);
+    }
+
+    private void recordWait(Waiter waiter) {
+        Timer.builder("ml.scheduler.queue.wait")
+                .description("ML 작업 대기 시간")
+                .tag("class", waiter.workClass.tag)
+                .register(meterRegistry)
+                .record(System.nanoTime() - waiter.enqueuedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void reject(WorkClass workClass, String reason) {
+        meterRegistry.counter("ml.scheduler.rejected", "class", workClass.tag, "reason", reason).increment();
+        log.warn("ML 작업 거절 - 클래스: {}, 사유: {}", workClass.tag, reason);
+    }
+
+    private MlSchedulerProperties.WorkClass config(WorkClass workClass) {
+        return workClass == WorkClass.CHAT ? properties.getChat() : properties.getIngestion();
+    }
+
+    /**
+     * 인증된 사용자가 있으면 사용자 이메일, 없으면(백그라운드 작업 등) 모델명으로 흐름을 구분합니다.
+     */
+    private static String flowOf(String modelName) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !"anonymousUser".equals(authentication.getPrincipal())) {
+            return authentication.getName();
+        }
+        return "model:" + modelName;
+    }
+
+    /**
+     * 우선순위 클래스 (선언 순서가 우선순위)
+     */
+    public enum WorkClass {
+        CHAT("chat"),
+        INGESTION("ingestion");
+
+        private final String tag;
+
+        WorkClass(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * 스케줄러가 실행하는 작업
+     */
+    @FunctionalInterface
+    public interface Work<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    private static class ClassState {
+        private final PriorityQueue<Waiter> queue = new PriorityQueue<>(
+                Comparator.comparingDouble((Waiter waiter) -> waiter.finishTag).thenComparingLong(waiter -> waiter.sequence));
+        private final Map<String, Double> flowFinish = new HashMap<>();
+        private double virtualTime;
+        private int active;
+    }
+
+    private static class Waiter {
+        private final WorkClass workClass;
+        private final double finishTag;
+        private final long sequence;
+        private final CompletableFuture<Void> grant = new CompletableFuture<>();
+        private final long enqueuedNanos = System.nanoTime();
+        private boolean granted;                // lock 안에서만 읽고 씀
+        private ScheduledFuture<?> timeout;
+
+        private Waiter(WorkClass workClass, double finishTag, long sequence) {
+            this.workClass = workClass;
+            this.finishTag = finishTag;
+            this.sequence = sequence;
+        }
+    }
+}
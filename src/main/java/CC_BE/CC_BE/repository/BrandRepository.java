@@ -1,13 +1,42 @@
 package CC_BE.CC_BE.repository;
 
 import CC_BE.CC_BE.domain.Brand;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 브랜드 엔티티에 대한 데이터 접근 인터페이스
  * JpaRepository를 상속받아 기본적인 CRUD 기능을 제공
  */
 @Repository
 public interface BrandRepository extends JpaRepository<Brand, Long> {
+
+    /**
+     * 모든 브랜드를 카테고리 목록과 함께 조회합니다.
+     */
+    @EntityGraph(attributePaths = "categories")
+    @Query("select distinct b from Brand b")
+    List<Brand> findAllWithCategories();
+
+    /**
+     * 브랜드를 카테고리 목록과 함께 조회합니다.
+     */
+    @EntityGraph(attributePaths = "categories")
+    @Query("select b from Brand b where b.id = :id")
+    Optional<Brand> findWithCategoriesById(@Param("id") Long id);
+
+    /**
+     * 브랜드를 삭제합니다. (엔티티를 읽지 않고, 속한 카테고리를 먼저 삭제해야 함)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from Brand b where b.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
 }
@@ -0,0 +1,163 @@
+package CC_BE.CC_BE.repository;
+
+import CC_BE.CC_BE.domain.NameKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 브랜드, 카테고리, 공용 모델 일괄 등록용 데이터 접근 클래스
+ * 엔티티는 IDENTITY 키를 사용하므로 JPA 로 저장하면 행마다 INSERT 를 따로 보내야 합니다.
+ * 여기서는 JDBC 배치 INSERT 로 저장하고, 생성된 ID 는 이름으로 한 번에 다시 조회합니다.
+ * (MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 를 주면 배치가 여러 행 INSERT 한 문장으로 전송됨)
+ * 이름은 대소문자를 구분하지 않고 비교하며, 반환하는 Map 의 key 는 {@link #normalize(String)} 한 이름입니다.
+ * 조회는 정규화한 이름을 저장한 name_key 열(인덱스)로 하므로 DB 콜레이션과 관계없이 같은 결과가 나오고 테이블을 훑지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogBulkRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 이름으로 브랜드 ID 를 조회합니다. (같은 이름이 여럿이면 먼저 생성된 브랜드)
+     */
+    public Map<String, Long> findBrandIds(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.query("select id, name_key from brand where name_key in (:names)",
+                new MapSqlParameterSource("names", normalizeAll(names)),
+                rs -> {
+                    ids.merge(rs.getString("name_key"), rs.getLong("id"), Math::min);
+                });
+        return ids;
+    }
+
+    /**
+     * 브랜드를 배치 INSERT 로 저장합니다.
+     */
+    public void insertBrands(List<String> names) {
+        SqlParameterSource[] batch = names.stream()
+                .map(name -> new MapSqlParameterSource("name", name).addValue("nameKey", normalize(name)))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("insert into brand (name, name_key) values (:name, :nameKey)", batch);
+    }
+
+    /**
+     * 브랜드 ID 와 이름으로 카테고리 ID 를 조회합니다. (같은 브랜드에 같은 이름이 여럿이면 먼저 생성된 카테고리)
+     */
+    public Map<CategoryKey, Long> findCategoryIds(Collection<Long> brandIds, Collection<String> names) {
+        Map<CategoryKey, Long> ids = new HashMap<>();
+        if (brandIds.isEmpty() || names.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.query("select id, brand_id, name_key from category where brand_id in (:brandIds) and name_key in (:names)",
+                new MapSqlParameterSource("brandIds", brandIds).addValue("names", normalizeAll(names)),
+                rs -> {
+                    CategoryKey key = new CategoryKey(rs.getLong("brand_id"), rs.getString("name_key"));
+                    ids.merge(key, rs.getLong("id"), Math::min);
+                });
+        return ids;
+    }
+
+    /**
+     * 카테고리를 배치 INSERT 로 저장합니다.
+     *
+     * @param categories 브랜드 ID 와 저장할 이름 (name 은 정규화하지 않은 원래 이름)
+     */
+    public void insertCategories(List<CategoryKey> categories) {
+        SqlParameterSource[] batch = categories.stream()
+                .map(category -> new MapSqlParameterSource("brandId", category.brandId())
+                        .addValue("name", category.name())
+                        .addValue("nameKey", normalize(category.name())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("insert into category (name, name_key, brand_id) values (:name, :nameKey, :brandId)", batch);
+    }
+
+    /**
+     * 이름으로 모델을 조회합니다. (모델명 중복 확인용, 모델의 브랜드와 카테고리 이름 포함)
+     */
+    public Map<String, ExistingModel> findModels(Collection<String> names) {
+        Map<String, ExistingModel> models = new HashMap<>();
+        if (names.isEmpty()) {
+            return models;
+        }
+        jdbcTemplate.query("""
+                        select m.name_key, m.owner_id, b.name as brand_name, c.name as category_name
+                        from product_model m
+                        left join brand b on b.id = m.brand_id
+                        left join category c on c.id = m.category_id
+                        where m.name_key in (:names)""",
+                new MapSqlParameterSource("names", normalizeAll(names)),
+                rs -> {
+                    models.putIfAbsent(rs.getString("name_key"), new ExistingModel(
+                            rs.getObject("owner_id") != null, rs.getString("brand_name"), rs.getString("category_name")));
+                });
+        return models;
+    }
+
+    /**
+     * 공용 모델을 배치 INSERT 로 저장합니다. (매뉴얼 없이 등록)
+     */
+    public void insertPublicModels(List<NewModel> models) {
+        SqlParameterSource[] batch = models.stream()
+                .map(model -> new MapSqlParameterSource("name", model.name())
+                        .addValue("nameKey", normalize(model.name()))
+                        .addValue("categoryId", model.categoryId())
+                        .addValue("brandId", model.brandId()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(
+                "insert into product_model (name, name_key, category_id, brand_id) values (:name, :nameKey, :categoryId, :brandId)", batch);
+    }
+
+    /**
+     * name_key 열이 추가되기 전에 저장된 브랜드, 카테고리, 모델의 name_key 를 채웁니다.
+     *
+     * @return 채운 행 수
+     */
+    public int backfillNameKeys() {
+        int updated = 0;
+        for (String table : new String[]{"brand", "category", "product_model"}) {
+            updated += jdbcTemplate.getJdbcTemplate()
+                    .update("update " + table + " set name_key = lower(name) where name_key is null");
+        }
+        return updated;
+    }
+
+    /**
+     * 이름 비교용 정규화 (대소문자 무시, {@link NameKey#of(String)} 와 같음)
+     */
+    public static String normalize(String name) {
+        return NameKey.of(name);
+    }
+
+    private static Set<String> normalizeAll(Collection<String> names) {
+        Set<String> normalized = new HashSet<>(names.size() * 2);
+        names.forEach(name -> normalized.add(normalize(name)));
+        return normalized;
+    }
+
+    public record CategoryKey(Long brandId, String name) {
+    }
+
+    /**
+     * @param personal 개인 모델이면 true
+     * @param brandName 공용 모델의 브랜드 이름
+     * @param categoryName 공용 모델의 카테고리 이름
+     */
+    public record ExistingModel(boolean personal, String brandName, String categoryName) {
+    }
+
+    public record NewModel(String name, Long categoryId, Long brandId) {
+    }
+}
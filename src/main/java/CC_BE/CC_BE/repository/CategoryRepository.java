@@ -3,8 +3,12 @@ package CC_BE.CC_BE.repository;
 import CC_BE.CC_BE.domain.Category;
 import CC_BE.CC_BE.domain.Brand;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,4 +23,19 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * @return 해당 브랜드의 카테고리 목록
      */
     List<Category> findByBrand(Brand brand);
+
+    /**
+     * 특정 브랜드에 속한 카테고리 ID를 조회합니다.
+     * @param brandId 조회할 브랜드의 ID
+     */
+    @Query("select c.id from Category c where c.brand.id = :brandId")
+    List<Long> findIdsByBrandId(@Param("brandId") Long brandId);
+
+    /**
+     * 카테고리들을 한 번에 삭제합니다. (속한 모델을 먼저 삭제해야 함)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from Category c where c.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
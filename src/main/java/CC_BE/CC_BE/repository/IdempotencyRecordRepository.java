@@ -0,0 +1,39 @@
+package CC_BE.CC_BE.repository;
+
+import CC_BE.CC_BE.domain.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 처리 기록에 대한 데이터 접근 인터페이스
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+    /**
+     * 처리 중인 기록을 완료 상태로 변경합니다.
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update IdempotencyRecord r set r.status = CC_BE.CC_BE.domain.IdempotencyRecord.Status.COMPLETED, " +
+            "r.productModelId = :productModelId, r.expiresAt = :expiresAt " +
+            "where r.id = :id and r.status = CC_BE.CC_BE.domain.IdempotencyRecord.Status.IN_PROGRESS")
+    int complete(@Param("id") String id,
+                 @Param("productModelId") Long productModelId,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 만료된 기록을 한 번에 삭제합니다.
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,62 @@
+package CC_BE.CC_BE.repository;
+
+import CC_BE.CC_BE.domain.ManualFileDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 매뉴얼 파일 삭제 대기열에 대한 데이터 접근 인터페이스
+ */
+@Repository
+public interface ManualFileDeletionRepository extends OutboxRepository<ManualFileDeletion> {
+
+    /**
+     * 카테고리들에 속한 모델의 매뉴얼 파일을 삭제 대기열에 기록합니다. (INSERT ... SELECT 한 번)
+     * @return 기록된 행 수
+     */
+    @Modifying
+    @Query("insert into ManualFileDeletion (storageKey, attempts, nextAttemptAt, createdAt) "
+            + "select ma.filePath, 0, :now, :now from Manual ma where ma.productModel.category.id in :categoryIds")
+    int enqueueManualFiles(@Param("categoryIds") Collection<Long> categoryIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 카테고리들에 속한 모델의 미리보기 이미지를 삭제 대기열에 기록합니다. (INSERT ... SELECT 한 번)
+     * @return 기록된 행 수
+     */
+    @Modifying
+    @Query("insert into ManualFileDeletion (storageKey, attempts, nextAttemptAt, createdAt) "
+            + "select ma.thumbnailKey, 0, :now, :now from Manual ma "
+            + "where ma.productModel.category.id in :categoryIds and ma.thumbnailKey is not null")
+    int enqueueThumbnails(@Param("categoryIds") Collection<Long> categoryIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 지금 시도할 수 있는 삭제 요청을 기록 순으로 조회합니다.
+     * @param maxAttempts 이 횟수만큼 실패한 요청은 제외 (수동 확인 대상)
+     */
+    @Override
+    @Query("select d from ManualFileDeletion d where d.nextAttemptAt <= :now and d.attempts < :maxAttempts order by d.id")
+    List<ManualFileDeletion> findDue(@Param("now") LocalDateTime now,
+                                     @Param("maxAttempts") int maxAttempts,
+                                     Pageable pageable);
+
+    /**
+     * 실패한 삭제 요청의 시도 횟수와 다음 시도 일시를 기록합니다.
+     * @return 변경된 행 수
+     */
+    @Override
+    @Transactional
+    @Modifying
+    @Query("update ManualFileDeletion d set d.attempts = d.attempts + 1, d.nextAttemptAt = :nextAttemptAt, "
+            + "d.lastError = :lastError where d.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+}
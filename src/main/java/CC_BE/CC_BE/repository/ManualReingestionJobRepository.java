@@ -0,0 +1,57 @@
+package CC_BE.CC_BE.repository;
+
+import CC_BE.CC_BE.domain.ManualReingestionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 매뉴얼 전체 재등록 작업에 대한 데이터 접근 인터페이스
+ */
+@Repository
+public interface ManualReingestionJobRepository extends JpaRepository<ManualReingestionJob, Long> {
+
+    Optional<ManualReingestionJob> findFirstByStatusOrderByIdDesc(ManualReingestionJob.Status status);
+
+    Optional<ManualReingestionJob> findFirstByOrderByIdDesc();
+
+    /**
+     * 한 배치의 처리 결과와 진행 위치를 기록합니다.
+     * 진행 중(RUNNING)인 작업만 변경하므로, 0 이 반환되면 작업이 취소된 것입니다.
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update ManualReingestionJob j set j.lastManualId = :lastManualId, "
+            + "j.processedCount = j.processedCount + :processed, j.failedCount = j.failedCount + :failed, "
+            + "j.skippedCount = j.skippedCount + :skipped, "
+            + "j.lastError = coalesce(:lastError, j.lastError), j.updatedAt = :now "
+            + "where j.id = :id and j.status = :running")
+    int checkpoint(@Param("id") Long id,
+                   @Param("lastManualId") long lastManualId,
+                   @Param("processed") long processed,
+                   @Param("failed") long failed,
+                   @Param("skipped") long skipped,
+                   @Param("lastError") String lastError,
+                   @Param("now") LocalDateTime now,
+                   @Param("running") ManualReingestionJob.Status running);
+
+    /**
+     * 진행 중인 작업을 완료 또는 취소 상태로 바꿉니다.
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update ManualReingestionJob j set j.status = :status, j.finishedAt = :now, j.updatedAt = :now "
+            + "where j.id = :id and j.status = :running")
+    int finish(@Param("id") Long id,
+               @Param("status") ManualReingestionJob.Status status,
+               @Param("now") LocalDateTime now,
+               @Param("running") ManualReingestionJob.Status running);
+}
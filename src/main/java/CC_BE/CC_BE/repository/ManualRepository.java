@@ -3,9 +3,16 @@ package CC_BE.CC_BE.repository;
 import CC_BE.CC_BE.domain.Manual;
 import CC_BE.CC_BE.domain.User;
 import CC_BE.CC_BE.domain.ProductModel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 /**
@@ -29,4 +36,73 @@ public interface ManualRepository extends JpaRepository<Manual, Long> {
     List<Manual> findByProductModel(ProductModel productModel);
 
     Optional<Manual> findByProductModelId(Long modelId);
+
+    /**
+     * 메타데이터 추출이 끝나지 않은 매뉴얼 ID를 ID 순으로 조회합니다. (백필용)
+     * @param afterId 이 ID 이후부터 조회
+     */
+    @Query("select m.id from Manual m where m.previewExtractedAt is null and m.id > :afterId order by m.id")
+    List<Long> findIdsWithoutPreview(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 매뉴얼 ID를 ID 순으로 조회합니다. (재등록 작업용 키셋 페이지네이션)
+     * @param afterId 이 ID 이후부터 조회
+     */
+    @Query("select m.id from Manual m where m.id > :afterId order by m.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 이 ID 이후의 매뉴얼 수를 조회합니다. (재등록 작업의 남은 매뉴얼 수)
+     */
+    long countByIdGreaterThan(Long afterId);
+
+    /**
+     * 카테고리들에 속한 모델의 매뉴얼을 한 번에 삭제합니다. (저장소 파일은 삭제하지 않음)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from Manual ma where ma.productModel.id in "
+            + "(select m.id from ProductModel m where m.category.id in :categoryIds)")
+    int deleteByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds);
+
+    /**
+     * 매뉴얼 파일 key 를 key 순으로 조회합니다. (고아 파일 정리용 키셋 페이지네이션)
+     * @param after 이 key 이후부터 조회
+     */
+    @Query("select distinct m.filePath from Manual m where m.filePath > :after order by m.filePath")
+    List<String> findFilePathsAfter(@Param("after") String after, Pageable pageable);
+
+    /**
+     * 미리보기 이미지 key 를 key 순으로 조회합니다. (고아 파일 정리용 키셋 페이지네이션)
+     * @param after 이 key 이후부터 조회
+     */
+    @Query("select distinct m.thumbnailKey from Manual m where m.thumbnailKey > :after order by m.thumbnailKey")
+    List<String> findThumbnailKeysAfter(@Param("after") String after, Pageable pageable);
+
+    /**
+     * 주어진 key 를 매뉴얼 파일 또는 미리보기 이미지로 사용하는 매뉴얼이 있는지 확인합니다.
+     */
+    boolean existsByFilePathOrThumbnailKey(String filePath, String thumbnailKey);
+
+    /**
+     * 주어진 ML 서버 문서를 가리키는 매뉴얼이 있는지 확인합니다.
+     * 식별자가 기록되지 않은 이전 매뉴얼은 업로드 당시의 모델명(modelName)이 식별자입니다.
+     */
+    @Query("select count(m) > 0 from Manual m where m.mlDocName = :docName "
+            + "or (m.mlDocName is null and m.modelName = :docName)")
+    boolean existsByMlDocument(@Param("docName") String docName);
+
+    /**
+     * 추출한 메타데이터를 저장합니다. (다른 컬럼은 변경하지 않음)
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Manual m set m.pageCount = :pageCount, m.title = :title, m.thumbnailKey = :thumbnailKey, "
+            + "m.previewExtractedAt = :extractedAt where m.id = :id")
+    int updatePreview(@Param("id") Long id,
+                      @Param("pageCount") Integer pageCount,
+                      @Param("title") String title,
+                      @Param("thumbnailKey") String thumbnailKey,
+                      @Param("extractedAt") LocalDateTime extractedAt);
 }
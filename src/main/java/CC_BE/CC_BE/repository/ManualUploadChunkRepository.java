@@ -0,0 +1,33 @@
+package CC_BE.CC_BE.repository;
+
+import CC_BE.CC_BE.domain.ManualUploadChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 매뉴얼 분할 업로드 청크 수신 기록에 대한 데이터 접근 인터페이스
+ */
+@Repository
+public interface ManualUploadChunkRepository extends JpaRepository<ManualUploadChunk, Long> {
+    Optional<ManualUploadChunk> findBySessionIdAndChunkIndex(String sessionId, int chunkIndex);
+
+    /**
+     * 세션에서 수신이 완료된 청크 번호 목록을 조회합니다.
+     */
+    @Query("select c.chunkIndex from ManualUploadChunk c where c.sessionId = :sessionId order by c.chunkIndex")
+    List<Integer> findChunkIndexesBySessionId(@Param("sessionId") String sessionId);
+
+    long countBySessionId(String sessionId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ManualUploadChunk c where c.sessionId = :sessionId")
+    void deleteBySessionId(@Param("sessionId") String sessionId);
+}
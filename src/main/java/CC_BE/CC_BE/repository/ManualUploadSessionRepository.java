@@ -0,0 +1,41 @@
+package CC_BE.CC_BE.repository;
+
+import CC_BE.CC_BE.domain.ManualUploadSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 매뉴얼 분할 업로드 세션에 대한 데이터 접근 인터페이스
+ */
+@Repository
+public interface ManualUploadSessionRepository extends JpaRepository<ManualUploadSession, String> {
+    /**
+     * 세션 상태를 조건부로 변경합니다. (동시에 여러 완료 요청이 들어와도 하나만 성공)
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update ManualUploadSession s set s.status = :to where s.id = :id and s.status = :from")
+    int updateStatus(@Param("id") String id,
+                     @Param("from") ManualUploadSession.Status from,
+                     @Param("to") ManualUploadSession.Status to);
+
+    /**
+     * 세션의 현재 상태를 DB 에서 조회합니다. (영속성 컨텍스트에 캐시된 엔티티와 관계없이)
+     */
+    @Query("select s.status from ManualUploadSession s where s.id = :id")
+    Optional<ManualUploadSession.Status> findStatusById(@Param("id") String id);
+
+    /**
+     * 만료된 미완료 세션을 조회합니다.
+     */
+    List<ManualUploadSession> findByExpiresAtBeforeAndStatusNot(LocalDateTime now, ManualUploadSession.Status status);
+}
@@ -0,0 +1,55 @@
+package CC_BE.CC_BE.repository;
+
+import CC_BE.CC_BE.domain.MlDocumentDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ML 서버 문서 삭제 대기열에 대한 데이터 접근 인터페이스
+ */
+@Repository
+public interface MlDocumentDeletionRepository extends OutboxRepository<MlDocumentDeletion> {
+
+    /**
+     * 카테고리들에 속한 모델의 ML 서버 문서를 삭제 대기열에 기록합니다. (INSERT ... SELECT 한 번)
+     * 문서 식별자는 {@link CC_BE.CC_BE.ml.MlDocumentNames#of(CC_BE.CC_BE.domain.Manual)} 와 같은 규칙으로 정하며,
+     * 매뉴얼이 없는 모델(카탈로그 일괄 등록 등)은 ML 서버에 문서가 없으므로 기록하지 않습니다.
+     * @return 기록된 행 수
+     */
+    @Modifying
+    @Query("insert into MlDocumentDeletion (docName, attempts, nextAttemptAt, createdAt) "
+            + "select coalesce(man.mlDocName, man.modelName), 0, :now, :now "
+            + "from ProductModel m join m.manual man where m.category.id in :categoryIds")
+    int enqueueForCategories(@Param("categoryIds") Collection<Long> categoryIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 지금 시도할 수 있는 삭제 요청을 기록 순으로 조회합니다.
+     * @param maxAttempts 이 횟수만큼 실패한 요청은 제외 (수동 확인 대상)
+     */
+    @Override
+    @Query("select d from MlDocumentDeletion d where d.nextAttemptAt <= :now and d.attempts < :maxAttempts order by d.id")
+    List<MlDocumentDeletion> findDue(@Param("now") LocalDateTime now,
+                                     @Param("maxAttempts") int maxAttempts,
+                                     Pageable pageable);
+
+    /**
+     * 실패한 삭제 요청의 시도 횟수와 다음 시도 일시를 기록합니다.
+     * @return 변경된 행 수
+     */
+    @Override
+    @Transactional
+    @Modifying
+    @Query("update MlDocumentDeletion d set d.attempts = d.attempts + 1, d.nextAttemptAt = :nextAttemptAt, "
+            + "d.lastError = :lastError where d.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+}
@@ -0,0 +1,29 @@
+package CC_BE.CC_BE.repository;
+
+import CC_BE.CC_BE.domain.OutboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 대기열(outbox) 리포지토리의 공통 메서드
+ * 각 대기열 리포지토리가 @Query 로 구현합니다.
+ */
+@NoRepositoryBean
+public interface OutboxRepository<T extends OutboxEntry> extends JpaRepository<T, Long> {
+
+    /**
+     * 지금 시도할 수 있는 항목을 기록 순으로 조회합니다.
+     * @param maxAttempts 이 횟수만큼 실패한 항목은 제외 (수동 확인 대상)
+     */
+    List<T> findDue(LocalDateTime now, int maxAttempts, Pageable pageable);
+
+    /**
+     * 실패한 항목의 시도 횟수와 다음 시도 일시를 기록합니다.
+     * @return 변경된 행 수
+     */
+    int markFailed(Long id, LocalDateTime nextAttemptAt, String lastError);
+}
@@ -4,8 +4,12 @@ import CC_BE.CC_BE.domain.ProductModel;
 import CC_BE.CC_BE.domain.User;
 import CC_BE.CC_BE.domain.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -47,4 +51,18 @@ public interface ProductModelRepository extends JpaRepository<ProductModel, Long
      * @return 존재 여부
      */
     boolean existsByName(String name);
+
+    /**
+     * 대소문자를 무시하고 같은 이름의 모델을 조회합니다. (name_key 인덱스 사용)
+     * @param nameKey {@link CC_BE.CC_BE.domain.NameKey#of(String)} 로 정규화한 모델 이름
+     */
+    List<ProductModel> findByNameKey(String nameKey);
+
+    /**
+     * 카테고리들에 속한 모델을 한 번에 삭제합니다. (매뉴얼을 먼저 삭제해야 함)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from ProductModel m where m.category.id in :categoryIds")
+    int deleteByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds);
 }
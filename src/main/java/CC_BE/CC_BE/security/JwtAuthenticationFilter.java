@@ -1,5 +1,7 @@
 package CC_BE.CC_BE.security;
 
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,19 +18,30 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final Tracer tracer;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        try {
-            String jwt = getJwtFromRequest(request);
-
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+        String jwt = getJwtFromRequest(request);
+
+        if (StringUtils.hasText(jwt)) {
+            // 토큰 검증과 사용자 조회에 걸린 시간을 요청 추적에서 구분할 수 있도록 별도 스팬으로 기록
+            Span span = tracer.nextSpan().name("jwt authentication").start();
+            try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                if (jwtTokenProvider.validateToken(jwt)) {
+                    Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    span.tag("auth.result", "authenticated");
+                } else {
+                    span.tag("auth.result", "invalid");
+                }
+            } catch (Exception ex) {
+                span.error(ex);
+                logger.error("Could not set user authentication in security context", ex);
+            } finally {
+                span.end();
             }
-        } catch (Exception ex) {
-            logger.error("Could not set user authentication in security context", ex);
         }
 
         filterChain.doFilter(request, response);
@@ -1,5 +1,6 @@
 package CC_BE.CC_BE.security;
 
+import CC_BE.CC_BE.jfr.JwtVerificationEvent;
 import io.jsonwebtoken.*;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -54,19 +55,28 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String authToken) {
+        JwtVerificationEvent event = JwtVerificationEvent.start();
         try {
             Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(authToken);
+            event.setResult("valid");
             return true;
         } catch (SignatureException ex) {
+            event.setResult("invalid-signature");
             throw new SecurityException("유효하지 않은 JWT 서명입니다.");
         } catch (MalformedJwtException ex) {
+            event.setResult("malformed");
             throw new SecurityException("유효하지 않은 JWT 토큰입니다.");
         } catch (ExpiredJwtException ex) {
+            event.setResult("expired");
             throw new SecurityException("만료된 JWT 토큰입니다.");
         } catch (UnsupportedJwtException ex) {
+            event.setResult("unsupported");
             throw new SecurityException("지원하지 않는 JWT 토큰입니다.");
         } catch (IllegalArgumentException ex) {
+            event.setResult("empty");
             throw new SecurityException("JWT 토큰이 비어있습니다.");
+        } finally {
+            event.commit();
         }
     }
 } 
\ No newline at end of file
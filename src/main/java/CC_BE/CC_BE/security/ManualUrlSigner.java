@@ -0,0 +1,136 @@
+package CC_BE.CC_BE.security;
+
+import CC_BE.CC_BE.config.ManualSignedUrlProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 매뉴얼 다운로드 URL 에 HMAC-SHA256 서명을 붙이고 검증하는 컴포넌트
+ * URL 형식: {pathPrefix}/{token}/{파일명}?expires={epochSeconds}&signature={서명}
+ * - token 은 저장소 key 를 Base64URL 로 인코딩한 값입니다.
+ * - 검증은 메모리 안에서 서명만 다시 계산하므로 DB 조회가 필요 없습니다.
+ */
+@Component
+public class ManualUrlSigner {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ManualSignedUrlProperties properties;
+    private final SecretKeySpec signingKey;
+    private final ThreadLocal<Mac> macs;
+    private final Clock clock;
+
+    public ManualUrlSigner(ManualSignedUrlProperties properties, @Value("${jwt.secret}") String jwtSecret) {
+        this.properties = properties;
+        this.signingKey = new SecretKeySpec(resolveKey(properties.getSecret(), jwtSecret), HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.clock = Clock.systemUTC();
+    }
+
+    /**
+     * 저장소 key 에 대한 서명된 다운로드 URL 을 생성합니다.
+     * 만료 시각은 expiryBucketSeconds 단위로 올림하여, 같은 구간에 발급된 URL 이 동일하도록 합니다.
+     *
+     * @param storageKey 매뉴얼 저장소 key
+     * @param fileName 다운로드 파일명
+     * @return 서명된 URL 정보
+     */
+    public SignedUrl sign(String storageKey, String fileName) {
+        long bucket = Math.max(1, properties.getExpiryBucketSeconds());
+        long minExpiry = clock.instant().getEpochSecond() + properties.getTtlSeconds();
+        long expires = (minExpiry + bucket - 1) / bucket * bucket;
+
+        String token = ENCODER.encodeToString(storageKey.getBytes(StandardCharsets.UTF_8));
+        String name = StringUtils.hasText(fileName) ? fileName : "manual.pdf";
+        String url = properties.getPathPrefix() + "/" + token + "/" + UriUtils.encodePathSegment(name, StandardCharsets.UTF_8)
+                + "?expires=" + expires + "&signature=" + signature(token, expires);
+        return new SignedUrl(url, Instant.ofEpochSecond(expires));
+    }
+
+    /**
+     * 서명과 만료 시각을 검증하고 저장소 key 를 반환합니다.
+     *
+     * @param token URL 경로의 token
+     * @param expires 만료 시각 (epoch seconds)
+     * @param signature 서명
+     * @return 유효한 경우 저장소 key, 서명이 틀리거나 만료된 경우 empty
+     */
+    public Optional<String> verify(String token, long expires, String signature) {
+        if (!StringUtils.hasText(token) || !StringUtils.hasText(signature)) {
+            return Optional.empty();
+        }
+        if (expires < clock.instant().getEpochSecond()) {
+            return Optional.empty();
+        }
+        byte[] expected = signature(token, expires).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new String(DECODER.decode(token), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 만료까지 남은 시간(초)
+     */
+    public long secondsUntil(long expires) {
+        return Math.max(0, expires - clock.instant().getEpochSecond());
+    }
+
+    private String signature(String token, long expires) {
+        Mac mac = macs.get();
+        byte[] digest = mac.doFinal((token + ":" + expires).getBytes(StandardCharsets.UTF_8));
+        return ENCODER.encodeToString(digest);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("매뉴얼 URL 서명 초기화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 별도 서명 키가 없으면 JWT 비밀키에서 용도별 키를 파생합니다. (JWT 서명 키를 그대로 재사용하지 않음)
+     */
+    private static byte[] resolveKey(String secret, String jwtSecret) {
+        if (StringUtils.hasText(secret)) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            return mac.doFinal("manual-signed-url".getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("매뉴얼 URL 서명 키 생성에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 서명된 URL
+     *
+     * @param url 서명된 상대 URL
+     * @param expiresAt 만료 시각
+     */
+    public record SignedUrl(String url, Instant expiresAt) {
+    }
+}
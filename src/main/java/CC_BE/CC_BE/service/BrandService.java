@@ -1,10 +1,8 @@
 package CC_BE.CC_BE.service;
 
 import CC_BE.CC_BE.domain.Brand;
-import CC_BE.CC_BE.domain.Category;
-import CC_BE.CC_BE.domain.ProductModel;
 import CC_BE.CC_BE.repository.BrandRepository;
-import CC_BE.CC_BE.repository.ProductModelRepository;
+import CC_BE.CC_BE.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,7 +14,8 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class BrandService {
     private final BrandRepository brandRepository;
-    private final ProductModelRepository productModelRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductModelService productModelService;
 
     /**
      * 새로운 브랜드를 생성합니다.
@@ -31,11 +30,11 @@ public class BrandService {
     }
 
     /**
-     * 모든 브랜드 목록을 조회합니다.
+     * 모든 브랜드 목록을 카테고리 목록과 함께 조회합니다.
      * @return 전체 브랜드 목록
      */
     public List<Brand> getAllBrands() {
-        return brandRepository.findAll();
+        return brandRepository.findAllWithCategories();
     }
 
     /**
@@ -49,6 +48,17 @@ public class BrandService {
                 .orElseThrow(() -> new IllegalArgumentException("Brand not found"));
     }
 
+    /**
+     * 특정 브랜드를 카테고리 목록과 함께 조회합니다.
+     * @param id 조회할 브랜드의 ID
+     * @return 조회된 브랜드 정보
+     * @throws IllegalArgumentException 브랜드를 찾을 수 없는 경우
+     */
+    public Brand getBrandWithCategories(Long id) {
+        return brandRepository.findWithCategoriesById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Brand not found"));
+    }
+
     /**
      * 특정 브랜드의 정보를 수정합니다.
      * @param id 수정할 브랜드의 ID
@@ -64,21 +74,25 @@ public class BrandService {
 
     /**
      * 특정 브랜드를 삭제합니다.
-     * 브랜드 삭제 시 연관된 카테고리와 제품 모델도 함께 삭제됩니다.
+     * 브랜드 삭제 시 연관된 카테고리와 제품 모델, 매뉴얼도 함께 삭제됩니다.
+     * 엔티티를 읽지 않고 집합 단위 SQL 로 삭제하며, 저장소 파일과 ML 서버 문서는 커밋 후 백그라운드에서 삭제됩니다.
      * @param id 삭제할 브랜드의 ID
+     * @throws IllegalArgumentException 브랜드를 찾을 수 없는 경우
      */
     @Transactional
     public void deleteBrand(Long id) {
-        Brand brand = brandRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Brand not found"));
-
-        // 브랜드에 속한 모든 카테고리의 제품 모델 삭제
-        for (Category category : brand.getCategories()) {
-            List<ProductModel> models = productModelRepository.findByCategory(category);
-            productModelRepository.deleteAll(models);
+        if (!brandRepository.existsById(id)) {
+            throw new IllegalArgumentException("Brand not found");
         }
 
-        // 브랜드 삭제 (cascade로 인해 카테고리도 자동 삭제됨)
-        brandRepository.delete(brand);
+        // 브랜드에 속한 모든 카테고리의 제품 모델과 매뉴얼 삭제
+        List<Long> categoryIds = categoryRepository.findIdsByBrandId(id);
+        productModelService.bulkDeleteByCategories(categoryIds);
+
+        // 카테고리와 브랜드 삭제
+        if (!categoryIds.isEmpty()) {
+            categoryRepository.deleteByIds(categoryIds);
+        }
+        brandRepository.bulkDeleteById(id);
     }
 }
@@ -0,0 +1,492 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.CatalogImportProperties;
+import CC_BE.CC_BE.dto.CatalogImportResponse;
+import CC_BE.CC_BE.dto.CatalogImportResponse.RowError;
+import CC_BE.CC_BE.repository.CatalogBulkRepository;
+import CC_BE.CC_BE.repository.CatalogBulkRepository.CategoryKey;
+import CC_BE.CC_BE.repository.CatalogBulkRepository.ExistingModel;
+import CC_BE.CC_BE.repository.CatalogBulkRepository.NewModel;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static CC_BE.CC_BE.repository.CatalogBulkRepository.normalize;
+
+/**
+ * 브랜드 / 카테고리 / 공용 모델 일괄 등록 서비스
+ * 새 브랜드를 등록할 때 API 를 수백 번 호출하는 대신, CSV 또는 JSONL 한 번으로 카탈로그를 등록합니다.
+ * - 각 행은 brand, category, model 열(필드)로 이루어지며, category 와 model 은 생략할 수 있습니다.
+ *   없는 브랜드와 카테고리는 만들고, 모델은 매뉴얼 없이 공용 모델로 등록합니다.
+ * - 입력은 한 줄씩 읽어 chunkSize 행마다 한 트랜잭션으로 저장하고 커밋합니다.
+ *   청크마다 이름 조회는 종류별로 한 번, 저장은 JDBC 배치 INSERT 로 하므로 행 수와 관계없이 문장 수가 일정합니다.
+ * - 이미 같은 브랜드 / 카테고리에 있는 모델은 건너뛰므로 같은 파일을 다시 가져와도 됩니다.
+ * - 형식이 잘못되었거나 다른 곳에 같은 이름의 모델이 있는 행은 실패로 보고하고 나머지 행은 계속 처리합니다.
+ * 지표: catalog.import.rows{outcome=imported|skipped|failed}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogImportService {
+    private final CatalogBulkRepository catalogBulkRepository;
+    private final CatalogImportProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 서버 시작 시 name_key 가 비어 있는 기존 브랜드, 카테고리, 모델을 채웁니다.
+     * 이름 조회는 name_key 로 하므로, 열이 추가되기 전에 저장된 행도 찾을 수 있어야 합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillNameKeys() {
+        int updated = catalogBulkRepository.backfillNameKeys();
+        if (updated > 0) {
+            log.info("이름 조회 키 채움 - {}행", updated);
+        }
+    }
+
+    /**
+     * 카탈로그를 일괄 등록합니다.
+     *
+     * @param content CSV (첫 줄은 헤더) 또는 JSONL 입력, UTF-8
+     * @param format 입력 형식
+     * @return 등록 결과
+     * @throws IllegalArgumentException CSV 헤더가 잘못된 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CatalogImportResponse importCatalog(InputStream content, Format format) throws IOException {
+        long started = System.nanoTime();
+        Report report = new Report(properties.getMaxReportedErrors());
+        int chunkSize = Math.max(1, properties.getChunkSize());
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+        RowParser parser = format == Format.CSV ? new CsvRowParser() : new JsonlRowParser();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);  // UTF-8 BOM
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            if (parser instanceof CsvRowParser csv && !csv.hasHeader()) {
+                csv.readHeader(line);
+                continue;
+            }
+            Row row;
+            try {
+                row = parser.parse(lineNumber, line);
+            } catch (IllegalArgumentException e) {
+                report.rows++;
+                report.fail(lineNumber, e.getMessage());
+                continue;
+            }
+            report.rows++;
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                importChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+
+        CatalogImportResponse response = report.toResponse((System.nanoTime() - started) / 1_000_000);
+        log.info("카탈로그 일괄 등록 완료 - 행: {}, 실패: {}, 브랜드: {}, 카테고리: {}, 모델: {} (건너뜀 {}), {}ms",
+                response.getRows(), response.getFailedRows(), response.getBrandsCreated(),
+                response.getCategoriesCreated(), response.getModelsCreated(), response.getModelsSkipped(),
+                response.getDurationMs());
+        return response;
+    }
+
+    /**
+     * 한 청크를 한 트랜잭션으로 저장합니다. 저장에 실패하면 청크 전체를 실패로 보고합니다.
+     */
+    private void importChunk(List<Row> rows, Report report) {
+        ChunkResult result;
+        try {
+            result = transactionTemplate.execute(status -> saveChunk(rows));
+        } catch (DataAccessException e) {
+            log.error("카탈로그 일괄 등록 청크 저장 실패 - 줄: {}~{}, 에러: {}",
+                    rows.get(0).line(), rows.get(rows.size() - 1).line(), e.getMessage(), e);
+            for (Row row : rows) {
+                report.fail(row.line(), "저장 중 오류가 발생했습니다.");
+            }
+            return;
+        }
+        report.add(result);
+    }
+
+    private ChunkResult saveChunk(List<Row> rows) {
+        ChunkResult result = new ChunkResult();
+
+        // 1. 형식 검사
+        List<Row> valid = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            try {
+                validate(row);
+                valid.add(row);
+            } catch (IllegalArgumentException e) {
+                result.fail(row.line(), e.getMessage());
+            }
+        }
+
+        // 2. 모델명 중복 확인 (한 번에 조회)
+        Set<String> modelNames = new LinkedHashSet<>();
+        for (Row row : valid) {
+            if (row.model() != null) {
+                modelNames.add(row.model());
+            }
+        }
+        Map<String, ExistingModel> existing = catalogBulkRepository.findModels(modelNames);
+        Map<String, Row> firstByModel = new HashMap<>();
+        List<Row> accepted = new ArrayList<>(valid.size());
+        for (Row row : valid) {
+            if (row.model() == null) {
+                accepted.add(row);
+                continue;
+            }
+            String key = normalize(row.model());
+            ExistingModel model = existing.get(key);
+            Row first = firstByModel.putIfAbsent(key, row);
+            if (model != null || first != null) {
+                boolean sameCatalog = model != null
+                        ? !model.personal() && sameName(model.brandName(), row.brand())
+                                && sameName(model.categoryName(), row.category())
+                        : sameName(first.brand(), row.brand()) && sameName(first.category(), row.category());
+                if (sameCatalog) {
+                    result.modelsSkipped++;
+                } else {
+                    result.fail(row.line(), "이미 존재하는 모델명입니다: " + row.model());
+                }
+                continue;
+            }
+            accepted.add(row);
+        }
+        if (accepted.isEmpty()) {
+            return result;
+        }
+
+        // 3. 브랜드 조회, 없는 브랜드는 배치 INSERT 후 다시 조회
+        Map<String, String> brandNames = new LinkedHashMap<>();
+        for (Row row : accepted) {
+            brandNames.putIfAbsent(normalize(row.brand()), row.brand());
+        }
+        Map<String, Long> brandIds = catalogBulkRepository.findBrandIds(brandNames.values());
+        List<String> newBrands = new ArrayList<>();
+        brandNames.forEach((key, name) -> {
+            if (!brandIds.containsKey(key)) {
+                newBrands.add(name);
+            }
+        });
+        if (!newBrands.isEmpty()) {
+            catalogBulkRepository.insertBrands(newBrands);
+            brandIds.putAll(catalogBulkRepository.findBrandIds(newBrands));
+            result.brandsCreated += newBrands.size();
+        }
+
+        // 4. 카테고리 조회, 없는 카테고리는 배치 INSERT 후 다시 조회
+        Map<CategoryKey, String> categoryNames = new LinkedHashMap<>();
+        for (Row row : accepted) {
+            if (row.category() != null) {
+                Long brandId = brandIds.get(normalize(row.brand()));
+                categoryNames.putIfAbsent(new CategoryKey(brandId, normalize(row.category())), row.category());
+            }
+        }
+        Map<CategoryKey, Long> categoryIds = new HashMap<>();
+        if (!categoryNames.isEmpty()) {
+            Set<Long> categoryBrandIds = new LinkedHashSet<>();
+            categoryNames.keySet().forEach(key -> categoryBrandIds.add(key.brandId()));
+            categoryIds.putAll(catalogBulkRepository.findCategoryIds(categoryBrandIds, categoryNames.values()));
+            List<CategoryKey> newCategories = new ArrayList<>();
+            categoryNames.forEach((key, name) -> {
+                if (!categoryIds.containsKey(key)) {
+                    newCategories.add(new CategoryKey(key.brandId(), name));
+                }
+            });
+            if (!newCategories.isEmpty()) {
+                catalogBulkRepository.insertCategories(newCategories);
+                categoryIds.putAll(catalogBulkRepository.findCategoryIds(categoryBrandIds,
+                        newCategories.stream().map(CategoryKey::name).toList()));
+                result.categoriesCreated += newCategories.size();
+            }
+        }
+
+        // 5. 모델 배치 INSERT
+        List<NewModel> newModels = new ArrayList<>();
+        for (Row row : accepted) {
+            if (row.model() != null) {
+                Long brandId = brandIds.get(normalize(row.brand()));
+                Long categoryId = categoryIds.get(new CategoryKey(brandId, normalize(row.category())));
+                newModels.add(new NewModel(row.model(), categoryId, brandId));
+            }
+        }
+        if (!newModels.isEmpty()) {
+            catalogBulkRepository.insertPublicModels(newModels);
+            result.modelsCreated += newModels.size();
+        }
+        result.imported += accepted.size();
+        return result;
+    }
+
+    private void validate(Row row) {
+        if (row.brand() == null) {
+            throw new IllegalArgumentException("브랜드 이름은 필수입니다.");
+        }
+        if (row.model() != null && row.category() == null) {
+            throw new IllegalArgumentException("모델을 등록하려면 카테고리가 필요합니다.");
+        }
+        for (String name : new String[]{row.brand(), row.category(), row.model()}) {
+            if (name != null && name.length() > properties.getMaxNameLength()) {
+                throw new IllegalArgumentException("이름은 " + properties.getMaxNameLength() + "자 이하여야 합니다: " + name);
+            }
+        }
+        if (row.model() != null) {
+            ProductModelService.validateModelNameFormat(row.model());
+        }
+    }
+
+    private static boolean sameName(String a, String b) {
+        return a != null && b != null && normalize(a).equals(normalize(b));
+    }
+
+    /**
+     * 빈 값은 생략한 것으로 봅니다.
+     */
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    public enum Format {
+        CSV, JSONL;
+
+        /**
+         * format 파라미터 또는 Content-Type 으로 입력 형식을 정합니다.
+         *
+         * @throws IllegalArgumentException 형식을 알 수 없는 경우
+         */
+        public static Format resolve(String format, String contentType) {
+            String value = format != null ? format : contentType != null ? contentType : "";
+            value = value.toLowerCase(Locale.ROOT);
+            if (value.equals("csv") || value.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (value.equals("jsonl") || value.equals("ndjson") || value.startsWith("application/x-ndjson")
+                    || value.startsWith("application/jsonl") || value.startsWith("application/json-lines")) {
+                return JSONL;
+            }
+            throw new IllegalArgumentException("입력 형식은 csv 또는 jsonl 이어야 합니다.");
+        }
+    }
+
+    private record Row(long line, String brand, String category, String model) {
+    }
+
+    private interface RowParser {
+        /**
+         * @throws IllegalArgumentException 행 형식이 잘못된 경우
+         */
+        Row parse(long line, String text);
+    }
+
+    /**
+     * 첫 줄을 헤더로 읽어 brand, category, model 열의 위치를 찾습니다.
+     * 따옴표로 감싼 값(쉼표, "" 포함)을 지원하며, 한 행은 한 줄이어야 합니다.
+     */
+    private static class CsvRowParser implements RowParser {
+        private int brandColumn = -1;
+        private int categoryColumn = -1;
+        private int modelColumn = -1;
+        private boolean header;
+
+        boolean hasHeader() {
+            return header;
+        }
+
+        /**
+         * @throws IllegalArgumentException brand 열이 없는 경우
+         */
+        void readHeader(String text) {
+            List<String> fields = split(text);
+            for (int i = 0; i < fields.size(); i++) {
+                switch (fields.get(i).trim().toLowerCase(Locale.ROOT)) {
+                    case "brand" -> brandColumn = i;
+                    case "category" -> categoryColumn = i;
+                    case "model" -> modelColumn = i;
+                    default -> {
+                    }
+                }
+            }
+            if (brandColumn < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 brand 열이 필요합니다.");
+            }
+            header = true;
+        }
+
+        @Override
+        public Row parse(long line, String text) {
+            List<String> fields = split(text);
+            return new Row(line, field(fields, brandColumn), field(fields, categoryColumn), field(fields, modelColumn));
+        }
+
+        private static String field(List<String> fields, int column) {
+            return column >= 0 && column < fields.size() ? trimToNull(fields.get(column)) : null;
+        }
+
+        private static List<String> split(String text) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나 ({"brand": ..., "category": ..., "model": ...})
+     */
+    private class JsonlRowParser implements RowParser {
+        @Override
+        public Row parse(long line, String text) {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON 형식이 잘못되었습니다.");
+            }
+            if (!node.isObject()) {
+                throw new IllegalArgumentException("각 줄은 JSON 객체여야 합니다.");
+            }
+            return new Row(line, text(node, "brand"), text(node, "category"), text(node, "model"));
+        }
+
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value != null && value.isValueNode() && !value.isNull() ? trimToNull(value.asText()) : null;
+        }
+    }
+
+    /**
+     * 한 청크의 결과 (커밋된 경우에만 전체 결과에 더함)
+     */
+    private static class ChunkResult {
+        private final List<RowError> errors = new ArrayList<>();
+        private long imported;
+        private long brandsCreated;
+        private long categoriesCreated;
+        private long modelsCreated;
+        private long modelsSkipped;
+
+        void fail(long line, String message) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    private class Report {
+        private final int maxErrors;
+        private final List<RowError> errors = new ArrayList<>();
+        private long rows;
+        private long failedRows;
+        private long brandsCreated;
+        private long categoriesCreated;
+        private long modelsCreated;
+        private long modelsSkipped;
+
+        Report(int maxErrors) {
+            this.maxErrors = Math.max(0, maxErrors);
+        }
+
+        void fail(long line, String message) {
+            failedRows++;
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(line, message));
+            }
+            count("failed", 1);
+        }
+
+        void add(ChunkResult result) {
+            result.errors.forEach(error -> fail(error.getLine(), error.getMessage()));
+            brandsCreated += result.brandsCreated;
+            categoriesCreated += result.categoriesCreated;
+            modelsCreated += result.modelsCreated;
+            modelsSkipped += result.modelsSkipped;
+            count("imported", result.imported);
+            count("skipped", result.modelsSkipped);
+        }
+
+        CatalogImportResponse toResponse(long durationMs) {
+            return CatalogImportResponse.builder()
+                    .rows(rows)
+                    .failedRows(failedRows)
+                    .brandsCreated(brandsCreated)
+                    .categoriesCreated(categoriesCreated)
+                    .modelsCreated(modelsCreated)
+                    .modelsSkipped(modelsSkipped)
+                    .durationMs(durationMs)
+                    .errors(errors)
+                    .build();
+        }
+
+        private void count(String outcome, long amount) {
+            if (amount > 0) {
+                meterRegistry.counter("catalog.import.rows", "outcome", outcome).increment(amount);
+            }
+        }
+    }
+}
@@ -2,10 +2,8 @@ package CC_BE.CC_BE.service;
 
 import CC_BE.CC_BE.domain.Brand;
 import CC_BE.CC_BE.domain.Category;
-import CC_BE.CC_BE.domain.ProductModel;
 import CC_BE.CC_BE.repository.BrandRepository;
 import CC_BE.CC_BE.repository.CategoryRepository;
-import CC_BE.CC_BE.repository.ProductModelRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,7 +17,7 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final BrandRepository brandRepository;
     private final BrandService brandService;
-    private final ProductModelRepository productModelRepository;
+    private final ProductModelService productModelService;
 
     /**
      * 모든 카테고리 목록을 조회합니다.
@@ -91,20 +89,21 @@ public class CategoryService {
 
     /**
      * 특정 카테고리를 삭제합니다.
-     * 카테고리 삭제 시 연관된 제품 모델도 함께 삭제됩니다.
-     * (제품 모델이 삭제되면 cascade 설정에 의해 매뉴얼도 자동 삭제됨)
+     * 카테고리 삭제 시 연관된 제품 모델과 매뉴얼도 함께 삭제됩니다.
+     * 엔티티를 읽지 않고 집합 단위 SQL 로 삭제하며, 저장소 파일과 ML 서버 문서는 커밋 후 백그라운드에서 삭제됩니다.
      * @param id 삭제할 카테고리의 ID
+     * @throws IllegalArgumentException 카테고리를 찾을 수 없는 경우
      */
     @Transactional
     public void deleteCategory(Long id) {
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Category not found"));
+        if (!categoryRepository.existsById(id)) {
+            throw new IllegalArgumentException("Category not found");
+        }
 
-        // 카테고리에 속한 모든 제품 모델 삭제
-        List<ProductModel> models = productModelRepository.findByCategory(category);
-        productModelRepository.deleteAll(models);
+        // 카테고리에 속한 모든 제품 모델과 매뉴얼 삭제
+        productModelService.bulkDeleteByCategories(List.of(id));
 
         // 카테고리 삭제
-        categoryRepository.delete(category);
+        categoryRepository.deleteByIds(List.of(id));
     }
 }
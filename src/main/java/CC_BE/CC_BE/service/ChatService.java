@@ -1,10 +1,14 @@
 package CC_BE.CC_BE.service;
 
+import CC_BE.CC_BE.config.MLServerProperties;
 import CC_BE.CC_BE.domain.ProductModel;
 import CC_BE.CC_BE.dto.ChatResponse;
+import CC_BE.CC_BE.ml.MlDocumentNames;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 챗봇 Q&A 기능을 제공하는 서비스 클래스
  */
@@ -13,6 +17,7 @@ import org.springframework.stereotype.Service;
 public class ChatService {
     private final ProductModelService productModelService;
     private final MLServerService mlServerService;
+    private final MLServerProperties mlServerProperties;
 
     /**
      * 사용자의 질문에 대한 답변을 생성합니다.
@@ -33,6 +38,31 @@ public class ChatService {
         }
 
         // ML 서버에 질문 전송 및 응답 수신
-        return mlServerService.askQuestion(model.getName(), question);
+        return mlServerService.askQuestion(MlDocumentNames.of(model), question);
+    }
+
+    /**
+     * 사용자의 질문에 대한 답변을 비동기로 생성합니다.
+     * 모델 조회는 호출 스레드에서 하고, ML 서버 응답은 스레드를 점유하지 않고 기다립니다.
+     * ml.server.async-chat=false 이면 기존처럼 호출 스레드에서 ML 서버 응답까지 기다립니다.
+     *
+     * @param modelId 질문할 모델의 ID
+     * @param question 사용자의 질문
+     * @return 생성된 답변과 관련 이미지
+     * @throws RuntimeException 모델을 찾을 수 없는 경우
+     */
+    public CompletableFuture<ChatResponse> processQuestionAsync(Long modelId, String question) {
+        if (!mlServerProperties.isAsyncChat()) {
+            return CompletableFuture.completedFuture(processQuestion(modelId, question));
+        }
+
+        // 모델 정보 조회
+        ProductModel model = productModelService.findById(modelId);
+        if (model == null) {
+            throw new RuntimeException("모델을 찾을 수 없습니다.");
+        }
+
+        // ML 서버에 질문 전송 (응답은 비동기로 수신)
+        return mlServerService.askQuestionAsync(MlDocumentNames.of(model), question);
     }
-} 
\ No newline at end of file
+}
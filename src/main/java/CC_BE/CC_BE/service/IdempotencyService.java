@@ -0,0 +1,200 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.IdempotencyProperties;
+import CC_BE.CC_BE.domain.IdempotencyRecord;
+import CC_BE.CC_BE.dto.ProductModelResponse;
+import CC_BE.CC_BE.repository.IdempotencyRecordRepository;
+import CC_BE.CC_BE.repository.ProductModelRepository;
+import CC_BE.CC_BE.storage.ContentHashes;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 처리 서비스
+ * 모델 생성 요청을 같은 키로 재시도하면 파일 저장과 ML 서버 등록을 다시 하지 않고 처음 생성된 모델을 돌려줍니다.
+ * 1. 처음 들어온 키는 처리 중(IN_PROGRESS)으로 기록하고 요청을 실행합니다.
+ * 2. 성공하면 생성된 모델 ID 와 함께 완료(COMPLETED)로 바꾸고, 실패하면 기록을 지워 재시도를 허용합니다.
+ *    완료 기록에 실패하면 키가 처리 중으로 남지 않도록 기록을 지웁니다. (모델은 이미 생성되었으므로 응답은 성공)
+ * 3. 완료된 키로 같은 요청이 오면 저장된 모델을 조회하여 돌려줍니다.
+ *    그 모델이 삭제되었으면 IdempotentResultGoneException (410)
+ * 4. 처리 중인 키로 요청이 오면 IllegalStateException, 같은 키로 다른 요청이 오면 IllegalArgumentException
+ * 지표: idempotency.requests{outcome=new|replayed|gone|in_progress|mismatch}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyProperties properties;
+    private final ProductModelRepository productModelRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Idempotency-Key 를 적용하여 모델 생성 요청을 실행합니다.
+     *
+     * @param key Idempotency-Key 헤더 값 (없으면 그대로 실행)
+     * @param userId 요청한 사용자의 ID (키는 사용자별로 구분)
+     * @param requestParts 요청 내용 (작업, 모델명, 파일명 등 - 같은 키의 다른 요청을 구분하는 데 사용)
+     * @param create 모델 생성 작업
+     * @return 생성(또는 재시도 시 처음 생성된) 모델과 재사용 여부
+     * @throws IdempotentResultGoneException 완료된 키의 모델이 삭제된 경우
+     */
+    public Result createOnce(String key, Long userId, Object[] requestParts, Supplier<ProductModelResponse> create) {
+        if (key == null || key.isBlank()) {
+            return new Result(create.get(), false);
+        }
+        if (key.length() > properties.getMaxKeyLength()) {
+            throw new IllegalArgumentException("Idempotency-Key 는 " + properties.getMaxKeyLength() + "자 이하여야 합니다.");
+        }
+
+        String id = sha256(userId + ":" + key);
+        String requestHash = sha256(requestHashSource(requestParts));
+        Optional<Long> previous = claim(id, requestHash);
+        if (previous.isPresent()) {
+            return replay(previous.get());
+        }
+
+        count("new");
+        ProductModelResponse response;
+        try {
+            response = create.get();
+        } catch (RuntimeException e) {
+            // 실패한 요청은 같은 키로 다시 시도할 수 있도록 기록 삭제
+            try {
+                idempotencyRecordRepository.deleteById(id);
+            } catch (RuntimeException releaseFailure) {
+                e.addSuppressed(releaseFailure);
+            }
+            throw e;
+        }
+        complete(id, response.getId());
+        return new Result(response, false);
+    }
+
+    /**
+     * 만료된 기록을 주기적으로 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:3600000}")
+    public void cleanupExpiredRecords() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key 기록 {}개 정리 완료", deleted);
+        }
+    }
+
+    private Result replay(Long productModelId) {
+        Optional<ProductModelResponse> model = productModelRepository.findById(productModelId)
+                .map(ProductModelResponse::from);
+        if (model.isEmpty()) {
+            count("gone");
+            log.info("Idempotency-Key 재요청 - 처음 생성된 모델이 삭제됨, 모델 ID: {}", productModelId);
+            throw new IdempotentResultGoneException(
+                    "이 Idempotency-Key 로 생성된 모델이 삭제되었습니다. 새 Idempotency-Key 로 다시 요청해주세요.");
+        }
+        count("replayed");
+        log.info("Idempotency-Key 재요청 - 기존 모델 반환, 모델 ID: {}", productModelId);
+        return new Result(model.get(), true);
+    }
+
+    /**
+     * 키를 완료로 기록합니다. 기록하지 못하면 키가 처리 중(409)으로 남지 않도록 기록을 지웁니다.
+     * 모델은 이미 생성되었으므로 예외를 던지지 않습니다. (같은 키로 재시도하면 모델명 중복으로 거절됨)
+     */
+    private void complete(String id, Long productModelId) {
+        try {
+            int updated = idempotencyRecordRepository.complete(id, productModelId,
+                    LocalDateTime.now().plusHours(properties.getTtlHours()));
+            if (updated == 0) {
+                log.warn("Idempotency-Key 완료 기록 대상 없음 (처리 중 기록이 만료됨) - 모델 ID: {}", productModelId);
+            }
+        } catch (RuntimeException e) {
+            log.error("Idempotency-Key 완료 기록 실패 - 모델 ID: {}, 에러: {}", productModelId, e.getMessage());
+            try {
+                idempotencyRecordRepository.deleteById(id);
+            } catch (RuntimeException releaseFailure) {
+                log.error("Idempotency-Key 기록 삭제 실패 - 처리 중 시간 초과 후 재사용 가능, 에러: {}",
+                        releaseFailure.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 키를 처리 중으로 기록합니다. 이미 완료된 키면 생성된 모델 ID 를 반환합니다.
+     */
+    private Optional<Long> claim(String id, String requestHash) {
+        try {
+            return transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findById(id);
+                if (existing.isPresent()) {
+                    IdempotencyRecord record = existing.get();
+                    if (!record.getExpiresAt().isBefore(now)) {
+                        if (!record.getRequestHash().equals(requestHash)) {
+                            count("mismatch");
+                            throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+                        }
+                        if (record.getStatus() == IdempotencyRecord.Status.COMPLETED) {
+                            return Optional.of(record.getProductModelId());
+                        }
+                        count("in_progress");
+                        throw new IllegalStateException("같은 Idempotency-Key 의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+                    }
+                    // 만료된 기록 (완료 후 보관 기간이 지났거나, 처리 중에 중단됨)
+                    idempotencyRecordRepository.delete(record);
+                    idempotencyRecordRepository.flush();
+                }
+
+                idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                        .id(id)
+                        .requestHash(requestHash)
+                        .status(IdempotencyRecord.Status.IN_PROGRESS)
+                        .createdAt(now)
+                        .expiresAt(now.plusMinutes(properties.getInProgressTimeoutMinutes()))
+                        .build());
+                return Optional.<Long>empty();
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키의 요청이 동시에 들어와 다른 요청이 먼저 기록함
+            count("in_progress");
+            throw new IllegalStateException("같은 Idempotency-Key 의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("idempotency.requests", "outcome", outcome).increment();
+    }
+
+    private static String requestHashSource(Object[] requestParts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : requestParts) {
+            source.append(Objects.toString(part, "")).append('\n');
+        }
+        return source.toString();
+    }
+
+    private static String sha256(String value) {
+        MessageDigest digest = ContentHashes.sha256();
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        return ContentHashes.toHex(digest);
+    }
+
+    /**
+     * @param model 생성된 모델
+     * @param replayed 이전 요청의 결과를 다시 돌려준 경우 true
+     */
+    public record Result(ProductModelResponse model, boolean replayed) {
+    }
+}
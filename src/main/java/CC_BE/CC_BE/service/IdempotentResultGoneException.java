@@ -0,0 +1,15 @@
+package CC_BE.CC_BE.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 완료된 Idempotency-Key 로 재요청했지만 처음 생성된 모델이 그 사이 삭제된 경우 발생하는 예외 (410 응답)
+ * 같은 키로는 다시 생성하지 않으므로, 새 키로 요청해야 합니다.
+ */
+@ResponseStatus(HttpStatus.GONE)
+public class IdempotentResultGoneException extends RuntimeException {
+    public IdempotentResultGoneException(String message) {
+        super(message);
+    }
+}
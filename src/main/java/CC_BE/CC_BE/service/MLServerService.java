@@ -1,24 +1,43 @@
 package CC_BE.CC_BE.service;
 
 import CC_BE.CC_BE.config.MLServerProperties;
+import CC_BE.CC_BE.datasource.RemoteCallGuard;
 import CC_BE.CC_BE.dto.ChatResponse;
 import CC_BE.CC_BE.dto.MLServerChatResponse;
+import CC_BE.CC_BE.jfr.MlCallEvent;
+import CC_BE.CC_BE.ml.MlEndpointPool;
+import CC_BE.CC_BE.ml.MlWorkScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * ML 서버와의 통신을 담당하는 서비스 클래스
@@ -28,43 +47,84 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class MLServerService {
     private final RestTemplate mlServerRestTemplate;
+    private final HttpClient mlServerHttpClient;
+    private final ObjectMapper objectMapper;
+    private final Propagator propagator;
     private final MLServerProperties mlServerProperties;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+    private final RemoteCallGuard remoteCallGuard;
+    private final MlEndpointPool mlEndpointPool;
+    private final MlWorkScheduler mlWorkScheduler;
     private static final Logger log = LoggerFactory.getLogger(MLServerService.class);
 
     /**
      * 매뉴얼 PDF 파일을 ML 서버에 업로드하고 처리를 요청합니다.
      * 
      * @param file 업로드할 PDF 파일
-     * @param modelName 모델의 이름 (ML 서버에서 문서 식별자로 사용)
+     * @param modelName ML 서버 문서 식별자 (MlDocumentNames 규칙)
      * @return ML 서버의 처리 성공 여부
      * @throws IOException 파일 처리 중 오류 발생 시
      */
     public boolean uploadManualToMLServer(MultipartFile file, String modelName) throws IOException {
-        String url = mlServerProperties.getUrl() + "/api/manuals/upload";
+        log.info("Content-Type: {}", file.getContentType());
+        return uploadManualToMLServer(file.getResource(), modelName);
+    }
+
+    /**
+     * 매뉴얼 PDF 파일을 ML 서버에 업로드하고 처리를 요청합니다.
+     * 분할 업로드로 조립된 파일처럼 MultipartFile 이 아닌 파일에도 사용합니다.
+     * 매뉴얼 등록(ingestion) 클래스로 스케줄링되며, 파일 크기(MB)를 비용으로 사용합니다.
+     * 
+     * @param file 업로드할 PDF 파일 (getFilename() 이 원본 파일명을 반환해야 함)
+     * @param modelName ML 서버 문서 식별자 (MlDocumentNames 규칙)
+     * @return ML 서버의 처리 성공 여부
+     * @throws IOException 파일 처리 중 오류 발생 시
+     */
+    public boolean uploadManualToMLServer(Resource file, String modelName) throws IOException {
+        remoteCallGuard.check("ml.upload");
+        double cost = Math.max(1.0, file.contentLength() / (1024.0 * 1024.0));
+        return mlWorkScheduler.execute(MlWorkScheduler.WorkClass.INGESTION, modelName, cost,
+                () -> upload(file, modelName));
+    }
+
+    private boolean upload(Resource file, String modelName) throws IOException {
         log.info("ML 서버로 파일 업로드 요청 시작");
-        log.info("URL: {}", url);
         log.info("모델명: {}", modelName);
-        log.info("파일명: {}", file.getOriginalFilename());
-        log.info("파일 크기: {} bytes", file.getSize());
-        log.info("Content-Type: {}", file.getContentType());
+        log.info("파일명: {}", file.getFilename());
+        log.info("파일 크기: {} bytes", file.contentLength());
 
-        try {
+        Span span = mlSpan("upload", modelName).tag("ml.file.size", String.valueOf(file.contentLength()));
+        MlCallEvent event = MlCallEvent.start("upload", modelName);
+        event.setRequestBytes(file.contentLength());
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
             headers.add("x-api-key", mlServerProperties.getApiKey());
             log.info("요청 헤더 설정 완료: {}", headers);
 
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", file.getResource());
+            body.add("file", file);
             body.add("doc_name", modelName);
             log.info("요청 바디 설정 완료");
 
             HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
+
+            // 요청을 보낼 ML 서버 선택
+            MlEndpointPool.Endpoint endpoint = mlEndpointPool.acquire("upload", modelName);
+            String url = endpoint.getUrl() + "/api/manuals/upload";
+            span.tag("ml.endpoint", endpoint.getUrl());
             log.info("ML 서버로 요청 전송 시작");
+            log.info("URL: {}", url);
 
+            Timer.Sample sample = Timer.start(meterRegistry);
+            long started = System.nanoTime();
+            String outcome = "error";
+            boolean responded = false;
             try {
                 ResponseEntity<MLServerResponse> response = mlServerRestTemplate.postForEntity(
                         url, requestEntity, MLServerResponse.class);
+                responded = true;
                 
                 log.info("ML 서버 응답 수신");
                 log.info("응답 상태 코드: {}", response.getStatusCode());
@@ -78,33 +138,116 @@ public class MLServerService {
                 );
                 
                 log.info("ML 서버 처리 결과: {}", success ? "성공" : "실패");
+                outcome = success ? "success" : "failure";
+                span.tag("ml.outcome", outcome);
+                event.setOutcome(outcome);
                 return success;
             } catch (Exception e) {
+                responded |= e instanceof HttpClientErrorException;  // 4xx 는 요청의 문제이므로 서버 장애로 보지 않음
                 log.error("ML 서버 요청 중 예외 발생: {}", e.getMessage());
                 log.error("상세 에러: ", e);
                 throw new RuntimeException("ML 서버 통신 실패: " + e.getMessage(), e);
+            } finally {
+                sample.stop(mlTimer("upload", outcome, endpoint));
+                mlEndpointPool.release(endpoint, "upload", System.nanoTime() - started, responded);
             }
         } catch (Exception e) {
             log.error("ML 서버 요청 준비 중 예외 발생", e);
+            span.error(e);
             throw e;
+        } finally {
+            span.end();
+            event.commit();
+        }
+    }
+
+    /**
+     * ML 서버에서 문서를 삭제합니다.
+     * 매뉴얼 등록(ingestion) 클래스로 스케줄링되어 챗봇 요청보다 나중에 실행됩니다.
+     * 이미 없는 문서(404)는 삭제된 것으로 봅니다.
+     *
+     * @param docName 삭제할 문서 식별자
+     * @throws RuntimeException ML 서버 통신에 실패한 경우
+     */
+    public void deleteDocument(String docName) {
+        remoteCallGuard.check("ml.delete");
+        mlWorkScheduler.execute(MlWorkScheduler.WorkClass.INGESTION, docName, 1.0, () -> {
+            delete(docName);
+            return null;
+        });
+    }
+
+    private void delete(String docName) {
+        Span span = mlSpan("delete", docName);
+        MlCallEvent event = MlCallEvent.start("delete", docName);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.add("x-api-key", mlServerProperties.getApiKey());
+
+            MlEndpointPool.Endpoint endpoint = mlEndpointPool.acquire("delete", docName);
+            span.tag("ml.endpoint", endpoint.getUrl());
+            Timer.Sample sample = Timer.start(meterRegistry);
+            long started = System.nanoTime();
+            String outcome = "error";
+            boolean responded = false;
+            try {
+                mlServerRestTemplate.exchange(endpoint.getUrl() + mlServerProperties.getDeletePath(),
+                        HttpMethod.DELETE, new HttpEntity<>(headers), Void.class, docName);
+                responded = true;
+                outcome = "success";
+            } catch (HttpClientErrorException.NotFound e) {
+                responded = true;
+                outcome = "success";
+                log.debug("ML 서버에 이미 없는 문서 - 문서: {}", docName);
+            } catch (RuntimeException e) {
+                responded |= e instanceof HttpClientErrorException;  // 4xx 는 요청의 문제이므로 서버 장애로 보지 않음
+                throw new RuntimeException("ML 서버 문서 삭제 실패: " + e.getMessage(), e);
+            } finally {
+                span.tag("ml.outcome", outcome);
+                event.setOutcome(outcome);
+                sample.stop(mlTimer("delete", outcome, endpoint));
+                mlEndpointPool.release(endpoint, "delete", System.nanoTime() - started, responded);
+            }
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+            event.commit();
         }
     }
 
     /**
      * 챗봇 질문을 ML 서버에 전송하고 응답을 받아옵니다.
      * 
-     * @param modelName 질문할 모델의 이름
+     * 챗봇(chat) 클래스로 스케줄링되어 매뉴얼 등록보다 먼저 실행됩니다.
+     * 
+     * @param modelName 질문할 모델의 ML 서버 문서 식별자 (MlDocumentNames 규칙)
      * @param question 사용자의 질문
      * @return ML 서버의 응답 (텍스트 답변과 이미지 포함)
      */
     public ChatResponse askQuestion(String modelName, String question) {
-        String url = mlServerProperties.getUrl() + "/api/chat/manual";
+        remoteCallGuard.check("ml.chat");
+        return mlWorkScheduler.execute(MlWorkScheduler.WorkClass.CHAT, modelName, 1.0,
+                () -> ask(modelName, question));
+    }
+
+    private ChatResponse ask(String modelName, String question) {
+        MlEndpointPool.Endpoint endpoint = mlEndpointPool.acquire("chat", modelName);
+        String url = endpoint.getUrl() + "/api/chat/manual";
         log.info("ML 서버로 챗봇 질문 요청 시작");
         log.info("URL: {}", url);
         log.info("모델명: {}", modelName);
         log.info("질문: {}", question);
 
-        try {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long started = System.nanoTime();
+        String outcome = "error";
+        boolean responded = false;
+        Span span = mlSpan("chat", modelName).tag("ml.endpoint", endpoint.getUrl());
+        MlCallEvent event = MlCallEvent.start("chat", modelName);
+        event.setRequestBytes(question != null ? question.length() : 0);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.add("x-api-key", mlServerProperties.getApiKey());
@@ -121,6 +264,7 @@ public class MLServerService {
 
             ResponseEntity<MLServerChatResponse> response = mlServerRestTemplate.postForEntity(
                     url, requestEntity, MLServerChatResponse.class);
+            responded = true;
             
             log.info("ML 서버 응답 수신");
             log.info("응답 상태 코드: {}", response.getStatusCode());
@@ -128,10 +272,17 @@ public class MLServerService {
             log.info("응답 바디: {}", response.getBody());
 
             if (response.getBody() == null) {
+                outcome = "failure";
+                span.tag("ml.outcome", outcome);
+                event.setOutcome(outcome);
                 throw new RuntimeException("ML 서버로부터 응답을 받지 못했습니다.");
             }
 
+            outcome = "success";
+            span.tag("ml.outcome", outcome);
             MLServerChatResponse mlResponse = response.getBody();
+            event.setOutcome(outcome);
+            event.setResponseBytes(responseSize(mlResponse));
             log.info("ML 서버 응답 변환 완료 - message: {}, answer 길이: {}, 이미지 개수: {}", 
                 mlResponse.getMessage(),
                 mlResponse.getAnswer() != null ? mlResponse.getAnswer().length() : 0,
@@ -139,11 +290,141 @@ public class MLServerService {
 
             return ChatResponse.fromMLServerResponse(mlResponse);
         } catch (Exception e) {
+            responded |= e instanceof HttpClientErrorException;
             log.error("ML 서버 챗봇 요청 중 예외 발생", e);
+            span.error(e);
             throw new RuntimeException("ML 서버와 통신 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } finally {
+            sample.stop(mlTimer("chat", outcome, endpoint));
+            mlEndpointPool.release(endpoint, "chat", System.nanoTime() - started, responded);
+            span.end();
+            event.commit();
         }
     }
 
+    /**
+     * 챗봇 질문을 ML 서버에 비동기로 전송합니다.
+     * 스케줄러 대기와 ML 서버 응답 대기 동안 호출 스레드를 점유하지 않습니다.
+     * 
+     * @param modelName 질문할 모델의 ML 서버 문서 식별자 (MlDocumentNames 규칙)
+     * @param question 사용자의 질문
+     * @return ML 서버의 응답 (실패 시 RuntimeException 으로 완료)
+     */
+    public CompletableFuture<ChatResponse> askQuestionAsync(String modelName, String question) {
+        remoteCallGuard.check("ml.chat");
+        return mlWorkScheduler.executeAsync(MlWorkScheduler.WorkClass.CHAT, modelName, 1.0,
+                () -> askAsync(modelName, question));
+    }
+
+    private CompletableFuture<ChatResponse> askAsync(String modelName, String question) {
+        MlEndpointPool.Endpoint endpoint = mlEndpointPool.acquire("chat", modelName);
+        String url = endpoint.getUrl() + "/api/chat/manual";
+        log.info("ML 서버로 챗봇 질문 비동기 요청 - URL: {}, 모델명: {}", url, modelName);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long started = System.nanoTime();
+        Span span = mlSpan("chat", modelName).tag("ml.endpoint", endpoint.getUrl());
+        MlCallEvent event = MlCallEvent.start("chat", modelName);
+        event.setRequestBytes(question != null ? question.length() : 0);
+
+        CompletableFuture<HttpResponse<byte[]>> call;
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(Map.of(
+                "doc_name", modelName,
+                "question", question
+            ));
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofMinutes(5))
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .header("x-api-key", mlServerProperties.getApiKey())
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+            propagator.inject(span.context(), request, HttpRequest.Builder::header);  // traceparent 전달
+            call = mlServerHttpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (Exception e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+
+        return call.handle((response, error) -> {
+            String outcome = "error";
+            boolean responded = response != null && response.statusCode() < 500;  // 4xx 는 서버 장애로 보지 않음
+            try {
+                if (error != null) {
+                    throw new RuntimeException("ML 서버와 통신 중 오류가 발생했습니다: " + error.getMessage(), error);
+                }
+                if (response.statusCode() >= 400) {
+                    throw new RuntimeException("ML 서버와 통신 중 오류가 발생했습니다: " + response.statusCode());
+                }
+                MLServerChatResponse mlResponse = response.body().length > 0
+                        ? objectMapper.readValue(response.body(), MLServerChatResponse.class)
+                        : null;
+                if (mlResponse == null) {
+                    outcome = "failure";
+                    throw new RuntimeException("ML 서버로부터 응답을 받지 못했습니다.");
+                }
+
+                outcome = "success";
+                event.setResponseBytes(responseSize(mlResponse));
+                log.info("ML 서버 비동기 응답 수신 - 모델명: {}, answer 길이: {}, 이미지 개수: {}", modelName,
+                    mlResponse.getAnswer() != null ? mlResponse.getAnswer().length() : 0,
+                    mlResponse.getImages() != null ? mlResponse.getImages().size() : 0);
+                return ChatResponse.fromMLServerResponse(mlResponse);
+            } catch (IOException e) {
+                log.error("ML 서버 챗봇 응답 변환 실패", e);
+                span.error(e);
+                throw new RuntimeException("ML 서버 응답을 처리하지 못했습니다: " + e.getMessage(), e);
+            } catch (RuntimeException e) {
+                log.error("ML 서버 챗봇 비동기 요청 실패 - 모델명: {}, 에러: {}", modelName, e.getMessage());
+                span.error(e);
+                throw e;
+            } finally {
+                span.tag("ml.outcome", outcome);
+                event.setOutcome(outcome);
+                sample.stop(mlTimer("chat", outcome, endpoint));
+                mlEndpointPool.release(endpoint, "chat", System.nanoTime() - started, responded);
+                span.end();
+                event.commit();
+            }
+        });
+    }
+
+    /**
+     * ML 서버 호출 시간 지표 (ml.server.requests{operation, outcome, endpoint})
+     * outcome: success(정상 처리), failure(응답은 받았으나 처리 실패), error(통신 오류)
+     */
+    private Timer mlTimer(String operation, String outcome, MlEndpointPool.Endpoint endpoint) {
+        return Timer.builder("ml.server.requests")
+                .description("ML 서버 호출 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("endpoint", endpoint.getUrl())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 챗봇 응답의 대략적인 크기 (답변 + base64 이미지 문자 수)
+     */
+    private static long responseSize(MLServerChatResponse response) {
+        long size = response.getAnswer() != null ? response.getAnswer().length() : 0;
+        if (response.getImages() != null) {
+            for (String image : response.getImages()) {
+                size += image != null ? image.length() : 0;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * ML 서버 호출 스팬을 시작합니다.
+     * 스팬 안에서 실행되는 HTTP 요청은 하위 스팬이 되고, 추적 헤더가 ML 서버로 전달됩니다.
+     */
+    private Span mlSpan(String operation, String modelName) {
+        return tracer.nextSpan()
+                .name("ml " + operation)
+                .tag("ml.operation", operation)
+                .tag("ml.doc_name", modelName != null ? modelName : "")
+                .start();
+    }
+
     /**
      * ML 서버의 매뉴얼 업로드 응답을 담는 내부 클래스
      */
@@ -0,0 +1,607 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.ManualBulkIngestionProperties;
+import CC_BE.CC_BE.domain.Category;
+import CC_BE.CC_BE.dto.ManualBulkIngestionResponse;
+import CC_BE.CC_BE.dto.ManualBulkIngestionResponse.Entry;
+import CC_BE.CC_BE.repository.CategoryRepository;
+import CC_BE.CC_BE.service.ProductModelService.ManualIngestion;
+import CC_BE.CC_BE.storage.StoredManualFile;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 압축 파일(ZIP) 매뉴얼 일괄 등록 서비스
+ * 초기 카탈로그를 등록할 때 모델마다 요청을 보내는 대신, PDF 여러 개와 매니페스트를 담은 ZIP 하나로 공용 모델을 등록합니다.
+ * - 압축 파일의 첫 항목은 manifest.json 이며, 각 PDF 의 모델명과 카테고리를 지정합니다.
+ *   [{"file": "washer/AC-100.pdf", "model": "AC-100", "categoryId": 3}, ...]
+ * - 요청 스레드는 압축 파일을 임시 파일로 받고 매니페스트를 검사한 뒤 작업 ID 를 돌려줍니다.
+ *   등록은 백그라운드 작업으로 진행되며, 진행 상황과 항목별 결과는 작업 ID 로 조회합니다.
+ * - 작업은 임시 파일을 항목 순서대로 읽어 각 PDF 를 바로 매뉴얼 저장소에 저장하므로 압축을 디스크에 풀지 않습니다.
+ * - 저장한 매뉴얼의 ML 서버 등록과 DB 저장은 작업 스레드(concurrency 개)가 나누어 처리합니다.
+ *   등록을 기다리는 매뉴얼이 maxPending 개를 넘으면 압축 파일 읽기를 멈추므로 저장소에 쌓이는 파일 수가 제한됩니다.
+ * - 카탈로그 일괄 등록으로 매뉴얼 없이 만든 모델은 같은 카테고리이면 새로 만들지 않고 매뉴얼을 연결합니다.
+ * - 항목마다 결과(CREATED, ATTACHED, FAILED, SKIPPED)를 기록하며, 실패한 항목이 있어도 나머지는 계속 처리합니다.
+ * 작업은 한 번에 하나만 실행하고, 작업 상태는 이 서버의 메모리에만 보관합니다. (최근 retainedJobs 개)
+ * 서버가 재시작되면 진행 중이던 작업은 사라지며, 남은 임시 파일은 시작 시 삭제합니다.
+ * (저장만 하고 등록하지 못한 매뉴얼 파일은 고아 파일 정리가 삭제)
+ * 지표: manual.bulk.entries{outcome=created|attached|failed|skipped}
+ */
+@Slf4j
+@Service
+public class ManualBulkIngestionService implements DisposableBean {
+    private static final String MANIFEST_NAME = "manifest.json";
+
+    private final ProductModelService productModelService;
+    private final ManualService manualService;
+    private final CategoryRepository categoryRepository;
+    private final ManualBulkIngestionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Path tempDir;
+
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+    private final AtomicInteger workerIndex = new AtomicInteger();
+    private Job current;
+
+    public ManualBulkIngestionService(ProductModelService productModelService,
+                                      ManualService manualService,
+                                      CategoryRepository categoryRepository,
+                                      ManualBulkIngestionProperties properties,
+                                      ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${file.upload-dir:uploads}") String uploadDir) {
+        this.productModelService = productModelService;
+        this.manualService = manualService;
+        this.categoryRepository = categoryRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.tempDir = (StringUtils.hasText(properties.getTempDir())
+                ? Paths.get(properties.getTempDir())
+                : Paths.get(uploadDir, "bulk-archives")).toAbsolutePath();
+    }
+
+    /**
+     * 압축 파일을 받아 매니페스트를 검사하고 일괄 등록 작업을 시작합니다.
+     *
+     * @param archive ZIP 파일 내용 (첫 항목은 manifest.json)
+     * @return 작업 상태 (RUNNING)
+     * @throws IllegalArgumentException ZIP 파일이 아니거나 매니페스트가 잘못된 경우, 압축 파일이 너무 큰 경우
+     * @throws IllegalStateException 이미 진행 중인 일괄 등록 작업이 있는 경우
+     * @throws IOException 압축 파일을 받는 중 오류 발생 시
+     */
+    public ManualBulkIngestionResponse start(InputStream archive) throws IOException {
+        String jobId = UUID.randomUUID().toString();
+        Path file = tempDir.resolve(jobId + ".zip");
+        synchronized (this) {
+            if (current != null) {
+                throw new IllegalStateException("이미 진행 중인 일괄 등록 작업이 있습니다. 작업 ID: " + current.id);
+            }
+            // 압축 파일을 받는 동안 다른 요청이 시작하지 못하도록 자리를 잡아 둠
+            current = new Job(jobId, file, null, List.of(), Map.of());
+        }
+
+        ZipInputStream zip = null;
+        try {
+            Files.createDirectories(tempDir);
+            try {
+                Files.copy(new EntryInputStream(archive, properties.getMaxArchiveSize()), file);
+            } catch (EntryTooLargeException e) {
+                throw new IllegalArgumentException("압축 파일은 " + properties.getMaxArchiveSize() + " bytes 이하여야 합니다.");
+            }
+            long size = Files.size(file);
+            zip = new ZipInputStream(Files.newInputStream(file), StandardCharsets.UTF_8);
+            List<Item> items = readManifest(zip);
+            Map<String, Item> byFile = validate(items);
+
+            Job job = new Job(jobId, file, zip, items, byFile);
+            synchronized (this) {
+                current = job;
+                jobs.put(jobId, job);
+                while (jobs.size() > Math.max(1, properties.getRetainedJobs())) {
+                    jobs.remove(jobs.keySet().iterator().next());
+                }
+                job.thread = new Thread(() -> execute(job), "manual-bulk-" + jobId.substring(0, 8));
+                job.thread.setDaemon(true);
+                job.thread.start();
+            }
+            log.info("매뉴얼 일괄 등록 작업 시작 - 작업 ID: {}, 항목: {}, 압축 파일: {} bytes", jobId, items.size(), size);
+            return job.toResponse();
+        } catch (IOException | RuntimeException e) {
+            if (zip != null) {
+                zip.close();
+            }
+            Files.deleteIfExists(file);
+            synchronized (this) {
+                current = null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 일괄 등록 작업의 진행 상황을 조회합니다. 끝난 작업은 항목별 결과를 포함합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태 (없거나 보관 기간이 지난 작업이면 빈 값)
+     */
+    public synchronized Optional<ManualBulkIngestionResponse> getStatus(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toResponse);
+    }
+
+    /**
+     * 서버 시작 시 이전 실행에서 남은 임시 파일을 삭제합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void deleteLeftoverArchives() {
+        if (!Files.isDirectory(tempDir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(tempDir)) {
+            files.filter(path -> path.getFileName().toString().endsWith(".zip")).forEach(path -> {
+                synchronized (this) {
+                    if (current != null && path.equals(current.file)) {
+                        return;
+                    }
+                }
+                try {
+                    Files.deleteIfExists(path);
+                    log.info("매뉴얼 일괄 등록 - 남은 임시 파일 삭제: {}", path);
+                } catch (IOException e) {
+                    log.warn("매뉴얼 일괄 등록 - 임시 파일 삭제 실패: {}, 에러: {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.warn("매뉴얼 일괄 등록 - 임시 디렉토리 조회 실패: {}, 에러: {}", tempDir, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 진행 중인 작업의 압축 파일 읽기를 멈춥니다. 이미 저장한 항목은 등록을 마칩니다.
+     */
+    @Override
+    public void destroy() {
+        Job job;
+        synchronized (this) {
+            job = current;
+        }
+        if (job != null && job.thread != null) {
+            job.thread.interrupt();
+        }
+    }
+
+    /**
+     * 작업 스레드: 압축 파일을 항목 순서대로 읽어 저장하고, 등록은 등록 스레드에 맡깁니다.
+     */
+    private void execute(Job job) {
+        int concurrency = Math.max(1, properties.getConcurrency());
+        Semaphore slots = new Semaphore(concurrency + Math.max(0, properties.getMaxPending()));
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "manual-bulk-worker-" + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ZipInputStream zip = job.zip;
+        String archiveError = null;
+        try {
+            ZipEntry zipEntry;
+            while ((zipEntry = nextFileEntry(zip)) != null) {
+                String path = normalizePath(zipEntry.getName());
+                Item item = job.byFile.get(path);
+                if (item == null || item.started) {
+                    job.extras.add(skipped(path, item == null
+                            ? "매니페스트에 없는 파일입니다." : "압축 파일에 같은 파일이 여러 번 있습니다."));
+                    continue;
+                }
+                item.started = true;
+                if (item.result != null) {
+                    continue;  // 매니페스트 검증에서 실패한 항목
+                }
+                if (!path.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+                    item.fail("PDF 파일만 업로드 가능합니다.");
+                    continue;
+                }
+
+                slots.acquire();
+                StoredManualFile stored;
+                try {
+                    stored = manualService.storeManualFile(new EntryInputStream(zip, properties.getMaxEntrySize()),
+                            item.fileName());
+                } catch (EntryTooLargeException e) {
+                    slots.release();
+                    item.fail(e.getMessage());
+                    continue;
+                } catch (IOException | RuntimeException e) {
+                    slots.release();
+                    throw e;
+                }
+                workers.execute(() -> {
+                    try {
+                        register(item, stored);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+        } catch (IOException | RuntimeException e) {
+            // 이미 저장한 항목은 계속 처리하고, 읽지 못한 항목만 실패로 보고
+            archiveError = "압축 파일을 끝까지 읽지 못했습니다: " + e.getMessage();
+            log.warn("매뉴얼 일괄 등록 - 압축 파일 읽기 중단, 작업 ID: {}, 에러: {}", job.id, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            archiveError = "일괄 등록이 중단되었습니다.";
+        } finally {
+            awaitWorkers(workers);
+            closeArchive(job);
+        }
+
+        for (Item item : job.items) {
+            if (item.result == null) {
+                item.fail(archiveError != null ? archiveError : "압축 파일에 없는 파일입니다.");
+            }
+        }
+        job.finish(archiveError);
+        ManualBulkIngestionResponse response = job.toResponse();
+        count("created", response.getCreated());
+        count("attached", response.getAttached());
+        count("failed", response.getFailed());
+        count("skipped", response.getSkipped());
+        synchronized (this) {
+            current = null;
+        }
+        log.info("매뉴얼 일괄 등록 완료 - 작업 ID: {}, 항목: {}, 생성: {}, 연결: {}, 실패: {}, 건너뜀: {}, {}ms",
+                job.id, response.getTotal(), response.getCreated(), response.getAttached(), response.getFailed(),
+                response.getSkipped(), response.getDurationMs());
+    }
+
+    private void closeArchive(Job job) {
+        try {
+            job.zip.close();
+            Files.deleteIfExists(job.file);
+        } catch (IOException e) {
+            log.warn("매뉴얼 일괄 등록 - 임시 파일 삭제 실패: {}, 에러: {}", job.file, e.getMessage());
+        }
+    }
+
+    /**
+     * 저장한 매뉴얼을 ML 서버에 등록하고 모델을 저장합니다. (작업 스레드)
+     */
+    private void register(Item item, StoredManualFile stored) {
+        try {
+            ManualIngestion ingestion = productModelService.ingestPublicManual(
+                    item.manifest.model(), item.manifest.categoryId(), stored, item.fileName());
+            item.result = Entry.builder()
+                    .file(item.path)
+                    .model(item.manifest.model())
+                    .status(ingestion.attached() ? "ATTACHED" : "CREATED")
+                    .modelId(ingestion.model().getId())
+                    .build();
+        } catch (RuntimeException e) {
+            log.warn("매뉴얼 일괄 등록 항목 실패 - 파일: {}, 모델: {}, 에러: {}",
+                    item.path, item.manifest.model(), e.getMessage());
+            item.fail(e.getMessage() != null ? e.getMessage() : "등록 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 첫 항목의 매니페스트를 읽습니다.
+     */
+    private List<Item> readManifest(ZipInputStream zip) throws IOException {
+        ZipEntry first = nextFileEntry(zip);
+        if (first == null || !MANIFEST_NAME.equals(normalizePath(first.getName()))) {
+            throw new IllegalArgumentException("ZIP 파일의 첫 항목은 " + MANIFEST_NAME + " 이어야 합니다.");
+        }
+        byte[] content;
+        try {
+            content = new EntryInputStream(zip, properties.getMaxManifestSize()).readAllBytes();
+        } catch (EntryTooLargeException e) {
+            throw new IllegalArgumentException("매니페스트가 너무 큽니다.");
+        }
+
+        ManifestEntry[] entries;
+        try {
+            entries = objectMapper.readValue(content, ManifestEntry[].class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(
+                    "매니페스트 형식이 잘못되었습니다. [{\"file\", \"model\", \"categoryId\"}, ...] 형식이어야 합니다.");
+        }
+        if (entries == null || entries.length == 0) {
+            throw new IllegalArgumentException("매니페스트에 항목이 없습니다.");
+        }
+        if (entries.length > properties.getMaxEntries()) {
+            throw new IllegalArgumentException("매니페스트 항목은 " + properties.getMaxEntries() + "개 이하여야 합니다.");
+        }
+
+        List<Item> items = new ArrayList<>(entries.length);
+        for (ManifestEntry entry : entries) {
+            ManifestEntry manifest = entry != null ? entry : new ManifestEntry(null, null, null);
+            items.add(new Item(manifest, manifest.file() != null ? normalizePath(manifest.file()) : null));
+        }
+        return items;
+    }
+
+    /**
+     * PDF 를 읽기 전에 매니페스트 항목을 검사합니다. 카테고리는 한 번에 조회합니다.
+     *
+     * @return 파일 경로별 항목 (같은 파일이 여러 번 있으면 첫 항목)
+     */
+    private Map<String, Item> validate(List<Item> items) {
+        Map<String, Item> byFile = new HashMap<>();
+        Set<String> models = new HashSet<>();
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        for (Item item : items) {
+            ManifestEntry manifest = item.manifest;
+            if (item.path == null || item.path.isEmpty()) {
+                item.fail("파일 경로는 필수입니다.");
+                continue;
+            }
+            if (byFile.putIfAbsent(item.path, item) != null) {
+                item.fail("매니페스트에 같은 파일이 여러 번 있습니다.");
+                continue;
+            }
+            try {
+                ProductModelService.validateModelNameFormat(manifest.model());
+            } catch (IllegalArgumentException e) {
+                item.fail(e.getMessage());
+                continue;
+            }
+            if (!models.add(manifest.model().toLowerCase(Locale.ROOT))) {
+                item.fail("매니페스트에 같은 모델명이 여러 번 있습니다.");
+                continue;
+            }
+            if (manifest.categoryId() == null) {
+                item.fail("카테고리 ID 는 필수입니다.");
+                continue;
+            }
+            categoryIds.add(manifest.categoryId());
+        }
+
+        Set<Long> found = new HashSet<>();
+        for (Category category : categoryRepository.findAllById(categoryIds)) {
+            found.add(category.getId());
+        }
+        for (Item item : items) {
+            if (item.result == null && !found.contains(item.manifest.categoryId())) {
+                item.fail("카테고리를 찾을 수 없습니다.");
+            }
+        }
+        return byFile;
+    }
+
+    /**
+     * 다음 파일 항목으로 이동합니다. (디렉토리와 macOS 메타데이터 항목은 건너뜀)
+     */
+    private static ZipEntry nextFileEntry(ZipInputStream zip) throws IOException {
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            String path = normalizePath(entry.getName());
+            if (!entry.isDirectory() && !path.startsWith("__MACOSX/")) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static String normalizePath(String path) {
+        String normalized = path.trim().replace('\\', '/');
+        while (normalized.startsWith("./") || normalized.startsWith("/")) {
+            normalized = normalized.substring(normalized.startsWith("./") ? 2 : 1);
+        }
+        return normalized;
+    }
+
+    private static void awaitWorkers(ExecutorService workers) {
+        workers.shutdown();
+        try {
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.info("매뉴얼 일괄 등록 - 진행 중인 항목 대기");
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Entry skipped(String path, String message) {
+        return Entry.builder().file(path).status("SKIPPED").message(message).build();
+    }
+
+    private void count(String outcome, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("manual.bulk.entries", "outcome", outcome).increment(amount);
+        }
+    }
+
+    /**
+     * 매니페스트 항목
+     *
+     * @param file 압축 파일 안의 PDF 경로
+     * @param model 등록할 모델 이름
+     * @param categoryId 모델이 속할 카테고리의 ID
+     */
+    public record ManifestEntry(String file, String model, Long categoryId) {
+    }
+
+    /**
+     * 일괄 등록 작업 (항목 결과는 등록 스레드가 기록하고, 상태 조회는 그 시점까지의 결과를 모음)
+     */
+    private static class Job {
+        private final String id;
+        private final Path file;
+        private final ZipInputStream zip;
+        private final List<Item> items;
+        private final Map<String, Item> byFile;
+        private final List<Entry> extras = new CopyOnWriteArrayList<>();  // 매니페스트에 없는 압축 파일 항목
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long started = System.nanoTime();
+        private Thread thread;
+        private volatile String status = "RUNNING";
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+        private volatile long durationMs;
+
+        Job(String id, Path file, ZipInputStream zip, List<Item> items, Map<String, Item> byFile) {
+            this.id = id;
+            this.file = file;
+            this.zip = zip;
+            this.items = items;
+            this.byFile = byFile;
+        }
+
+        void finish(String archiveError) {
+            durationMs = (System.nanoTime() - started) / 1_000_000;
+            error = archiveError;
+            finishedAt = LocalDateTime.now();
+            status = archiveError != null ? "FAILED" : "COMPLETED";
+        }
+
+        ManualBulkIngestionResponse toResponse() {
+            boolean running = "RUNNING".equals(status);
+            List<Entry> entries = new ArrayList<>(items.size() + extras.size());
+            int created = 0;
+            int attached = 0;
+            int failed = 0;
+            for (Item item : items) {
+                Entry result = item.result;
+                if (result == null) {
+                    continue;
+                }
+                entries.add(result);
+                switch (result.getStatus()) {
+                    case "CREATED" -> created++;
+                    case "ATTACHED" -> attached++;
+                    default -> failed++;
+                }
+            }
+            entries.addAll(extras);
+            return ManualBulkIngestionResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .total(items.size())
+                    .processed(created + attached + failed)
+                    .created(created)
+                    .attached(attached)
+                    .failed(failed)
+                    .skipped(extras.size())
+                    .error(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .durationMs(running ? (System.nanoTime() - started) / 1_000_000 : durationMs)
+                    .entries(running ? null : entries)
+                    .build();
+        }
+    }
+
+    private static class Item {
+        private final ManifestEntry manifest;
+        private final String path;
+        private boolean started;        // 압축 파일에서 찾음 (읽기 스레드에서만 사용)
+        private volatile Entry result;
+
+        Item(ManifestEntry manifest, String path) {
+            this.manifest = manifest;
+            this.path = path;
+        }
+
+        String fileName() {
+            return path.substring(path.lastIndexOf('/') + 1);
+        }
+
+        void fail(String message) {
+            result = Entry.builder()
+                    .file(path != null ? path : manifest.file())
+                    .model(manifest.model())
+                    .status("FAILED")
+                    .message(message)
+                    .build();
+        }
+    }
+
+    /**
+     * 현재 압축 파일 항목만 읽는 스트림
+     * 저장소가 스트림을 닫아도 압축 파일은 닫지 않으며, 압축을 푼 크기가 상한을 넘으면 읽기를 멈춥니다.
+     */
+    private static class EntryInputStream extends FilterInputStream {
+        private final long maxSize;
+        private long read;
+
+        EntryInputStream(InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public void close() {
+            // 다음 항목은 ZipInputStream.getNextEntry() 가 이어서 읽음
+        }
+
+        private void count(int n) throws EntryTooLargeException {
+            read += n;
+            if (read > maxSize) {
+                throw new EntryTooLargeException("압축을 푼 크기가 " + maxSize + " bytes 를 넘습니다.");
+            }
+        }
+    }
+
+    private static class EntryTooLargeException extends IOException {
+        EntryTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
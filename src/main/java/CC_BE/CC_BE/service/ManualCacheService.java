@@ -0,0 +1,199 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.ManualCacheProperties;
+import CC_BE.CC_BE.domain.Manual;
+import CC_BE.CC_BE.dto.ManualCacheStatsResponse;
+import CC_BE.CC_BE.repository.ManualRepository;
+import CC_BE.CC_BE.storage.BufferedManualBlob;
+import CC_BE.CC_BE.storage.ManualBlob;
+import CC_BE.CC_BE.storage.ManualStorage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자주 다운로드되는 매뉴얼을 위한 캐시 서비스
+ * 1. 모델 ID → 매뉴얼 정보(저장소 key, 파일명, 해시)를 캐시하여 다운로드마다 반복되는 DB 조회를 없앱니다.
+ * 2. 일정 기간 내에 여러 번 다운로드된 매뉴얼만 힙 외부 메모리에 적재합니다.
+ *    (로컬 파일은 MappedByteBuffer, 원격 저장소 파일은 direct ByteBuffer)
+ * 3. 적재된 전체 크기가 한도를 넘으면 사용 빈도가 낮은 매뉴얼부터 제거합니다. (Caffeine W-TinyLFU)
+ */
+@Slf4j
+@Service
+public class ManualCacheService {
+    private final ManualRepository manualRepository;
+    private final ManualService manualService;
+    private final ManualStorage manualStorage;
+    private final ManualCacheProperties properties;
+
+    private final Cache<Long, CachedManual> metadataCache;
+    private final Cache<String, BufferedManualBlob> contentCache;
+    private final Cache<String, AtomicInteger> admissionCounts;
+
+    public ManualCacheService(ManualRepository manualRepository,
+                              ManualService manualService,
+                              ManualStorage manualStorage,
+                              ManualCacheProperties properties) {
+        this.manualRepository = manualRepository;
+        this.manualService = manualService;
+        this.manualStorage = manualStorage;
+        this.properties = properties;
+
+        this.metadataCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMetadataMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.getMetadataTtlSeconds()))
+                .recordStats()
+                .build();
+        this.contentCache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxResidentBytes())
+                .weigher((String key, BufferedManualBlob blob) -> (int) Math.min(Integer.MAX_VALUE, blob.size()))
+                .recordStats()
+                .build();
+        this.admissionCounts = Caffeine.newBuilder()
+                .maximumSize(properties.getMetadataMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.getAdmissionWindowSeconds()))
+                .build();
+    }
+
+    /**
+     * 모델의 매뉴얼 정보를 조회합니다.
+     * 해시가 없는 이전 데이터는 이 시점에 한 번 계산됩니다.
+     *
+     * @param modelId 제품 모델 ID
+     * @return 매뉴얼 정보 (모델이나 매뉴얼이 없으면 empty)
+     * @throws IOException 매뉴얼 파일을 읽을 수 없는 경우
+     */
+    public Optional<CachedManual> getManual(Long modelId) throws IOException {
+        if (!properties.isEnabled()) {
+            return loadManual(modelId);
+        }
+        try {
+            return Optional.ofNullable(metadataCache.get(modelId, id -> {
+                try {
+                    return loadManual(id).orElse(null);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 매뉴얼 파일을 엽니다.
+     * 메모리에 적재된 파일이면 바로 반환하고, 그렇지 않으면 저장소에서 열면서
+     * 다운로드 횟수가 기준을 넘은 경우 메모리에 적재합니다.
+     *
+     * @param manual 매뉴얼 정보
+     * @return 매뉴얼 파일 핸들
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    public ManualBlob open(CachedManual manual) throws IOException {
+        String key = manual.storageKey();
+        BufferedManualBlob cached = properties.isEnabled() ? contentCache.getIfPresent(key) : null;
+        if (cached != null) {
+            return cached;
+        }
+
+        ManualBlob blob = manualStorage.open(key);
+        if (!properties.isEnabled() || blob.size() > properties.getMaxEntryBytes() || !admit(key)) {
+            return blob;
+        }
+
+        try {
+            BufferedManualBlob loaded = BufferedManualBlob.load(blob);
+            contentCache.put(key, loaded);
+            admissionCounts.invalidate(key);
+            log.debug("매뉴얼 캐시 적재 - key: {}, 크기: {} bytes", key, loaded.size());
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            log.warn("매뉴얼 캐시 적재 실패 - key: {}, 에러: {}", key, e.getMessage());
+            return blob;
+        }
+    }
+
+    /**
+     * 모델의 매뉴얼 캐시를 무효화합니다.
+     * 모델이 삭제되거나 매뉴얼이 변경될 때 호출합니다.
+     */
+    public void evictModel(Long modelId) {
+        CachedManual manual = metadataCache.getIfPresent(modelId);
+        metadataCache.invalidate(modelId);
+        if (manual != null) {
+            contentCache.invalidate(manual.storageKey());
+        }
+    }
+
+    /**
+     * 모든 매뉴얼 캐시를 무효화합니다.
+     * 브랜드 / 카테고리 일괄 삭제처럼 삭제된 모델 ID 를 일일이 알 수 없을 때 호출합니다.
+     */
+    public void evictAll() {
+        metadataCache.invalidateAll();
+        contentCache.invalidateAll();
+    }
+
+    /**
+     * 캐시 상태를 조회합니다.
+     */
+    public ManualCacheStatsResponse getStats() {
+        CacheStats metadataStats = metadataCache.stats();
+        CacheStats contentStats = contentCache.stats();
+        return ManualCacheStatsResponse.builder()
+                .metadataEntries(metadataCache.estimatedSize())
+                .metadataHitRate(metadataStats.hitRate())
+                .contentEntries(contentCache.estimatedSize())
+                .contentHitRate(contentStats.hitRate())
+                .contentEvictions(contentStats.evictionCount())
+                .residentBytes(getResidentBytes())
+                .maxResidentBytes(properties.getMaxResidentBytes())
+                .build();
+    }
+
+    /**
+     * 메모리에 적재된 매뉴얼의 전체 크기
+     */
+    public long getResidentBytes() {
+        return contentCache.policy().eviction()
+                .flatMap(eviction -> eviction.weightedSize().stream().boxed().findFirst())
+                .orElse(0L);
+    }
+
+    /**
+     * 다운로드 횟수가 기준에 도달했는지 확인합니다. (한 번만 다운로드되는 파일은 적재하지 않음)
+     */
+    private boolean admit(String key) {
+        int count = admissionCounts.get(key, k -> new AtomicInteger()).incrementAndGet();
+        return count >= properties.getAdmissionThreshold();
+    }
+
+    private Optional<CachedManual> loadManual(Long modelId) throws IOException {
+        Optional<Manual> found = manualRepository.findByProductModelId(modelId);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        Manual manual = found.get();
+        String contentHash = manualService.ensureContentHash(manual);
+        return Optional.of(new CachedManual(manual.getId(), manual.getFilePath(), manual.getFileName(), contentHash));
+    }
+
+    /**
+     * 캐시되는 매뉴얼 정보
+     *
+     * @param manualId 매뉴얼 ID
+     * @param storageKey 저장소 key
+     * @param fileName 원본 파일명
+     * @param contentHash 파일 내용 해시
+     */
+    public record CachedManual(Long manualId, String storageKey, String fileName, String contentHash) {
+    }
+}
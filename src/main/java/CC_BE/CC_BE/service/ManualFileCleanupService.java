@@ -0,0 +1,55 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.ManualCleanupProperties;
+import CC_BE.CC_BE.domain.ManualFileDeletion;
+import CC_BE.CC_BE.jfr.ManualFileIoEvent;
+import CC_BE.CC_BE.repository.ManualFileDeletionRepository;
+import CC_BE.CC_BE.storage.ManualStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+
+/**
+ * 매뉴얼 파일 삭제 서비스
+ * 브랜드 / 카테고리 일괄 삭제 트랜잭션이 기록한 저장소 key 를 주기적으로 읽어 파일을 삭제합니다.
+ * 파일 삭제를 요청 처리와 분리하여, 매뉴얼이 많아도 일괄 삭제 응답 시간이 파일 수에 비례하지 않습니다.
+ * 실패한 삭제는 대기 시간을 두 배씩 늘려 다시 시도합니다. (OutboxDrainer, 이미 없는 파일은 성공으로 처리)
+ * 지표: manual.cleanup.files{outcome=success|failure}
+ */
+@Service
+@RequiredArgsConstructor
+public class ManualFileCleanupService {
+    private final ManualFileDeletionRepository deletionRepository;
+    private final ManualStorage manualStorage;
+    private final ManualCleanupProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 대기열의 파일을 저장소에서 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${manual.cleanup.interval-ms:10000}")
+    public void drain() {
+        new OutboxDrainer<>("매뉴얼 파일 정리", "manual.cleanup.files", deletionRepository, properties,
+                meterRegistry, ManualFileDeletion::getStorageKey).drain(this::delete);
+    }
+
+    /**
+     * 파일 하나를 삭제합니다. (이미 없는 파일은 성공으로 처리)
+     *
+     * @return 처리 결과 (지표 outcome)
+     * @throws IOException 삭제에 실패한 경우 (다음에 다시 시도)
+     */
+    private String delete(ManualFileDeletion deletion) throws IOException {
+        ManualFileIoEvent event = ManualFileIoEvent.start("delete", deletion.getStorageKey());
+        try {
+            manualStorage.delete(deletion.getStorageKey());
+            event.succeeded(0);
+            return "success";
+        } finally {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.ManualGcProperties;
+import CC_BE.CC_BE.dto.ManualGcReportResponse;
+import CC_BE.CC_BE.repository.ManualRepository;
+import CC_BE.CC_BE.storage.ManualStorage;
+import CC_BE.CC_BE.storage.ManualStorageEntry;
+import CC_BE.CC_BE.storage.SortedIterators;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * 매뉴얼 저장소 고아 파일 정리 서비스
+ * 업로드 실패, 일괄 삭제, 이전 데이터 등으로 어떤 매뉴얼도 사용하지 않는 파일이 저장소에 남으면 주기적으로 삭제합니다.
+ * 1. 저장소 파일 목록과 매뉴얼 테이블의 key(매뉴얼 파일, 미리보기 이미지)를 각각 key 순으로 읽어 병합 조인합니다.
+ *    양쪽 모두 필요한 만큼만 읽으므로 파일과 매뉴얼 수에 관계없이 메모리 사용량이 일정합니다.
+ * 2. 저장소에만 있는 파일은 고아 파일, 테이블에만 있는 key 는 누락 파일(dangling)로 보고합니다.
+ * 3. 고아 파일은 유예 기간(업로드 후 DB 저장 전인 파일 보호)이 지난 경우에만, 매뉴얼이 사용하지 않는지 한 번 더 확인한 뒤 삭제합니다.
+ *    (DB 정렬 규칙이 문자열 순서와 다른 key 가 있어도 사용 중인 파일을 지우지 않도록 함)
+ * 4. dryRun 이면 삭제하지 않고 보고서만 만듭니다.
+ * 절대 경로로 저장된 이전 데이터는 저장소 key 로 변환하여 비교합니다.
+ * 지표: manual.gc.files{outcome=orphan|deleted|dangling}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ManualGcService {
+    private final ManualRepository manualRepository;
+    private final ManualStorage manualStorage;
+    private final ManualGcProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ManualGcReportResponse lastReport;
+
+    /**
+     * 주기적으로 고아 파일을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${manual.gc.interval-ms:86400000}", initialDelayString = "${manual.gc.initial-delay-ms:600000}")
+    public void scheduledRun() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            run(properties.isDryRun());
+        } catch (IllegalStateException e) {
+            log.info("고아 파일 정리 생략 - {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("고아 파일 정리 실패 - 에러: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 고아 파일 정리를 실행합니다.
+     *
+     * @param dryRun true 면 삭제하지 않고 보고만 함
+     * @return 정리 결과
+     * @throws IllegalStateException 이미 정리가 실행 중인 경우
+     */
+    public ManualGcReportResponse run(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("고아 파일 정리가 이미 실행 중입니다.");
+        }
+        try {
+            ManualGcReportResponse report = reconcile(dryRun);
+            lastReport = report;
+            log.info("고아 파일 정리 완료{} - 확인: {}개, 고아: {}개 ({} bytes), 삭제: {}개, 유예: {}개, 누락: {}개, {}ms",
+                    dryRun ? " (dry-run)" : "", report.getScannedFiles(), report.getOrphanFiles(), report.getOrphanBytes(),
+                    report.getDeletedFiles(), report.getRecentUnreferencedFiles(), report.getDanglingKeys(),
+                    report.getDurationMs());
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 마지막 정리 결과를 조회합니다.
+     */
+    public Optional<ManualGcReportResponse> getLastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+
+    private ManualGcReportResponse reconcile(boolean dryRun) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.nanoTime();
+        long graceCutoff = System.currentTimeMillis() - Duration.ofHours(properties.getGracePeriodHours()).toMillis();
+        Counts counts = new Counts(Math.max(0, properties.getSampleSize()));
+
+        // 절대 경로로 저장된 이전 데이터는 DB 정렬 순서와 변환된 key 의 순서가 달라 따로 모음 (소수)
+        Set<String> legacyKeys = new HashSet<>();
+        Iterator<String> references = referencedKeys(legacyKeys);
+
+        try (Stream<ManualStorageEntry> files = manualStorage.list()) {
+            Iterator<ManualStorageEntry> fileIterator = files.iterator();
+            ManualStorageEntry file = fileIterator.hasNext() ? fileIterator.next() : null;
+            String reference = references.hasNext() ? references.next() : null;
+            while (file != null || reference != null) {
+                int compare = file == null ? 1 : reference == null ? -1 : file.key().compareTo(reference);
+                if (compare < 0) {
+                    counts.scanned++;
+                    unreferenced(file, legacyKeys, graceCutoff, dryRun, counts);
+                    file = fileIterator.hasNext() ? fileIterator.next() : null;
+                } else if (compare > 0) {
+                    dangling(reference, counts);
+                    reference = references.hasNext() ? references.next() : null;
+                } else {
+                    counts.scanned++;
+                    counts.referenced++;
+                    file = fileIterator.hasNext() ? fileIterator.next() : null;
+                    reference = references.hasNext() ? references.next() : null;
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("매뉴얼 저장소 목록 조회 중 오류가 발생했습니다.", e);
+        }
+
+        return ManualGcReportResponse.builder()
+                .dryRun(dryRun)
+                .startedAt(startedAt)
+                .durationMs((System.nanoTime() - started) / 1_000_000)
+                .scannedFiles(counts.scanned)
+                .referencedFiles(counts.referenced)
+                .orphanFiles(counts.orphans)
+                .orphanBytes(counts.orphanBytes)
+                .deletedFiles(counts.deleted)
+                .deletedBytes(counts.deletedBytes)
+                .recentUnreferencedFiles(counts.recent)
+                .danglingKeys(counts.dangling)
+                .orphanSamples(counts.orphanSamples)
+                .danglingSamples(counts.danglingSamples)
+                .build();
+    }
+
+    /**
+     * 병합 조인에서 매뉴얼이 사용하지 않는 것으로 나온 파일을 처리합니다.
+     */
+    private void unreferenced(ManualStorageEntry file, Set<String> legacyKeys, long graceCutoff,
+                              boolean dryRun, Counts counts) {
+        if (legacyKeys.contains(file.key())) {
+            counts.referenced++;
+            return;
+        }
+        if (file.lastModified() > graceCutoff) {
+            counts.recent++;
+            return;
+        }
+        if (manualRepository.existsByFilePathOrThumbnailKey(file.key(), file.key())) {
+            // DB 정렬 규칙이 문자열 순서와 달라 병합 조인에서 놓친 경우
+            counts.referenced++;
+            return;
+        }
+
+        counts.orphans++;
+        counts.orphanBytes += file.size();
+        counts.sample(counts.orphanSamples, file.key());
+        count("orphan");
+        if (dryRun) {
+            return;
+        }
+        try {
+            manualStorage.delete(file.key());
+            counts.deleted++;
+            counts.deletedBytes += file.size();
+            count("deleted");
+        } catch (IOException e) {
+            log.warn("고아 파일 삭제 실패 - key: {}, 에러: {}", file.key(), e.getMessage());
+        }
+    }
+
+    /**
+     * 병합 조인에서 저장소에 없는 것으로 나온 key 를 처리합니다.
+     */
+    private void dangling(String key, Counts counts) {
+        try {
+            if (manualStorage.exists(key)) {
+                return;  // DB 정렬 규칙이 문자열 순서와 달라 병합 조인에서 놓친 경우
+            }
+        } catch (IOException e) {
+            log.warn("매뉴얼 파일 확인 실패 - key: {}, 에러: {}", key, e.getMessage());
+            return;
+        }
+        counts.dangling++;
+        counts.sample(counts.danglingSamples, key);
+        count("dangling");
+    }
+
+    /**
+     * 매뉴얼 파일 key 와 미리보기 이미지 key 를 합쳐 key 순으로 반환합니다. (중복 제거)
+     * 저장소 key 형식이 아닌 이전 데이터는 변환하여 legacyKeys 에 담습니다.
+     */
+    private Iterator<String> referencedKeys(Set<String> legacyKeys) {
+        Iterator<String> merged = SortedIterators.merge(
+                new KeysetIterator(manualRepository::findFilePathsAfter),
+                new KeysetIterator(manualRepository::findThumbnailKeysAfter),
+                Comparator.naturalOrder());
+        return new Iterator<>() {
+            private String previous;
+            private String next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public String next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                String result = next;
+                previous = result;
+                next = advance();
+                return result;
+            }
+
+            private String advance() {
+                while (merged.hasNext()) {
+                    String key = merged.next();
+                    String canonical = manualStorage.canonicalKey(key);
+                    if (!canonical.equals(key)) {
+                        legacyKeys.add(canonical);
+                    } else if (!key.equals(previous)) {
+                        return key;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("manual.gc.files", "outcome", outcome).increment();
+    }
+
+    /**
+     * DB 의 key 를 페이지 단위로 읽는 키셋 반복자
+     */
+    private class KeysetIterator implements Iterator<String> {
+        private final BiFunction<String, PageRequest, List<String>> query;
+        private Iterator<String> page = List.<String>of().iterator();
+        private String after = "";
+        private boolean exhausted;
+
+        KeysetIterator(BiFunction<String, PageRequest, List<String>> query) {
+            this.query = query;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!page.hasNext() && !exhausted) {
+                int pageSize = Math.max(1, properties.getPageSize());
+                List<String> keys = query.apply(after, PageRequest.of(0, pageSize));
+                exhausted = keys.size() < pageSize;
+                if (!keys.isEmpty()) {
+                    after = keys.get(keys.size() - 1);
+                }
+                page = keys.iterator();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
+
+    /**
+     * 정리 중 집계 값
+     */
+    private static class Counts {
+        private final int sampleSize;
+        private final List<String> orphanSamples = new ArrayList<>();
+        private final List<String> danglingSamples = new ArrayList<>();
+        private long scanned;
+        private long referenced;
+        private long orphans;
+        private long orphanBytes;
+        private long deleted;
+        private long deletedBytes;
+        private long recent;
+        private long dangling;
+
+        Counts(int sampleSize) {
+            this.sampleSize = sampleSize;
+        }
+
+        void sample(List<String> samples, String key) {
+            if (samples.size() < sampleSize) {
+                samples.add(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.ManualPreviewProperties;
+import CC_BE.CC_BE.domain.Manual;
+import CC_BE.CC_BE.repository.ManualRepository;
+import CC_BE.CC_BE.storage.ManualBlob;
+import CC_BE.CC_BE.storage.ManualStorage;
+import CC_BE.CC_BE.storage.StoredManualFile;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매뉴얼 PDF 메타데이터 추출 서비스
+ * 1. 업로드된 PDF 를 한 번 열어 페이지 수와 제목을 읽고, 첫 페이지 미리보기 이미지(PNG)를 생성합니다.
+ * 2. 미리보기 이미지는 매뉴얼 저장소에 저장하고, 추출 결과는 매뉴얼 정보에 기록합니다.
+ * 3. 업로드 트랜잭션이 커밋된 뒤 별도 스레드에서 처리하므로 업로드 응답을 지연시키지 않습니다.
+ * 4. 기존 매뉴얼과 대기열이 넘쳐 처리되지 못한 매뉴얼은 주기적인 백필로 처리합니다.
+ */
+@Slf4j
+@Service
+public class ManualPreviewService {
+    private static final int MAX_TITLE_LENGTH = 255;
+
+    private final ManualRepository manualRepository;
+    private final ManualStorage manualStorage;
+    private final ManualPreviewProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> inProgress = ConcurrentHashMap.newKeySet();
+
+    public ManualPreviewService(ManualRepository manualRepository,
+                                ManualStorage manualStorage,
+                                ManualPreviewProperties properties) {
+        this.manualRepository = manualRepository;
+        this.manualStorage = manualStorage;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "manual-preview");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * 매뉴얼의 메타데이터 추출을 요청합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 추출을 시작합니다.
+     *
+     * @param manualId 추출할 매뉴얼 ID
+     */
+    public void requestExtraction(Long manualId) {
+        if (!properties.isEnabled() || manualId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(() -> extract(manualId));
+                }
+            });
+        } else {
+            executor.execute(() -> extract(manualId));
+        }
+    }
+
+    /**
+     * 메타데이터가 없는 기존 매뉴얼을 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${manual.preview.backfill-interval-ms:600000}")
+    public void backfill() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long afterId = 0;
+        int processed = 0;
+        while (true) {
+            List<Long> ids = manualRepository.findIdsWithoutPreview(afterId,
+                    PageRequest.of(0, properties.getBackfillBatchSize()));
+            if (ids.isEmpty()) {
+                break;
+            }
+            for (Long id : ids) {
+                extract(id);
+                processed++;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (processed > 0) {
+            log.info("매뉴얼 메타데이터 백필 완료 - {}개", processed);
+        }
+    }
+
+    /**
+     * 매뉴얼 하나의 메타데이터를 추출하여 저장합니다.
+     * PDF 가 손상되었거나 암호화된 경우 추출 일시만 기록하여 다시 시도하지 않습니다.
+     *
+     * @param manualId 추출할 매뉴얼 ID
+     */
+    public void extract(Long manualId) {
+        if (!inProgress.add(manualId)) {
+            return;
+        }
+        try {
+            Optional<Manual> found = manualRepository.findById(manualId);
+            if (found.isEmpty() || found.get().getPreviewExtractedAt() != null) {
+                return;
+            }
+            Manual manual = found.get();
+
+            ManualBlob blob;
+            try {
+                blob = manualStorage.open(manual.getFilePath());
+            } catch (NoSuchFileException e) {
+                log.warn("매뉴얼 메타데이터 추출 건너뜀 - 파일 없음, ID: {}", manualId);
+                manualRepository.updatePreview(manualId, null, null, null, LocalDateTime.now());
+                return;
+            }
+
+            PdfPreview preview;
+            try {
+                preview = readPdf(blob);
+            } catch (IOException e) {
+                log.warn("매뉴얼 PDF 분석 실패 - ID: {}, 에러: {}", manualId, e.getMessage());
+                manualRepository.updatePreview(manualId, null, null, null, LocalDateTime.now());
+                return;
+            }
+
+            String thumbnailKey = null;
+            if (preview.thumbnail() != null) {
+                StoredManualFile stored = manualStorage.store(
+                        new ByteArrayInputStream(preview.thumbnail()), "thumbnail.png");
+                thumbnailKey = stored.key();
+            }
+            manualRepository.updatePreview(manualId, preview.pageCount(), preview.title(),
+                    thumbnailKey, LocalDateTime.now());
+            log.debug("매뉴얼 메타데이터 추출 완료 - ID: {}, 페이지: {}", manualId, preview.pageCount());
+        } catch (Exception e) {
+            // 저장소 오류 등 일시적인 문제는 기록하지 않고 다음 백필에서 다시 시도
+            log.error("매뉴얼 메타데이터 추출 실패 - ID: {}, 에러: {}", manualId, e.getMessage());
+        } finally {
+            inProgress.remove(manualId);
+        }
+    }
+
+    /**
+     * 제품 모델 매뉴얼의 미리보기 이미지를 조회합니다.
+     *
+     * @param modelId 제품 모델 ID
+     * @return 미리보기 이미지 (매뉴얼이 없거나 아직 생성되지 않았으면 empty)
+     * @throws IOException 이미지를 읽을 수 없는 경우
+     */
+    public Optional<ManualBlob> openThumbnail(Long modelId) throws IOException {
+        Optional<Manual> manual = manualRepository.findByProductModelId(modelId);
+        if (manual.isEmpty() || manual.get().getThumbnailKey() == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(manualStorage.open(manual.get().getThumbnailKey()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * PDF 를 한 번 열어 페이지 수, 제목, 첫 페이지 이미지를 읽습니다.
+     * 원격 저장소 파일은 임시 파일로 내려받아 힙 사용을 제한합니다.
+     */
+    private PdfPreview readPdf(ManualBlob blob) throws IOException {
+        if (blob.localPath().isPresent()) {
+            try (PDDocument document = Loader.loadPDF(blob.localPath().get().toFile())) {
+                return readDocument(document);
+            }
+        }
+
+        Path temp = Files.createTempFile("manual-preview-", ".pdf");
+        try {
+            try (InputStream in = blob.openStream()) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            try (PDDocument document = Loader.loadPDF(temp.toFile())) {
+                return readDocument(document);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private PdfPreview readDocument(PDDocument document) throws IOException {
+        int pageCount = document.getNumberOfPages();
+        String title = document.getDocumentInformation() != null ? document.getDocumentInformation().getTitle() : null;
+        if (StringUtils.hasText(title)) {
+            title = title.trim();
+            if (title.length() > MAX_TITLE_LENGTH) {
+                title = title.substring(0, MAX_TITLE_LENGTH);
+            }
+        } else {
+            title = null;
+        }
+
+        byte[] thumbnail = null;
+        if (pageCount > 0) {
+            thumbnail = renderThumbnail(document);
+        }
+        return new PdfPreview(pageCount, title, thumbnail);
+    }
+
+    /**
+     * 첫 페이지를 목표 가로 크기에 맞는 배율로 바로 렌더링합니다. (원본 크기로 렌더링한 뒤 축소하지 않음)
+     */
+    private byte[] renderThumbnail(PDDocument document) throws IOException {
+        PDPage page = document.getPage(0);
+        PDRectangle box = page.getCropBox();
+        boolean rotated = page.getRotation() % 180 != 0;
+        float pageWidth = rotated ? box.getHeight() : box.getWidth();
+        if (pageWidth <= 0) {
+            return null;
+        }
+        float scale = Math.min(1f, properties.getThumbnailWidth() / pageWidth);
+
+        PDFRenderer renderer = new PDFRenderer(document);
+        renderer.setSubsamplingAllowed(true);
+        BufferedImage image = renderer.renderImage(0, scale, ImageType.RGB);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private record PdfPreview(int pageCount, String title, byte[] thumbnail) {
+    }
+}
@@ -0,0 +1,395 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.ManualReingestionProperties;
+import CC_BE.CC_BE.domain.Manual;
+import CC_BE.CC_BE.domain.ManualReingestionJob;
+import CC_BE.CC_BE.dto.ManualReingestionResponse;
+import CC_BE.CC_BE.ml.MlDocumentNames;
+import CC_BE.CC_BE.repository.ManualReingestionJobRepository;
+import CC_BE.CC_BE.repository.ManualRepository;
+import CC_BE.CC_BE.storage.ManualBlob;
+import CC_BE.CC_BE.storage.StoredManualResource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 매뉴얼 전체 재등록 서비스
+ * ML 서버의 임베딩 모델이 바뀌었을 때 저장된 모든 매뉴얼을 ML 서버에 다시 업로드합니다.
+ * 1. 매뉴얼을 ID 순으로 배치 단위 조회(키셋 페이지네이션)하여, 저장소의 파일을 그대로 스트리밍으로 업로드합니다.
+ * 2. 분당 업로드 수와 동시 업로드 수를 제한하여 사용자 요청의 매뉴얼 등록과 챗봇에 주는 영향을 줄입니다.
+ * 3. 배치가 끝날 때마다 마지막 매뉴얼 ID 를 기록하고, 서버가 재시작되면 그 위치부터 이어서 처리합니다.
+ *    (재시작 시 마지막 배치의 일부가 다시 업로드될 수 있으며, 매뉴얼의 ML 문서 식별자(mlDocName)가 같으므로 그 문서를 덮어씁니다.)
+ * 4. 작업 상태 조회 시 남은 매뉴얼 수와 처리 속도로 예상 완료 시각을 계산합니다.
+ * 5. 업로드 직전과 직후에 매뉴얼을 다시 조회하여, 그 사이 매뉴얼이 교체되었으면 이전 파일을 올리지 않습니다.
+ *    (업로드 중에 교체되었으면 방금 올린 문서를 삭제 대기열에 기록)
+ *    삭제되었거나 모델과 연결되지 않았거나 교체된 매뉴얼은 건너뛴 것으로 따로 집계합니다.
+ * 작업은 한 번에 하나만 실행하며, 단일 인스턴스에서 실행하는 것을 전제로 합니다.
+ * 취소한 작업도 업로드 중인 매뉴얼이 모두 끝나야 새 작업을 시작할 수 있습니다.
+ * 지표: manual.reingestion.manuals{outcome=success|failure|skipped}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ManualReingestionService implements DisposableBean {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ManualReingestionJobRepository jobRepository;
+    private final ManualRepository manualRepository;
+    private final ManualService manualService;
+    private final MLServerService mlServerService;
+    private final MlDocumentDeletionService mlDocumentDeletionService;
+    private final TransactionTemplate transactionTemplate;
+    private final ManualReingestionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Run current;
+
+    /**
+     * 전체 재등록 작업을 시작합니다.
+     * 진행 중으로 기록된 작업이 있지만 이 서버에서 실행되고 있지 않으면(오류로 중단된 경우) 그 작업을 이어서 처리합니다.
+     *
+     * @param adminId 작업을 시작한 관리자의 ID
+     * @return 작업 상태
+     * @throws IllegalStateException 이미 작업이 실행 중이거나, 취소한 작업의 업로드가 아직 끝나지 않은 경우
+     */
+    public synchronized ManualReingestionResponse start(Long adminId) {
+        if (current != null) {
+            throw new IllegalStateException(jobRepository.findFirstByStatusOrderByIdDesc(ManualReingestionJob.Status.RUNNING).isPresent()
+                    ? "이미 진행 중인 재등록 작업이 있습니다."
+                    : "취소한 재등록 작업의 업로드가 끝나지 않았습니다. 잠시 후 다시 시도해주세요.");
+        }
+        Optional<ManualReingestionJob> running = jobRepository.findFirstByStatusOrderByIdDesc(ManualReingestionJob.Status.RUNNING);
+        if (running.isPresent()) {
+            log.info("중단된 매뉴얼 재등록 작업 재개 - 작업 ID: {}, 마지막 매뉴얼 ID: {}",
+                    running.get().getId(), running.get().getLastManualId());
+            launch(running.get());
+            return toResponse(running.get());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        ManualReingestionJob job = jobRepository.save(ManualReingestionJob.builder()
+                .status(ManualReingestionJob.Status.RUNNING)
+                .lastManualId(0)
+                .totalCount(manualRepository.count())
+                .requestedBy(adminId)
+                .startedAt(now)
+                .updatedAt(now)
+                .build());
+        log.info("매뉴얼 재등록 작업 시작 - 작업 ID: {}, 전체 매뉴얼: {}개, 분당 {}개, 동시 {}개",
+                job.getId(), job.getTotalCount(), properties.getUploadsPerMinute(), properties.getConcurrency());
+        launch(job);
+        return toResponse(job);
+    }
+
+    /**
+     * 진행 중인 작업을 취소합니다. 업로드 중인 매뉴얼은 끝까지 처리됩니다.
+     *
+     * @return 작업 상태
+     * @throws IllegalStateException 진행 중인 작업이 없는 경우
+     */
+    public synchronized ManualReingestionResponse cancel() {
+        ManualReingestionJob job = jobRepository.findFirstByStatusOrderByIdDesc(ManualReingestionJob.Status.RUNNING)
+                .orElseThrow(() -> new IllegalStateException("진행 중인 재등록 작업이 없습니다."));
+        jobRepository.finish(job.getId(), ManualReingestionJob.Status.CANCELLED, LocalDateTime.now(),
+                ManualReingestionJob.Status.RUNNING);
+        Run run = current;
+        if (run != null && run.jobId.equals(job.getId())) {
+            run.thread.interrupt();
+        }
+        log.info("매뉴얼 재등록 작업 취소 - 작업 ID: {}, 마지막 매뉴얼 ID: {}", job.getId(), job.getLastManualId());
+        return toResponse(jobRepository.findById(job.getId()).orElse(job));
+    }
+
+    /**
+     * 가장 최근 작업의 상태를 조회합니다.
+     *
+     * @return 작업 상태 (작업을 실행한 적이 없으면 빈 값)
+     */
+    public Optional<ManualReingestionResponse> getStatus() {
+        return jobRepository.findFirstByOrderByIdDesc().map(this::toResponse);
+    }
+
+    /**
+     * 서버 시작 시 진행 중이던 작업을 이어서 처리합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void resumeInterruptedJob() {
+        if (!properties.isResumeOnStartup() || current != null) {
+            return;
+        }
+        jobRepository.findFirstByStatusOrderByIdDesc(ManualReingestionJob.Status.RUNNING).ifPresent(job -> {
+            log.info("중단된 매뉴얼 재등록 작업 재개 - 작업 ID: {}, 마지막 매뉴얼 ID: {}", job.getId(), job.getLastManualId());
+            launch(job);
+        });
+    }
+
+    /**
+     * 종료 시 작업 스레드를 멈춥니다. 작업은 진행 중 상태로 남아 재시작 후 이어서 처리됩니다.
+     */
+    @Override
+    public void destroy() {
+        Run run = current;
+        if (run != null) {
+            run.thread.interrupt();
+        }
+    }
+
+    private void launch(ManualReingestionJob job) {
+        Run run = new Run(job.getId(), job.getLastManualId(), doneCount(job));
+        run.thread = new Thread(() -> execute(run), "manual-reingestion");
+        run.thread.setDaemon(true);
+        current = run;
+        run.thread.start();
+    }
+
+    /**
+     * 작업 스레드: 배치 단위로 매뉴얼을 조회하여 업로드하고 진행 위치를 기록합니다.
+     */
+    private void execute(Run run) {
+        AtomicInteger workerIndex = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, properties.getConcurrency()), runnable -> {
+            Thread thread = new Thread(runnable, "manual-reingestion-worker-" + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long afterId = run.startAfterId;
+        try {
+            while (true) {
+                List<Long> ids = manualRepository.findIdsAfter(afterId,
+                        PageRequest.of(0, Math.max(1, properties.getBatchSize())));
+                if (ids.isEmpty()) {
+                    if (jobRepository.finish(run.jobId, ManualReingestionJob.Status.COMPLETED, LocalDateTime.now(),
+                            ManualReingestionJob.Status.RUNNING) > 0) {
+                        log.info("매뉴얼 재등록 작업 완료 - 작업 ID: {}", run.jobId);
+                    }
+                    return;
+                }
+
+                List<Future<Outcome>> results = new ArrayList<>(ids.size());
+                for (Long id : ids) {
+                    pace(run);
+                    results.add(workers.submit(() -> reingest(run, id)));
+                }
+                long processed = 0;
+                long failed = 0;
+                long skipped = 0;
+                String lastError = null;
+                for (Future<Outcome> result : results) {
+                    Outcome outcome = result.get();
+                    if (outcome.error() != null) {
+                        failed++;
+                        lastError = outcome.error();
+                    } else if (outcome.skipped()) {
+                        skipped++;
+                    } else {
+                        processed++;
+                    }
+                }
+
+                afterId = ids.get(ids.size() - 1);
+                if (jobRepository.checkpoint(run.jobId, afterId, processed, failed, skipped, lastError,
+                        LocalDateTime.now(), ManualReingestionJob.Status.RUNNING) == 0) {
+                    log.info("매뉴얼 재등록 작업이 취소되어 중단 - 작업 ID: {}, 마지막 매뉴얼 ID: {}", run.jobId, afterId);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("매뉴얼 재등록 작업 중단 - 작업 ID: {}, 마지막 기록 매뉴얼 ID: {}", run.jobId, afterId);
+        } catch (ExecutionException | RuntimeException e) {
+            log.error("매뉴얼 재등록 작업 오류로 중단 - 작업 ID: {}, 마지막 기록 매뉴얼 ID: {}, 에러: {}",
+                    run.jobId, afterId, e.getMessage(), e);
+        } finally {
+            awaitWorkers(workers);
+            synchronized (this) {
+                if (current == run) {
+                    current = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 업로드 중인 매뉴얼이 끝날 때까지 기다립니다. (작업 스레드가 중단되어도 기다린 뒤 중단 상태를 복원)
+     * 그 전에 current 를 비우면 취소 직후 시작한 새 작업과 업로드가 겹칩니다.
+     */
+    private void awaitWorkers(ExecutorService workers) {
+        workers.shutdown();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                    break;
+                }
+                log.info("매뉴얼 재등록 - 업로드 중인 매뉴얼 완료 대기 중");
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 매뉴얼 하나를 ML 서버에 다시 업로드합니다.
+     *
+     * @return 처리 결과 (성공, 건너뜀, 실패 사유)
+     */
+    private Outcome reingest(Run run, Long manualId) {
+        try {
+            Optional<Manual> found = manualRepository.findById(manualId);
+            if (found.isEmpty() || found.get().getProductModel() == null) {
+                // 작업 중 삭제되었거나 모델과 연결되지 않은 매뉴얼
+                count("skipped");
+                return Outcome.SKIPPED;
+            }
+            Manual manual = found.get();
+            String docName = MlDocumentNames.of(manual);
+            ManualBlob blob = manualService.openManual(manual);
+            if (replaced(manual)) {
+                log.info("매뉴얼이 교체되어 재등록 생략 - 매뉴얼 ID: {}", manualId);
+                count("skipped");
+                return Outcome.SKIPPED;
+            }
+            if (!mlServerService.uploadManualToMLServer(new StoredManualResource(blob, manual.getFileName()), docName)) {
+                return failed(manualId, "ML 서버 처리 중 오류가 발생했습니다.");
+            }
+            if (replaced(manual)) {
+                // 업로드 중에 교체됨: 교체 시 기록된 이전 문서 삭제가 먼저 처리되었을 수 있으므로 다시 기록
+                // (다른 매뉴얼이 아직 사용 중이면 삭제 대기열에서 생략됨)
+                log.info("재등록 중 매뉴얼이 교체되어 이전 문서 삭제 예약 - 매뉴얼 ID: {}, 문서: {}", manualId, docName);
+                transactionTemplate.executeWithoutResult(status -> mlDocumentDeletionService.enqueue(List.of(docName)));
+                count("skipped");
+                return Outcome.SKIPPED;
+            }
+            count("success");
+            return Outcome.SUCCESS;
+        } catch (Exception e) {
+            return failed(manualId, e.getMessage());
+        } finally {
+            run.completed.incrementAndGet();
+        }
+    }
+
+    /**
+     * 처음 조회한 뒤 매뉴얼이 교체(파일 또는 ML 서버 문서 변경)되거나 삭제되었는지 확인합니다.
+     */
+    private boolean replaced(Manual manual) {
+        return manualRepository.findById(manual.getId())
+                .map(latest -> !Objects.equals(latest.getFilePath(), manual.getFilePath())
+                        || !Objects.equals(latest.getMlDocName(), manual.getMlDocName()))
+                .orElse(true);
+    }
+
+    private Outcome failed(Long manualId, String reason) {
+        count("failure");
+        log.warn("매뉴얼 재등록 실패 - 매뉴얼 ID: {}, 사유: {}", manualId, reason);
+        String error = "매뉴얼 ID " + manualId + ": " + reason;
+        return new Outcome(false, error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+    }
+
+    /**
+     * 분당 업로드 수 제한에 맞춰 다음 업로드까지 대기합니다.
+     */
+    private void pace(Run run) throws InterruptedException {
+        double perMinute = properties.getUploadsPerMinute();
+        if (perMinute <= 0) {
+            return;
+        }
+        long intervalNanos = (long) (TimeUnit.MINUTES.toNanos(1) / perMinute);
+        long now = System.nanoTime();
+        long waitNanos = run.nextUploadAt - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        run.nextUploadAt = Math.max(now, run.nextUploadAt) + intervalNanos;
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("manual.reingestion.manuals", "outcome", outcome).increment();
+    }
+
+    /**
+     * 남은 매뉴얼 수와 이 서버에서 측정한 처리 속도로 예상 완료 시각을 계산합니다.
+     */
+    private ManualReingestionResponse toResponse(ManualReingestionJob job) {
+        if (job.getStatus() != ManualReingestionJob.Status.RUNNING) {
+            return ManualReingestionResponse.from(job, 0, null, null);
+        }
+        long remaining = manualRepository.countByIdGreaterThan(job.getLastManualId());
+        Run run = current;
+        if (run == null || !run.jobId.equals(job.getId())) {
+            return ManualReingestionResponse.from(job, remaining, null, null);
+        }
+        // 진행 위치는 배치마다 기록되므로, 현재 배치에서 처리한 매뉴얼은 남은 수에서 뺌
+        long completed = run.completed.get();
+        long inBatch = Math.max(0, completed - (doneCount(job) - run.doneAtStart));
+        remaining = Math.max(0, remaining - inBatch);
+        double minutes = (System.nanoTime() - run.startedAt) / (double) TimeUnit.MINUTES.toNanos(1);
+        if (completed == 0 || minutes <= 0) {
+            return ManualReingestionResponse.from(job, remaining, null, null);
+        }
+        double perMinute = completed / minutes;
+        LocalDateTime eta = LocalDateTime.now().plusSeconds((long) Math.ceil(remaining / perMinute * 60));
+        return ManualReingestionResponse.from(job, remaining, perMinute, eta);
+    }
+
+    /**
+     * 기록된 처리 수 (성공, 실패, 건너뜀)
+     */
+    private static long doneCount(ManualReingestionJob job) {
+        return job.getProcessedCount() + job.getFailedCount() + job.getSkippedCount();
+    }
+
+    /**
+     * 매뉴얼 하나의 처리 결과
+     *
+     * @param skipped 삭제, 연결 해제, 교체로 건너뛰었으면 true
+     * @param error 실패한 경우 사유
+     */
+    private record Outcome(boolean skipped, String error) {
+        private static final Outcome SUCCESS = new Outcome(false, null);
+        private static final Outcome SKIPPED = new Outcome(true, null);
+    }
+
+    /**
+     * 이 서버에서 실행 중인 작업의 상태
+     */
+    private static class Run {
+        private final Long jobId;
+        private final long startAfterId;
+        private final long startedAt = System.nanoTime();
+        private final AtomicLong completed = new AtomicLong();  // 이번 실행에서 처리한 매뉴얼 수 (성공, 실패, 건너뜀)
+        private final long doneAtStart;                         // 이번 실행 전에 기록된 처리 수
+        private long nextUploadAt = System.nanoTime();
+        private volatile Thread thread;
+
+        private Run(Long jobId, long startAfterId, long doneAtStart) {
+            this.jobId = jobId;
+            this.startAfterId = startAfterId;
+            this.doneAtStart = doneAtStart;
+        }
+    }
+}
@@ -1,35 +1,46 @@
 package CC_BE.CC_BE.service;
 
+import CC_BE.CC_BE.datasource.RemoteCallGuard;
 import CC_BE.CC_BE.domain.*;
+import CC_BE.CC_BE.jfr.ManualFileIoEvent;
+import CC_BE.CC_BE.metrics.ManualTransferMetrics;
 import CC_BE.CC_BE.repository.*;
+import CC_BE.CC_BE.storage.ContentHashes;
+import CC_BE.CC_BE.storage.ManualBlob;
+import CC_BE.CC_BE.storage.ManualStorage;
+import CC_BE.CC_BE.storage.StoredManualFile;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
-import java.nio.file.*;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * 매뉴얼 파일 관리를 담당하는 서비스 클래스
  * 매뉴얼 파일의 업로드, 다운로드, 삭제 등의 기능을 제공합니다.
+ * 실제 파일은 {@link ManualStorage} 구현(로컬 또는 S3 호환 저장소)에 저장됩니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ManualService {
     private final ManualRepository manualRepository;
     private final UserRepository userRepository;
-    private final Path manualStorageLocation = Paths.get("uploads/manuals").toAbsolutePath();
-
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    private final ManualStorage manualStorage;
+    private final ManualPreviewService manualPreviewService;
+    private final ManualTransferMetrics transferMetrics;
+    private final RemoteCallGuard remoteCallGuard;
 
     /**
      * 매뉴얼 파일을 업로드하고 모델과 연결합니다.
@@ -42,61 +53,148 @@ public class ManualService {
      */
     @Transactional
     public Manual uploadManual(MultipartFile file, ProductModel model, User uploader) throws IOException {
-        // 디렉토리가 없으면 생성
-        Files.createDirectories(manualStorageLocation);
-
-        // 파일 이름 생성 (모델ID_timestamp.pdf)
-        String fileName = String.format("%d_%d.pdf", model.getId(), System.currentTimeMillis());
-        Path targetPath = manualStorageLocation.resolve(fileName);
-
-        // 파일 저장
-        Files.copy(file.getInputStream(), targetPath);
+        // 파일 저장 (저장과 동시에 내용 해시 계산)
+        StoredManualFile stored = store(file.getInputStream(), file.getOriginalFilename());
+        transferMetrics.recordUpload("multipart", stored.size());
 
         // DB에 매뉴얼 정보 저장
         Manual manual = new Manual();
         manual.setFileName(file.getOriginalFilename());
-        manual.setFilePath(fileName); // 파일명만 저장
+        manual.setFilePath(stored.key()); // 저장소 key 저장
+        manual.setContentHash(stored.contentHash());
+        manual.setFileSize(stored.size());
         manual.setUploadDate(LocalDateTime.now());
         manual.setUploader(uploader);
         manual.setProductModel(model);
 
-        return manualRepository.save(manual);
+        Manual saved = manualRepository.save(manual);
+        manualPreviewService.requestExtraction(saved.getId());
+        return saved;
     }
 
     /**
-     * ML 서버 연동을 위한 매뉴얼 파일 저장
-     * 1. 파일을 로컬 스토리지에 저장합니다.
-     * 2. 매뉴얼 정보를 데이터베이스에 저장합니다.
-     * 3. ML 처리 상태를 false로 초기화합니다.
+     * 매뉴얼 파일을 저장소에 저장합니다. (저장과 동시에 내용 해시 계산)
+     * 파일 전송 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 호출합니다.
+     * 이후 DB 저장이 실패하면 {@link #discardStoredFile(StoredManualFile)} 로 정리해야 합니다.
      *
-     * @param file 저장할 매뉴얼 파일
-     * @param modelName 매뉴얼이 속한 모델의 이름
-     * @return 저장된 매뉴얼 정보
+     * @param file 저장할 매뉴얼 파일 (getFilename() 이 원본 파일명을 반환해야 함)
+     * @return 저장된 파일 정보
      * @throws IOException 파일 저장 중 오류 발생 시
      */
-    @Transactional
-    public Manual saveManual(MultipartFile file, String modelName) throws IOException {
-        // 디렉토리가 없으면 생성
-        Files.createDirectories(manualStorageLocation);
+    public StoredManualFile storeManualFile(Resource file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return store(in, file.getFilename());
+        }
+    }
 
-        // 파일 이름 생성 (UUID + 원본 파일명)
-        String originalFilename = file.getOriginalFilename();
-        String uniqueFilename = UUID.randomUUID().toString() + "_" + originalFilename;
-        Path targetPath = manualStorageLocation.resolve(uniqueFilename);
+    /**
+     * 스트림으로 받은 매뉴얼 파일(압축 파일의 항목 등)을 저장소에 저장합니다.
+     * 저장소가 저장을 마치면 스트림을 닫으므로, 닫히면 안 되는 스트림은 감싸서 전달해야 합니다.
+     *
+     * @param content 저장할 파일 내용
+     * @param fileName 원본 파일명
+     * @return 저장된 파일 정보
+     * @throws IOException 파일 저장 중 오류 발생 시
+     */
+    public StoredManualFile storeManualFile(InputStream content, String fileName) throws IOException {
+        return store(content, fileName);
+    }
 
-        // 파일 저장
-        Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+    /**
+     * {@link #storeManualFile} 로 저장한 파일을 엽니다. (DB 저장 전 ML 서버 전송용)
+     *
+     * @throws IOException 조회 중 오류 발생 시
+     */
+    public ManualBlob openStoredFile(StoredManualFile stored) throws IOException {
+        return manualStorage.open(stored.key());
+    }
 
-        // Manual 엔티티 생성 및 저장
+    /**
+     * ML 서버 연동을 위한 매뉴얼 정보 저장
+     * 1. 저장소에 이미 저장된 파일로 매뉴얼 정보를 데이터베이스에 저장합니다.
+     * 2. ML 처리 상태를 false로 초기화합니다.
+     *
+     * @param stored 저장소에 저장된 파일 정보
+     * @param fileName 원본 파일명
+     * @param modelName 매뉴얼이 속한 모델의 이름
+     * @return 저장된 매뉴얼 정보
+     */
+    @Transactional
+    public Manual saveManual(StoredManualFile stored, String fileName, String modelName) {
         Manual manual = Manual.builder()
-                .fileName(originalFilename)
-                .filePath(uniqueFilename)  // 파일명만 저장
+                .fileName(fileName)
+                .filePath(stored.key())  // 저장소 key 저장
                 .modelName(modelName)
                 .uploadDate(LocalDateTime.now())
                 .mlProcessed(false)
+                .contentHash(stored.contentHash())
+                .fileSize(stored.size())
                 .build();
 
-        return manualRepository.save(manual);
+        Manual saved = manualRepository.save(manual);
+        manualPreviewService.requestExtraction(saved.getId());  // 커밋 후 메타데이터 추출
+        return saved;
+    }
+
+    /**
+     * 매뉴얼이 가리키는 파일을 새로 저장한 파일로 교체합니다.
+     * 1. 다른 요청이 먼저 교체하지 않았는지 저장소 key 로 확인합니다.
+     * 2. 파일 정보와 ML 서버 문서 식별자를 바꾸고 미리보기 메타데이터를 초기화한 뒤 다시 추출을 요청합니다.
+     * 3. 커밋 이후 이전 파일과 미리보기 이미지를 저장소에서 삭제합니다. (롤백되면 이전 파일 유지)
+     *
+     * @param manualId 교체할 매뉴얼의 ID
+     * @param expectedKey 교체 전 매뉴얼의 저장소 key
+     * @param stored 새로 저장한 파일 정보
+     * @param fileName 새 파일의 원본 파일명
+     * @param mlDocName 새 파일을 등록한 ML 서버 문서 식별자
+     * @return 교체된 매뉴얼 정보
+     * @throws IllegalArgumentException 매뉴얼을 찾을 수 없는 경우
+     * @throws IllegalStateException 다른 요청이 먼저 매뉴얼을 교체한 경우
+     */
+    @Transactional
+    public Manual swapManualFile(Long manualId, String expectedKey, StoredManualFile stored, String fileName,
+                                 String mlDocName) {
+        Manual manual = manualRepository.findById(manualId)
+                .orElseThrow(() -> new IllegalArgumentException("매뉴얼을 찾을 수 없습니다."));
+        if (!expectedKey.equals(manual.getFilePath())) {
+            throw new IllegalStateException("다른 요청이 먼저 매뉴얼을 교체했습니다. 다시 시도해주세요.");
+        }
+
+        String oldKey = manual.getFilePath();
+        String oldThumbnailKey = manual.getThumbnailKey();
+        manual.setFileName(fileName);
+        manual.setFilePath(stored.key());
+        manual.setMlDocName(mlDocName);
+        manual.setContentHash(stored.contentHash());
+        manual.setFileSize(stored.size());
+        manual.setUploadDate(LocalDateTime.now());
+        manual.setPageCount(null);
+        manual.setTitle(null);
+        manual.setThumbnailKey(null);
+        manual.setPreviewExtractedAt(null);
+        Manual saved = manualRepository.save(manual);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteQuietly(oldKey);
+                if (oldThumbnailKey != null) {
+                    deleteQuietly(oldThumbnailKey);
+                }
+            }
+        });
+        manualPreviewService.requestExtraction(saved.getId());  // 커밋 후 메타데이터 추출
+        return saved;
+    }
+
+    /**
+     * DB 저장에 실패한 매뉴얼 파일을 저장소에서 삭제합니다. (보상 처리)
+     * 삭제에 실패해도 예외를 던지지 않고 기록만 남깁니다.
+     *
+     * @param stored 삭제할 파일 정보
+     */
+    public void discardStoredFile(StoredManualFile stored) {
+        deleteQuietly(stored.key());
     }
 
     /**
@@ -117,32 +215,64 @@ public class ManualService {
      * @throws IOException 파일 로드 중 오류 발생 시
      */
     public Resource loadManualAsResource(Manual manual) throws IOException {
+        ManualBlob blob = openManual(manual);
+        if (blob.localPath().isPresent()) {
+            return new UrlResource(blob.localPath().get().toUri());
+        }
+        return new InputStreamResource(blob.openStream());
+    }
+
+    /**
+     * 저장소에서 매뉴얼 파일 핸들을 조회합니다.
+     *
+     * @param manual 조회할 매뉴얼 정보
+     * @return 매뉴얼 파일 핸들
+     * @throws IOException 매뉴얼 정보가 올바르지 않거나 파일을 읽을 수 없는 경우
+     */
+    public ManualBlob openManual(Manual manual) throws IOException {
         if (manual == null || manual.getFilePath() == null) {
             throw new IOException("매뉴얼 정보가 올바르지 않습니다.");
         }
+        ManualFileIoEvent event = ManualFileIoEvent.start("open", manual.getFilePath());
+        try {
+            ManualBlob blob = manualStorage.open(manual.getFilePath());
+            event.succeeded(blob.size());
+            return blob;
+        } finally {
+            event.commit();
+        }
+    }
 
-        // 파일 경로 처리
-        Path filePath;
-        if (manual.getFilePath().contains("\\") || manual.getFilePath().contains("/")) {
-            // 전체 경로가 저장된 경우 (이전 데이터)
-            filePath = Paths.get(manual.getFilePath());
-        } else {
-            // 파일명만 저장된 경우 (새로운 방식)
-            filePath = manualStorageLocation.resolve(manual.getFilePath());
+    /**
+     * 매뉴얼 파일 내용의 해시를 반환합니다.
+     * 해시가 없는 이전 데이터는 파일을 한 번 읽어 계산한 뒤 저장합니다.
+     *
+     * @param manual 해시를 조회할 매뉴얼 정보
+     * @return SHA-256 해시 (16진수)
+     * @throws IOException 파일 읽기 중 오류 발생 시
+     */
+    @Transactional
+    public String ensureContentHash(Manual manual) throws IOException {
+        if (manual.getContentHash() != null) {
+            return manual.getContentHash();
         }
 
-        Resource resource = new UrlResource(filePath.toUri());
-        
-        if (resource.exists() && resource.isReadable()) {
-            return resource;
-        } else {
-            throw new IOException("매뉴얼 파일을 읽을 수 없습니다: " + filePath);
+        ManualBlob blob = openManual(manual);
+        ManualFileIoEvent event = ManualFileIoEvent.start("hash", manual.getFilePath());
+        try (InputStream in = blob.openStream()) {
+            manual.setContentHash(ContentHashes.sha256Hex(in));
+            event.succeeded(blob.size());
+        } finally {
+            event.commit();
         }
+        manual.setFileSize(blob.size());
+        manualRepository.save(manual);
+        return manual.getContentHash();
     }
 
     /**
      * 매뉴얼을 삭제합니다.
-     * 1. 파일 시스템에서 매뉴얼 파일을 삭제합니다.
+     * 1. 저장소에서 매뉴얼 파일과 미리보기 이미지를 삭제합니다.
      * 2. 데이터베이스에서 매뉴얼 정보를 삭제합니다.
      *
      * @param modelId 삭제할 매뉴얼이 속한 모델의 ID
@@ -160,11 +290,17 @@ public class ManualService {
         }
         
         if (manual.getFilePath() != null) {
+            ManualFileIoEvent event = ManualFileIoEvent.start("delete", manual.getFilePath());
             try {
-                Path filePath = manualStorageLocation.resolve(manual.getFilePath());
-                Files.deleteIfExists(filePath);
+                manualStorage.delete(manual.getFilePath());
+                if (manual.getThumbnailKey() != null) {
+                    manualStorage.delete(manual.getThumbnailKey());
+                }
+                event.succeeded(manual.getFileSize() != null ? manual.getFileSize() : 0);
             } catch (IOException e) {
                 throw new RuntimeException("매뉴얼 파일 삭제 중 오류가 발생했습니다.", e);
+            } finally {
+                event.commit();
             }
         }
         
@@ -183,4 +319,31 @@ public class ManualService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         return manualRepository.findByUploader(user);
     }
+
+    /**
+     * 저장소에서 파일을 삭제합니다. 실패해도 예외를 던지지 않고 기록만 남깁니다.
+     */
+    private void deleteQuietly(String key) {
+        try {
+            manualStorage.delete(key);
+        } catch (IOException e) {
+            log.warn("저장된 매뉴얼 파일 정리 실패 - key: {}, 에러: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 매뉴얼 파일을 저장소에 저장합니다. (JFR 파일 입출력 이벤트 기록)
+     */
+    private StoredManualFile store(InputStream in, String fileName) throws IOException {
+        remoteCallGuard.check("manual.store");
+        ManualFileIoEvent event = ManualFileIoEvent.start("store", fileName);
+        try {
+            StoredManualFile stored = manualStorage.store(in, fileName);
+            event.setKey(stored.key());
+            event.succeeded(stored.size());
+            return stored;
+        } finally {
+            event.commit();
+        }
+    }
 }
@@ -0,0 +1,375 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.ManualUploadProperties;
+import CC_BE.CC_BE.domain.ManualUploadChunk;
+import CC_BE.CC_BE.domain.ManualUploadSession;
+import CC_BE.CC_BE.domain.User;
+import CC_BE.CC_BE.dto.ManualUploadRequest;
+import CC_BE.CC_BE.dto.ManualUploadResponse;
+import CC_BE.CC_BE.dto.ProductModelResponse;
+import CC_BE.CC_BE.metrics.ManualTransferMetrics;
+import CC_BE.CC_BE.repository.ManualUploadChunkRepository;
+import CC_BE.CC_BE.repository.ManualUploadSessionRepository;
+import CC_BE.CC_BE.storage.ContentHashes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 대용량 매뉴얼의 재개 가능한 분할 업로드를 담당하는 서비스 클래스
+ * 1. 업로드 세션을 생성하고 청크 크기와 개수를 알려줍니다.
+ * 2. 각 청크를 청크별 임시 파일에 받아 검증(길이, SHA-256)한 뒤 조립용 임시 파일의 해당 위치(offset)에 복사합니다.
+ *    검증에 실패한 청크는 조립용 파일에 기록되지 않으므로, 이미 받은 청크를 덮어쓰지 않습니다.
+ *    청크는 순서와 관계없이 동시에 받을 수 있으며, 실패한 청크만 다시 보내면 됩니다.
+ * 3. 모든 청크가 도착하면 완료 요청으로 제품 모델과 매뉴얼을 생성합니다.
+ *    완료 처리를 시작한 뒤에는 청크를 조립용 파일에 기록하지 않으므로, 늦게 도착한 재전송이 처리 중인 파일을 바꾸지 못합니다.
+ *    이미 완료된 세션에 대한 재요청은 기존 결과를 그대로 반환합니다.
+ */
+@Slf4j
+@Service
+public class ManualUploadService {
+    private final ManualUploadSessionRepository sessionRepository;
+    private final ManualUploadChunkRepository chunkRepository;
+    private final ProductModelService productModelService;
+    private final ManualUploadProperties properties;
+    private final ManualTransferMetrics transferMetrics;
+    private final Path tempDir;
+    // 세션별 잠금 (청크 기록은 읽기 잠금, 완료 처리 시작은 쓰기 잠금), 세션 ID 해시로 나눔
+    private final ReadWriteLock[] sessionLocks = new ReadWriteLock[64];
+
+    public ManualUploadService(ManualUploadSessionRepository sessionRepository,
+                               ManualUploadChunkRepository chunkRepository,
+                               ProductModelService productModelService,
+                               ManualUploadProperties properties,
+                               ManualTransferMetrics transferMetrics,
+                               @Value("${file.upload-dir:uploads}") String uploadDir) {
+        this.sessionRepository = sessionRepository;
+        this.chunkRepository = chunkRepository;
+        this.productModelService = productModelService;
+        this.properties = properties;
+        this.transferMetrics = transferMetrics;
+        this.tempDir = (StringUtils.hasText(properties.getTempDir())
+                ? Paths.get(properties.getTempDir())
+                : Paths.get(uploadDir, "upload-sessions")).toAbsolutePath();
+        for (int i = 0; i < sessionLocks.length; i++) {
+            sessionLocks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * 새로운 분할 업로드 세션을 생성합니다.
+     * 모델명과 파일 정보는 업로드를 시작하기 전에 미리 검증합니다.
+     *
+     * @param scope 공용/개인 모델 구분
+     * @param request 세션 생성 요청 (모델명, 카테고리, 파일명, 전체 크기)
+     * @param user 업로드를 시작한 사용자
+     * @return 생성된 세션 정보
+     * @throws IllegalArgumentException 요청 값이 올바르지 않은 경우
+     */
+    public ManualUploadResponse createSession(ManualUploadSession.Scope scope, ManualUploadRequest request, User user)
+            throws IOException {
+        productModelService.validateModelName(request.getName());
+
+        String fileName = request.getFileName();
+        if (fileName == null || !fileName.toLowerCase().endsWith(".pdf")) {
+            throw new IllegalArgumentException("PDF 파일만 업로드 가능합니다.");
+        }
+        if (scope == ManualUploadSession.Scope.PUBLIC && request.getCategoryId() == null) {
+            throw new IllegalArgumentException("공용 모델은 카테고리가 필요합니다.");
+        }
+        Long totalSize = request.getTotalSize();
+        if (totalSize == null || totalSize <= 0) {
+            throw new IllegalArgumentException("파일 크기가 올바르지 않습니다.");
+        }
+        if (totalSize > properties.getMaxFileSize()) {
+            throw new IllegalArgumentException("파일 크기가 최대 허용 크기(" + properties.getMaxFileSize() + " bytes)를 초과합니다.");
+        }
+
+        int chunkSize = properties.getChunkSize();
+        int chunkCount = (int) ((totalSize + chunkSize - 1) / chunkSize);
+        LocalDateTime now = LocalDateTime.now();
+
+        ManualUploadSession session = ManualUploadSession.builder()
+                .id(UUID.randomUUID().toString())
+                .scope(scope)
+                .ownerId(user.getId())
+                .modelName(request.getName())
+                .categoryId(scope == ManualUploadSession.Scope.PUBLIC ? request.getCategoryId() : null)
+                .fileName(fileName)
+                .totalSize(totalSize)
+                .chunkSize(chunkSize)
+                .chunkCount(chunkCount)
+                .checksum(StringUtils.hasText(request.getChecksum()) ? request.getChecksum().toLowerCase() : null)
+                .status(ManualUploadSession.Status.UPLOADING)
+                .createdAt(now)
+                .expiresAt(now.plusHours(properties.getSessionTtlHours()))
+                .build();
+
+        // 조립용 임시 파일 생성 (청크는 검증을 마친 뒤 각자의 위치에 기록)
+        Files.createDirectories(tempDir);
+        Files.createFile(partFile(session.getId()));
+
+        sessionRepository.save(session);
+        log.info("분할 업로드 세션 생성 - ID: {}, 모델명: {}, 크기: {} bytes, 청크: {}개",
+                session.getId(), session.getModelName(), totalSize, chunkCount);
+        return ManualUploadResponse.from(session, List.of());
+    }
+
+    /**
+     * 업로드 세션의 현재 상태를 조회합니다.
+     * 재개 시 클라이언트는 receivedChunks 에 없는 청크만 다시 전송합니다.
+     */
+    public ManualUploadResponse getSession(String uploadId, User user) {
+        ManualUploadSession session = getOwnedSession(uploadId, user);
+        return ManualUploadResponse.from(session, chunkRepository.findChunkIndexesBySessionId(uploadId));
+    }
+
+    /**
+     * 청크 하나를 수신하여 조립용 임시 파일의 해당 위치에 기록합니다.
+     * 청크별 임시 파일에 먼저 받아 길이와 SHA-256 해시를 확인한 뒤에만 조립용 파일에 복사하고 수신 완료로 기록하므로,
+     * 같은 청크를 다시 보내거나 잘못된 청크를 보내도 이미 받은 내용이 손상되지 않습니다.
+     *
+     * @param uploadId 업로드 세션 ID
+     * @param index 청크 번호 (0부터 시작)
+     * @param checksum 청크 내용의 SHA-256 해시 (16진수)
+     * @param content 청크 내용
+     * @param user 요청한 사용자
+     * @throws IllegalArgumentException 청크 번호, 길이, 해시가 올바르지 않은 경우
+     * @throws IllegalStateException 이미 완료 처리 중이거나 완료된 세션인 경우
+     */
+    public void writeChunk(String uploadId, int index, String checksum, InputStream content, User user)
+            throws IOException {
+        ManualUploadSession session = getOwnedSession(uploadId, user);
+        if (session.getStatus() != ManualUploadSession.Status.UPLOADING) {
+            throw new IllegalStateException("이미 완료되었거나 완료 처리 중인 업로드입니다.");
+        }
+        if (index < 0 || index >= session.getChunkCount()) {
+            throw new IllegalArgumentException("청크 번호가 올바르지 않습니다: " + index);
+        }
+        if (!StringUtils.hasText(checksum)) {
+            throw new IllegalArgumentException("청크 해시(X-Chunk-Sha256)는 필수입니다.");
+        }
+
+        long offset = (long) index * session.getChunkSize();
+        long expectedLength = Math.min(session.getChunkSize(), session.getTotalSize() - offset);
+
+        // 청크를 해시하면서 청크별 임시 파일에 기록
+        Path chunkFile = tempDir.resolve(uploadId + "." + index + "." + UUID.randomUUID() + ".chunk");
+        MessageDigest digest = ContentHashes.sha256();
+        long written = 0;
+        try {
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(chunkFile, StandardOpenOption.CREATE_NEW)) {
+                byte[] buffer = new byte[64 * 1024];
+                int n;
+                while (written <= expectedLength && (n = in.read(buffer)) != -1) {  // 기대 길이를 넘으면 중단
+                    out.write(buffer, 0, n);
+                    written += n;
+                }
+            }
+            if (written != expectedLength) {
+                throw new IllegalArgumentException("청크 길이가 올바르지 않습니다. (기대값: " + expectedLength + " bytes)");
+            }
+            String actual = ContentHashes.toHex(digest);
+            if (!actual.equalsIgnoreCase(checksum.trim())) {
+                throw new IllegalArgumentException("청크 해시가 일치하지 않습니다: " + index);
+            }
+
+            // 검증한 청크를 조립용 파일의 해당 위치에 복사 (청크마다 별도 채널을 사용하므로 병렬 수신 가능)
+            // 청크를 받는 동안 완료 처리가 시작되었을 수 있으므로 잠금을 잡고 상태를 다시 확인
+            Lock lock = sessionLock(uploadId).readLock();
+            lock.lock();
+            try {
+                if (sessionRepository.findStatusById(uploadId).orElse(null) != ManualUploadSession.Status.UPLOADING) {
+                    throw new IllegalStateException("이미 완료되었거나 완료 처리 중인 업로드입니다.");
+                }
+                try (FileChannel source = FileChannel.open(chunkFile, StandardOpenOption.READ);
+                     FileChannel target = FileChannel.open(partFile(uploadId), StandardOpenOption.WRITE)) {
+                    long copied = 0;
+                    while (copied < written) {
+                        copied += source.transferTo(copied, written - copied, target.position(offset + copied));
+                    }
+                    target.force(false);
+                }
+                recordChunk(uploadId, index, actual);
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            Files.deleteIfExists(chunkFile);
+        }
+
+        transferMetrics.recordUpload("chunked", written);
+        log.debug("청크 수신 완료 - 세션: {}, 청크: {}/{}", uploadId, index + 1, session.getChunkCount());
+    }
+
+    /**
+     * 모든 청크가 도착한 업로드를 완료하고 제품 모델과 매뉴얼을 생성합니다.
+     * 이미 완료된 세션이면 기존에 생성된 모델 정보를 반환하므로 안전하게 재시도할 수 있습니다.
+     *
+     * @param uploadId 업로드 세션 ID
+     * @param user 요청한 사용자
+     * @return 생성된 제품 모델 정보
+     * @throws IllegalStateException 누락된 청크가 있거나 다른 요청이 완료 처리 중인 경우
+     */
+    public ProductModelResponse complete(String uploadId, User user) throws IOException {
+        ManualUploadSession session = getOwnedSession(uploadId, user);
+        if (session.getStatus() == ManualUploadSession.Status.COMPLETED) {
+            return ProductModelResponse.from(productModelService.findById(session.getProductModelId()));
+        }
+
+        long received = chunkRepository.countBySessionId(uploadId);
+        if (received < session.getChunkCount()) {
+            throw new IllegalStateException("아직 수신되지 않은 청크가 있습니다. ("
+                    + received + "/" + session.getChunkCount() + ")");
+        }
+
+        // 동시에 들어온 완료 요청 중 하나만 진행 (기록 중인 청크가 끝난 뒤 상태를 바꾸고, 이후 청크는 거절됨)
+        Lock lock = sessionLock(uploadId).writeLock();
+        lock.lock();
+        try {
+            if (sessionRepository.updateStatus(uploadId, ManualUploadSession.Status.UPLOADING,
+                    ManualUploadSession.Status.FINALIZING) == 0) {
+                throw new IllegalStateException("다른 요청에서 업로드를 완료 처리 중입니다.");
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        Path partFile = partFile(uploadId);
+        try {
+            if (session.getChecksum() != null) {
+                String actual;
+                try (InputStream in = Files.newInputStream(partFile)) {
+                    actual = ContentHashes.sha256Hex(in);
+                }
+                if (!actual.equals(session.getChecksum())) {
+                    throw new IllegalArgumentException("전체 파일 해시가 일치하지 않습니다.");
+                }
+            }
+
+            AssembledManualResource manualFile = new AssembledManualResource(partFile, session.getFileName());
+            ProductModelResponse model = session.getScope() == ManualUploadSession.Scope.PUBLIC
+                    ? productModelService.createPublicModel(session.getModelName(), session.getCategoryId(), manualFile)
+                    : productModelService.createPersonalModel(session.getModelName(), manualFile, user.getEmail());
+
+            session.setStatus(ManualUploadSession.Status.COMPLETED);
+            session.setProductModelId(model.getId());
+            sessionRepository.save(session);
+            chunkRepository.deleteBySessionId(uploadId);
+            Files.deleteIfExists(partFile);
+
+            log.info("분할 업로드 완료 - 세션: {}, 모델 ID: {}", uploadId, model.getId());
+            return model;
+        } catch (IOException | RuntimeException e) {
+            // 실패 시 다시 완료 요청할 수 있도록 상태 복구 (수신된 청크는 유지)
+            sessionRepository.updateStatus(uploadId, ManualUploadSession.Status.FINALIZING,
+                    ManualUploadSession.Status.UPLOADING);
+            throw e;
+        }
+    }
+
+    /**
+     * 업로드 세션을 취소하고 임시 파일을 삭제합니다.
+     */
+    public void abort(String uploadId, User user) throws IOException {
+        ManualUploadSession session = getOwnedSession(uploadId, user);
+        if (session.getStatus() == ManualUploadSession.Status.FINALIZING) {
+            throw new IllegalStateException("완료 처리 중인 업로드는 취소할 수 없습니다.");
+        }
+        deleteSession(session);
+    }
+
+    /**
+     * 만료된 미완료 업로드 세션과 임시 파일을 주기적으로 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${manual.upload.cleanup-interval-ms:3600000}")
+    public void cleanupExpiredSessions() {
+        List<ManualUploadSession> expired = sessionRepository.findByExpiresAtBeforeAndStatusNot(
+                LocalDateTime.now(), ManualUploadSession.Status.FINALIZING);
+        for (ManualUploadSession session : expired) {
+            try {
+                deleteSession(session);
+            } catch (Exception e) {
+                log.warn("만료된 업로드 세션 정리 실패 - ID: {}, 에러: {}", session.getId(), e.getMessage());
+            }
+        }
+        if (!expired.isEmpty()) {
+            log.info("만료된 업로드 세션 {}개 정리 완료", expired.size());
+        }
+    }
+
+    private void deleteSession(ManualUploadSession session) throws IOException {
+        chunkRepository.deleteBySessionId(session.getId());
+        sessionRepository.delete(session);
+        Files.deleteIfExists(partFile(session.getId()));
+    }
+
+    private void recordChunk(String uploadId, int index, String checksum) {
+        ManualUploadChunk chunk = chunkRepository.findBySessionIdAndChunkIndex(uploadId, index)
+                .orElseGet(() -> ManualUploadChunk.builder().sessionId(uploadId).chunkIndex(index).build());
+        chunk.setChecksum(checksum);
+        try {
+            chunkRepository.save(chunk);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 청크가 동시에 두 번 도착한 경우 - 이미 기록되었으므로 무시
+            log.debug("중복 청크 수신 무시 - 세션: {}, 청크: {}", uploadId, index);
+        }
+    }
+
+    private ManualUploadSession getOwnedSession(String uploadId, User user) {
+        ManualUploadSession session = sessionRepository.findById(uploadId)
+                .orElseThrow(() -> new IllegalArgumentException("업로드 세션을 찾을 수 없습니다: " + uploadId));
+        if (!session.getOwnerId().equals(user.getId())) {
+            throw new SecurityException("해당 업로드에 접근할 권한이 없습니다.");
+        }
+        return session;
+    }
+
+    private ReadWriteLock sessionLock(String uploadId) {
+        return sessionLocks[Math.floorMod(uploadId.hashCode(), sessionLocks.length)];
+    }
+
+    private Path partFile(String uploadId) {
+        return tempDir.resolve(uploadId + ".part");
+    }
+
+    /**
+     * 조립된 임시 파일을 원본 파일명으로 노출하는 Resource
+     * (ML 서버 업로드 시 multipart 파일명, 매뉴얼 저장 시 원본 파일명으로 사용)
+     */
+    private static class AssembledManualResource extends FileSystemResource {
+        private final String originalFilename;
+
+        AssembledManualResource(Path path, String originalFilename) {
+            super(path);
+            this.originalFilename = originalFilename;
+        }
+
+        @Override
+        public String getFilename() {
+            return originalFilename;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.MlDeletionProperties;
+import CC_BE.CC_BE.domain.MlDocumentDeletion;
+import CC_BE.CC_BE.repository.ManualRepository;
+import CC_BE.CC_BE.repository.MlDocumentDeletionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ML 서버 문서 삭제 서비스 (outbox)
+ * 1. 모델을 삭제하는 트랜잭션 안에서 삭제할 문서를 대기열에 기록합니다. (롤백되면 기록도 취소)
+ * 2. 주기적으로 대기열을 배치 단위로 읽어 ML 서버에 삭제를 요청하고, 성공한 요청을 지웁니다.
+ * 3. 실패한 요청은 대기 시간을 두 배씩 늘려 다시 시도하며, 최대 횟수에 도달하면 더 시도하지 않습니다. (OutboxDrainer)
+ * 삭제 요청은 사용자 요청 처리와 분리되어 있으므로 ML 서버가 느리거나 장애여도 삭제 응답이 늦어지지 않습니다.
+ * 문서 식별자는 업로드마다 새로 발급되므로(MlDocumentNames), 같은 이름으로 다시 만들어진 모델의 문서와 겹치지 않습니다.
+ * 보내기 직전에 그 문서를 가리키는 매뉴얼이 있으면(식별자가 없던 이전 데이터) 삭제하지 않습니다.
+ * 지표: ml.deletion.documents{outcome=success|failure|superseded}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MlDocumentDeletionService {
+    private final MlDocumentDeletionRepository deletionRepository;
+    private final ManualRepository manualRepository;
+    private final MLServerService mlServerService;
+    private final MlDeletionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 삭제할 ML 서버 문서를 대기열에 기록합니다.
+     * 모델 삭제(또는 등록 실패 보상)와 같은 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param docNames 삭제할 문서 식별자
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Collection<String> docNames) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MlDocumentDeletion> deletions = new ArrayList<>(docNames.size());
+        for (String docName : docNames) {
+            deletions.add(MlDocumentDeletion.builder()
+                    .docName(docName)
+                    .attempts(0)
+                    .nextAttemptAt(now)
+                    .createdAt(now)
+                    .build());
+        }
+        deletionRepository.saveAll(deletions);
+    }
+
+    /**
+     * 대기열의 삭제 요청을 ML 서버로 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${ml.deletion.drain-interval-ms:5000}")
+    public void drain() {
+        new OutboxDrainer<>("ML 서버 문서 삭제", "ml.deletion.documents", deletionRepository, properties,
+                meterRegistry, MlDocumentDeletion::getDocName).drain(this::send);
+    }
+
+    /**
+     * 삭제 요청 하나를 처리합니다.
+     *
+     * @return 처리 결과 (지표 outcome)
+     * @throws RuntimeException ML 서버 통신에 실패한 경우 (다음에 다시 시도)
+     */
+    private String send(MlDocumentDeletion deletion) {
+        String docName = deletion.getDocName();
+        if (manualRepository.existsByMlDocument(docName)) {
+            log.info("다른 매뉴얼이 사용 중인 ML 서버 문서라 삭제 생략 - 문서: {}", docName);
+            return "superseded";
+        }
+        mlServerService.deleteDocument(docName);
+        return "success";
+    }
+}
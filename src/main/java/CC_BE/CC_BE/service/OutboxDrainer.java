@@ -0,0 +1,106 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.OutboxProperties;
+import CC_BE.CC_BE.domain.OutboxEntry;
+import CC_BE.CC_BE.repository.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 삭제 대기열(outbox) 처리 루프
+ * 1. 지금 시도할 수 있는 항목을 배치 단위로 읽어 하나씩 처리합니다.
+ * 2. 처리한 항목은 배치마다 한 번에 지웁니다.
+ * 3. 실패한 항목은 대기 시간을 두 배씩 늘려 다시 시도하도록 기록하며, 최대 횟수에 도달하면 더 시도하지 않습니다.
+ * 지표: {metricName}{outcome=처리 결과|failure}
+ */
+@Slf4j
+@RequiredArgsConstructor
+class OutboxDrainer<T extends OutboxEntry> {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final String label;                 // 로그에 쓰는 작업 이름 (예: "ML 서버 문서 삭제")
+    private final String metricName;
+    private final OutboxRepository<T> repository;
+    private final OutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Function<T, String> target;   // 로그에 쓰는 처리 대상 (문서 식별자, 저장소 key)
+
+    /**
+     * 대기열이 빌 때까지(또는 지금 시도할 항목이 없을 때까지) 처리합니다.
+     *
+     * @param handler 항목 하나를 처리하고 결과(지표 outcome)를 반환, 실패하면 예외
+     */
+    void drain(Handler<T> handler) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        while (true) {
+            List<T> batch = repository.findDue(LocalDateTime.now(), properties.getMaxAttempts(),
+                    PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            List<Long> done = new ArrayList<>(batch.size());
+            for (T entry : batch) {
+                if (process(entry, handler)) {
+                    done.add(entry.getId());
+                }
+            }
+            if (!done.isEmpty()) {
+                repository.deleteAllByIdInBatch(done);
+                log.info("{} 완료 - {}개", label, done.size());
+            }
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return 대기열에서 지워도 되면 true
+     */
+    private boolean process(T entry, Handler<T> handler) {
+        try {
+            count(handler.handle(entry));
+            return true;
+        } catch (Exception e) {
+            count("failure");
+            int attempts = entry.getAttempts() + 1;
+            long backoffMs = Math.min(properties.getMaxRetryBackoffMs(),
+                    properties.getRetryBackoffMs() << Math.min(attempts - 1, 20));
+            String error = e.getMessage() != null && e.getMessage().length() > MAX_ERROR_LENGTH
+                    ? e.getMessage().substring(0, MAX_ERROR_LENGTH) : e.getMessage();
+            repository.markFailed(entry.getId(), LocalDateTime.now().plus(Duration.ofMillis(backoffMs)), error);
+            if (attempts >= properties.getMaxAttempts()) {
+                log.error("{} 재시도 중단 - 대상: {}, 시도: {}회, 에러: {}", label, target.apply(entry), attempts, e.getMessage());
+            } else {
+                log.warn("{} 실패 - 대상: {}, 시도: {}회, {}ms 후 재시도, 에러: {}",
+                        label, target.apply(entry), attempts, backoffMs, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter(metricName, "outcome", outcome).increment();
+    }
+
+    /**
+     * 대기열 항목 하나를 처리합니다.
+     */
+    @FunctionalInterface
+    interface Handler<T> {
+        /**
+         * @return 처리 결과 (지표 outcome, 예: success)
+         * @throws Exception 처리에 실패한 경우 (다음에 다시 시도)
+         */
+        String handle(T entry) throws Exception;
+    }
+}
@@ -3,19 +3,33 @@ package CC_BE.CC_BE.service;
 import CC_BE.CC_BE.domain.Brand;
 import CC_BE.CC_BE.domain.Category;
 import CC_BE.CC_BE.domain.Manual;
+import CC_BE.CC_BE.domain.NameKey;
 import CC_BE.CC_BE.domain.ProductModel;
 import CC_BE.CC_BE.domain.User;
 import CC_BE.CC_BE.dto.ProductModelResponse;
+import CC_BE.CC_BE.ml.MlDocumentNames;
 import CC_BE.CC_BE.repository.CategoryRepository;
+import CC_BE.CC_BE.repository.ManualFileDeletionRepository;
+import CC_BE.CC_BE.repository.ManualRepository;
+import CC_BE.CC_BE.repository.MlDocumentDeletionRepository;
 import CC_BE.CC_BE.repository.ProductModelRepository;
 import CC_BE.CC_BE.repository.UserRepository;
+import CC_BE.CC_BE.storage.StoredManualFile;
+import CC_BE.CC_BE.storage.StoredManualResource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Slf4j
@@ -24,10 +38,16 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ProductModelService {
     private final ProductModelRepository productModelRepository;
+    private final ManualRepository manualRepository;
+    private final MlDocumentDeletionRepository mlDocumentDeletionRepository;
+    private final ManualFileDeletionRepository manualFileDeletionRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final ManualService manualService;
     private final MLServerService mlServerService;
+    private final ManualCacheService manualCacheService;
+    private final MlDocumentDeletionService mlDocumentDeletionService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 모든 공용 모델을 조회합니다.
@@ -43,9 +63,10 @@ public class ProductModelService {
     /**
      * 새로운 공용 모델을 생성합니다.
      * 1. 모델명 유효성을 검사합니다.
-     * 2. 매뉴얼 PDF를 ML 서버로 전송하여 처리를 요청합니다.
-     * 3. 매뉴얼 파일을 로컬 스토리지에 저장합니다.
-     * 4. 공용 모델 정보를 데이터베이스에 저장합니다.
+     * 2. 매뉴얼 파일을 저장소에 저장합니다.
+     * 3. 매뉴얼 PDF를 ML 서버로 전송하여 처리를 요청합니다.
+     * 4. 공용 모델과 매뉴얼 정보를 데이터베이스에 저장합니다.
+     * 파일 저장과 ML 서버 전송은 트랜잭션 밖에서 수행하여 그 동안 DB 커넥션을 점유하지 않습니다.
      *
      * @param name 생성할 모델의 이름 (한글 불가, 3글자 이상)
      * @param categoryId 모델이 속할 카테고리의 ID
@@ -53,54 +74,103 @@ public class ProductModelService {
      * @return 생성된 공용 모델 정보
      * @throws RuntimeException 모델 생성 중 오류 발생 시
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductModelResponse createPublicModel(String name, Long categoryId, MultipartFile manualFile) {
-        // 모델명 유효성 검사
-        validateModelName(name);
+        return createPublicModel(name, categoryId, manualFile.getResource());
+    }
 
-        // 카테고리 조회
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다."));
+    /**
+     * 새로운 공용 모델을 생성합니다.
+     * 분할 업로드로 조립된 파일처럼 MultipartFile 이 아닌 매뉴얼 파일에도 사용합니다.
+     *
+     * @param name 생성할 모델의 이름 (한글 불가, 3글자 이상)
+     * @param categoryId 모델이 속할 카테고리의 ID
+     * @param manualFile 모델의 매뉴얼 PDF 파일 (getFilename() 이 원본 파일명을 반환해야 함)
+     * @return 생성된 공용 모델 정보
+     * @throws RuntimeException 모델 생성 중 오류 발생 시
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductModelResponse createPublicModel(String name, Long categoryId, Resource manualFile) {
+        // 모델명 유효성 검사와 카테고리 조회는 짧은 트랜잭션 안에서 마쳐 커넥션을 바로 반환
+        ProductModel productModel = transactionTemplate.execute(status -> {
+            validateModelName(name);
 
-        try {
-            // ML 서버에 매뉴얼 업로드
-            boolean mlServerSuccess = mlServerService.uploadManualToMLServer(manualFile, name);
-            if (!mlServerSuccess) {
-                throw new RuntimeException("ML 서버 처리 중 오류가 발생했습니다.");
-            }
+            Category category = categoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다."));
 
             // 공용 모델 생성
-            ProductModel productModel = ProductModel.builder()
+            return ProductModel.builder()
                     .name(name)
                     .category(category)
                     .brand(category.getBrand())
                     .build();
+        });
 
-            // 모델 저장
-            ProductModel savedModel = productModelRepository.save(productModel);
-
-            // 매뉴얼 저장 및 모델과 연결
-            Manual savedManual = manualService.saveManual(manualFile, name);
-            savedManual.setProductModel(savedModel);  // 매뉴얼과 모델 연결
-            
-            // 모델에도 매뉴얼 설정
-            savedModel.setManual(savedManual);
-            
-            // 최종 저장
-            savedModel = productModelRepository.save(savedModel);
-            
-            return ProductModelResponse.from(savedModel);
+        return createModelWithManual(productModel, manualFile, null);
+    }
+
+    /**
+     * 저장소에 이미 저장된 매뉴얼 파일로 공용 모델을 등록합니다. (압축 파일 일괄 등록용)
+     * 같은 카테고리에 매뉴얼 없이 등록된 같은 이름의 공용 모델(카탈로그 일괄 등록으로 만든 모델)이 있으면
+     * 새 모델을 만들지 않고 그 모델에 매뉴얼을 연결합니다.
+     * 이름은 카탈로그 일괄 등록과 같이 대소문자를 무시하고 비교하며, 연결된 모델은 기존 모델의 이름을 그대로 씁니다.
+     * 실패하면 저장된 파일을 삭제합니다.
+     *
+     * @param name 모델 이름 (한글 불가, 3글자 이상)
+     * @param categoryId 모델이 속할 카테고리의 ID
+     * @param stored 저장소에 저장된 매뉴얼 파일
+     * @param fileName 원본 파일명
+     * @return 등록된 모델 정보와 기존 모델 연결 여부
+     * @throws IllegalArgumentException 모델명이 잘못되었거나 이미 존재하는 경우, 카테고리를 찾을 수 없는 경우
+     * @throws IllegalStateException 다른 요청이 먼저 같은 모델에 매뉴얼을 등록한 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ManualIngestion ingestPublicManual(String name, Long categoryId, StoredManualFile stored, String fileName) {
+        ProductModel productModel;
+        Resource manualFile;
+        try {
+            productModel = transactionTemplate.execute(status -> {
+                validateModelNameFormat(name);
+                Category category = categoryRepository.findById(categoryId)
+                        .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
+
+                // 대소문자만 다른 모델도 같은 모델로 보고, 연결할 수 없으면 중복으로 거절
+                List<ProductModel> sameName = productModelRepository.findByNameKey(NameKey.of(name));
+                if (sameName.isEmpty()) {
+                    return ProductModel.builder()
+                            .name(name)
+                            .category(category)
+                            .brand(category.getBrand())
+                            .build();
+                }
+                ProductModel existing = sameName.get(0);
+                boolean attachable = sameName.size() == 1 && existing.getOwner() == null && existing.getManual() == null
+                        && existing.getCategory() != null && existing.getCategory().getId().equals(categoryId);
+                if (!attachable) {
+                    throw new IllegalArgumentException("이미 존재하는 모델명입니다.");
+                }
+                return existing;
+            });
+            manualFile = new StoredManualResource(manualService.openStoredFile(stored), fileName);
         } catch (IOException e) {
+            manualService.discardStoredFile(stored);
             throw new RuntimeException("파일 처리 중 오류가 발생했습니다.", e);
+        } catch (RuntimeException e) {
+            manualService.discardStoredFile(stored);
+            throw e;
         }
+
+        boolean attached = productModel.getId() != null;
+        return new ManualIngestion(registerManual(productModel, stored, manualFile, null), attached);
     }
 
     /**
      * 새로운 개인 모델을 생성합니다.
      * 1. 모델명 유효성을 검사합니다.
-     * 2. 매뉴얼 PDF를 ML 서버로 전송하여 처리를 요청합니다.
-     * 3. 매뉴얼 파일을 로컬 스토리지에 저장합니다.
-     * 4. 개인 모델 정보를 데이터베이스에 저장합니다.
+     * 2. 매뉴얼 파일을 저장소에 저장합니다.
+     * 3. 매뉴얼 PDF를 ML 서버로 전송하여 처리를 요청합니다.
+     * 4. 개인 모델과 매뉴얼 정보를 데이터베이스에 저장합니다.
+     * 파일 저장과 ML 서버 전송은 트랜잭션 밖에서 수행하여 그 동안 DB 커넥션을 점유하지 않습니다.
      *
      * @param name 생성할 모델의 이름 (한글 불가, 3글자 이상)
      * @param manualFile 모델의 매뉴얼 PDF 파일
@@ -108,46 +178,115 @@ public class ProductModelService {
      * @return 생성된 개인 모델 정보
      * @throws RuntimeException 모델 생성 중 오류 발생 시
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductModelResponse createPersonalModel(String name, MultipartFile manualFile, String userEmail) {
-        // 모델명 유효성 검사
-        validateModelName(name);
+        return createPersonalModel(name, manualFile.getResource(), userEmail);
+    }
 
-        // 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    /**
+     * 새로운 개인 모델을 생성합니다.
+     * 분할 업로드로 조립된 파일처럼 MultipartFile 이 아닌 매뉴얼 파일에도 사용합니다.
+     *
+     * @param name 생성할 모델의 이름 (한글 불가, 3글자 이상)
+     * @param manualFile 모델의 매뉴얼 PDF 파일 (getFilename() 이 원본 파일명을 반환해야 함)
+     * @param userEmail 모델 소유자의 이메일
+     * @return 생성된 개인 모델 정보
+     * @throws RuntimeException 모델 생성 중 오류 발생 시
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductModelResponse createPersonalModel(String name, Resource manualFile, String userEmail) {
+        // 모델명 유효성 검사와 사용자 조회는 짧은 트랜잭션 안에서 마쳐 커넥션을 바로 반환
+        ProductModel productModel = transactionTemplate.execute(status -> {
+            validateModelName(name);
 
-        try {
-            // ML 서버에 매뉴얼 업로드
-            boolean mlServerSuccess = mlServerService.uploadManualToMLServer(manualFile, name);
-            if (!mlServerSuccess) {
-                throw new RuntimeException("ML 서버 처리 중 오류가 발생했습니다.");
-            }
+            User user = userRepository.findByEmail(userEmail)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
             // 개인 모델 생성
-            ProductModel productModel = ProductModel.builder()
+            return ProductModel.builder()
                     .name(name)
                     .owner(user)
                     .build();
+        });
+
+        return createModelWithManual(productModel, manualFile, productModel.getOwner());
+    }
 
-            // 모델 저장
-            ProductModel savedModel = productModelRepository.save(productModel);
-
-            // 매뉴얼 저장 및 모델과 연결
-            Manual savedManual = manualService.saveManual(manualFile, name);
-            savedManual.setProductModel(savedModel);  // 매뉴얼과 모델 연결
-            savedManual.setUploader(user);  // 매뉴얼 업로더 설정
-            
-            // 모델에도 매뉴얼 설정
-            savedModel.setManual(savedManual);
-            
-            // 최종 저장
-            savedModel = productModelRepository.save(savedModel);
-
-            return ProductModelResponse.from(savedModel);
+    /**
+     * 모델의 매뉴얼을 새 파일로 교체합니다.
+     * 1. 새 파일을 저장소에 저장하면서 내용 해시를 계산합니다.
+     * 2. 해시가 현재 매뉴얼과 같으면 저장한 파일을 지우고 아무 작업도 하지 않습니다. (ML 재등록 생략)
+     * 3. 다르면 ML 서버에 새 문서 식별자로 업로드하고, 성공한 뒤에 매뉴얼이 새 파일과 새 문서를 가리키도록 교체합니다.
+     *    교체와 같은 트랜잭션에서 이전 ML 문서를 삭제 대기열에 기록합니다.
+     * 교체가 커밋되기 전까지는 이전 파일과 ML 문서가 그대로 다운로드와 챗봇에 사용되며,
+     * 업로드나 교체가 실패하면 새 파일을 삭제하고 새 ML 문서를 삭제 대기열에 기록하여 이전 매뉴얼이 유지됩니다.
+     * 파일 저장과 ML 서버 전송은 트랜잭션 밖에서 수행하여 그 동안 DB 커넥션을 점유하지 않습니다.
+     *
+     * @param id 매뉴얼을 교체할 모델의 ID
+     * @param manualFile 새 매뉴얼 PDF 파일 (getFilename() 이 원본 파일명을 반환해야 함)
+     * @param user 교체를 요청한 사용자
+     * @return 교체 후 모델 정보와 실제 교체 여부
+     * @throws IllegalArgumentException 모델이나 매뉴얼을 찾을 수 없는 경우
+     * @throws SecurityException 교체 권한이 없는 경우 (공용 모델은 관리자, 개인 모델은 소유자 또는 관리자)
+     * @throws IllegalStateException 다른 요청이 먼저 매뉴얼을 교체한 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ManualReplacement replaceManual(Long id, Resource manualFile, User user) {
+        // 권한 확인과 현재 매뉴얼 조회는 짧은 트랜잭션 안에서 마쳐 커넥션을 바로 반환
+        Manual current = transactionTemplate.execute(status -> {
+            ProductModel model = productModelRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Model not found"));
+            boolean admin = "ROLE_ADMIN".equals(user.getRole());
+            boolean owner = model.getOwner() != null && model.getOwner().getId().equals(user.getId());
+            if (!admin && !owner) {
+                throw new SecurityException("매뉴얼을 교체할 권한이 없습니다.");
+            }
+            if (model.getManual() == null) {
+                throw new IllegalArgumentException("매뉴얼을 찾을 수 없습니다.");
+            }
+            return model.getManual();
+        });
+        // 새 파일 저장 (저장과 동시에 내용 해시 계산)
+        StoredManualFile stored;
+        try {
+            stored = manualService.storeManualFile(manualFile);
         } catch (IOException e) {
             throw new RuntimeException("파일 처리 중 오류가 발생했습니다.", e);
         }
+
+        // 해시가 없는 이전 데이터는 비교할 수 없으므로 교체
+        if (stored.contentHash().equals(current.getContentHash())) {
+            manualService.discardStoredFile(stored);
+            log.info("매뉴얼 내용이 같아 교체 생략 - 모델 ID: {}", id);
+            return new ManualReplacement(ProductModelResponse.from(findById(id)), false);
+        }
+
+        String oldDocName = MlDocumentNames.of(current);
+        String docName = MlDocumentNames.newName(current.getProductModel().getName());
+        try {
+            boolean mlServerSuccess = mlServerService.uploadManualToMLServer(manualFile, docName);
+            if (!mlServerSuccess) {
+                throw new RuntimeException("ML 서버 처리 중 오류가 발생했습니다.");
+            }
+            // 파일 key 가 그대로면 ML 문서도 그대로이므로, 교체가 커밋될 때 이전 문서를 삭제해도 됨
+            transactionTemplate.executeWithoutResult(status -> {
+                manualService.swapManualFile(current.getId(), current.getFilePath(), stored,
+                        manualFile.getFilename(), docName);
+                mlDocumentDeletionService.enqueue(List.of(oldDocName));
+            });
+        } catch (IOException e) {
+            manualService.discardStoredFile(stored);
+            discardMlDocument(docName);
+            throw new RuntimeException("파일 처리 중 오류가 발생했습니다.", e);
+        } catch (RuntimeException e) {
+            manualService.discardStoredFile(stored);
+            discardMlDocument(docName);
+            throw e;
+        }
+
+        manualCacheService.evictModel(id);
+        log.info("매뉴얼 교체 완료 - 모델 ID: {}, 이전 해시: {}, 새 해시: {}", id, current.getContentHash(), stored.contentHash());
+        return new ManualReplacement(ProductModelResponse.from(findById(id)), true);
     }
 
     /**
@@ -223,6 +362,7 @@ public class ProductModelService {
 
     /**
      * 개인 모델을 삭제합니다. (소유자만 가능)
+     * 삭제된 모델의 ML 서버 문서는 커밋 후 비동기로 삭제됩니다.
      */
     @Transactional
     public void deletePersonalModel(Long id, Long userId) {
@@ -236,17 +376,21 @@ public class ProductModelService {
             throw new IllegalStateException("해당 모델을 삭제할 권한이 없습니다.");
         }
         
-        // 매뉴얼이 있다면 삭제
+        // 매뉴얼이 있다면 삭제 (매뉴얼이 없는 모델은 ML 서버에 문서가 없음)
         if (model.getManual() != null) {
+            String docName = MlDocumentNames.of(model.getManual());
             manualService.deleteManual(model.getId(), model.getOwner());
+            mlDocumentDeletionService.enqueue(List.of(docName));  // 커밋되면 ML 서버 문서도 비동기로 삭제
         }
-        
+
         productModelRepository.deleteById(id);
+        manualCacheService.evictModel(id);
         log.debug("Personal model deletion completed");
     }
 
     /**
      * 모델을 삭제합니다. (관리자 전용)
+     * 삭제된 모델의 ML 서버 문서는 커밋 후 비동기로 삭제됩니다.
      */
     @Transactional
     public void deleteModelByAdmin(Long id) {
@@ -255,15 +399,52 @@ public class ProductModelService {
         ProductModel model = productModelRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Model not found"));
         
-        // 매뉴얼이 있다면 삭제
+        // 매뉴얼이 있다면 삭제 (매뉴얼이 없는 모델은 ML 서버에 문서가 없음)
         if (model.getManual() != null) {
+            String docName = MlDocumentNames.of(model.getManual());
             manualService.deleteManual(model.getId(), model.getOwner());
+            mlDocumentDeletionService.enqueue(List.of(docName));  // 커밋되면 ML 서버 문서도 비동기로 삭제
         }
-        
+
         productModelRepository.deleteById(id);
+        manualCacheService.evictModel(id);
         log.debug("Model deletion by admin completed");
     }
 
+    /**
+     * 카테고리들에 속한 모델과 매뉴얼을 집합 단위로 한 번에 삭제합니다. (브랜드 / 카테고리 삭제용)
+     * 모델 수와 관계없이 SQL 문 5개로 처리합니다.
+     * 1. 삭제할 모델의 ML 서버 문서와 저장소 파일(매뉴얼, 미리보기 이미지)을 대기열에 기록합니다. (INSERT ... SELECT)
+     * 2. 매뉴얼과 모델을 삭제합니다. (DELETE ... WHERE)
+     * 3. 커밋 후 매뉴얼 캐시를 비우며, 파일과 ML 서버 문서는 백그라운드에서 삭제됩니다.
+     * 호출하는 쪽의 트랜잭션 안에서 실행됩니다.
+     *
+     * @param categoryIds 모델을 삭제할 카테고리 ID 목록
+     * @return 삭제된 모델 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int bulkDeleteByCategories(Collection<Long> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        mlDocumentDeletionRepository.enqueueForCategories(categoryIds, now);
+        int files = manualFileDeletionRepository.enqueueManualFiles(categoryIds, now)
+                + manualFileDeletionRepository.enqueueThumbnails(categoryIds, now);
+        int manuals = manualRepository.deleteByCategoryIds(categoryIds);
+        int models = productModelRepository.deleteByCategoryIds(categoryIds);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                manualCacheService.evictAll();
+            }
+        });
+        log.info("모델 일괄 삭제 - 카테고리: {}개, 모델: {}개, 매뉴얼: {}개, 정리할 파일: {}개",
+                categoryIds.size(), models, manuals, files);
+        return models;
+    }
+
     /**
      * 특정 사용자의 모든 개인 모델을 조회합니다.
      * @param userId 조회할 사용자의 ID
@@ -300,7 +481,21 @@ public class ProductModelService {
      * @param name 검사할 모델명
      * @throws IllegalArgumentException 유효성 검사 실패 시
      */
-    private void validateModelName(String name) {
+    public void validateModelName(String name) {
+        validateModelNameFormat(name);
+        if (productModelRepository.existsByName(name)) {
+            throw new IllegalArgumentException("이미 존재하는 모델명입니다.");
+        }
+    }
+
+    /**
+     * 모델명의 형식만 검사합니다. (중복 여부는 확인하지 않음 - 일괄 등록은 중복을 한 번에 조회)
+     * 트랜잭션 프록시를 거치지 않도록 static 으로 두어, 호출한 쪽 트랜잭션이 rollback-only 로 표시되지 않습니다.
+     *
+     * @param name 검사할 모델명
+     * @throws IllegalArgumentException 유효성 검사 실패 시
+     */
+    public static void validateModelNameFormat(String name) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("모델명은 필수입니다.");
         }
@@ -310,8 +505,121 @@ public class ProductModelService {
         if (name.matches(".*[ㄱ-ㅎㅏ-ㅣ가-힣].*")) {
             throw new IllegalArgumentException("모델명에 한글을 사용할 수 없습니다.");
         }
-        if (productModelRepository.existsByName(name)) {
-            throw new IllegalArgumentException("이미 존재하는 모델명입니다.");
+    }
+
+    /**
+     * 매뉴얼 파일 저장과 ML 서버 전송을 마친 뒤, 모델과 매뉴얼 정보만 짧은 트랜잭션으로 저장합니다.
+     * 이후 단계가 실패하면 저장한 매뉴얼 파일을 삭제합니다. (보상 처리)
+     *
+     * @param productModel 저장할 모델 (아직 저장되지 않은 상태)
+     * @param manualFile 모델의 매뉴얼 PDF 파일
+     * @param uploader 매뉴얼 업로더 (공용 모델이면 null)
+     * @return 생성된 모델 정보
+     */
+    private ProductModelResponse createModelWithManual(ProductModel productModel, Resource manualFile, User uploader) {
+        // 매뉴얼 파일 저장
+        StoredManualFile stored;
+        try {
+            stored = manualService.storeManualFile(manualFile);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 처리 중 오류가 발생했습니다.", e);
+        }
+
+        return registerManual(productModel, stored, manualFile, uploader);
+    }
+
+    /**
+     * 저장소에 저장된 매뉴얼 파일을 ML 서버에 전송하고, 모델과 매뉴얼 정보를 짧은 트랜잭션으로 저장합니다.
+     * 모델이 이미 저장되어 있으면(ID 가 있으면) 새로 만들지 않고 매뉴얼만 연결합니다.
+     * ML 서버에는 이번 업로드 전용 문서 식별자로 등록하므로, 같은 이름의 모델이 동시에 만들어져도 그 문서를 덮어쓰지 않습니다.
+     * 실패하면 저장한 매뉴얼 파일을 삭제하고, ML 서버에 보낸 문서는 삭제 대기열에 기록합니다. (보상 처리)
+     *
+     * @param productModel 저장할 모델, 또는 매뉴얼을 연결할 기존 모델
+     * @param stored 저장소에 저장된 매뉴얼 파일
+     * @param manualFile ML 서버로 전송할 매뉴얼 파일 (getFilename() 이 원본 파일명을 반환해야 함)
+     * @param uploader 매뉴얼 업로더 (공용 모델이면 null)
+     * @return 저장된 모델 정보
+     */
+    private ProductModelResponse registerManual(ProductModel productModel, StoredManualFile stored,
+                                                Resource manualFile, User uploader) {
+        String name = productModel.getName();
+        String docName = MlDocumentNames.newName(name);
+        try {
+            // ML 서버에 매뉴얼 업로드 (응답 전에 실패해도 서버에 문서가 남았을 수 있으므로 실패하면 항상 문서 삭제를 예약)
+            boolean mlServerSuccess = mlServerService.uploadManualToMLServer(manualFile, docName);
+            if (!mlServerSuccess) {
+                throw new RuntimeException("ML 서버 처리 중 오류가 발생했습니다.");
+            }
+
+            return transactionTemplate.execute(status -> {
+                ProductModel savedModel;
+                if (productModel.getId() != null) {
+                    // 파일 전송 중 다른 요청이 매뉴얼을 연결했을 수 있으므로 다시 확인
+                    savedModel = productModelRepository.findById(productModel.getId())
+                            .orElseThrow(() -> new IllegalStateException("모델이 삭제되었습니다."));
+                    if (savedModel.getManual() != null) {
+                        throw new IllegalStateException("다른 요청이 먼저 매뉴얼을 등록했습니다.");
+                    }
+                } else {
+                    // 파일 전송 중 같은 이름의 모델이 생성되었을 수 있으므로 다시 확인
+                    if (productModelRepository.existsByName(name)) {
+                        throw new IllegalArgumentException("이미 존재하는 모델명입니다.");
+                    }
+
+                    // 모델 저장
+                    savedModel = productModelRepository.save(productModel);
+                }
+
+                // 매뉴얼 저장 및 모델과 연결
+                Manual savedManual = manualService.saveManual(stored, manualFile.getFilename(), name);
+                savedManual.setMlDocName(docName);
+                savedManual.setProductModel(savedModel);  // 매뉴얼과 모델 연결
+                if (uploader != null) {
+                    savedManual.setUploader(uploader);  // 매뉴얼 업로더 설정
+                }
+
+                // 모델에도 매뉴얼 설정
+                savedModel.setManual(savedManual);
+
+                // 최종 저장
+                return ProductModelResponse.from(productModelRepository.save(savedModel));
+            });
+        } catch (IOException e) {
+            manualService.discardStoredFile(stored);
+            discardMlDocument(docName);
+            throw new RuntimeException("파일 처리 중 오류가 발생했습니다.", e);
+        } catch (RuntimeException e) {
+            manualService.discardStoredFile(stored);
+            discardMlDocument(docName);
+            throw e;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * DB 에 기록되지 못한 ML 서버 문서를 삭제 대기열에 기록합니다. (보상 처리)
+     * 기록에 실패해도 예외를 던지지 않고 기록만 남깁니다.
+     *
+     * @param docName 삭제할 문서 식별자
+     */
+    private void discardMlDocument(String docName) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> mlDocumentDeletionService.enqueue(List.of(docName)));
+        } catch (RuntimeException e) {
+            log.error("ML 서버 문서 삭제 예약 실패 - 문서: {}, 에러: {}", docName, e.getMessage());
+        }
+    }
+
+    /**
+     * @param model 교체 후 모델 정보
+     * @param replaced 매뉴얼을 실제로 교체했으면 true (내용이 같아 생략했으면 false)
+     */
+    public record ManualReplacement(ProductModelResponse model, boolean replaced) {
+    }
+
+    /**
+     * @param model 등록된 모델 정보
+     * @param attached 매뉴얼 없이 등록되어 있던 모델에 매뉴얼을 연결했으면 true (새 모델이면 false)
+     */
+    public record ManualIngestion(ProductModelResponse model, boolean attached) {
+    }
+}
@@ -0,0 +1,126 @@
+package CC_BE.CC_BE.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * 힙 외부 메모리에 적재된 매뉴얼 파일
+ * - 로컬 파일은 MappedByteBuffer 로 메모리 매핑합니다. (페이지 캐시를 그대로 사용)
+ * - 원격 저장소 파일은 direct ByteBuffer 에 한 번 내려받아 보관합니다.
+ */
+public class BufferedManualBlob implements ManualBlob {
+    private final String key;
+    private final long lastModified;
+    private final Path localPath;
+    private final ByteBuffer buffer;
+
+    private BufferedManualBlob(String key, long lastModified, Path localPath, ByteBuffer buffer) {
+        this.key = key;
+        this.lastModified = lastModified;
+        this.localPath = localPath;
+        this.buffer = buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * 매뉴얼 파일 내용을 메모리에 적재합니다.
+     *
+     * @param source 적재할 매뉴얼 파일
+     * @return 메모리에 적재된 매뉴얼 파일
+     * @throws IOException 파일 읽기 중 오류 발생 시
+     * @throws IllegalArgumentException 파일이 2GB 이상인 경우
+     */
+    public static BufferedManualBlob load(ManualBlob source) throws IOException {
+        long size = source.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("2GB 이상의 파일은 메모리에 적재할 수 없습니다.");
+        }
+
+        if (source.localPath().isPresent()) {
+            Path path = source.localPath().get();
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                return new BufferedManualBlob(source.key(), source.lastModified(), path, mapped);
+            }
+        }
+
+        ByteBuffer direct = ByteBuffer.allocateDirect((int) size);
+        try (ReadableByteChannel channel = Channels.newChannel(source.openStream())) {
+            while (direct.hasRemaining() && channel.read(direct) >= 0) {
+                // 전체 내용을 읽을 때까지 반복
+            }
+        }
+        if (direct.hasRemaining()) {
+            throw new IOException("매뉴얼 파일을 끝까지 읽지 못했습니다: " + source.key());
+        }
+        direct.flip();
+        return new BufferedManualBlob(source.key(), source.lastModified(), null, direct);
+    }
+
+    @Override
+    public String key() {
+        return key;
+    }
+
+    @Override
+    public long size() {
+        return buffer.capacity();
+    }
+
+    @Override
+    public long lastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public Optional<Path> localPath() {
+        return Optional.ofNullable(localPath);
+    }
+
+    @Override
+    public Optional<ByteBuffer> buffer() {
+        return Optional.of(buffer.duplicate());
+    }
+
+    @Override
+    public InputStream openStream(long offset, long length) {
+        ByteBuffer slice = buffer.duplicate();
+        slice.position((int) offset);
+        slice.limit((int) Math.min(buffer.capacity(), offset + length));
+        return new ByteBufferInputStream(slice);
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package CC_BE.CC_BE.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 매뉴얼 파일 내용 해시(SHA-256) 계산 유틸리티
+ */
+public final class ContentHashes {
+
+    private ContentHashes() {
+    }
+
+    /**
+     * 새 SHA-256 MessageDigest 를 생성합니다.
+     */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 계산이 끝난 digest 를 16진수 문자열로 변환합니다.
+     */
+    public static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 SHA-256 해시를 계산합니다.
+     */
+    public static String sha256Hex(InputStream in) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream digestIn = new DigestInputStream(in, digest)) {
+            digestIn.transferTo(OutputStream.nullOutputStream());
+        }
+        return toHex(digest);
+    }
+}
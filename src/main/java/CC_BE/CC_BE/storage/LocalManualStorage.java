@@ -0,0 +1,266 @@
+package CC_BE.CC_BE.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 로컬 파일 시스템 기반 매뉴얼 저장소
+ * - 파일은 key 해시 앞부분으로 나눈 하위 디렉토리(예: 3f/a2/uuid.pdf)에 분산 저장합니다.
+ * - 임시 파일에 먼저 쓴 뒤 fsync 하고 원자적 rename 으로 최종 위치에 옮기므로
+ *   저장 중인 파일이나 깨진 파일이 다른 요청에 노출되지 않습니다.
+ * - 이전 방식으로 저장된 데이터(평면 디렉토리 파일명, 절대 경로)도 그대로 읽을 수 있습니다.
+ */
+@Slf4j
+public class LocalManualStorage implements ManualStorage {
+    private static final String TEMP_DIR = ".tmp";
+
+    private final Path root;
+    private final Path legacyRoot;
+    private final int shardDepth;
+
+    /**
+     * @param root 매뉴얼 저장 루트 디렉토리
+     * @param legacyRoot 이전 평면 구조의 매뉴얼 디렉토리 (root 에 없을 때 조회)
+     * @param shardDepth 하위 디렉토리 깊이 (각 단계는 해시 2자리, 256개 디렉토리)
+     */
+    public LocalManualStorage(Path root, Path legacyRoot, int shardDepth) {
+        if (shardDepth < 0 || shardDepth > 4) {
+            throw new IllegalArgumentException("shardDepth 는 0~4 사이여야 합니다: " + shardDepth);
+        }
+        this.root = root.toAbsolutePath().normalize();
+        this.legacyRoot = legacyRoot != null ? legacyRoot.toAbsolutePath().normalize() : null;
+        this.shardDepth = shardDepth;
+    }
+
+    @Override
+    public StoredManualFile store(InputStream content, String originalFilename) throws IOException {
+        String key = ManualKeys.newKey(originalFilename, shardDepth);
+        Path target = root.resolve(key);
+        Path tempDir = root.resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        Files.createDirectories(target.getParent());
+
+        Path temp = tempDir.resolve(UUID.randomUUID() + ".part");
+        MessageDigest digest = ContentHashes.sha256();
+        long size;
+        try {
+            try (InputStream in = new DigestInputStream(content, digest);
+                 FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                size = in.transferTo(Channels.newOutputStream(channel));
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        log.debug("매뉴얼 파일 저장 완료 - key: {}, 크기: {} bytes", key, size);
+        return new StoredManualFile(key, ContentHashes.toHex(digest), size);
+    }
+
+    @Override
+    public ManualBlob open(String key) throws IOException {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+            throw new NoSuchFileException(path.toString(), null, "매뉴얼 파일을 읽을 수 없습니다.");
+        }
+        return new LocalBlob(key, path, Files.size(path), Files.getLastModifiedTime(path).toMillis());
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    /**
+     * 저장소의 모든 파일을 key 순서로 나열합니다.
+     * 디렉토리마다 하위 항목을 정렬하여 깊이 우선으로 내려가므로 한 번에 한 디렉토리 목록만 메모리에 둡니다.
+     * (디렉토리 이름 뒤에 '/' 를 붙여 정렬하면 전체 key 의 문자열 순서와 같아짐)
+     * 이전 평면 디렉토리의 파일은 파일명을 key 로 하여 함께 나열합니다.
+     */
+    @Override
+    public Stream<ManualStorageEntry> list() throws IOException {
+        Iterator<ManualStorageEntry> entries = new TreeIterator(root);
+        if (legacyRoot != null && !legacyRoot.equals(root) && Files.isDirectory(legacyRoot)) {
+            entries = SortedIterators.merge(entries, new TreeIterator(legacyRoot, false),
+                    Comparator.comparing(ManualStorageEntry::key));
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(entries,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * 절대 경로로 저장된 이전 데이터를 저장소 key 로 변환합니다.
+     * 루트 아래 경로는 상대 경로로, 이전 평면 디렉토리의 파일은 파일명으로 바꿉니다.
+     */
+    @Override
+    public String canonicalKey(String key) {
+        if (!Paths.get(key).isAbsolute()) {
+            return key;
+        }
+        Path path = Paths.get(key).normalize();
+        if (path.startsWith(root)) {
+            return root.relativize(path).toString().replace('\\', '/');
+        }
+        if (legacyRoot != null && legacyRoot.equals(path.getParent())) {
+            return path.getFileName().toString();
+        }
+        return key;
+    }
+
+    /**
+     * 저장소 루트 디렉토리
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * key 를 실제 파일 경로로 변환합니다.
+     * 1. 절대 경로가 저장된 경우 (이전 데이터) 그대로 사용
+     * 2. 저장소 루트 기준 상대 경로로 해석
+     * 3. 루트에 없는 평면 파일명은 이전 매뉴얼 디렉토리에서 조회
+     */
+    public Path resolve(String key) {
+        if (key.contains("\\") || Paths.get(key).isAbsolute()) {
+            return Paths.get(key);
+        }
+
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 매뉴얼 key 입니다: " + key);
+        }
+        if (legacyRoot != null && !key.contains("/") && !Files.exists(path)) {
+            Path legacyPath = legacyRoot.resolve(key);
+            if (Files.exists(legacyPath)) {
+                return legacyPath;
+            }
+        }
+        return path;
+    }
+
+    /**
+     * 디렉토리를 key 순서로 깊이 우선 탐색하는 반복자
+     */
+    private static class TreeIterator implements Iterator<ManualStorageEntry> {
+        private final Path base;
+        private final boolean recursive;
+        private final Deque<Iterator<Path>> stack = new ArrayDeque<>();
+        private ManualStorageEntry next;
+
+        TreeIterator(Path base) {
+            this(base, true);
+        }
+
+        TreeIterator(Path base, boolean recursive) {
+            this.base = base;
+            this.recursive = recursive;
+            if (Files.isDirectory(base)) {
+                stack.push(sortedChildren(base));
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public ManualStorageEntry next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            ManualStorageEntry result = next;
+            advance();
+            return result;
+        }
+
+        private void advance() {
+            next = null;
+            while (!stack.isEmpty()) {
+                Iterator<Path> children = stack.peek();
+                if (!children.hasNext()) {
+                    stack.pop();
+                    continue;
+                }
+                Path child = children.next();
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(child, BasicFileAttributes.class);
+                    if (attributes.isDirectory()) {
+                        if (recursive) {
+                            stack.push(sortedChildren(child));
+                        }
+                    } else if (attributes.isRegularFile()) {
+                        String key = base.relativize(child).toString().replace('\\', '/');
+                        next = new ManualStorageEntry(key, attributes.size(), attributes.lastModifiedTime().toMillis());
+                        return;
+                    }
+                } catch (NoSuchFileException e) {
+                    // 목록 조회 후 삭제된 파일
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        private static Iterator<Path> sortedChildren(Path dir) {
+            try (Stream<Path> children = Files.list(dir)) {
+                return children
+                        .sorted(Comparator.comparing(TreeIterator::sortKey))
+                        .toList()
+                        .iterator();
+            } catch (NoSuchFileException e) {
+                return Collections.emptyIterator();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String sortKey(Path path) {
+            String name = path.getFileName().toString();
+            return Files.isDirectory(path) ? name + "/" : name;
+        }
+    }
+
+    private record LocalBlob(String key, Path path, long size, long lastModified) implements ManualBlob {
+        @Override
+        public Optional<Path> localPath() {
+            return Optional.of(path);
+        }
+
+        @Override
+        public InputStream openStream(long offset, long length) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            channel.position(offset);
+            return new BoundedInputStream(Channels.newInputStream(channel), length);
+        }
+    }
+}
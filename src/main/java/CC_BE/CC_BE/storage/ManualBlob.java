@@ -0,0 +1,58 @@
+package CC_BE.CC_BE.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 저장소에 있는 매뉴얼 파일 하나에 대한 읽기 핸들
+ */
+public interface ManualBlob {
+
+    /**
+     * 저장소 key
+     */
+    String key();
+
+    /**
+     * 파일 크기 (bytes)
+     */
+    long size();
+
+    /**
+     * 마지막 수정 시각 (epoch millis)
+     */
+    long lastModified();
+
+    /**
+     * 로컬 파일 시스템 경로
+     * 로컬 저장소인 경우에만 존재하며, 이 경우 sendfile 등 zero-copy 전송이 가능합니다.
+     */
+    Optional<Path> localPath();
+
+    /**
+     * 메모리(힙 외부)에 적재된 파일 내용
+     * 자주 다운로드되는 매뉴얼을 메모리 매핑 또는 direct 버퍼로 캐시한 경우에만 존재합니다.
+     * 반환된 버퍼는 읽기 전용이며, 사용하는 쪽에서 duplicate/slice 하여 사용해야 합니다.
+     */
+    default Optional<ByteBuffer> buffer() {
+        return Optional.empty();
+    }
+
+    /**
+     * 파일의 지정 구간을 읽는 스트림을 엽니다.
+     *
+     * @param offset 시작 위치
+     * @param length 읽을 길이
+     */
+    InputStream openStream(long offset, long length) throws IOException;
+
+    /**
+     * 파일 전체를 읽는 스트림을 엽니다.
+     */
+    default InputStream openStream() throws IOException {
+        return openStream(0, size());
+    }
+}
@@ -0,0 +1,46 @@
+package CC_BE.CC_BE.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 매뉴얼 저장소 key 생성 규칙
+ * key 는 "해시 분산 디렉토리/UUID.확장자" 형식이며 (예: 3f/a2/0b6c...-4e1d.pdf)
+ * 로컬 저장소의 디렉토리 구조와 S3 오브젝트 key 에 동일하게 사용됩니다.
+ */
+final class ManualKeys {
+
+    private ManualKeys() {
+    }
+
+    /**
+     * 새 key 를 생성합니다.
+     *
+     * @param originalFilename 원본 파일명 (확장자 결정에 사용)
+     * @param shardDepth 분산 디렉토리 깊이 (각 단계는 해시 2자리)
+     */
+    static String newKey(String originalFilename, int shardDepth) {
+        String name = UUID.randomUUID() + extensionOf(originalFilename);
+        byte[] hash = ContentHashes.sha256().digest(name.getBytes(StandardCharsets.UTF_8));
+        String hex = HexFormat.of().formatHex(hash);
+
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < shardDepth; i++) {
+            key.append(hex, i * 2, i * 2 + 2).append('/');
+        }
+        return key.append(name).toString();
+    }
+
+    static String extensionOf(String filename) {
+        if (filename == null) {
+            return ".pdf";
+        }
+        int dot = filename.lastIndexOf('.');
+        if (dot < 0 || dot == filename.length() - 1) {
+            return ".pdf";
+        }
+        String ext = filename.substring(dot).toLowerCase();
+        return ext.matches("\\.[a-z0-9]{1,8}") ? ext : ".pdf";
+    }
+}
@@ -0,0 +1,61 @@
+package CC_BE.CC_BE.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.stream.Stream;
+
+/**
+ * 매뉴얼 파일 저장소 인터페이스
+ * 로컬 파일 시스템(해시 분산 디렉토리) 또는 S3 호환 오브젝트 스토리지 구현을 제공합니다.
+ * Manual 엔티티의 filePath 에는 이 저장소가 발급한 key 가 저장됩니다.
+ */
+public interface ManualStorage {
+
+    /**
+     * 매뉴얼 파일을 저장합니다.
+     * 저장이 완료되기 전에는 다른 요청에서 파일이 보이지 않아야 하며,
+     * 저장과 동시에 내용 해시를 계산합니다.
+     *
+     * @param content 저장할 파일 내용
+     * @param originalFilename 원본 파일명 (확장자 결정에 사용)
+     * @return 저장된 파일의 key, 해시, 크기
+     * @throws IOException 저장 중 오류 발생 시
+     */
+    StoredManualFile store(InputStream content, String originalFilename) throws IOException;
+
+    /**
+     * 저장된 매뉴얼 파일을 조회합니다.
+     *
+     * @param key 저장 시 발급된 key
+     * @return 매뉴얼 파일 핸들
+     * @throws java.nio.file.NoSuchFileException 파일이 없는 경우
+     * @throws IOException 조회 중 오류 발생 시
+     */
+    ManualBlob open(String key) throws IOException;
+
+    /**
+     * 매뉴얼 파일이 존재하는지 확인합니다.
+     */
+    boolean exists(String key) throws IOException;
+
+    /**
+     * 매뉴얼 파일을 삭제합니다. 파일이 없으면 아무 작업도 하지 않습니다.
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * 저장된 모든 파일을 key 의 문자열 순서(String.compareTo)로 나열합니다. (고아 파일 정리용)
+     * 목록은 필요한 만큼만 읽으며, 반환된 스트림은 사용 후 닫아야 합니다.
+     *
+     * @throws IOException 목록 조회 중 오류 발생 시
+     */
+    Stream<ManualStorageEntry> list() throws IOException;
+
+    /**
+     * 같은 파일을 가리키는 key 를 {@link #list()} 가 반환하는 형식으로 변환합니다.
+     * 이전 데이터의 절대 경로처럼 형식이 다른 key 에 사용하며, 형식이 같으면 그대로 반환합니다.
+     */
+    default String canonicalKey(String key) {
+        return key;
+    }
+}
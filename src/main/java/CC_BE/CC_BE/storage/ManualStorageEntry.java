@@ -0,0 +1,11 @@
+package CC_BE.CC_BE.storage;
+
+/**
+ * 저장소 목록 조회 결과의 파일 하나
+ *
+ * @param key 저장소 key
+ * @param size 파일 크기 (bytes)
+ * @param lastModified 마지막 수정 시각 (epoch millis)
+ */
+public record ManualStorageEntry(String key, long size, long lastModified) {
+}
@@ -0,0 +1,199 @@
+package CC_BE.CC_BE.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * S3 호환 오브젝트 스토리지 기반 매뉴얼 저장소
+ * 여러 애플리케이션 인스턴스가 같은 버킷을 공유하여 동일한 매뉴얼을 제공할 수 있습니다.
+ * endpoint 를 지정하면 MinIO, LocalStack 등 로컬 S3 호환 서버에서도 동작합니다.
+ */
+@Slf4j
+public class S3ManualStorage implements ManualStorage {
+    private static final String HASH_METADATA = "sha256";
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String prefix;
+    private final int shardDepth;
+
+    /**
+     * @param s3Client S3 클라이언트
+     * @param bucket 매뉴얼을 저장할 버킷
+     * @param prefix 오브젝트 key 앞에 붙일 경로 (예: "manuals/")
+     * @param shardDepth key 분산 디렉토리 깊이
+     */
+    public S3ManualStorage(S3Client s3Client, String bucket, String prefix, int shardDepth) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.prefix = prefix == null ? "" : prefix;
+        this.shardDepth = shardDepth;
+    }
+
+    /**
+     * 매뉴얼 파일을 업로드합니다.
+     * 요청 길이를 알아야 하므로 임시 파일에 내려받으면서 해시를 계산한 뒤 한 번에 업로드합니다.
+     * S3 PUT 은 완료 시점에 원자적으로 보이므로 부분 업로드된 오브젝트가 노출되지 않습니다.
+     */
+    @Override
+    public StoredManualFile store(InputStream content, String originalFilename) throws IOException {
+        String key = ManualKeys.newKey(originalFilename, shardDepth);
+        Path temp = Files.createTempFile("manual-upload-", ".part");
+        try {
+            MessageDigest digest = ContentHashes.sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String contentHash = ContentHashes.toHex(digest);
+
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(objectKey(key))
+                            .contentType("application/pdf")
+                            .contentLength(size)
+                            .metadata(Map.of(HASH_METADATA, contentHash))
+                            .build(),
+                    RequestBody.fromFile(temp));
+
+            log.debug("매뉴얼 파일 S3 업로드 완료 - bucket: {}, key: {}, 크기: {} bytes", bucket, key, size);
+            return new StoredManualFile(key, contentHash, size);
+        } catch (SdkException e) {
+            throw new IOException("S3 매뉴얼 업로드 실패: " + e.getMessage(), e);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public ManualBlob open(String key) throws IOException {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey(key))
+                    .build());
+            return new S3Blob(key, head.contentLength(),
+                    head.lastModified() != null ? head.lastModified().toEpochMilli() : 0L);
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key, null, "S3 에 매뉴얼 파일이 없습니다.");
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new NoSuchFileException(key, null, "S3 에 매뉴얼 파일이 없습니다.");
+            }
+            throw new IOException("S3 매뉴얼 조회 실패: " + e.getMessage(), e);
+        } catch (SdkException e) {
+            throw new IOException("S3 매뉴얼 조회 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        try {
+            open(key);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey(key))
+                    .build());
+        } catch (SdkException e) {
+            throw new IOException("S3 매뉴얼 삭제 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 접두어 아래의 모든 오브젝트를 key 순서로 나열합니다.
+     * S3 목록 조회는 key 의 UTF-8 바이트 순서로 결과를 돌려주며, 페이지(최대 1000개)를 필요할 때마다 요청합니다.
+     */
+    @Override
+    public Stream<ManualStorageEntry> list() throws IOException {
+        try {
+            return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                            .bucket(bucket)
+                            .prefix(prefix)
+                            .build())
+                    .contents()
+                    .stream()
+                    .map(object -> new ManualStorageEntry(object.key().substring(prefix.length()),
+                            object.size(), object.lastModified().toEpochMilli()));
+        } catch (SdkException e) {
+            throw new IOException("S3 매뉴얼 목록 조회 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private String objectKey(String key) {
+        return prefix + key;
+    }
+
+    private class S3Blob implements ManualBlob {
+        private final String key;
+        private final long size;
+        private final long lastModified;
+
+        S3Blob(String key, long size, long lastModified) {
+            this.key = key;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long lastModified() {
+            return lastModified;
+        }
+
+        @Override
+        public Optional<Path> localPath() {
+            return Optional.empty();
+        }
+
+        @Override
+        public InputStream openStream(long offset, long length) throws IOException {
+            if (length <= 0) {
+                return InputStream.nullInputStream();
+            }
+            try {
+                return s3Client.getObject(GetObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(objectKey(key))
+                        .range("bytes=" + offset + "-" + (offset + length - 1))
+                        .build());
+            } catch (NoSuchKeyException e) {
+                throw new NoSuchFileException(key, null, "S3 에 매뉴얼 파일이 없습니다.");
+            } catch (SdkException e) {
+                throw new IOException("S3 매뉴얼 읽기 실패: " + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package CC_BE.CC_BE.storage;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 정렬된 반복자 유틸리티
+ */
+public final class SortedIterators {
+
+    private SortedIterators() {
+    }
+
+    /**
+     * 같은 기준으로 정렬된 두 반복자를 하나의 정렬된 반복자로 합칩니다. (원소를 미리 읽지 않음)
+     */
+    public static <T> Iterator<T> merge(Iterator<T> first, Iterator<T> second, Comparator<? super T> comparator) {
+        return new Iterator<>() {
+            private T a = first.hasNext() ? first.next() : null;
+            private T b = second.hasNext() ? second.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return a != null || b != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T result;
+                if (b == null || (a != null && comparator.compare(a, b) <= 0)) {
+                    result = a;
+                    a = first.hasNext() ? first.next() : null;
+                } else {
+                    result = b;
+                    b = second.hasNext() ? second.next() : null;
+                }
+                return result;
+            }
+        };
+    }
+}
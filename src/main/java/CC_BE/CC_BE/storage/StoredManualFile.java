@@ -0,0 +1,11 @@
+package CC_BE.CC_BE.storage;
+
+/**
+ * 매뉴얼 파일 저장 결과
+ *
+ * @param key 저장소 key (Manual.filePath 에 저장)
+ * @param contentHash 파일 내용의 SHA-256 해시 (16진수)
+ * @param size 파일 크기 (bytes)
+ */
+public record StoredManualFile(String key, String contentHash, long size) {
+}
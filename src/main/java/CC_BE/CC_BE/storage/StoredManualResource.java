@@ -0,0 +1,44 @@
+package CC_BE.CC_BE.storage;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 저장소의 매뉴얼 파일을 원본 파일명으로 ML 서버에 스트리밍하기 위한 Resource
+ */
+public class StoredManualResource extends AbstractResource {
+    private final ManualBlob blob;
+    private final String originalFilename;
+
+    public StoredManualResource(ManualBlob blob, String originalFilename) {
+        this.blob = blob;
+        this.originalFilename = originalFilename;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return blob.size();
+    }
+
+    @Override
+    public String getFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return blob.openStream();
+    }
+
+    @Override
+    public String getDescription() {
+        return "매뉴얼 [" + blob.key() + "]";
+    }
+}
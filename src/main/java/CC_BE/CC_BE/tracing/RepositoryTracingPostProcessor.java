@@ -0,0 +1,62 @@
+package CC_BE.CC_BE.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 리포지토리 메서드 호출마다 스팬을 기록하는 BeanPostProcessor
+ * 리포지토리 프록시가 만들어지기 전에 인터셉터를 등록하므로 모든 JPA 리포지토리에 적용됩니다.
+ * (스팬 이름: "UserRepository.findByEmail" 형식)
+ */
+public class RepositoryTracingPostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<Tracer> tracer;
+
+    public RepositoryTracingPostProcessor(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(
+                            new TracingInterceptor(information.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private class TracingInterceptor implements MethodInterceptor {
+        private final String repositoryName;
+
+        private TracingInterceptor(String repositoryName) {
+            this.repositoryName = repositoryName;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Tracer current = tracer.getIfAvailable();
+            // 상위 스팬이 없는 호출(스케줄 작업 등)은 새 추적을 만들지 않음
+            if (current == null || current.currentSpan() == null) {
+                return invocation.proceed();
+            }
+
+            Span span = current.nextSpan()
+                    .name(repositoryName + "." + invocation.getMethod().getName())
+                    .tag("db.repository", repositoryName)
+                    .start();
+            try (Tracer.SpanInScope ignored = current.withSpan(span)) {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                span.error(e);
+                throw e;
+            } finally {
+                span.end();
+            }
+        }
+    }
+}
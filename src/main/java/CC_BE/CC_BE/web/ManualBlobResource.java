@@ -0,0 +1,49 @@
+package CC_BE.CC_BE.web;
+
+import CC_BE.CC_BE.storage.ManualBlob;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 로컬 파일이 아닌 매뉴얼 파일(S3 등)을 정적 리소스 핸들러에서 전송하기 위한 Resource 어댑터
+ */
+class ManualBlobResource extends AbstractResource {
+    private final ManualBlob blob;
+
+    ManualBlobResource(ManualBlob blob) {
+        this.blob = blob;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return blob.size();
+    }
+
+    @Override
+    public long lastModified() {
+        return blob.lastModified();
+    }
+
+    @Override
+    public String getFilename() {
+        String key = blob.key();
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return blob.openStream();
+    }
+
+    @Override
+    public String getDescription() {
+        return "매뉴얼 [" + blob.key() + "]";
+    }
+}
@@ -0,0 +1,282 @@
+package CC_BE.CC_BE.web;
+
+import CC_BE.CC_BE.metrics.ManualTransferMetrics;
+import CC_BE.CC_BE.storage.ManualBlob;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 매뉴얼 파일을 HTTP 응답으로 전송하는 컴포넌트
+ * - Range / If-Range 요청에 대한 부분 응답(206) 지원
+ * - 내용 해시 기반 강한 ETag, Last-Modified, If-None-Match / If-Modified-Since 에 대한 304 응답
+ * - 로컬 저장소 파일은 힙 버퍼를 거치지 않고 sendfile 또는 FileChannel.transferTo 로 전송
+ * - 원격 저장소(S3 등) 파일은 요청 구간만 스트리밍으로 전송
+ * - 메모리에 캐시된 파일은 파일을 다시 열지 않고 버퍼에서 바로 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ManualFileResponder {
+    // Tomcat sendfile 연동용 요청 속성 (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final CacheControl CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofMinutes(10)).cachePrivate().mustRevalidate();
+
+    private final ManualTransferMetrics transferMetrics;
+
+    /**
+     * 매뉴얼 파일을 조건부 요청과 Range 요청을 고려하여 전송합니다.
+     *
+     * @param request 현재 요청
+     * @param response 현재 응답
+     * @param blob 전송할 매뉴얼 파일
+     * @param contentHash 파일 내용 해시 (ETag 값으로 사용)
+     * @param downloadName 다운로드 시 사용할 파일명
+     * @throws IOException 파일 전송 중 오류 발생 시
+     */
+    public void send(HttpServletRequest request, HttpServletResponse response,
+                     ManualBlob blob, String contentHash, String downloadName) throws IOException {
+        send(request, response, blob, contentHash, downloadName, CACHE_CONTROL);
+    }
+
+    /**
+     * 지정한 캐시 정책으로 매뉴얼 파일을 전송합니다.
+     */
+    public void send(HttpServletRequest request, HttpServletResponse response,
+                     ManualBlob blob, String contentHash, String downloadName,
+                     CacheControl cacheControl) throws IOException {
+        long length = blob.size();
+        long lastModified = blob.lastModified() / 1000 * 1000;
+        String etag = "\"" + contentHash + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 조건부 요청 처리 (If-None-Match 가 있으면 If-Modified-Since 는 무시)
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(downloadName, StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        List<HttpRange> ranges = resolveRanges(request, etag, lastModified);
+        boolean headOnly = HttpMethod.HEAD.matches(request.getMethod());
+
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+            response.setContentLengthLong(length);
+            if (!headOnly) {
+                transfer(request, response, blob, 0, length);
+            }
+            return;
+        }
+
+        long[][] regions = new long[ranges.size()][];
+        try {
+            for (int i = 0; i < ranges.size(); i++) {
+                HttpRange range = ranges.get(i);
+                long start = range.getRangeStart(length);
+                long end = range.getRangeEnd(length);
+                regions[i] = new long[]{start, end};
+            }
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (regions.length == 1) {
+            long start = regions[0][0];
+            long end = regions[0][1];
+            response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            response.setContentLengthLong(end - start + 1);
+            if (!headOnly) {
+                transfer(request, response, blob, start, end - start + 1);
+            }
+            return;
+        }
+
+        // 여러 구간 요청은 multipart/byteranges 로 응답
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        if (headOnly) {
+            return;
+        }
+        OutputStream out = response.getOutputStream();
+        for (long[] region : regions) {
+            String partHeader = "\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + MediaType.APPLICATION_PDF_VALUE + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": bytes " + region[0] + "-" + region[1] + "/" + length + "\r\n\r\n";
+            out.write(partHeader.getBytes(StandardCharsets.US_ASCII));
+            copyRegion(blob, region[0], region[1] - region[0] + 1, out);
+            transferMetrics.recordDownload("api", region[1] - region[0] + 1);
+        }
+        out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since 조건을 평가합니다.
+     */
+    private boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (StringUtils.hasText(ifNoneMatch)) {
+            // If-None-Match 는 약한 비교를 사용
+            for (String candidate : StringUtils.commaDelimitedListToStringArray(ifNoneMatch)) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || stripWeakPrefix(tag).equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long ifModifiedSince = parseDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+    }
+
+    /**
+     * Range 헤더를 해석합니다.
+     * If-Range 조건이 일치하지 않거나 Range 헤더가 잘못된 경우 전체 응답을 위해 빈 목록을 반환합니다.
+     */
+    private List<HttpRange> resolveRanges(HttpServletRequest request, String etag, long lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (!StringUtils.hasText(rangeHeader)) {
+            return List.of();
+        }
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (StringUtils.hasText(ifRange)) {
+            String value = ifRange.trim();
+            if (value.startsWith("\"") || value.startsWith("W/")) {
+                // If-Range 는 강한 비교만 허용
+                if (!value.equals(etag)) {
+                    return List.of();
+                }
+            } else if (parseDateHeader(request, HttpHeaders.IF_RANGE) != lastModified) {
+                return List.of();
+            }
+        }
+
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 Range 헤더 무시: {}", rangeHeader);
+            return List.of();
+        }
+    }
+
+    /**
+     * 파일의 지정 구간을 응답 본문으로 전송합니다.
+     * 로컬 파일이고 컨테이너가 sendfile 을 지원하면 전송을 컨테이너에 위임합니다.
+     */
+    private void transfer(HttpServletRequest request, HttpServletResponse response,
+                          ManualBlob blob, long start, long count) throws IOException {
+        transferMetrics.recordDownload("api", count);
+        if (blob.localPath().isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, blob.localPath().get().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, start + count);
+            return;
+        }
+
+        OutputStream out = response.getOutputStream();
+        copyRegion(blob, start, count, out);
+        out.flush();
+    }
+
+    /**
+     * 파일의 지정 구간을 출력 스트림으로 복사합니다.
+     * 메모리에 적재된 파일은 버퍼에서 바로 쓰고, 로컬 파일은 FileChannel.transferTo 를 사용하며,
+     * 원격 파일은 해당 구간만 스트리밍합니다.
+     */
+    private static void copyRegion(ManualBlob blob, long start, long count, OutputStream out) throws IOException {
+        Optional<ByteBuffer> buffer = blob.buffer();
+        if (buffer.isPresent()) {
+            ByteBuffer region = buffer.get();
+            region.position((int) start);
+            region.limit((int) (start + count));
+            WritableByteChannel target = Channels.newChannel(out);
+            while (region.hasRemaining()) {
+                target.write(region);
+            }
+            return;
+        }
+
+        if (blob.localPath().isPresent()) {
+            Path filePath = blob.localPath().get();
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                transferTo(channel, start, count, Channels.newChannel(out));
+            }
+            return;
+        }
+
+        try (InputStream in = blob.openStream(start, count)) {
+            in.transferTo(out);
+        }
+    }
+
+    private static void transferTo(FileChannel channel, long position, long count,
+                                   WritableByteChannel target) throws IOException {
+        long remaining = count;
+        long pos = position;
+        while (remaining > 0) {
+            long written = channel.transferTo(pos, remaining, target);
+            if (written <= 0) {
+                throw new IOException("매뉴얼 파일 전송이 중단되었습니다.");
+            }
+            pos += written;
+            remaining -= written;
+        }
+    }
+
+    private static String stripWeakPrefix(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static long parseDateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package CC_BE.CC_BE.web;
+
+import CC_BE.CC_BE.storage.ManualBlob;
+import CC_BE.CC_BE.storage.ManualStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.ResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+
+/**
+ * 서명 검증을 통과한 요청의 저장소 key 로 매뉴얼 파일을 찾는 ResourceResolver
+ * 저장소 key 는 {@link SignedManualUrlInterceptor} 가 요청 속성에 넣어 둡니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ManualStorageResourceResolver implements ResourceResolver {
+    private final ManualStorage manualStorage;
+
+    @Override
+    public Resource resolveResource(HttpServletRequest request, String requestPath,
+                                    List<? extends Resource> locations, ResourceResolverChain chain) {
+        Object key = request != null ? request.getAttribute(SignedManualUrlInterceptor.STORAGE_KEY_ATTR) : null;
+        if (!(key instanceof String storageKey)) {
+            return null;
+        }
+
+        try {
+            ManualBlob blob = manualStorage.open(storageKey);
+            if (blob.localPath().isPresent()) {
+                return new FileSystemResource(blob.localPath().get());
+            }
+            return new ManualBlobResource(blob);
+        } catch (NoSuchFileException | IllegalArgumentException e) {
+            return null;
+        } catch (IOException e) {
+            log.error("서명된 매뉴얼 URL 파일 조회 실패 - key: {}, 에러: {}", storageKey, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public String resolveUrlPath(String resourcePath, List<? extends Resource> locations, ResourceResolverChain chain) {
+        // URL 은 ManualUrlSigner 로만 발급합니다.
+        return null;
+    }
+}
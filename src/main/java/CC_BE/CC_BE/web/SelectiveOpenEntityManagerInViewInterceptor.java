@@ -0,0 +1,62 @@
+package CC_BE.CC_BE.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * 지정한 요청을 제외하고 Open EntityManager In View 를 적용하는 인터셉터
+ * OSIV 가 적용된 요청은 첫 쿼리 이후 응답이 끝날 때까지 DB 커넥션을 점유하므로,
+ * ML 서버 호출이나 파일 전송처럼 오래 걸리는 요청은 제외합니다.
+ * 제외 항목 형식: "POST /api/chat/**" (메서드를 생략하면 모든 메서드)
+ */
+public class SelectiveOpenEntityManagerInViewInterceptor extends OpenEntityManagerInViewInterceptor {
+    private final List<String> excludes;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public SelectiveOpenEntityManagerInViewInterceptor(List<String> excludes) {
+        this.excludes = excludes;
+    }
+
+    @Override
+    public void preHandle(WebRequest request) {
+        if (!isExcluded(request)) {
+            super.preHandle(request);
+        }
+    }
+
+    @Override
+    public void afterCompletion(WebRequest request, Exception ex) {
+        if (!isExcluded(request)) {
+            super.afterCompletion(request, ex);
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(WebRequest request) {
+        if (!isExcluded(request)) {
+            super.afterConcurrentHandlingStarted(request);
+        }
+    }
+
+    private boolean isExcluded(WebRequest request) {
+        if (!(request instanceof ServletWebRequest servletRequest)) {
+            return false;
+        }
+        HttpServletRequest httpRequest = servletRequest.getRequest();
+        String path = httpRequest.getRequestURI().substring(httpRequest.getContextPath().length());
+        for (String exclude : excludes) {
+            int space = exclude.indexOf(' ');
+            String method = space > 0 ? exclude.substring(0, space) : null;
+            String pattern = space > 0 ? exclude.substring(space + 1).trim() : exclude;
+            if ((method == null || method.equalsIgnoreCase(httpRequest.getMethod())) && pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
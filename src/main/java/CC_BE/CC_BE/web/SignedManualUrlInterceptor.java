@@ -0,0 +1,92 @@
+package CC_BE.CC_BE.web;
+
+import CC_BE.CC_BE.metrics.ManualTransferMetrics;
+import CC_BE.CC_BE.security.ManualUrlSigner;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 서명된 매뉴얼 URL 을 검증하는 인터셉터
+ * 1. 경로의 token 과 expires, signature 파라미터로 서명을 검증합니다. (DB 조회 없음)
+ * 2. 검증에 실패하거나 만료된 URL 은 403 으로 응답합니다.
+ * 3. 저장소 key 의 내용은 바뀌지 않으므로 만료 시각까지 public, immutable 캐시를 허용합니다.
+ */
+@RequiredArgsConstructor
+public class SignedManualUrlInterceptor implements HandlerInterceptor {
+    static final String STORAGE_KEY_ATTR = SignedManualUrlInterceptor.class.getName() + ".storageKey";
+
+    private final ManualUrlSigner manualUrlSigner;
+    private final String pathPrefix;
+    private final ManualTransferMetrics transferMetrics;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(pathPrefix + "/")) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return false;
+        }
+
+        // {token}/{파일명}
+        String rest = path.substring(pathPrefix.length() + 1);
+        int slash = rest.indexOf('/');
+        String token = slash >= 0 ? rest.substring(0, slash) : rest;
+        String fileName = slash >= 0 ? UriUtils.decode(rest.substring(slash + 1), StandardCharsets.UTF_8) : null;
+
+        long expires;
+        try {
+            expires = Long.parseLong(request.getParameter("expires"));
+        } catch (NumberFormatException e) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return false;
+        }
+
+        Optional<String> storageKey = manualUrlSigner.verify(token, expires, request.getParameter("signature"));
+        if (storageKey.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return false;
+        }
+
+        request.setAttribute(STORAGE_KEY_ATTR, storageKey.get());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl
+                .maxAge(Duration.ofSeconds(manualUrlSigner.secondsUntil(expires)))
+                .cachePublic()
+                .immutable()
+                .getHeaderValue());
+        if (fileName != null && !fileName.isBlank()) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(fileName, StandardCharsets.UTF_8)
+                    .build()
+                    .toString());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        int status = response.getStatus();
+        if (ex != null || (status != HttpServletResponse.SC_OK && status != HttpServletResponse.SC_PARTIAL_CONTENT)) {
+            return;
+        }
+        String contentLength = response.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null && !HttpMethod.HEAD.matches(request.getMethod())) {
+            try {
+                transferMetrics.recordDownload("signed-url", Long.parseLong(contentLength));
+            } catch (NumberFormatException ignored) {
+                // multipart 응답 등 길이를 알 수 없는 경우 기록하지 않음
+            }
+        }
+    }
+}
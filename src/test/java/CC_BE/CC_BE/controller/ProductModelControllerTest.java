@@ -0,0 +1,100 @@
+package CC_BE.CC_BE.controller;
+
+import CC_BE.CC_BE.datasource.ConnectionHoldTimeDataSource;
+import CC_BE.CC_BE.domain.Brand;
+import CC_BE.CC_BE.domain.Category;
+import CC_BE.CC_BE.domain.User;
+import CC_BE.CC_BE.dto.ProductModelResponse;
+import CC_BE.CC_BE.repository.BrandRepository;
+import CC_BE.CC_BE.repository.CategoryRepository;
+import CC_BE.CC_BE.security.CustomUserDetails;
+import CC_BE.CC_BE.service.MLServerService;
+import CC_BE.CC_BE.service.ProductModelService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 매뉴얼 교체 요청이 ML 서버를 호출하는 동안 DB 커넥션을 점유하지 않는지 확인하는 테스트
+ * (OSIV 가 적용되면 요청 단위 EntityManager 가 첫 트랜잭션의 커넥션을 응답이 끝날 때까지 잡고 있음)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductModelControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ProductModelService productModelService;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @MockitoBean
+    private MLServerService mlServerService;
+
+    private final User admin = User.builder().id(1L).email("admin@example.com").role("ROLE_ADMIN").build();
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = new Brand();
+        brand.setName("Brand-" + System.nanoTime());
+        brand = brandRepository.save(brand);
+        Category saved = new Category();
+        saved.setName("Fridge");
+        saved.setBrand(brand);
+        category = categoryRepository.save(saved);
+    }
+
+    @Test
+    void replaceManualHoldsNoConnectionDuringMlUpload() throws Exception {
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenReturn(true);
+        ProductModelResponse model = productModelService.createPublicModel("RF-REPLACE-" + System.nanoTime(),
+                category.getId(), pdf("before"));
+
+        List<Integer> heldAtUpload = new CopyOnWriteArrayList<>();
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenAnswer(invocation -> {
+            heldAtUpload.add(ConnectionHoldTimeDataSource.heldConnections());
+            return true;
+        });
+
+        mockMvc.perform(multipart(HttpMethod.PUT, "/api/models/{id}/manual", model.getId())
+                        .file(new MockMultipartFile("manualFile", "after.pdf", "application/pdf",
+                                "%PDF-1.4 after".getBytes(StandardCharsets.UTF_8)))
+                        .with(user(new CustomUserDetails(admin))))
+                .andExpect(status().isOk());
+
+        assertThat(heldAtUpload).containsExactly(0);
+    }
+
+    private static Resource pdf(String content) {
+        return new ByteArrayResource(("%PDF-1.4 " + content).getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return content + ".pdf";
+            }
+        };
+    }
+}
@@ -0,0 +1,146 @@
+package CC_BE.CC_BE.datasource;
+
+import CC_BE.CC_BE.config.ReadReplicaConfig;
+import CC_BE.CC_BE.config.ReadReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 복제본 라우팅 테스트
+ * ReadReplicaConfig 가 만드는 DataSource 구성에 H2 인메모리 DB 두 개(주 DB / 복제본)를 연결하고,
+ * 각 DB 의 db_role 테이블 값으로 어느 쪽에서 쿼리가 실행되었는지 확인합니다.
+ */
+class ReadReplicaRoutingTest {
+    private static final String REPLICA_PASSWORD = "replica-secret";
+
+    private final ReadReplicaConfig config = new ReadReplicaConfig();
+    private final List<Connection> keepAlive = new ArrayList<>();
+    private HikariDataSource primaryDataSource;
+    private ReplicaPoolDataSource replicaDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        String suffix = UUID.randomUUID().toString();
+        String primaryUrl = "jdbc:h2:mem:primary-" + suffix;
+        String replicaUrl = "jdbc:h2:mem:replica-" + suffix;
+        createDatabase(primaryUrl, "", "primary");
+        createDatabase(replicaUrl, REPLICA_PASSWORD, "replica");
+
+        DataSourceProperties primaryProperties = new DataSourceProperties();
+        primaryProperties.setUrl(primaryUrl);
+        primaryProperties.setUsername("sa");
+        primaryProperties.setPassword("");
+
+        // 계정은 주 DB 와 같고 비밀번호만 다른 복제본
+        ReadReplicaProperties.Replica replica = new ReadReplicaProperties.Replica();
+        replica.setUrl(replicaUrl);
+        replica.setPassword(REPLICA_PASSWORD);
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setEnabled(true);
+        properties.setReplicas(List.of(replica));
+        properties.setStickinessSeconds(60);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReadYourWritesTracker tracker = config.readYourWritesTracker(properties);
+        primaryDataSource = config.primaryDataSource(primaryProperties);
+        replicaDataSource = config.replicaDataSource(properties, primaryProperties, primaryDataSource,
+                tracker, meterRegistry);
+        DataSource dataSource = config.dataSource(primaryDataSource, replicaDataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(tracker);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        SecurityContextHolder.clearContext();
+        replicaDataSource.close();
+        primaryDataSource.close();
+        for (Connection connection : keepAlive) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void readOnlyTransactionRunsOnReplica() {
+        assertThat(roleIn(readOnlyTransaction)).isEqualTo("replica");
+        assertThat(replicaDataSource.healthyReplicaCount()).isEqualTo(1);
+    }
+
+    @Test
+    void writeTransactionRunsOnPrimary() {
+        assertThat(roleIn(writeTransaction)).isEqualTo("primary");
+    }
+
+    @Test
+    void readsFollowingOwnWriteGoToPrimary() {
+        authenticate("writer");
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("insert into note(body) values ('hello')"));
+
+        // 쓴 사용자는 복제 지연 동안 주 DB 에서 읽음
+        assertThat(roleIn(readOnlyTransaction)).isEqualTo("primary");
+        Integer notes = readOnlyTransaction.execute(status ->
+                jdbcTemplate.queryForObject("select count(*) from note", Integer.class));
+        assertThat(notes).isEqualTo(1);
+
+        // 다른 사용자의 읽기는 그대로 복제본으로 감
+        authenticate("reader");
+        assertThat(roleIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    void readOnlyTransactionFallsBackToPrimaryWhenReplicaIsDown() {
+        replicaDataSource.close();
+
+        assertThat(roleIn(readOnlyTransaction)).isEqualTo("primary");
+        assertThat(replicaDataSource.healthyReplicaCount()).isZero();
+    }
+
+    private String roleIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("select name from db_role", String.class));
+    }
+
+    private void createDatabase(String url, String password, String role) throws SQLException {
+        // 인메모리 DB 는 마지막 커넥션이 닫히면 사라지므로 테스트가 끝날 때까지 커넥션 하나를 유지
+        Connection connection = DriverManager.getConnection(url, "sa", password);
+        keepAlive.add(connection);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table db_role(name varchar(20))");
+            statement.execute("insert into db_role(name) values ('" + role + "')");
+            statement.execute("create table note(body varchar(100))");
+        }
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+}
@@ -0,0 +1,54 @@
+package CC_BE.CC_BE.ml;
+
+import CC_BE.CC_BE.config.MLServerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 문서별 고정(shard-by-document) 모드에서 문서를 가진 서버가 제외된 경우의 동작 테스트
+ */
+class MlEndpointPoolTest {
+    private static final String FIRST = "http://ml-a:8000";
+    private static final String SECOND = "http://ml-b:8000";
+
+    @Test
+    void shardedDocumentFailsInsteadOfMovingWhenItsServerIsEjected() {
+        MlEndpointPool pool = new MlEndpointPool(shardedProperties(), new SimpleMeterRegistry());
+        String firstDoc = documentOn(pool, FIRST);
+        String secondDoc = documentOn(pool, SECOND);
+
+        // FIRST 서버 호출 실패로 제외
+        MlEndpointPool.Endpoint endpoint = pool.acquire("chat", firstDoc);
+        pool.release(endpoint, "chat", 0, false);
+        assertThat(endpoint.isAvailable()).isFalse();
+
+        assertThatThrownBy(() -> pool.acquire("chat", firstDoc))
+                .isInstanceOf(MlEndpointUnavailableException.class);
+        // 다른 서버의 문서는 그대로 자기 서버로 감
+        assertThat(pool.acquire("chat", secondDoc).getUrl()).isEqualTo(SECOND);
+    }
+
+    private static MLServerProperties shardedProperties() {
+        MLServerProperties properties = new MLServerProperties();
+        properties.setUrls(List.of(FIRST, SECOND));
+        properties.setShardByDocument(true);
+        properties.setFailureThreshold(1);
+        return properties;
+    }
+
+    private static String documentOn(MlEndpointPool pool, String url) {
+        for (int i = 0; ; i++) {
+            String docName = "doc-" + i;
+            MlEndpointPool.Endpoint endpoint = pool.acquire("chat", docName);
+            pool.release(endpoint, "chat", 0, true);
+            if (endpoint.getUrl().equals(url)) {
+                return docName;
+            }
+        }
+    }
+}
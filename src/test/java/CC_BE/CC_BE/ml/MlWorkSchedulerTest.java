@@ -0,0 +1,58 @@
+package CC_BE.CC_BE.ml;
+
+import CC_BE.CC_BE.config.MlSchedulerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 챗봇 요청이 전체 상한을 채워도 매뉴얼 등록 몫이 남는지 확인하는 테스트
+ */
+class MlWorkSchedulerTest {
+    private MlWorkScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.destroy();
+    }
+
+    @Test
+    void chatCannotTakeTheIngestionReserve() {
+        MlSchedulerProperties properties = new MlSchedulerProperties();
+        properties.setMaxConcurrency(4);
+        properties.setChat(new MlSchedulerProperties.WorkClass(4, 60_000, 100, 0));  // 챗봇 상한 = 전체 상한
+        properties.setIngestion(new MlSchedulerProperties.WorkClass(2, 60_000, 100, 1));
+        scheduler = new MlWorkScheduler(properties, new SimpleMeterRegistry());
+
+        AtomicInteger started = new AtomicInteger();
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            CompletableFuture<Void> work = new CompletableFuture<>();
+            running.add(work);
+            scheduler.executeAsync(MlWorkScheduler.WorkClass.CHAT, "chat-model", 1.0, () -> {
+                started.incrementAndGet();
+                return work;
+            });
+        }
+        assertThat(started).hasValue(3);
+
+        // 챗봇이 대기 중이어도 예약 몫으로 등록이 바로 실행됨
+        AtomicInteger ingested = new AtomicInteger();
+        scheduler.executeAsync(MlWorkScheduler.WorkClass.INGESTION, "ingest-model", 1.0, () -> {
+            ingested.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+        assertThat(ingested).hasValue(1);
+
+        // 챗봇이 끝나면 대기 중인 챗봇이 이어서 실행됨
+        running.get(0).complete(null);
+        assertThat(started).hasValue(4);
+    }
+}
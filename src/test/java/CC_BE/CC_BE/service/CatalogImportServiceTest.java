@@ -0,0 +1,168 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.CatalogImportProperties;
+import CC_BE.CC_BE.domain.Brand;
+import CC_BE.CC_BE.domain.ProductModel;
+import CC_BE.CC_BE.dto.CatalogImportResponse;
+import CC_BE.CC_BE.repository.BrandRepository;
+import CC_BE.CC_BE.repository.CategoryRepository;
+import CC_BE.CC_BE.repository.ProductModelRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 카탈로그 일괄 등록의 청크 처리와 다시 가져오기 테스트
+ * 테스트 DB(H2) 는 이름을 대소문자 구분해 비교하므로, 대소문자가 다른 이름도 같은 것으로 찾는지 함께 확인합니다.
+ * 청크마다 보내는 조회 수와, 각 조회가 인덱스를 쓰는지(EXPLAIN) 도 확인합니다.
+ */
+@SpringBootTest
+class CatalogImportServiceTest {
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+    @Autowired
+    private CatalogImportProperties properties;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductModelRepository productModelRepository;
+
+    @MockitoSpyBean
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private MLServerService mlServerService;
+
+    private int chunkSize;
+    private String brandName;
+
+    @BeforeEach
+    void setUp() {
+        chunkSize = properties.getChunkSize();
+        properties.setChunkSize(2);
+        brandName = "Catalog-" + System.nanoTime();
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setChunkSize(chunkSize);
+    }
+
+    @Test
+    void importsAcrossChunksIgnoringCase() throws IOException {
+        String suffix = brandName.substring("Catalog-".length());
+        // 청크 크기 2: 같은 브랜드 / 카테고리가 대소문자만 바꿔 여러 청크에 걸쳐 나옴
+        CatalogImportResponse response = importCsv("""
+                brand,category,model
+                %1$s,Washer,WM-%2$s
+                %3$s,washer,WM2-%2$s
+                %1$s,Dryer,DR-%2$s
+                %1$s,,
+                %1$s,WASHER,wm-%2$s
+                """.formatted(brandName, suffix, brandName.toUpperCase()));
+
+        assertThat(response.getRows()).isEqualTo(5);
+        assertThat(response.getFailedRows()).isZero();
+        assertThat(response.getBrandsCreated()).isEqualTo(1);
+        assertThat(response.getCategoriesCreated()).isEqualTo(2);
+        assertThat(response.getModelsCreated()).isEqualTo(3);
+        assertThat(response.getModelsSkipped()).isEqualTo(1);
+
+        Brand brand = brandsNamed(brandName).get(0);
+        assertThat(brandsNamed(brandName)).hasSize(1);
+        assertThat(categoryRepository.findByBrand(brand)).hasSize(2);
+        assertThat(modelsOf(brand)).hasSize(3);
+    }
+
+    @Test
+    void reimportIsIdempotent() throws IOException {
+        String suffix = brandName.substring("Catalog-".length());
+        String csv = """
+                brand,category,model
+                %1$s,Washer,WM-%2$s
+                %1$s,Washer,WM2-%2$s
+                %1$s,Dryer,DR-%2$s
+                """.formatted(brandName, suffix);
+        importCsv(csv);
+
+        // 같은 파일을 대소문자만 바꿔 다시 가져와도 새로 만들지 않음
+        CatalogImportResponse again = importCsv(csv.toUpperCase().replace("BRAND,CATEGORY,MODEL", "brand,category,model"));
+
+        assertThat(again.getFailedRows()).isZero();
+        assertThat(again.getBrandsCreated()).isZero();
+        assertThat(again.getCategoriesCreated()).isZero();
+        assertThat(again.getModelsCreated()).isZero();
+        assertThat(again.getModelsSkipped()).isEqualTo(3);
+
+        Brand brand = brandsNamed(brandName).get(0);
+        assertThat(brandsNamed(brandName)).hasSize(1);
+        assertThat(categoryRepository.findByBrand(brand)).hasSize(2);
+        assertThat(modelsOf(brand)).hasSize(3);
+    }
+
+    @Test
+    void lookupsUseNameKeyIndexesWithFixedQueriesPerChunk() throws IOException {
+        String suffix = brandName.substring("Catalog-".length());
+        clearInvocations(jdbcTemplate);
+        // 청크 크기 2: 첫 청크는 브랜드 / 카테고리를 만들고, 둘째 청크는 이미 있는 것을 찾음
+        importCsv("""
+                brand,category,model
+                %1$s,Washer,WM-%2$s
+                %1$s,Dryer,DR-%2$s
+                %1$s,WASHER,WM2-%2$s
+                """.formatted(brandName, suffix));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        // 첫 청크: 모델, 브랜드 (INSERT 전후), 카테고리 (INSERT 전후) / 둘째 청크: 모델, 브랜드, 카테고리
+        verify(jdbcTemplate, times(8)).query(sql.capture(), params.capture(), any(RowCallbackHandler.class));
+
+        for (int i = 0; i < sql.getAllValues().size(); i++) {
+            String plan = jdbcTemplate.queryForObject("explain " + sql.getAllValues().get(i),
+                    params.getAllValues().get(i), String.class);
+            // 인덱스를 조건으로 찾으면 "/* PUBLIC.인덱스: 조건 */", 인덱스나 테이블을 전부 훑으면 조건이 없음
+            assertThat(plan).as(sql.getAllValues().get(i))
+                    .doesNotContain("tableScan")
+                    .containsPattern("IDX_(BRAND|CATEGORY_BRAND|PRODUCT_MODEL)_NAME_KEY: ");
+        }
+    }
+
+    private CatalogImportResponse importCsv(String csv) throws IOException {
+        return catalogImportService.importCatalog(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                CatalogImportService.Format.CSV);
+    }
+
+    private List<Brand> brandsNamed(String name) {
+        return brandRepository.findAll().stream()
+                .filter(brand -> brand.getName().equalsIgnoreCase(name))
+                .toList();
+    }
+
+    private List<ProductModel> modelsOf(Brand brand) {
+        return productModelRepository.findByOwnerIsNull().stream()
+                .filter(model -> model.getBrand() != null && model.getBrand().getId().equals(brand.getId()))
+                .toList();
+    }
+}
@@ -0,0 +1,126 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.domain.Brand;
+import CC_BE.CC_BE.domain.Category;
+import CC_BE.CC_BE.domain.Manual;
+import CC_BE.CC_BE.domain.ManualFileDeletion;
+import CC_BE.CC_BE.domain.MlDocumentDeletion;
+import CC_BE.CC_BE.domain.ProductModel;
+import CC_BE.CC_BE.repository.BrandRepository;
+import CC_BE.CC_BE.repository.CategoryRepository;
+import CC_BE.CC_BE.repository.ManualFileDeletionRepository;
+import CC_BE.CC_BE.repository.ManualRepository;
+import CC_BE.CC_BE.repository.MlDocumentDeletionRepository;
+import CC_BE.CC_BE.repository.ProductModelRepository;
+import CC_BE.CC_BE.storage.ManualStorage;
+import CC_BE.CC_BE.storage.StoredManualFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카테고리 삭제 시 모델 / 매뉴얼 일괄 삭제와 삭제 대기열(outbox) 기록 테스트
+ */
+@SpringBootTest
+class CategoryServiceTest {
+
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private ManualFileCleanupService manualFileCleanupService;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductModelRepository productModelRepository;
+    @Autowired
+    private ManualRepository manualRepository;
+    @Autowired
+    private MlDocumentDeletionRepository mlDocumentDeletionRepository;
+    @Autowired
+    private ManualFileDeletionRepository manualFileDeletionRepository;
+    @Autowired
+    private ManualStorage manualStorage;
+
+    @MockitoBean
+    private MLServerService mlServerService;
+
+    @BeforeEach
+    void setUp() {
+        mlDocumentDeletionRepository.deleteAll();
+        manualFileDeletionRepository.deleteAll();
+    }
+
+    @Test
+    void deleteCategoryRemovesModelsAndQueuesTheirFilesAndDocuments() throws IOException {
+        Brand brand = new Brand();
+        brand.setName("Brand-delete");
+        brand = brandRepository.save(brand);
+        Category category = new Category();
+        category.setName("Dryer");
+        category.setBrand(brand);
+        category = categoryRepository.save(category);
+
+        StoredManualFile first = store("first.pdf");
+        StoredManualFile second = store("second.pdf");
+        StoredManualFile thumbnail = store("second.png");
+        ProductModel withDocId = model("DR-100", category);
+        manual(withDocId, first.key(), null, "DR-100@0123456789ab");
+        ProductModel legacy = model("DR-200", category);
+        manual(legacy, second.key(), thumbnail.key(), null);
+        ProductModel withoutManual = model("DR-300", category);
+
+        categoryService.deleteCategory(category.getId());
+
+        assertThat(categoryRepository.existsById(category.getId())).isFalse();
+        assertThat(productModelRepository.findAllById(List.of(withDocId.getId(), legacy.getId(),
+                withoutManual.getId()))).isEmpty();
+        assertThat(manualRepository.findByProductModelId(withDocId.getId())).isEmpty();
+        assertThat(manualRepository.findByProductModelId(legacy.getId())).isEmpty();
+        assertThat(mlDocumentDeletionRepository.findAll()).extracting(MlDocumentDeletion::getDocName)
+                .containsExactlyInAnyOrder("DR-100@0123456789ab", "DR-200");  // 매뉴얼 없는 DR-300 은 문서가 없음
+        assertThat(manualFileDeletionRepository.findAll()).extracting(ManualFileDeletion::getStorageKey)
+                .containsExactlyInAnyOrder(first.key(), second.key(), thumbnail.key());
+
+        // 커밋 후 파일 정리 작업이 대기열을 비움
+        manualFileCleanupService.drain();
+
+        assertThat(manualFileDeletionRepository.count()).isZero();
+        assertThat(manualStorage.exists(first.key())).isFalse();
+        assertThat(manualStorage.exists(thumbnail.key())).isFalse();
+    }
+
+    private StoredManualFile store(String fileName) throws IOException {
+        return manualStorage.store(new ByteArrayInputStream(("%PDF-1.4 " + fileName + System.nanoTime())
+                .getBytes(StandardCharsets.UTF_8)), fileName);
+    }
+
+    private ProductModel model(String name, Category category) {
+        return productModelRepository.save(ProductModel.builder()
+                .name(name)
+                .category(category)
+                .brand(category.getBrand())
+                .build());
+    }
+
+    private void manual(ProductModel model, String key, String thumbnailKey, String mlDocName) {
+        manualRepository.save(Manual.builder()
+                .fileName(model.getName() + ".pdf")
+                .filePath(key)
+                .thumbnailKey(thumbnailKey)
+                .modelName(model.getName())
+                .mlDocName(mlDocName)
+                .productModel(model)
+                .build());
+    }
+}
@@ -0,0 +1,125 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.IdempotencyProperties;
+import CC_BE.CC_BE.domain.IdempotencyRecord;
+import CC_BE.CC_BE.domain.ProductModel;
+import CC_BE.CC_BE.dto.ProductModelResponse;
+import CC_BE.CC_BE.repository.IdempotencyRecordRepository;
+import CC_BE.CC_BE.repository.ProductModelRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Idempotency-Key 재요청 처리 테스트
+ * 기록 저장소는 Map 으로 흉내 내고, 트랜잭션 관리자는 목으로 둡니다.
+ */
+class IdempotencyServiceTest {
+    private static final Object[] REQUEST = {"public", "bench-model", 1L, "manual.pdf", 10L};
+
+    private final Map<String, IdempotencyRecord> records = new HashMap<>();
+    private final IdempotencyRecordRepository recordRepository = mock(IdempotencyRecordRepository.class);
+    private final ProductModelRepository productModelRepository = mock(ProductModelRepository.class);
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        when(recordRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(records.get(invocation.<String>getArgument(0))));
+        when(recordRepository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            IdempotencyRecord record = invocation.getArgument(0);
+            records.put(record.getId(), record);
+            return record;
+        });
+        when(recordRepository.complete(anyString(), anyLong(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            IdempotencyRecord record = records.get(invocation.<String>getArgument(0));
+            record.setStatus(IdempotencyRecord.Status.COMPLETED);
+            record.setProductModelId(invocation.getArgument(1));
+            record.setExpiresAt(invocation.getArgument(2));
+            return 1;
+        });
+        doAnswer(invocation -> records.remove(invocation.<String>getArgument(0)))
+                .when(recordRepository).deleteById(anyString());
+
+        idempotencyService = new IdempotencyService(recordRepository, new IdempotencyProperties(),
+                productModelRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void replayReturnsTheFirstModelWithoutCreatingAgain() {
+        ProductModel model = ProductModel.builder().id(7L).name("bench-model").build();
+        when(productModelRepository.findById(7L)).thenReturn(Optional.of(model));
+        AtomicInteger creates = new AtomicInteger();
+        Supplier<ProductModelResponse> create = () -> {
+            creates.incrementAndGet();
+            return ProductModelResponse.from(model);
+        };
+
+        IdempotencyService.Result first = idempotencyService.createOnce("key-1", 1L, REQUEST, create);
+        IdempotencyService.Result second = idempotencyService.createOnce("key-1", 1L, REQUEST, create);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.model().getId()).isEqualTo(7L);
+        assertThat(creates).hasValue(1);
+    }
+
+    @Test
+    void replayAfterModelDeletionIsGone() {
+        ProductModel model = ProductModel.builder().id(8L).name("bench-model").build();
+        idempotencyService.createOnce("key-2", 1L, REQUEST, () -> ProductModelResponse.from(model));
+        when(productModelRepository.findById(8L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> idempotencyService.createOnce("key-2", 1L, REQUEST,
+                () -> ProductModelResponse.from(model)))
+                .isInstanceOf(IdempotentResultGoneException.class);
+    }
+
+    @Test
+    void failedCompletionReleasesTheKey() {
+        ProductModel model = ProductModel.builder().id(9L).name("bench-model").build();
+        when(recordRepository.complete(anyString(), anyLong(), any(LocalDateTime.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        IdempotencyService.Result result = idempotencyService.createOnce("key-3", 1L, REQUEST,
+                () -> ProductModelResponse.from(model));
+
+        // 모델은 생성되었으므로 응답은 성공이고, 키는 처리 중으로 남지 않음
+        assertThat(result.model().getId()).isEqualTo(9L);
+        assertThat(records).isEmpty();
+    }
+
+    @Test
+    void failedCreationReleasesTheKeyForRetry() {
+        ProductModel model = ProductModel.builder().id(10L).name("bench-model").build();
+        assertThatThrownBy(() -> idempotencyService.createOnce("key-4", 1L, REQUEST, () -> {
+            throw new RuntimeException("ML 서버 처리 중 오류가 발생했습니다.");
+        })).hasMessageContaining("ML 서버");
+        assertThat(records).isEmpty();
+
+        IdempotencyService.Result retried = idempotencyService.createOnce("key-4", 1L, REQUEST,
+                () -> ProductModelResponse.from(model));
+        assertThat(retried.replayed()).isFalse();
+        assertThat(retried.model().getId()).isEqualTo(10L);
+    }
+}
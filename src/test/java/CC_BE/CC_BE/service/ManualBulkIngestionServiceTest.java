@@ -0,0 +1,215 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.domain.Brand;
+import CC_BE.CC_BE.domain.Category;
+import CC_BE.CC_BE.domain.NameKey;
+import CC_BE.CC_BE.domain.ProductModel;
+import CC_BE.CC_BE.dto.ManualBulkIngestionResponse;
+import CC_BE.CC_BE.dto.ManualBulkIngestionResponse.Entry;
+import CC_BE.CC_BE.repository.BrandRepository;
+import CC_BE.CC_BE.repository.CategoryRepository;
+import CC_BE.CC_BE.repository.ProductModelRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 압축 파일 매뉴얼 일괄 등록의 매니페스트 검사와 백그라운드 작업 테스트
+ */
+@SpringBootTest
+class ManualBulkIngestionServiceTest {
+
+    @Autowired
+    private ManualBulkIngestionService manualBulkIngestionService;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProductModelRepository productModelRepository;
+
+    @MockitoBean
+    private MLServerService mlServerService;
+
+    private final Set<String> uploadThreads = ConcurrentHashMap.newKeySet();
+    private Category category;
+    private String suffix;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenAnswer(invocation -> {
+            uploadThreads.add(Thread.currentThread().getName());
+            return true;
+        });
+        suffix = String.valueOf(System.nanoTime());
+        Brand brand = new Brand();
+        brand.setName("Brand-" + suffix);
+        brand = brandRepository.save(brand);
+        Category saved = new Category();
+        saved.setName("Washer");
+        saved.setBrand(brand);
+        category = categoryRepository.save(saved);
+    }
+
+    @Test
+    void rejectsArchiveWhoseFirstEntryIsNotTheManifest() throws Exception {
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("a.pdf", "%PDF-1.4 a");
+        files.put("manifest.json", "[]");
+
+        assertThatThrownBy(() -> manualBulkIngestionService.start(zip(files)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("manifest.json");
+
+        // 거절된 요청은 작업 자리를 남기지 않음
+        awaitFinished(manualBulkIngestionService.start(zip(Map.of("manifest.json", "[{\"file\": \"none.pdf\", "
+                + "\"model\": \"NONE-" + suffix + "\", \"categoryId\": " + category.getId() + "}]"))).getJobId());
+    }
+
+    @Test
+    void rejectsMalformedManifest() {
+        assertThatThrownBy(() -> manualBulkIngestionService.start(zip(Map.of("manifest.json", "{\"file\": 1}"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("매니페스트 형식");
+        assertThatThrownBy(() -> manualBulkIngestionService.start(zip(Map.of("manifest.json", "[]"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("항목이 없습니다");
+    }
+
+    @Test
+    void reportsInvalidManifestEntriesAndRegistersTheRest() throws Exception {
+        String manifest = """
+                [
+                  {"file": "ok.pdf", "model": "OK-%1$s", "categoryId": %2$d},
+                  {"file": "ok.pdf", "model": "DUP-FILE-%1$s", "categoryId": %2$d},
+                  {"file": "korean.pdf", "model": "세탁기-%1$s", "categoryId": %2$d},
+                  {"file": "same-model.pdf", "model": "ok-%1$s", "categoryId": %2$d},
+                  {"file": "no-category.pdf", "model": "NOCAT-%1$s"},
+                  {"file": "unknown-category.pdf", "model": "UNKNOWN-%1$s", "categoryId": -1},
+                  {"file": "missing.pdf", "model": "MISSING-%1$s", "categoryId": %2$d}
+                ]""".formatted(suffix, category.getId());
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("manifest.json", manifest);
+        for (String name : new String[]{"ok.pdf", "korean.pdf", "same-model.pdf", "no-category.pdf",
+                "unknown-category.pdf", "extra.pdf"}) {
+            files.put(name, "%PDF-1.4 " + name + " " + suffix);
+        }
+
+        ManualBulkIngestionResponse started = manualBulkIngestionService.start(zip(files));
+        assertThat(started.getStatus()).isEqualTo("RUNNING");
+        assertThat(started.getTotal()).isEqualTo(7);
+
+        ManualBulkIngestionResponse report = awaitFinished(started.getJobId());
+        assertThat(report.getStatus()).isEqualTo("COMPLETED");
+        assertThat(report.getProcessed()).isEqualTo(7);
+        assertThat(report.getCreated()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(6);
+        assertThat(report.getSkipped()).isEqualTo(1);
+
+        Map<String, Entry> byModel = report.getEntries().stream()
+                .filter(entry -> entry.getModel() != null)
+                .collect(Collectors.toMap(Entry::getModel, Function.identity()));
+        assertThat(byModel.get("OK-" + suffix).getStatus()).isEqualTo("CREATED");
+        assertThat(byModel.get("DUP-FILE-" + suffix).getMessage()).contains("같은 파일");
+        assertThat(byModel.get("세탁기-" + suffix).getMessage()).contains("한글");
+        assertThat(byModel.get("ok-" + suffix).getMessage()).contains("같은 모델명");
+        assertThat(byModel.get("NOCAT-" + suffix).getMessage()).contains("카테고리 ID");
+        assertThat(byModel.get("UNKNOWN-" + suffix).getMessage()).contains("카테고리를 찾을 수 없습니다");
+        assertThat(byModel.get("MISSING-" + suffix).getMessage()).contains("압축 파일에 없는");
+        assertThat(report.getEntries()).filteredOn(entry -> "SKIPPED".equals(entry.getStatus()))
+                .extracting(Entry::getFile).containsExactly("extra.pdf");
+
+        // ML 서버 등록은 번호가 붙은 등록 스레드에서 실행
+        assertThat(uploadThreads).isNotEmpty().allMatch(name -> name.matches("manual-bulk-worker-\\d+"));
+    }
+
+    @Test
+    void attachesToCatalogModelIgnoringCaseAndRejectsCaseOnlyClash() throws Exception {
+        // 카탈로그 일괄 등록으로 매뉴얼 없이 만든 모델 (하나는 다른 카테고리)
+        productModelRepository.save(ProductModel.builder()
+                .name("AC-" + suffix).category(category).brand(category.getBrand()).build());
+        Category other = new Category();
+        other.setName("Dryer");
+        other.setBrand(category.getBrand());
+        other = categoryRepository.save(other);
+        productModelRepository.save(ProductModel.builder()
+                .name("BX-" + suffix).category(other).brand(other.getBrand()).build());
+
+        String manifest = """
+                [
+                  {"file": "ac.pdf", "model": "ac-%1$s", "categoryId": %2$d},
+                  {"file": "bx.pdf", "model": "bx-%1$s", "categoryId": %2$d}
+                ]""".formatted(suffix, category.getId());
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("manifest.json", manifest);
+        files.put("ac.pdf", "%PDF-1.4 ac " + suffix);
+        files.put("bx.pdf", "%PDF-1.4 bx " + suffix);
+
+        ManualBulkIngestionResponse report = awaitFinished(manualBulkIngestionService.start(zip(files)).getJobId());
+        assertThat(report.getAttached()).isEqualTo(1);
+        assertThat(report.getCreated()).isZero();
+        assertThat(report.getFailed()).isEqualTo(1);
+        Map<String, Entry> byModel = report.getEntries().stream()
+                .filter(entry -> entry.getModel() != null)
+                .collect(Collectors.toMap(Entry::getModel, Function.identity()));
+        assertThat(byModel.get("ac-" + suffix).getStatus()).isEqualTo("ATTACHED");
+        assertThat(byModel.get("bx-" + suffix).getMessage()).contains("이미 존재하는 모델명");
+
+        // 대소문자만 다른 모델을 새로 만들지 않고, 기존 모델에 기존 이름 그대로 매뉴얼을 연결
+        List<ProductModel> ac = productModelRepository.findByNameKey(NameKey.of("AC-" + suffix));
+        assertThat(ac).singleElement().satisfies(model -> {
+            assertThat(model.getName()).isEqualTo("AC-" + suffix);
+            assertThat(model.getManual()).isNotNull();
+        });
+        assertThat(productModelRepository.findByNameKey(NameKey.of("BX-" + suffix)))
+                .singleElement().satisfies(model -> assertThat(model.getManual()).isNull());
+    }
+
+    private ManualBulkIngestionResponse awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            ManualBulkIngestionResponse status = manualBulkIngestionService.getStatus(jobId).orElseThrow();
+            if (!"RUNNING".equals(status.getStatus())) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("일괄 등록 작업이 끝나지 않았습니다 - 작업 ID: " + jobId);
+    }
+
+    private static ByteArrayInputStream zip(Map<String, String> files) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> file : files.entrySet()) {
+                zip.putNextEntry(new ZipEntry(file.getKey()));
+                zip.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}
@@ -0,0 +1,110 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.ManualGcProperties;
+import CC_BE.CC_BE.dto.ManualGcReportResponse;
+import CC_BE.CC_BE.repository.ManualRepository;
+import CC_BE.CC_BE.storage.LocalManualStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 고아 파일 정리의 dry-run / 삭제 동작 테스트
+ * 저장소는 임시 디렉토리의 로컬 저장소를 쓰고, 매뉴얼 테이블은 key 집합으로 흉내 냅니다.
+ */
+class ManualGcServiceTest {
+    @TempDir
+    Path root;
+
+    private final TreeSet<String> referencedKeys = new TreeSet<>();
+    private final ManualRepository manualRepository = mock(ManualRepository.class);
+    private LocalManualStorage storage;
+    private ManualGcService gcService;
+
+    private String referenced;
+    private String oldOrphan;
+    private String recentOrphan;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(manualRepository.findFilePathsAfter(anyString(), any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable page = invocation.getArgument(1);
+            return referencedKeys.tailSet(invocation.getArgument(0), false).stream()
+                    .limit(page.getPageSize())
+                    .toList();
+        });
+        when(manualRepository.findThumbnailKeysAfter(anyString(), any(Pageable.class))).thenReturn(List.of());
+        when(manualRepository.existsByFilePathOrThumbnailKey(anyString(), anyString()))
+                .thenAnswer(invocation -> referencedKeys.contains(invocation.<String>getArgument(0)));
+
+        storage = new LocalManualStorage(root, null, 2);
+        ManualGcProperties properties = new ManualGcProperties();
+        properties.setGracePeriodHours(1);
+        properties.setPageSize(2);
+        gcService = new ManualGcService(manualRepository, storage, properties, new SimpleMeterRegistry());
+
+        referenced = store("referenced.pdf", Duration.ofDays(2));
+        oldOrphan = store("old-orphan.pdf", Duration.ofDays(2));
+        recentOrphan = store("recent-orphan.pdf", Duration.ZERO);
+        referencedKeys.add(referenced);
+        referencedKeys.add("manuals/missing/dangling.pdf");
+    }
+
+    @Test
+    void dryRunReportsOrphansWithoutDeleting() {
+        ManualGcReportResponse report = gcService.run(true);
+
+        assertThat(report.isDryRun()).isTrue();
+        assertThat(report.getScannedFiles()).isEqualTo(3);
+        assertThat(report.getReferencedFiles()).isEqualTo(1);
+        assertThat(report.getOrphanFiles()).isEqualTo(1);
+        assertThat(report.getOrphanSamples()).containsExactly(oldOrphan);
+        assertThat(report.getRecentUnreferencedFiles()).isEqualTo(1);
+        assertThat(report.getDanglingKeys()).isEqualTo(1);
+        assertThat(report.getDeletedFiles()).isZero();
+        assertThat(storage.exists(oldOrphan)).isTrue();
+        assertThat(gcService.getLastReport()).containsSame(report);
+    }
+
+    @Test
+    void runDeletesOnlyOrphansPastTheGracePeriod() {
+        ManualGcReportResponse report = gcService.run(false);
+
+        assertThat(report.isDryRun()).isFalse();
+        assertThat(report.getOrphanFiles()).isEqualTo(1);
+        assertThat(report.getDeletedFiles()).isEqualTo(1);
+        assertThat(report.getDeletedBytes()).isEqualTo(report.getOrphanBytes()).isPositive();
+        assertThat(storage.exists(oldOrphan)).isFalse();
+        assertThat(storage.exists(referenced)).isTrue();
+        assertThat(storage.exists(recentOrphan)).isTrue();
+
+        // 다시 실행하면 지울 파일이 없음
+        assertThat(gcService.run(false).getOrphanFiles()).isZero();
+    }
+
+    private String store(String fileName, Duration age) throws IOException {
+        String key = storage.store(new ByteArrayInputStream(("%PDF-1.4 " + fileName).getBytes(StandardCharsets.UTF_8)),
+                fileName).key();
+        Files.setLastModifiedTime(storage.resolve(key), FileTime.from(Instant.now().minus(age)));
+        return key;
+    }
+}
@@ -0,0 +1,158 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.ManualReingestionProperties;
+import CC_BE.CC_BE.domain.Brand;
+import CC_BE.CC_BE.domain.Category;
+import CC_BE.CC_BE.domain.Manual;
+import CC_BE.CC_BE.domain.MlDocumentDeletion;
+import CC_BE.CC_BE.dto.ManualReingestionResponse;
+import CC_BE.CC_BE.dto.ProductModelResponse;
+import CC_BE.CC_BE.ml.MlDocumentNames;
+import CC_BE.CC_BE.repository.BrandRepository;
+import CC_BE.CC_BE.repository.CategoryRepository;
+import CC_BE.CC_BE.repository.ManualRepository;
+import CC_BE.CC_BE.repository.MlDocumentDeletionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static CC_BE.CC_BE.service.ProductModelServiceTest.pdf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 매뉴얼 전체 재등록 작업의 재시작 보호와 교체 경합 테스트
+ */
+@SpringBootTest
+class ManualReingestionServiceTest {
+
+    @Autowired
+    private ManualReingestionService manualReingestionService;
+    @Autowired
+    private ManualReingestionProperties properties;
+    @Autowired
+    private ProductModelService productModelService;
+    @Autowired
+    private ManualRepository manualRepository;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private MlDocumentDeletionRepository mlDocumentDeletionRepository;
+
+    @MockitoBean
+    private MLServerService mlServerService;
+
+    private double uploadsPerMinute;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        uploadsPerMinute = properties.getUploadsPerMinute();
+        properties.setUploadsPerMinute(0);
+        mlDocumentDeletionRepository.deleteAll();
+        Brand brand = new Brand();
+        brand.setName("Brand-" + System.nanoTime());
+        brand = brandRepository.save(brand);
+        Category saved = new Category();
+        saved.setName("Dryer");
+        saved.setBrand(brand);
+        category = categoryRepository.save(saved);
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setUploadsPerMinute(uploadsPerMinute);
+    }
+
+    @Test
+    void cannotStartAgainWhileCancelledRunIsStillUploading() throws Exception {
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenReturn(true);
+        productModelService.createPublicModel("DR-REINGEST-1", category.getId(), pdf("manual.pdf"));
+
+        CountDownLatch uploading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenAnswer(invocation -> {
+            uploading.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return true;
+        });
+
+        manualReingestionService.start(1L);
+        assertThat(uploading.await(10, TimeUnit.SECONDS)).isTrue();
+        manualReingestionService.cancel();
+
+        // 취소한 작업의 업로드가 끝나기 전에는 새 작업을 시작하지 않음
+        assertThatThrownBy(() -> manualReingestionService.start(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("끝나지 않았습니다");
+
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenReturn(true);
+        release.countDown();
+        ManualReingestionResponse restarted = startWhenIdle();
+        awaitFinished(restarted.getJobId());
+    }
+
+    @Test
+    void manualReplacedDuringUploadQueuesTheUploadedDocument() throws Exception {
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenReturn(true);
+        ProductModelResponse model = productModelService.createPublicModel("DR-REINGEST-2", category.getId(),
+                pdf("manual.pdf"));
+        Manual before = manualRepository.findByProductModelId(model.getId()).orElseThrow();
+
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenAnswer(invocation -> {
+            if (before.getMlDocName().equals(invocation.getArgument(1))) {
+                // 재등록 업로드 중 매뉴얼이 교체된 상황
+                Manual manual = manualRepository.findById(before.getId()).orElseThrow();
+                manual.setMlDocName(MlDocumentNames.newName(model.getName()));
+                manualRepository.save(manual);
+            }
+            return true;
+        });
+
+        ManualReingestionResponse job = awaitFinished(startWhenIdle().getJobId());
+
+        assertThat(mlDocumentDeletionRepository.findAll()).extracting(MlDocumentDeletion::getDocName)
+                .containsExactly(before.getMlDocName());
+        // 교체된 매뉴얼은 재등록한 것으로 세지 않음
+        assertThat(job.getSkippedCount()).isEqualTo(1);
+        assertThat(job.getProcessedCount()).isEqualTo(job.getTotalCount() - 1);
+    }
+
+    private ManualReingestionResponse startWhenIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (true) {
+            try {
+                return manualReingestionService.start(1L);
+            } catch (IllegalStateException e) {
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(20);
+            }
+        }
+    }
+
+    private ManualReingestionResponse awaitFinished(Long jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            ManualReingestionResponse status = manualReingestionService.getStatus().orElseThrow();
+            if (status.getJobId().equals(jobId) && !"RUNNING".equals(status.getStatus())) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("재등록 작업이 끝나지 않았습니다 - 작업 ID: " + jobId);
+    }
+}
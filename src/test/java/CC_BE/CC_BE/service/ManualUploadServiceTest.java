@@ -0,0 +1,226 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.config.ManualUploadProperties;
+import CC_BE.CC_BE.domain.Brand;
+import CC_BE.CC_BE.domain.Category;
+import CC_BE.CC_BE.domain.Manual;
+import CC_BE.CC_BE.domain.ManualUploadSession;
+import CC_BE.CC_BE.domain.User;
+import CC_BE.CC_BE.dto.ManualUploadRequest;
+import CC_BE.CC_BE.dto.ManualUploadResponse;
+import CC_BE.CC_BE.dto.ProductModelResponse;
+import CC_BE.CC_BE.repository.BrandRepository;
+import CC_BE.CC_BE.repository.CategoryRepository;
+import CC_BE.CC_BE.repository.ManualRepository;
+import CC_BE.CC_BE.storage.ContentHashes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재개 가능한 분할 업로드 테스트 (청크 재전송, 청크 해시 검증, 완료, 완료 처리 중 늦은 청크)
+ */
+@SpringBootTest
+class ManualUploadServiceTest {
+    private static final byte[] CONTENT = "%PDF-1.4 chunked manual body!".getBytes(StandardCharsets.UTF_8);  // 29 bytes
+    private static final int CHUNK_SIZE = 8;
+
+    @Autowired
+    private ManualUploadService uploadService;
+    @Autowired
+    private ManualUploadProperties properties;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ManualRepository manualRepository;
+
+    @MockitoBean
+    private MLServerService mlServerService;
+
+    private final User user = User.builder().id(42L).email("uploader@example.com").role("ROLE_ADMIN").build();
+    private int defaultChunkSize;
+    private Category category;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        defaultChunkSize = properties.getChunkSize();
+        properties.setChunkSize(CHUNK_SIZE);
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenReturn(true);
+
+        Brand brand = new Brand();
+        brand.setName("Brand-upload");
+        brand = brandRepository.save(brand);
+        Category saved = new Category();
+        saved.setName("Oven");
+        saved.setBrand(brand);
+        category = categoryRepository.save(saved);
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setChunkSize(defaultChunkSize);
+    }
+
+    @Test
+    void chunksCanArriveOutOfOrderAndBeResent() throws IOException {
+        ManualUploadResponse session = createSession("OV-CHUNK-1");
+        assertThat(session.getChunkCount()).isEqualTo(4);
+
+        send(session, 3);
+        send(session, 1);
+        send(session, 1);  // 재전송
+        assertThat(uploadService.getSession(session.getUploadId(), user).getReceivedChunks())
+                .containsExactlyInAnyOrder(1, 3);
+
+        // 누락된 청크가 있으면 완료할 수 없음
+        assertThatThrownBy(() -> uploadService.complete(session.getUploadId(), user))
+                .isInstanceOf(IllegalStateException.class);
+
+        send(session, 0);
+        send(session, 2);
+        ProductModelResponse model = uploadService.complete(session.getUploadId(), user);
+
+        Manual manual = manualRepository.findByProductModelId(model.getId()).orElseThrow();
+        assertThat(manual.getContentHash()).isEqualTo(sha256(CONTENT));
+        assertThat(manual.getFileSize()).isEqualTo(CONTENT.length);
+
+        // 완료된 세션에 대한 재요청은 같은 결과
+        assertThat(uploadService.complete(session.getUploadId(), user).getId()).isEqualTo(model.getId());
+    }
+
+    @Test
+    void corruptedResendDoesNotOverwriteReceivedChunk() throws IOException {
+        ManualUploadResponse session = createSession("OV-CHUNK-2");
+        for (int i = 0; i < session.getChunkCount(); i++) {
+            send(session, i);
+        }
+
+        byte[] corrupted = "XXXXXXXX".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> uploadService.writeChunk(session.getUploadId(), 1, sha256(chunk(1)),
+                new ByteArrayInputStream(corrupted), user))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("해시");
+        assertThatThrownBy(() -> uploadService.writeChunk(session.getUploadId(), 2, sha256(chunk(2)),
+                new ByteArrayInputStream(Arrays.copyOf(chunk(2), CHUNK_SIZE + 1)), user))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("길이");
+
+        ProductModelResponse model = uploadService.complete(session.getUploadId(), user);
+
+        Manual manual = manualRepository.findByProductModelId(model.getId()).orElseThrow();
+        assertThat(manual.getContentHash()).isEqualTo(sha256(CONTENT));
+    }
+
+    @Test
+    void chunkArrivingAfterCompletionStartedIsRejected() throws Exception {
+        ManualUploadResponse session = createSession("OV-CHUNK-3");
+        for (int i = 0; i < session.getChunkCount(); i++) {
+            send(session, i);
+        }
+
+        // 상태 확인을 통과한 뒤 본문을 보내는 중인 재전송 (내용이 다르지만 해시는 맞음)
+        byte[] resend = "YYYYYYYY".getBytes(StandardCharsets.UTF_8);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        InputStream slowBody = new ByteArrayInputStream(resend) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                reading.countDown();
+                await(resume);
+                return super.read(b, off, len);
+            }
+        };
+        CountDownLatch uploading = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenAnswer(invocation -> {
+            uploading.countDown();
+            await(finish);
+            return true;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> lateChunk = executor.submit(() -> {
+                uploadService.writeChunk(session.getUploadId(), 1, sha256(resend), slowBody, user);
+                return null;
+            });
+            assertThat(reading.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<ProductModelResponse> completion = executor.submit(() -> uploadService.complete(session.getUploadId(), user));
+            assertThat(uploading.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 완료 처리 중(FINALIZING)에는 조립용 파일에 기록하지 않음
+            resume.countDown();
+            assertThatThrownBy(() -> lateChunk.get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+
+            finish.countDown();
+            ProductModelResponse model = completion.get(10, TimeUnit.SECONDS);
+            Manual manual = manualRepository.findByProductModelId(model.getId()).orElseThrow();
+            assertThat(manual.getContentHash()).isEqualTo(sha256(CONTENT));
+        } finally {
+            resume.countDown();
+            finish.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new AssertionError("대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+
+    private ManualUploadResponse createSession(String name) throws IOException {
+        ManualUploadRequest request = new ManualUploadRequest();
+        request.setName(name);
+        request.setCategoryId(category.getId());
+        request.setFileName(name + ".pdf");
+        request.setTotalSize((long) CONTENT.length);
+        request.setChecksum(sha256(CONTENT));
+        return uploadService.createSession(ManualUploadSession.Scope.PUBLIC, request, user);
+    }
+
+    private void send(ManualUploadResponse session, int index) throws IOException {
+        byte[] chunk = chunk(index);
+        uploadService.writeChunk(session.getUploadId(), index, sha256(chunk), new ByteArrayInputStream(chunk), user);
+    }
+
+    private static byte[] chunk(int index) {
+        int from = index * CHUNK_SIZE;
+        return Arrays.copyOfRange(CONTENT, from, Math.min(CONTENT.length, from + CHUNK_SIZE));
+    }
+
+    private static String sha256(byte[] content) throws IOException {
+        return ContentHashes.sha256Hex(new ByteArrayInputStream(content));
+    }
+}
@@ -0,0 +1,98 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.domain.Manual;
+import CC_BE.CC_BE.domain.MlDocumentDeletion;
+import CC_BE.CC_BE.repository.ManualRepository;
+import CC_BE.CC_BE.repository.MlDocumentDeletionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ML 서버 문서 삭제 대기열(outbox) 처리 테스트
+ */
+@SpringBootTest
+class MlDocumentDeletionServiceTest {
+
+    @Autowired
+    private MlDocumentDeletionService deletionService;
+    @Autowired
+    private MlDocumentDeletionRepository deletionRepository;
+    @Autowired
+    private ManualRepository manualRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private MLServerService mlServerService;
+
+    @BeforeEach
+    void setUp() {
+        deletionRepository.deleteAll();
+    }
+
+    @Test
+    void drainDeletesDocumentsAndClearsQueue() {
+        enqueue("WM-1@aaa", "WM-2@bbb");
+
+        deletionService.drain();
+
+        verify(mlServerService).deleteDocument("WM-1@aaa");
+        verify(mlServerService).deleteDocument("WM-2@bbb");
+        assertThat(deletionRepository.count()).isZero();
+    }
+
+    @Test
+    void failedDeletionIsRetriedLater() {
+        doThrow(new RuntimeException("ML 서버 문서 삭제 실패: 503")).when(mlServerService).deleteDocument("WM-3@ccc");
+        enqueue("WM-3@ccc");
+        LocalDateTime before = LocalDateTime.now();
+
+        deletionService.drain();
+
+        MlDocumentDeletion deletion = deletionRepository.findAll().get(0);
+        assertThat(deletion.getAttempts()).isEqualTo(1);
+        assertThat(deletion.getNextAttemptAt()).isAfter(before);
+        assertThat(deletion.getLastError()).contains("503");
+
+        // 다음 시도 시각 전에는 다시 보내지 않음
+        deletionService.drain();
+        verify(mlServerService).deleteDocument("WM-3@ccc");
+    }
+
+    @Test
+    void documentStillUsedByAManualIsNotDeleted() {
+        // 식별자가 기록되지 않은 이전 매뉴얼은 모델명이 ML 서버 문서 식별자
+        Manual legacy = manualRepository.save(Manual.builder()
+                .fileName("legacy.pdf")
+                .filePath("le/ga/legacy.pdf")
+                .modelName("WM-LEGACY-1")
+                .build());
+        try {
+            enqueue("WM-LEGACY-1");
+
+            deletionService.drain();
+
+            verify(mlServerService, never()).deleteDocument(anyString());
+            assertThat(deletionRepository.count()).isZero();
+        } finally {
+            manualRepository.delete(legacy);
+        }
+    }
+
+    private void enqueue(String... docNames) {
+        transactionTemplate.executeWithoutResult(status -> deletionService.enqueue(List.of(docNames)));
+    }
+}
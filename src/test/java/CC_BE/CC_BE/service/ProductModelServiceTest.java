@@ -0,0 +1,222 @@
+package CC_BE.CC_BE.service;
+
+import CC_BE.CC_BE.domain.Brand;
+import CC_BE.CC_BE.domain.Category;
+import CC_BE.CC_BE.domain.Manual;
+import CC_BE.CC_BE.domain.MlDocumentDeletion;
+import CC_BE.CC_BE.domain.ProductModel;
+import CC_BE.CC_BE.domain.User;
+import CC_BE.CC_BE.dto.ProductModelResponse;
+import CC_BE.CC_BE.repository.BrandRepository;
+import CC_BE.CC_BE.repository.CategoryRepository;
+import CC_BE.CC_BE.repository.ManualRepository;
+import CC_BE.CC_BE.repository.MlDocumentDeletionRepository;
+import CC_BE.CC_BE.repository.ProductModelRepository;
+import CC_BE.CC_BE.storage.ManualStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 모델 등록 / 매뉴얼 교체 시 ML 서버 문서 식별자와 보상 처리 테스트
+ */
+@SpringBootTest
+class ProductModelServiceTest {
+
+    @Autowired
+    private ProductModelService productModelService;
+    @Autowired
+    private ProductModelRepository productModelRepository;
+    @Autowired
+    private ManualRepository manualRepository;
+    @Autowired
+    private BrandRepository brandRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private MlDocumentDeletionRepository mlDocumentDeletionRepository;
+    @Autowired
+    private ManualStorage manualStorage;
+
+    @MockitoBean
+    private MLServerService mlServerService;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        mlDocumentDeletionRepository.deleteAll();
+        Brand brand = new Brand();
+        brand.setName("Brand-" + System.nanoTime());
+        brand = brandRepository.save(brand);
+        Category saved = new Category();
+        saved.setName("Washer");
+        saved.setBrand(brand);
+        category = categoryRepository.save(saved);
+    }
+
+    @Test
+    void createPublicModelRegistersPerUploadDocumentName() throws IOException {
+        AtomicReference<String> uploadedDoc = new AtomicReference<>();
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenAnswer(invocation -> {
+            uploadedDoc.set(invocation.getArgument(1));
+            return true;
+        });
+
+        ProductModelResponse model = productModelService.createPublicModel("WM-CREATE-1", category.getId(), pdf("manual.pdf"));
+
+        Manual manual = manualRepository.findByProductModelId(model.getId()).orElseThrow();
+        assertThat(uploadedDoc.get()).startsWith("WM-CREATE-1@").isEqualTo(manual.getMlDocName());
+        assertThat(mlDocumentDeletionRepository.count()).isZero();
+    }
+
+    @Test
+    void deletingModelQueuesOnlyDocumentsThatExist() throws IOException {
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenReturn(true);
+        ProductModelResponse withManual = productModelService.createPublicModel("WM-DELETE-1", category.getId(),
+                pdf("manual.pdf"));
+        String docName = manualRepository.findByProductModelId(withManual.getId()).orElseThrow().getMlDocName();
+        ProductModel catalogOnly = productModelRepository.save(ProductModel.builder()
+                .name("WM-DELETE-2").category(category).brand(category.getBrand()).build());
+
+        productModelService.deleteModelByAdmin(withManual.getId());
+        productModelService.deleteModelByAdmin(catalogOnly.getId());
+
+        // 매뉴얼 없이 등록된 모델은 ML 서버에 문서가 없으므로 삭제를 예약하지 않음
+        assertThat(mlDocumentDeletionRepository.findAll()).extracting(MlDocumentDeletion::getDocName)
+                .containsExactly(docName);
+    }
+
+    @Test
+    void failedUploadDiscardsFileAndQueuesDocumentDeletion() throws IOException {
+        AtomicReference<String> uploadedDoc = new AtomicReference<>();
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenAnswer(invocation -> {
+            uploadedDoc.set(invocation.getArgument(1));
+            return false;
+        });
+        long files = storedFiles();
+
+        assertThatThrownBy(() -> productModelService.createPublicModel("WM-FAIL-1", category.getId(), pdf("manual.pdf")))
+                .hasMessageContaining("ML 서버");
+
+        assertThat(productModelRepository.existsByName("WM-FAIL-1")).isFalse();
+        assertThat(storedFiles()).isEqualTo(files);
+        assertThat(mlDocumentDeletionRepository.findAll()).extracting(MlDocumentDeletion::getDocName)
+                .containsExactly(uploadedDoc.get());
+    }
+
+    @Test
+    void nameRaceDoesNotTouchTheWinnersDocument() throws IOException {
+        AtomicReference<String> uploadedDoc = new AtomicReference<>();
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenAnswer(invocation -> {
+            uploadedDoc.set(invocation.getArgument(1));
+            // 업로드 중 다른 요청이 같은 이름의 모델을 먼저 만든 상황
+            productModelRepository.save(ProductModel.builder().name("WM-RACE-1").category(category)
+                    .brand(category.getBrand()).build());
+            return true;
+        });
+
+        assertThatThrownBy(() -> productModelService.createPublicModel("WM-RACE-1", category.getId(), pdf("manual.pdf")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(uploadedDoc.get()).isNotEqualTo("WM-RACE-1");
+        List<MlDocumentDeletion> deletions = mlDocumentDeletionRepository.findAll();
+        assertThat(deletions).extracting(MlDocumentDeletion::getDocName).containsExactly(uploadedDoc.get());
+    }
+
+    @Test
+    void replaceManualMovesToNewDocumentAndQueuesOldOne() throws IOException {
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenReturn(true);
+        ProductModelResponse model = productModelService.createPublicModel("WM-REPLACE-1", category.getId(), pdf("v1.pdf"));
+        Manual before = manualRepository.findByProductModelId(model.getId()).orElseThrow();
+
+        ProductModelService.ManualReplacement result = productModelService.replaceManual(model.getId(), pdf("v2.pdf"), admin());
+
+        Manual after = manualRepository.findByProductModelId(model.getId()).orElseThrow();
+        assertThat(result.replaced()).isTrue();
+        assertThat(after.getFileName()).isEqualTo("v2.pdf");
+        assertThat(after.getMlDocName()).startsWith("WM-REPLACE-1@").isNotEqualTo(before.getMlDocName());
+        assertThat(manualStorage.exists(before.getFilePath())).isFalse();
+        assertThat(mlDocumentDeletionRepository.findAll()).extracting(MlDocumentDeletion::getDocName)
+                .containsExactly(before.getMlDocName());
+    }
+
+    @Test
+    void replaceManualWithSameContentSkipsUpload() throws IOException {
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenReturn(true);
+        ProductModelResponse model = productModelService.createPublicModel("WM-REPLACE-2", category.getId(),
+                pdf("v1.pdf", "%PDF-1.4 same"));
+
+        ProductModelService.ManualReplacement result = productModelService.replaceManual(model.getId(),
+                pdf("v1-copy.pdf", "%PDF-1.4 same"), admin());
+
+        assertThat(result.replaced()).isFalse();
+        verify(mlServerService, times(1)).uploadManualToMLServer(any(Resource.class), anyString());
+        assertThat(mlDocumentDeletionRepository.count()).isZero();
+    }
+
+    @Test
+    void failedSwapKeepsOldManualAndQueuesNewDocument() throws IOException {
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenReturn(true);
+        ProductModelResponse model = productModelService.createPublicModel("WM-REPLACE-3", category.getId(), pdf("v1.pdf"));
+        Manual before = manualRepository.findByProductModelId(model.getId()).orElseThrow();
+
+        AtomicReference<String> uploadedDoc = new AtomicReference<>();
+        when(mlServerService.uploadManualToMLServer(any(Resource.class), anyString())).thenAnswer(invocation -> {
+            uploadedDoc.set(invocation.getArgument(1));
+            // 업로드 중 다른 요청이 먼저 매뉴얼을 교체한 상황
+            Manual manual = manualRepository.findById(before.getId()).orElseThrow();
+            manual.setFilePath("replaced/by/another.pdf");
+            manualRepository.save(manual);
+            return true;
+        });
+
+        assertThatThrownBy(() -> productModelService.replaceManual(model.getId(), pdf("v2.pdf"), admin()))
+                .isInstanceOf(IllegalStateException.class);
+
+        Manual after = manualRepository.findByProductModelId(model.getId()).orElseThrow();
+        assertThat(after.getMlDocName()).isEqualTo(before.getMlDocName());
+        assertThat(mlDocumentDeletionRepository.findAll()).extracting(MlDocumentDeletion::getDocName)
+                .containsExactly(uploadedDoc.get());
+    }
+
+    private static User admin() {
+        return User.builder().id(-1L).email("admin@example.com").role("ROLE_ADMIN").build();
+    }
+
+    private long storedFiles() throws IOException {
+        try (var entries = manualStorage.list()) {
+            return entries.count();
+        }
+    }
+
+    static Resource pdf(String fileName) {
+        return pdf(fileName, "%PDF-1.4 " + fileName + " " + System.nanoTime());
+    }
+
+    static Resource pdf(String fileName, String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return fileName;
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package CC_BE.CC_BE.storage;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * S3ManualStorage 가 사용하는 연산만 구현한 메모리 기반 S3 클라이언트 (테스트용)
+ * 목록 조회는 pageSize 개씩 나누어 돌려주어 페이지 처리를 확인할 수 있습니다.
+ */
+class InMemoryS3Client implements S3Client {
+    private final NavigableMap<String, StoredObject> objects = new ConcurrentSkipListMap<>();
+    private final int pageSize;
+    int listRequests;
+
+    InMemoryS3Client(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    void put(String key, byte[] content) {
+        objects.put(key, new StoredObject(content, Map.of(), Instant.now()));
+    }
+
+    StoredObject object(String key) {
+        return objects.get(key);
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            objects.put(request.key(), new StoredObject(in.readAllBytes(), request.metadata(), Instant.now()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return PutObjectResponse.builder().build();
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        StoredObject object = require(request.key());
+        return HeadObjectResponse.builder()
+                .contentLength((long) object.content().length)
+                .lastModified(object.lastModified())
+                .metadata(object.metadata())
+                .build();
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        byte[] content = require(request.key()).content();
+        int from = 0;
+        int to = content.length;
+        if (request.range() != null) {
+            String[] range = request.range().substring("bytes=".length()).split("-");
+            from = Integer.parseInt(range[0]);
+            to = Math.min(content.length, Integer.parseInt(range[1]) + 1);
+        }
+        return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                AbortableInputStream.create(new ByteArrayInputStream(Arrays.copyOfRange(content, from, to))));
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+        listRequests++;
+        String prefix = request.prefix() != null ? request.prefix() : "";
+        String after = request.continuationToken();
+        NavigableMap<String, StoredObject> tail = after != null ? objects.tailMap(after, false) : objects;
+
+        List<S3Object> page = new ArrayList<>();
+        boolean truncated = false;
+        for (Map.Entry<String, StoredObject> entry : tail.entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                continue;
+            }
+            if (page.size() == pageSize) {
+                truncated = true;
+                break;
+            }
+            page.add(S3Object.builder()
+                    .key(entry.getKey())
+                    .size((long) entry.getValue().content().length)
+                    .lastModified(entry.getValue().lastModified())
+                    .build());
+        }
+        return ListObjectsV2Response.builder()
+                .contents(page)
+                .isTruncated(truncated)
+                .nextContinuationToken(truncated ? page.get(page.size() - 1).key() : null)
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private StoredObject require(String key) {
+        StoredObject object = objects.get(key);
+        if (object == null) {
+            throw NoSuchKeyException.builder().statusCode(404).message("no such key: " + key).build();
+        }
+        return object;
+    }
+
+    record StoredObject(byte[] content, Map<String, String> metadata, Instant lastModified) {
+    }
+}
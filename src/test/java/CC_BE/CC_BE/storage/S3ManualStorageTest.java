@@ -0,0 +1,110 @@
+package CC_BE.CC_BE.storage;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * S3 호환 매뉴얼 저장소 테스트 (메모리 기반 S3 클라이언트 사용)
+ */
+class S3ManualStorageTest {
+    private static final byte[] CONTENT = "%PDF-1.4 s3 manual content".getBytes(StandardCharsets.UTF_8);
+
+    private final InMemoryS3Client s3Client = new InMemoryS3Client(2);
+    private final S3ManualStorage storage = new S3ManualStorage(s3Client, "manuals", "prefix/", 2);
+
+    @Test
+    void storeUploadsUnderPrefixWithContentHash() throws Exception {
+        StoredManualFile stored = storage.store(new ByteArrayInputStream(CONTENT), "manual.pdf");
+
+        assertThat(stored.key()).matches("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f-]+\\.pdf");
+        assertThat(stored.size()).isEqualTo(CONTENT.length);
+        String expectedHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT));
+        assertThat(stored.contentHash()).isEqualTo(expectedHash);
+
+        InMemoryS3Client.StoredObject object = s3Client.object("prefix/" + stored.key());
+        assertThat(object.content()).isEqualTo(CONTENT);
+        assertThat(object.metadata()).containsEntry("sha256", expectedHash);
+    }
+
+    @Test
+    void openReadsWholeFileAndRanges() throws IOException {
+        StoredManualFile stored = storage.store(new ByteArrayInputStream(CONTENT), "manual.pdf");
+
+        ManualBlob blob = storage.open(stored.key());
+
+        assertThat(blob.size()).isEqualTo(CONTENT.length);
+        assertThat(blob.localPath()).isEmpty();
+        try (InputStream in = blob.openStream(0, blob.size())) {
+            assertThat(in.readAllBytes()).isEqualTo(CONTENT);
+        }
+        try (InputStream in = blob.openStream(5, 3)) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("1.4");
+        }
+        try (InputStream in = blob.openStream(0, 0)) {
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void missingKeyIsReportedAsNoSuchFile() throws IOException {
+        assertThat(storage.exists("aa/bb/missing.pdf")).isFalse();
+        assertThatThrownBy(() -> storage.open("aa/bb/missing.pdf")).isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    void deleteRemovesObject() throws IOException {
+        StoredManualFile stored = storage.store(new ByteArrayInputStream(CONTENT), "manual.pdf");
+
+        storage.delete(stored.key());
+
+        assertThat(storage.exists(stored.key())).isFalse();
+    }
+
+    @Test
+    void listStripsPrefixAndFollowsPages() throws IOException {
+        s3Client.put("prefix/aa/01/c.pdf", CONTENT);
+        s3Client.put("prefix/aa/01/a.pdf", CONTENT);
+        s3Client.put("prefix/bb/02/b.pdf", CONTENT);
+        s3Client.put("prefix/cc/03/d.png", CONTENT);
+        s3Client.put("other/aa/01/x.pdf", CONTENT);
+
+        List<String> keys;
+        try (Stream<ManualStorageEntry> entries = storage.list()) {
+            keys = entries.map(ManualStorageEntry::key).toList();
+        }
+
+        assertThat(keys).containsExactly("aa/01/a.pdf", "aa/01/c.pdf", "bb/02/b.pdf", "cc/03/d.png");
+        assertThat(s3Client.listRequests).isEqualTo(2);
+    }
+
+    @Test
+    void sdkFailureIsReportedAsIOException() {
+        S3Client failing = mock(S3Client.class);
+        when(failing.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenThrow(SdkClientException.create("connection refused"));
+        S3ManualStorage failingStorage = new S3ManualStorage(failing, "manuals", "", 2);
+
+        assertThatThrownBy(() -> failingStorage.store(new ByteArrayInputStream(CONTENT), "manual.pdf"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("connection refused");
+    }
+}
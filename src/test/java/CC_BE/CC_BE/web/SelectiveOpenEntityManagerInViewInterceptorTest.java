@@ -0,0 +1,56 @@
+package CC_BE.CC_BE.web;
+
+import CC_BE.CC_BE.config.TransactionGuardProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기본 제외 목록으로 선택적 OSIV 가 어떤 요청에 EntityManager 를 여는지 확인하는 테스트
+ * (제외된 요청은 요청 단위 EntityManager 가 없으므로 쿼리 후 커넥션을 바로 반납)
+ */
+class SelectiveOpenEntityManagerInViewInterceptorTest {
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    private SelectiveOpenEntityManagerInViewInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.createEntityManager()).thenAnswer(invocation -> mock(EntityManager.class));
+        interceptor = new SelectiveOpenEntityManagerInViewInterceptor(
+                new TransactionGuardProperties().getOpenInViewExcludes());
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+    }
+
+    @Test
+    void fileTransferRequestsAreExcluded() {
+        assertThat(opensEntityManager("PUT", "/api/models/public/uploads/abc/chunks/0")).isFalse();
+        assertThat(opensEntityManager("PUT", "/api/models/personal/uploads/abc/chunks/3")).isFalse();
+        assertThat(opensEntityManager("POST", "/api/models/public/uploads/abc/complete")).isFalse();
+        assertThat(opensEntityManager("POST", "/api/models/public")).isFalse();
+        assertThat(opensEntityManager("PUT", "/api/models/7/manual")).isFalse();
+    }
+
+    @Test
+    void otherRequestsKeepOpenInView() {
+        assertThat(opensEntityManager("GET", "/api/models/public/uploads/abc")).isTrue();
+        assertThat(opensEntityManager("GET", "/api/models/public")).isTrue();
+    }
+
+    private boolean opensEntityManager(String method, String uri) {
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest(method, uri));
+        interceptor.preHandle(request);
+        try {
+            return TransactionSynchronizationManager.hasResource(entityManagerFactory);
+        } finally {
+            interceptor.afterCompletion(request, null);
+        }
+    }
+}